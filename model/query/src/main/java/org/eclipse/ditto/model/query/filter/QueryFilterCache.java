@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.filter;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+
+/**
+ * A bounded cache of RQL filter strings parsed into {@link Criteria}, so that filters which rarely change, e.g. those
+ * of streaming sessions, are parsed only once. Lookups do not lock; if the cache is
+ * full, arbitrary filters are evicted to make room for a new one. Thread-safe.
+ */
+public final class QueryFilterCache {
+
+    /**
+     * The default maximum number of cached filters.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private static final QueryFilterCache MODEL_BASED =
+            new QueryFilterCache(QueryFilterCriteriaFactory.modelBased(), DEFAULT_MAXIMUM_SIZE);
+
+    private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
+    private final int maximumSize;
+    private final Map<String, Criteria> cachedCriteria;
+
+    private QueryFilterCache(final QueryFilterCriteriaFactory queryFilterCriteriaFactory, final int maximumSize) {
+        this.queryFilterCriteriaFactory = queryFilterCriteriaFactory;
+        this.maximumSize = maximumSize;
+        cachedCriteria = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Retrieve the cache shared by all users of the model-based query filter criteria factory.
+     *
+     * @return the shared cache.
+     */
+    public static QueryFilterCache modelBased() {
+        return MODEL_BASED;
+    }
+
+    /**
+     * Create a cache of the filters compiled by the given factory.
+     *
+     * @param queryFilterCriteriaFactory the factory to parse filter strings with.
+     * @param maximumSize the maximum number of cached filters.
+     * @return the cache.
+     * @throws NullPointerException if {@code queryFilterCriteriaFactory} is {@code null}.
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+     */
+    public static QueryFilterCache of(final QueryFilterCriteriaFactory queryFilterCriteriaFactory,
+            final int maximumSize) {
+
+        checkNotNull(queryFilterCriteriaFactory, "queryFilterCriteriaFactory");
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be positive but it was <" + maximumSize + ">!");
+        }
+        return new QueryFilterCache(queryFilterCriteriaFactory, maximumSize);
+    }
+
+    /**
+     * Get the criteria of a filter string, parsing it only if it is not cached.
+     *
+     * @param filter the filter string.
+     * @param dittoHeaders the headers of the exception if the filter string is invalid.
+     * @return the criteria.
+     * @throws InvalidRqlExpressionException if the filter string cannot be mapped to a valid criterion.
+     */
+    public Criteria getCriteria(final String filter, final DittoHeaders dittoHeaders) {
+        checkNotNull(filter, "filter");
+        final Criteria criteria = cachedCriteria.get(filter);
+        if (null != criteria) {
+            return criteria;
+        }
+        // concurrent parsing of the same filter yields equal results; the first one is kept
+        final Criteria parsedCriteria = queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
+        evictIfFull();
+        final Criteria previousCriteria = cachedCriteria.putIfAbsent(filter, parsedCriteria);
+        return null != previousCriteria ? previousCriteria : parsedCriteria;
+    }
+
+    private void evictIfFull() {
+        final Iterator<String> cachedFilters = cachedCriteria.keySet().iterator();
+        while (cachedCriteria.size() >= maximumSize && cachedFilters.hasNext()) {
+            cachedFilters.next();
+            cachedFilters.remove();
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link QueryFilterCache}.
+ */
+public final class QueryFilterCacheTest {
+
+    private static final Thing THING = Thing.newBuilder()
+            .setId(ThingId.of("org.eclipse.ditto", "cached"))
+            .setAttribute(JsonPointer.of("counter"), JsonValue.of(42))
+            .build();
+
+    @Test
+    public void returnsCachedCriteriaForSameFilter() {
+        final QueryFilterCache underTest = QueryFilterCache.of(QueryFilterCriteriaFactory.modelBased(), 10);
+        final String filter = "eq(attributes/counter,42)";
+
+        assertThat(underTest.getCriteria(filter, DittoHeaders.empty()))
+                .isSameAs(underTest.getCriteria(filter, DittoHeaders.empty()));
+    }
+
+    @Test
+    public void evictsFilterIfFull() {
+        final QueryFilterCache underTest = QueryFilterCache.of(QueryFilterCriteriaFactory.modelBased(), 1);
+        final String filter = "eq(attributes/counter,42)";
+        final String otherFilter = "gt(attributes/counter,42)";
+
+        final Object criteria = underTest.getCriteria(filter, DittoHeaders.empty());
+        underTest.getCriteria(otherFilter, DittoHeaders.empty());
+
+        assertThat(underTest.getCriteria(filter, DittoHeaders.empty())).isNotSameAs(criteria).isEqualTo(criteria);
+    }
+
+    @Test
+    public void servesConcurrentLookups() throws Exception {
+        final int maximumSize = 10;
+        final QueryFilterCache underTest = QueryFilterCache.of(QueryFilterCriteriaFactory.modelBased(), maximumSize);
+        final int threads = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CompletableFuture<?>[] futures = new CompletableFuture<?>[threads];
+            for (int i = 0; i < threads; ++i) {
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < 100; ++j) {
+                        final Criteria criteria = underTest.getCriteria(
+                                "gt(attributes/counter," + j + ")", DittoHeaders.empty());
+                        assertThat(ThingPredicateVisitor.apply(criteria).test(THING)).isEqualTo(j < 42);
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final String filter = "eq(attributes/counter,42)";
+        final Object criteria = underTest.getCriteria(filter, DittoHeaders.empty());
+        assertThat(underTest.getCriteria(filter, DittoHeaders.empty())).isSameAs(criteria);
+    }
+
+    @Test
+    public void invalidFilterIsRejected() {
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> QueryFilterCache.modelBased()
+                        .getCriteria("eq(attributes/counter", DittoHeaders.empty()));
+    }
+
+}
@@ -32,13 +32,31 @@ public interface ThingsAggregatorConfig {
     Duration getSingleRetrieveThingTimeout();
 
     /**
-     * Returns the maximum parallelism, that is how many {@code RetrieveThing} commands can be "in flight" at the
-     * same time towards the "things" service.
+     * Returns the maximum parallelism, that is how many {@code RetrieveThing} commands of a {@code RetrieveThings}
+     * command or {@code ModifyThing} commands of a {@code ModifyThings} command can be "in flight" at the same time
+     * towards the "things" service.
      *
      * @return the maximum parallelism.
      */
     int getMaxParallelism();
 
+    /**
+     * Returns the timeout how long the {@code ThingsAggregatorActor} should wait for a single modify thing of a
+     * {@code ModifyThings} command.
+     *
+     * @return the timeout.
+     */
+    Duration getSingleModifyThingTimeout();
+
+    /**
+     * Returns how many {@code ModifyThing} commands of a {@code ModifyThings} command can be "in flight" at the same
+     * time towards a single shard of the "things" service. The number of all commands "in flight" is bounded by
+     * {@link #getMaxParallelism()}.
+     *
+     * @return the maximum parallelism per shard.
+     */
+    int getMaxParallelismPerShard();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ThingsAggregatorConfig}.
@@ -53,7 +71,17 @@ public interface ThingsAggregatorConfig {
         /**
          * The maximum parallelism.
          */
-        MAX_PARALLELISM("max-parallelism", 20);
+        MAX_PARALLELISM("max-parallelism", 20),
+
+        /**
+         * The timeout how long the {@code ThingsAggregatorActor} should wait for a single modify thing.
+         */
+        SINGLE_MODIFY_THING_TIMEOUT("single-modify-thing-timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * The maximum parallelism of modifying Things per shard.
+         */
+        MAX_PARALLELISM_PER_SHARD("max-parallelism-per-shard", 4);
 
         private final String path;
         private final Object defaultValue;
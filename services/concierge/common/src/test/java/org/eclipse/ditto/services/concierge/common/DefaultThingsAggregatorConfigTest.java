@@ -66,6 +66,14 @@ public final class DefaultThingsAggregatorConfigTest {
         softly.assertThat(underTest.getMaxParallelism())
                 .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
                 .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getDefaultValue());
+
+        softly.assertThat(underTest.getSingleModifyThingTimeout())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.SINGLE_MODIFY_THING_TIMEOUT.getConfigPath())
+                .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.SINGLE_MODIFY_THING_TIMEOUT.getDefaultValue());
+
+        softly.assertThat(underTest.getMaxParallelismPerShard())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM_PER_SHARD.getConfigPath())
+                .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM_PER_SHARD.getDefaultValue());
     }
 
     @Test
@@ -79,6 +87,14 @@ public final class DefaultThingsAggregatorConfigTest {
         softly.assertThat(underTest.getMaxParallelism())
                 .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
                 .isEqualTo(10);
+
+        softly.assertThat(underTest.getSingleModifyThingTimeout())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.SINGLE_MODIFY_THING_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(45L));
+
+        softly.assertThat(underTest.getMaxParallelismPerShard())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM_PER_SHARD.getConfigPath())
+                .isEqualTo(2);
     }
 
 }
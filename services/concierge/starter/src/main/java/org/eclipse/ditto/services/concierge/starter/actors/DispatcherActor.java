@@ -34,6 +34,7 @@ import org.eclipse.ditto.services.utils.akka.controlflow.Filter;
 import org.eclipse.ditto.services.utils.akka.controlflow.WithSender;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.eclipse.ditto.signals.commands.thingsearch.ThingSearchCommand;
 
@@ -151,8 +152,8 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
             final FanOutShape2<ImmutableDispatch, ImmutableDispatch, ImmutableDispatch> multiplexSearch =
                     builder.add(multiplexBy(ThingSearchCommand.class, ThingSearchSudoCommand.class));
 
-            final FanOutShape2<ImmutableDispatch, ImmutableDispatch, ImmutableDispatch> multiplexRetrieveThings =
-                    builder.add(multiplexBy(RetrieveThings.class, SudoRetrieveThings.class));
+            final FanOutShape2<ImmutableDispatch, ImmutableDispatch, ImmutableDispatch> multiplexThingsAggregation =
+                    builder.add(multiplexBy(RetrieveThings.class, SudoRetrieveThings.class, ModifyThings.class));
 
             final SinkShape<ImmutableDispatch> forwardToSearchActor =
                     builder.add(searchActorSink(pubSubMediator, preEnforcer));
@@ -161,10 +162,10 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
                     builder.add(thingsAggregatorSink(preEnforcer));
 
             builder.from(multiplexSearch.out0()).to(forwardToSearchActor);
-            builder.from(multiplexRetrieveThings.out0()).to(forwardToThingsAggregator);
-            builder.from(multiplexSearch.out1()).toInlet(multiplexRetrieveThings.in());
+            builder.from(multiplexThingsAggregation.out0()).to(forwardToThingsAggregator);
+            builder.from(multiplexSearch.out1()).toInlet(multiplexThingsAggregation.in());
 
-            return FlowShape.of(multiplexSearch.in(), multiplexRetrieveThings.out1());
+            return FlowShape.of(multiplexSearch.in(), multiplexThingsAggregation.out1());
         });
     }
 
@@ -13,16 +13,24 @@
 package org.eclipse.ditto.services.concierge.starter.actors;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.ThingsAggregatorConfig;
@@ -30,25 +38,35 @@ import org.eclipse.ditto.services.models.concierge.ConciergeWrapper;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.ErrorResponse;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingsResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.cluster.sharding.ShardRegion;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
 import akka.pattern.Patterns;
 import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 import akka.stream.javadsl.StreamRefs;
 import akka.util.Timeout;
 import scala.concurrent.ExecutionContext;
 
 /**
- * Actor to aggregate the retrieved Things from persistence.
+ * Actor to aggregate the retrieved Things from persistence and to split the modification of several Things into
+ * modifications of single Things grouped by their shard.
  */
 public final class ThingsAggregatorActor extends AbstractActor {
 
@@ -64,17 +82,25 @@ public final class ThingsAggregatorActor extends AbstractActor {
     private final ExecutionContext aggregatorDispatcher;
     private final java.time.Duration retrieveSingleThingTimeout;
     private final int maxParallelism;
+    private final java.time.Duration modifySingleThingTimeout;
+    private final int maxParallelismPerShard;
+    private final ShardRegionExtractor shardRegionExtractor;
     private final ActorMaterializer actorMaterializer;
 
     @SuppressWarnings("unused")
     private ThingsAggregatorActor(final ActorRef targetActor) {
         this.targetActor = targetActor;
         aggregatorDispatcher = getContext().system().dispatchers().lookup(AGGREGATOR_INTERNAL_DISPATCHER);
-        final ThingsAggregatorConfig aggregatorConfig = DittoConciergeConfig.of(
+        final DittoConciergeConfig conciergeConfig = DittoConciergeConfig.of(
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
-        ).getThingsAggregatorConfig();
+        );
+        final ThingsAggregatorConfig aggregatorConfig = conciergeConfig.getThingsAggregatorConfig();
         retrieveSingleThingTimeout = aggregatorConfig.getSingleRetrieveThingTimeout();
         maxParallelism = aggregatorConfig.getMaxParallelism();
+        modifySingleThingTimeout = aggregatorConfig.getSingleModifyThingTimeout();
+        maxParallelismPerShard = aggregatorConfig.getMaxParallelismPerShard();
+        shardRegionExtractor = ShardRegionExtractor.of(conciergeConfig.getClusterConfig().getNumberOfShards(),
+                getContext().getSystem());
         actorMaterializer = ActorMaterializer.create(getContext());
     }
 
@@ -110,6 +136,15 @@ public final class ThingsAggregatorActor extends AbstractActor {
                     retrieveThings(rt, getSender());
                 })
 
+                // # handle "ModifyThings" command
+                .match(ModifyThings.class, mt -> {
+                    LogUtil.enhanceLogWithCorrelationId(log, mt.getDittoHeaders().getCorrelationId());
+                    log.info("Got '{}' message. Modifying '{}' Things..",
+                            ModifyThings.class.getSimpleName(),
+                            mt.getThings().size());
+                    modifyThings(mt, getSender());
+                })
+
                 // # handle unknown message
                 .matchAny(m -> {
                     log.warning("Got unknown message: {}", m);
@@ -147,6 +182,9 @@ public final class ThingsAggregatorActor extends AbstractActor {
                                         .withSelectedFields(sf)
                                         .build())
                                 .orElse(RetrieveThing.of(thingId, dittoHeaders));
+                    } else if (((SudoRetrieveThings) command).useOriginalSchemaVersion()) {
+                        toBeWrapped = SudoRetrieveThing.withOriginalSchemaVersion(thingId, selectedFields,
+                                dittoHeaders);
                     } else {
                         toBeWrapped = Optional.ofNullable(selectedFields)
                                 .map(sf -> SudoRetrieveThing.of(thingId, sf, dittoHeaders))
@@ -163,6 +201,70 @@ public final class ThingsAggregatorActor extends AbstractActor {
                 .to(resultReceiver);
     }
 
+    private void modifyThings(final ModifyThings modifyThings, final ActorRef resultReceiver) {
+        final DittoHeaders dittoHeaders = modifyThings.getDittoHeaders();
+
+        // Things of the same shard are hosted by the same shard actor of the "things" service; grouping them bounds
+        // the number of concurrent modifications each shard has to cope with, while the number of concurrently
+        // modified shards bounds the number of all modifications "in flight" by the maximum parallelism.
+        // Each Thing is still enforced and persisted as a ModifyThing of its own: its enforcer is looked up in the
+        // enforcer caches, which share concurrent lookups of the same policy, and its events are written to the
+        // journal by its own persistence actor. Only if batching of the things journal is enabled, the events of
+        // the concurrently modified Things are combined into bulk writes.
+        final Collection<List<Thing>> thingsPerShard = modifyThings.getThings()
+                .stream()
+                .collect(Collectors.groupingBy(this::getShardId, LinkedHashMap::new, Collectors.toList()))
+                .values();
+        final int parallelismPerShard = Math.min(maxParallelismPerShard, maxParallelism);
+        final int parallelShards = Math.max(1, maxParallelism / parallelismPerShard);
+        final CompletionStage<ModifyThingsResponse> modifyThingsResponse = Source.from(thingsPerShard)
+                .flatMapMerge(parallelShards, things -> Source.from(things)
+                        .mapAsync(parallelismPerShard, thing -> modifyThing(thing, dittoHeaders)))
+                .runWith(Sink.seq(), actorMaterializer)
+                .thenApply(results -> ModifyThingsResponse.of(
+                        results.stream().collect(JsonCollectors.valuesToArray()), dittoHeaders));
+
+        Patterns.pipe(modifyThingsResponse, aggregatorDispatcher)
+                .to(resultReceiver);
+    }
+
+    private String getShardId(final Thing thing) {
+        final String thingId = thing.getEntityId().map(String::valueOf).orElse("");
+        return shardRegionExtractor.shardId(new ShardRegion.StartEntity(thingId));
+    }
+
+    private CompletionStage<JsonObject> modifyThing(final Thing thing, final DittoHeaders dittoHeaders) {
+        // the presence of the Thing ID is ensured by ModifyThings
+        final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+        final ModifyThing modifyThing;
+        try {
+            modifyThing = ModifyThing.of(thingId, thing, null, dittoHeaders);
+        } catch (final DittoRuntimeException e) {
+            return CompletableFuture.completedFuture(toResult(thingId, e));
+        }
+        return Patterns.ask(targetActor, ConciergeWrapper.wrapForEnforcerRouter(modifyThing),
+                modifySingleThingTimeout)
+                .handle((response, error) -> {
+                    if (response instanceof ModifyThingResponse) {
+                        return ModifyThingsResponse.newResult(thingId,
+                                ((ModifyThingResponse) response).getStatusCode(), null);
+                    } else if (response instanceof DittoRuntimeException) {
+                        return toResult(thingId, (DittoRuntimeException) response);
+                    } else if (response instanceof ErrorResponse) {
+                        return toResult(thingId, ((ErrorResponse<?>) response).getDittoRuntimeException());
+                    } else {
+                        // ask timeout or unexpected response
+                        return toResult(thingId, ThingUnavailableException.newBuilder(thingId)
+                                .dittoHeaders(dittoHeaders)
+                                .build());
+                    }
+                });
+    }
+
+    private static JsonObject toResult(final ThingId thingId, final DittoRuntimeException error) {
+        return ModifyThingsResponse.newResult(thingId, error.getStatusCode(), error.toJson());
+    }
+
     private int calculateParallelism(final Collection<ThingId> thingIds) {
         final int size = thingIds.size();
         if (size < maxParallelism / 2) {
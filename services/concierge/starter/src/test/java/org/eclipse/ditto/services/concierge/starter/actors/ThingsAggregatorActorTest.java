@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotModifiableException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThingsResponse;
+import org.junit.After;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.routing.ConsistentHashingRouter;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the modification of several Things by {@link ThingsAggregatorActor}.
+ */
+public final class ThingsAggregatorActorTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder().correlationId("modify-things").build();
+
+    private ActorSystem actorSystem;
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void modifyThingsWithPartialFailures() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", testConfig(1, 20, 1));
+        new TestKit(actorSystem) {{
+            final TestKit targetActor = new TestKit(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(ThingsAggregatorActor.props(targetActor.getRef()));
+            final List<Thing> things = things(4);
+
+            underTest.tell(ModifyThings.of(things, DITTO_HEADERS), getRef());
+
+            // all Things are in the same shard, which is modified one Thing after another
+            assertThat(expectModifyThing(targetActor)).isEqualTo(thingId(0));
+            targetActor.reply(ModifyThingResponse.modified(thingId(0), DITTO_HEADERS));
+
+            assertThat(expectModifyThing(targetActor)).isEqualTo(thingId(1));
+            targetActor.reply(ThingNotModifiableException.newBuilder(thingId(1)).dittoHeaders(DITTO_HEADERS).build());
+
+            assertThat(expectModifyThing(targetActor)).isEqualTo(thingId(2));
+            targetActor.reply(ThingErrorResponse.of(thingId(2),
+                    ThingNotAccessibleException.newBuilder(thingId(2)).dittoHeaders(DITTO_HEADERS).build()));
+
+            // the last Thing is not answered in time
+            assertThat(expectModifyThing(targetActor)).isEqualTo(thingId(3));
+
+            final ModifyThingsResponse response = expectMsgClass(Duration.ofSeconds(5L), ModifyThingsResponse.class);
+            assertThat(response.getDittoHeaders().getCorrelationId()).contains("modify-things");
+            final Map<String, JsonObject> results = resultsByThingId(response);
+            assertThat(results).hasSize(4);
+            assertThat(status(results, 0)).isEqualTo(HttpStatusCode.NO_CONTENT.toInt());
+            assertThat(results.get(thingId(0).toString()).getValue(ModifyThingsResponse.JSON_RESULT_ERROR)).isEmpty();
+            assertThat(status(results, 1)).isEqualTo(ThingNotModifiableException.STATUS_CODE.toInt());
+            assertThat(error(results, 1)).isEqualTo(ThingNotModifiableException.ERROR_CODE);
+            assertThat(status(results, 2)).isEqualTo(ThingNotAccessibleException.STATUS_CODE.toInt());
+            assertThat(error(results, 2)).isEqualTo(ThingNotAccessibleException.ERROR_CODE);
+            assertThat(status(results, 3)).isEqualTo(HttpStatusCode.SERVICE_UNAVAILABLE.toInt());
+        }};
+    }
+
+    @Test
+    public void modificationsOfAllShardsAreBoundedByMaxParallelism() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", testConfig(30, 2, 1));
+        new TestKit(actorSystem) {{
+            final TestKit targetActor = new TestKit(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(ThingsAggregatorActor.props(targetActor.getRef()));
+            final List<Thing> things = things(6);
+
+            underTest.tell(ModifyThings.of(things, DITTO_HEADERS), getRef());
+
+            final List<ActorRef> askers = new ArrayList<>();
+            final List<ThingId> modifiedThingIds = new ArrayList<>();
+            for (int i = 0; i < things.size(); ++i) {
+                if (askers.size() == 2) {
+                    // no more than 2 modifications are in flight
+                    targetActor.expectNoMessage(Duration.ofMillis(200L));
+                    final ThingId thingId = modifiedThingIds.get(modifiedThingIds.size() - 2);
+                    askers.remove(0).tell(ModifyThingResponse.modified(thingId, DITTO_HEADERS), ActorRef.noSender());
+                }
+                modifiedThingIds.add(expectModifyThing(targetActor));
+                askers.add(targetActor.getLastSender());
+            }
+            for (int i = 0; i < askers.size(); ++i) {
+                final ThingId thingId = modifiedThingIds.get(modifiedThingIds.size() - askers.size() + i);
+                askers.get(i).tell(ModifyThingResponse.modified(thingId, DITTO_HEADERS), ActorRef.noSender());
+            }
+
+            final ModifyThingsResponse response = expectMsgClass(ModifyThingsResponse.class);
+            assertThat(modifiedThingIds).containsExactlyInAnyOrderElementsOf(
+                    things.stream().map(thing -> thing.getEntityId().orElseThrow()).collect(Collectors.toList()));
+            assertThat(resultsByThingId(response).values())
+                    .extracting(result -> result.getValueOrThrow(ModifyThingsResponse.JSON_RESULT_STATUS))
+                    .containsOnly(HttpStatusCode.NO_CONTENT.toInt());
+        }};
+    }
+
+    private static ThingId expectModifyThing(final TestKit targetActor) {
+        final ConsistentHashingRouter.ConsistentHashableEnvelope envelope =
+                targetActor.expectMsgClass(ConsistentHashingRouter.ConsistentHashableEnvelope.class);
+        assertThat(envelope.message()).isInstanceOf(ModifyThing.class);
+        return ((ModifyThing) envelope.message()).getThingEntityId();
+    }
+
+    private static List<Thing> things(final int numberOfThings) {
+        return IntStream.range(0, numberOfThings)
+                .mapToObj(i -> ThingsModelFactory.newThingBuilder().setId(thingId(i)).build())
+                .collect(Collectors.toList());
+    }
+
+    private static ThingId thingId(final int index) {
+        return ThingId.of("org.eclipse.ditto", "thing" + index);
+    }
+
+    private static Map<String, JsonObject> resultsByThingId(final ModifyThingsResponse response) {
+        return response.getResults()
+                .stream()
+                .map(JsonValue::asObject)
+                .collect(Collectors.toMap(result -> result.getValueOrThrow(ModifyThingsResponse.JSON_RESULT_THING_ID),
+                        Function.identity()));
+    }
+
+    private static int status(final Map<String, JsonObject> results, final int index) {
+        return results.get(thingId(index).toString()).getValueOrThrow(ModifyThingsResponse.JSON_RESULT_STATUS);
+    }
+
+    private static String error(final Map<String, JsonObject> results, final int index) {
+        return results.get(thingId(index).toString())
+                .getValueOrThrow(ModifyThingsResponse.JSON_RESULT_ERROR)
+                .getValueOrThrow(DittoRuntimeException.JsonFields.ERROR_CODE);
+    }
+
+    private static Config testConfig(final int numberOfShards, final int maxParallelism,
+            final int maxParallelismPerShard) {
+        return ConfigFactory.parseString("ditto {\n" +
+                "  mapping-strategy.implementation = " +
+                "\"org.eclipse.ditto.services.models.concierge.ConciergeMappingStrategies\"\n" +
+                "  mongodb.uri = \"mongodb://localhost:27017/concierge\"\n" +
+                "  cluster.number-of-shards = " + numberOfShards + "\n" +
+                "  concierge.things-aggregator {\n" +
+                "    max-parallelism = " + maxParallelism + "\n" +
+                "    single-modify-thing-timeout = 1s\n" +
+                "    max-parallelism-per-shard = " + maxParallelismPerShard + "\n" +
+                "  }\n" +
+                "}\n" +
+                "aggregator-internal-dispatcher {\n" +
+                "  type = Dispatcher\n" +
+                "  executor = \"fork-join-executor\"\n" +
+                "}\n");
+    }
+
+}
@@ -33,12 +33,16 @@ public final class DefaultMappingConfig implements MappingConfig {
 
     private final int bufferSize;
     private final int parallelism;
+    private final int maxBatchSize;
+    private final int maxPendingPublications;
     private final JavaScriptConfig javaScriptConfig;
     private final MapperLimitsConfig mapperLimitsConfig;
 
     private DefaultMappingConfig(final ScopedConfig config) {
         bufferSize = config.getInt(MappingConfigValue.BUFFER_SIZE.getConfigPath());
         parallelism = config.getInt(MappingConfigValue.PARALLELISM.getConfigPath());
+        maxBatchSize = config.getPositiveIntOrThrow(MappingConfigValue.MAX_BATCH_SIZE);
+        maxPendingPublications = config.getPositiveIntOrThrow(MappingConfigValue.MAX_PENDING_PUBLICATIONS);
         mapperLimitsConfig = DefaultMapperLimitsConfig.of(config);
         javaScriptConfig = DefaultJavaScriptConfig.of(config);
     }
@@ -67,6 +71,16 @@ public final class DefaultMappingConfig implements MappingConfig {
         return parallelism;
     }
 
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public int getMaxPendingPublications() {
+        return maxPendingPublications;
+    }
+
     @Override
     public JavaScriptConfig getJavaScriptConfig() {
         return javaScriptConfig;
@@ -88,13 +102,16 @@ public final class DefaultMappingConfig implements MappingConfig {
         final DefaultMappingConfig that = (DefaultMappingConfig) o;
         return bufferSize == that.bufferSize &&
                 parallelism == that.parallelism &&
+                maxBatchSize == that.maxBatchSize &&
+                maxPendingPublications == that.maxPendingPublications &&
                 Objects.equals(javaScriptConfig, that.javaScriptConfig) &&
                 Objects.equals(mapperLimitsConfig, that.mapperLimitsConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(bufferSize, parallelism, javaScriptConfig, mapperLimitsConfig);
+        return Objects.hash(bufferSize, parallelism, maxBatchSize, maxPendingPublications, javaScriptConfig,
+                mapperLimitsConfig);
     }
 
     @Override
@@ -102,6 +119,8 @@ public final class DefaultMappingConfig implements MappingConfig {
         return getClass().getSimpleName() + " [" +
                 "bufferSize=" + bufferSize +
                 ", parallelism=" + parallelism +
+                ", maxBatchSize=" + maxBatchSize +
+                ", maxPendingPublications=" + maxPendingPublications +
                 ", javaScriptConfig=" + javaScriptConfig +
                 ", mapperLimitsConfig=" + mapperLimitsConfig +
                 "]";
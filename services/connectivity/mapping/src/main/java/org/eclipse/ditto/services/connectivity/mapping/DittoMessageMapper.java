@@ -16,11 +16,13 @@ import static java.util.Collections.singletonList;
 
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.model.base.common.CharsetDeterminer;
@@ -70,7 +72,24 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
 
     @Override
     public List<Adaptable> map(final ExternalMessage message) {
-        final String payload = extractPayloadAsString(message);
+        return mapPayload(extractPayloadAsString(message, DittoMessageMapper::determineCharset));
+    }
+
+    @Override
+    public List<List<Adaptable>> mapExternalMessages(final List<ExternalMessage> messages) {
+        // messages of a batch usually share their content-type: determine the charset of each content-type only once
+        final Map<String, Charset> charsets = new HashMap<>();
+        final Function<Map<String, String>, Charset> charsetDeterminer = headers -> charsets.computeIfAbsent(
+                String.valueOf(headers.get(ExternalMessage.CONTENT_TYPE_HEADER)),
+                contentType -> determineCharset(headers));
+        final List<List<Adaptable>> result = new ArrayList<>(messages.size());
+        for (final ExternalMessage message : messages) {
+            result.add(mapPayload(extractPayloadAsString(message, charsetDeterminer)));
+        }
+        return result;
+    }
+
+    private static List<Adaptable> mapPayload(final String payload) {
         final JsonifiableAdaptable jsonifiableAdaptable = DittoJsonException.wrapJsonRuntimeException(() ->
                 ProtocolFactory.jsonifiableAdaptableFromJson(JsonFactory.newObject(payload))
         );
@@ -100,12 +119,14 @@ public final class DittoMessageMapper extends AbstractMessageMapper {
         return DEFAULT_OPTIONS;
     }
 
-    private static String extractPayloadAsString(final ExternalMessage message) {
+    private static String extractPayloadAsString(final ExternalMessage message,
+            final Function<Map<String, String>, Charset> charsetDeterminer) {
+
         final Optional<String> payload;
         if (message.isTextMessage()) {
             payload = message.getTextPayload();
         } else if (message.isBytesMessage()) {
-            final Charset charset = determineCharset(message.getHeaders());
+            final Charset charset = charsetDeterminer.apply(message.getHeaders());
             payload = message.getBytePayload().map(charset::decode).map(CharBuffer::toString);
         } else {
             payload = Optional.empty();
@@ -39,6 +39,23 @@ public interface MappingConfig {
      */
     int getParallelism();
 
+    /**
+     * Returns the maximum number of inbound messages which are mapped together by one call of the message mappers.
+     * Messages are only combined into batches while the mapping is busy, thus batching never delays messages.
+     *
+     * @return the maximum batch size; 1 if messages are mapped one by one.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns the maximum number of mapped outbound messages which were handed to the publisher actor but not yet
+     * accepted by it. The mapping of outbound messages is backpressured while this many messages are pending.
+     * Only applies to publisher actors which buffer messages before sending them, such as the HTTP publisher.
+     *
+     * @return the maximum number of pending publications.
+     */
+    int getMaxPendingPublications();
+
     /**
      * Returns the config of the JavaScript message mapping.
      *
@@ -67,7 +84,17 @@ public interface MappingConfig {
         /**
          * The parallelism used for processing messages in parallel in message mapping processor actor.
          */
-        PARALLELISM("parallelism", 64);
+        PARALLELISM("parallelism", 64),
+
+        /**
+         * The maximum number of inbound messages mapped together by one call of the message mappers.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 1),
+
+        /**
+         * The maximum number of mapped outbound messages not yet accepted by the publisher actor.
+         */
+        MAX_PENDING_PUBLICATIONS("max-pending-publications", 64);
 
         private final String path;
         private final Object defaultValue;
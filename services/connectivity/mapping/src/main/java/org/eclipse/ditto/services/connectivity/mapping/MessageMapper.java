@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.connectivity.mapping;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -81,6 +82,54 @@ public interface MessageMapper {
      */
     List<ExternalMessage> map(Adaptable adaptable);
 
+    /**
+     * Maps a batch of {@link ExternalMessage}s to {@link Adaptable}s. Mappers which are able to share work between
+     * the messages of a batch should override this method; by default each message is mapped on its own via
+     * {@link #map(ExternalMessage)}.
+     * <p>
+     * The batch is mapped as a whole: if mapping any of the messages fails, the exception is thrown and the caller
+     * maps the messages of the batch one by one in order to determine the failed message.
+     * </p>
+     *
+     * @param messages the ExternalMessages to map.
+     * @return for each ExternalMessage in the same order the mapped Adaptables or an empty List if the
+     * ExternalMessage should not be mapped after all.
+     * @throws org.eclipse.ditto.model.connectivity.MessageMappingFailedException if any of the messages can not be
+     * mapped
+     * @throws org.eclipse.ditto.model.base.exceptions.DittoRuntimeException if anything during Ditto Adaptable creation
+     * went wrong
+     */
+    default List<List<Adaptable>> mapExternalMessages(final List<ExternalMessage> messages) {
+        final List<List<Adaptable>> result = new ArrayList<>(messages.size());
+        for (final ExternalMessage message : messages) {
+            result.add(map(message));
+        }
+        return result;
+    }
+
+    /**
+     * Maps a batch of {@link Adaptable}s to {@link ExternalMessage}s. Mappers which are able to share work between
+     * the messages of a batch should override this method; by default each Adaptable is mapped on its own via
+     * {@link #map(Adaptable)}.
+     * <p>
+     * The batch is mapped as a whole: if mapping any of the Adaptables fails, the exception is thrown and the caller
+     * maps the Adaptables of the batch one by one in order to determine the failed Adaptable.
+     * </p>
+     *
+     * @param adaptables the Adaptables to map.
+     * @return for each Adaptable in the same order the mapped ExternalMessages or an empty List if the Adaptable
+     * should not be mapped after all.
+     * @throws org.eclipse.ditto.model.connectivity.MessageMappingFailedException if any of the adaptables can not be
+     * mapped
+     */
+    default List<List<ExternalMessage>> mapAdaptables(final List<Adaptable> adaptables) {
+        final List<List<ExternalMessage>> result = new ArrayList<>(adaptables.size());
+        for (final Adaptable adaptable : adaptables) {
+            result.add(map(adaptable));
+        }
+        return result;
+    }
+
     /**
      * @return a map of default options for this mapper
      */
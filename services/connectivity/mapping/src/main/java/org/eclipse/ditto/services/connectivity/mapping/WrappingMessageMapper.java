@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.connectivity.mapping;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
@@ -86,8 +87,30 @@ final class WrappingMessageMapper implements MessageMapper {
 
     @Override
     public List<ExternalMessage> map(final Adaptable adaptable) {
-        final List<ExternalMessage> mappedMessages = checkMaxMappedMessagesLimit(delegate.map(adaptable),
-                outboundMessageLimit);
+        return markResponses(adaptable, checkMaxMappedMessagesLimit(delegate.map(adaptable), outboundMessageLimit));
+    }
+
+    @Override
+    public List<List<Adaptable>> mapExternalMessages(final List<ExternalMessage> messages) {
+        final List<List<Adaptable>> mappedMessages = delegate.mapExternalMessages(messages);
+        mappedMessages.forEach(adaptables -> checkMaxMappedMessagesLimit(adaptables, inboundMessageLimit));
+        return mappedMessages;
+    }
+
+    @Override
+    public List<List<ExternalMessage>> mapAdaptables(final List<Adaptable> adaptables) {
+        final List<List<ExternalMessage>> mappedAdaptables = delegate.mapAdaptables(adaptables);
+        final List<List<ExternalMessage>> result = new ArrayList<>(mappedAdaptables.size());
+        for (int i = 0; i < mappedAdaptables.size(); ++i) {
+            result.add(markResponses(adaptables.get(i),
+                    checkMaxMappedMessagesLimit(mappedAdaptables.get(i), outboundMessageLimit)));
+        }
+        return result;
+    }
+
+    private static List<ExternalMessage> markResponses(final Adaptable adaptable,
+            final List<ExternalMessage> mappedMessages) {
+
         return mappedMessages.stream().map(mapped -> {
             final ExternalMessageBuilder messageBuilder = ExternalMessageFactory.newExternalMessageBuilder(mapped);
             messageBuilder.asResponse(adaptable.getPayload().getStatus().isPresent());
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Script;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Scripts of a JavaScript mapping which are compiled once and executed in pooled sandboxes.
+ * <p>
+ * A sandbox consists of a Rhino {@link Context} and a scope in which the libraries, the Ditto protocol helpers and
+ * the user scripts were executed once. Each evaluation of the mapping borrows an idle sandbox from the pool, so
+ * neither contexts nor scopes are created per message and scripts keeping state in global variables do not interfere
+ * across concurrent evaluations. If no sandbox is idle, a new one is created; the pool keeps at most as many idle
+ * sandboxes as configured and discards the others. The sandboxes are released together with the compiled scripts.
+ * </p>
+ */
+@ThreadSafe
+final class CompiledMappingScripts {
+
+    private final SandboxingContextFactory contextFactory;
+    private final List<Script> scripts;
+    private final BlockingQueue<Sandbox> idleSandboxes;
+
+    private CompiledMappingScripts(final SandboxingContextFactory contextFactory, final List<Script> scripts,
+            final int maxIdleSandboxes) {
+
+        this.contextFactory = contextFactory;
+        this.scripts = scripts;
+        idleSandboxes = new ArrayBlockingQueue<>(maxIdleSandboxes);
+    }
+
+    /**
+     * Returns a builder compiling scripts with the given context factory.
+     *
+     * @param contextFactory the sandboxing context factory to compile and to execute the scripts with.
+     * @return the builder.
+     */
+    static Builder newBuilder(final SandboxingContextFactory contextFactory) {
+        return new Builder(contextFactory);
+    }
+
+    /**
+     * Runs an action in the context and the scope of an idle sandbox. The scope is initialized by executing all
+     * scripts when it is used for the first time.
+     *
+     * @param action the action to run.
+     * @param <T> the type of the action's result.
+     * @return the result of the action.
+     * @throws org.mozilla.javascript.RhinoException if the action or the initialization of the scope failed.
+     */
+    <T> T call(final ScopeAction<T> action) {
+        final Sandbox idleSandbox = idleSandboxes.poll();
+        final Sandbox sandbox = null != idleSandbox ? idleSandbox : new Sandbox(contextFactory.newContext());
+        final Context cx = contextFactory.enterContext(sandbox.context);
+        try {
+            return action.run(cx, sandbox.getScope(cx, scripts));
+        } finally {
+            Context.exit();
+            // discards the sandbox if the pool is full
+            idleSandboxes.offer(sandbox);
+        }
+    }
+
+    /**
+     * An action to run in a Rhino context and scope.
+     *
+     * @param <T> the type of the action's result.
+     */
+    @FunctionalInterface
+    interface ScopeAction<T> {
+
+        /**
+         * Runs the action.
+         *
+         * @param cx the entered context.
+         * @param scope the initialized scope of the borrowed sandbox.
+         * @return the result.
+         */
+        T run(Context cx, Scriptable scope);
+
+    }
+
+    /**
+     * A Rhino context together with the scope initialized in it.
+     */
+    private static final class Sandbox {
+
+        private final Context context;
+        @Nullable private Scriptable scope;
+
+        private Sandbox(final Context context) {
+            this.context = context;
+            scope = null;
+        }
+
+        private Scriptable getScope(final Context cx, final List<Script> scripts) {
+            if (null != scope) {
+                return scope;
+            }
+            final Scriptable newScope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
+            for (final Script script : scripts) {
+                script.exec(cx, newScope);
+            }
+            scope = newScope;
+            return newScope;
+        }
+
+    }
+
+    /**
+     * Builder of {@code CompiledMappingScripts}. Scripts are executed in the order in which they were added.
+     */
+    static final class Builder {
+
+        private final SandboxingContextFactory contextFactory;
+        private final List<Source> sources;
+        private int maxIdleSandboxes;
+
+        private Builder(final SandboxingContextFactory contextFactory) {
+            this.contextFactory = contextFactory;
+            sources = new ArrayList<>();
+            maxIdleSandboxes = Runtime.getRuntime().availableProcessors();
+        }
+
+        /**
+         * Sets the maximum number of idle sandboxes kept for reuse. Defaults to the number of available processors.
+         *
+         * @param maxIdleSandboxes the maximum number of idle sandboxes.
+         * @return this builder.
+         * @throws IllegalArgumentException if {@code maxIdleSandboxes} is not positive.
+         */
+        Builder withMaxIdleSandboxes(final int maxIdleSandboxes) {
+            if (maxIdleSandboxes < 1) {
+                throw new IllegalArgumentException("The maximum number of idle sandboxes must be positive but it was <"
+                        + maxIdleSandboxes + ">!");
+            }
+            this.maxIdleSandboxes = maxIdleSandboxes;
+            return this;
+        }
+
+        /**
+         * Adds a script read from a reader, e.g. a library.
+         *
+         * @param name the name of the script appearing in error messages.
+         * @param reader the reader of the script's source code.
+         * @return this builder.
+         */
+        Builder withScript(final String name, final Reader reader) {
+            sources.add(new Source(name, reader));
+            return this;
+        }
+
+        /**
+         * Adds a script given as string, e.g. a user-defined mapping script.
+         *
+         * @param name the name of the script appearing in error messages.
+         * @param script the script's source code.
+         * @return this builder.
+         */
+        Builder withScript(final String name, final String script) {
+            return withScript(name, new StringReader(script));
+        }
+
+        /**
+         * Compiles all added scripts.
+         *
+         * @return the compiled scripts.
+         * @throws org.mozilla.javascript.RhinoException if a script has a syntax error.
+         * @throws IllegalStateException if a script could not be read.
+         */
+        CompiledMappingScripts build() {
+            final List<Script> scripts = contextFactory.call(cx -> {
+                final List<Script> compiledScripts = new ArrayList<>(sources.size());
+                for (final Source source : sources) {
+                    compiledScripts.add(source.compile(cx));
+                }
+                return compiledScripts;
+            });
+            return new CompiledMappingScripts(contextFactory, scripts, maxIdleSandboxes);
+        }
+
+    }
+
+    private static final class Source {
+
+        private final String name;
+        private final Reader reader;
+
+        private Source(final String name, final Reader reader) {
+            this.name = name;
+            this.reader = reader;
+        }
+
+        private Script compile(final Context cx) {
+            try {
+                return cx.compileReader(reader, name, 1, null);
+            } catch (final IOException e) {
+                throw new IllegalStateException("Could not load script <" + name + ">", e);
+            }
+        }
+
+    }
+
+}
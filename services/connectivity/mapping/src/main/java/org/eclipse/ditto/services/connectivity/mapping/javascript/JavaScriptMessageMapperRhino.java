@@ -12,7 +12,6 @@
  */
 package org.eclipse.ditto.services.connectivity.mapping.javascript;
 
-import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.List;
@@ -27,10 +26,7 @@ import org.eclipse.ditto.services.connectivity.mapping.MappingConfig;
 import org.eclipse.ditto.services.connectivity.mapping.MessageMapperConfiguration;
 import org.eclipse.ditto.services.connectivity.mapping.PayloadMapper;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
-import org.mozilla.javascript.Context;
-import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.RhinoException;
-import org.mozilla.javascript.Scriptable;
 
 /**
  * This mapper executes its mapping methods on the <b>current thread</b>. The caller should be aware of that.
@@ -52,7 +48,6 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
     static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
     static final String OUTGOING_SCRIPT = "/javascript/outgoing-mapping.js";
 
-    @Nullable private ContextFactory contextFactory;
     @Nullable private JavaScriptMessageMapperConfiguration configuration;
 
     private MappingFunction<ExternalMessage, List<Adaptable>> incomingMapping = DefaultIncomingMapping.get();
@@ -85,16 +80,15 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
                     .build();
         }
 
-        contextFactory = new SandboxingContextFactory(javaScriptConfig.getMaxScriptExecutionTime(),
-                javaScriptConfig.getMaxScriptStackDepth());
+        final SandboxingContextFactory contextFactory =
+                new SandboxingContextFactory(javaScriptConfig.getMaxScriptExecutionTime(),
+                        javaScriptConfig.getMaxScriptStackDepth());
 
         try {
-            // create scope once and load the required libraries in order to get best performance:
-            contextFactory.call(cx -> {
-                final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
-                initLibraries(cx, scope);
-                return scope;
-            });
+            // compile the libraries and scripts once in order to get best performance:
+            final CompiledMappingScripts scripts = compileScripts(contextFactory);
+            // initialize the scope of one sandbox in order to report errors of the scripts immediately:
+            scripts.call((cx, scope) -> scope);
         } catch (final RhinoException e) {
             final boolean sourceExists = e.lineSource() != null && !e.lineSource().isEmpty();
             final String lineSource = sourceExists ? (", source:\n" + e.lineSource()) : "";
@@ -117,62 +111,67 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         return outgoingMapping.apply(adaptable);
     }
 
-    private void initLibraries(final Context cx, final Scriptable scope) {
+    @Override
+    public List<List<Adaptable>> mapExternalMessages(final List<ExternalMessage> messages) {
+        return incomingMapping.applyToAll(messages);
+    }
+
+    @Override
+    public List<List<ExternalMessage>> mapAdaptables(final List<Adaptable> adaptables) {
+        return outgoingMapping.applyToAll(adaptables);
+    }
+
+    private CompiledMappingScripts compileScripts(final SandboxingContextFactory contextFactory) {
+        final CompiledMappingScripts.Builder scriptsBuilder = CompiledMappingScripts.newBuilder(contextFactory);
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
+            scriptsBuilder.withScript(WEBJARS_LONG, getResourceReader(WEBJARS_LONG));
         }
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
+            scriptsBuilder.withScript(WEBJARS_BYTEBUFFER, getResourceReader(WEBJARS_BYTEBUFFER));
         }
 
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
+        scriptsBuilder.withScript(DITTO_SCOPE_SCRIPT, getResourceReader(DITTO_SCOPE_SCRIPT))
+                .withScript(INCOMING_SCRIPT, getResourceReader(INCOMING_SCRIPT))
+                .withScript(OUTGOING_SCRIPT, getResourceReader(OUTGOING_SCRIPT));
 
         final String userIncomingScript = getConfiguration()
                 .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
                 .orElse("");
+        if (!userIncomingScript.isEmpty()) {
+            scriptsBuilder.withScript(JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT,
+                    userIncomingScript);
+        }
+        final String userOutgoingScript = getConfiguration()
+                .flatMap(JavaScriptMessageMapperConfiguration::getOutgoingScript)
+                .orElse("");
+        if (!userOutgoingScript.isEmpty()) {
+            scriptsBuilder.withScript(JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT,
+                    userOutgoingScript);
+        }
+
+        final CompiledMappingScripts scripts = scriptsBuilder.build();
+
         if (userIncomingScript.isEmpty()) {
             // shortcut: the user defined an empty incoming mapping script -> assume that the ExternalMessage is in DittoProtocol
             incomingMapping = DefaultIncomingMapping.get();
         } else {
-            incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userIncomingScript,
-                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
+            incomingMapping = new ScriptedIncomingMapping(scripts);
         }
-
-        final String userOutgoingScript = getConfiguration()
-                .flatMap(JavaScriptMessageMapperConfiguration::getOutgoingScript)
-                .orElse("");
         if (userOutgoingScript.isEmpty()) {
             // shortcut: the user defined an empty outgoing mapping script -> send the Adaptable as DittoProtocol JSON
             outgoingMapping = DefaultOutgoingMapping.get();
         } else {
-            outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userOutgoingScript,
-                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
+            outgoingMapping = new ScriptedOutgoingMapping(scripts);
         }
+        return scripts;
     }
 
-    private Optional<JavaScriptMessageMapperConfiguration> getConfiguration() {
-        return Optional.ofNullable(configuration);
+    private Reader getResourceReader(final String resourcePath) {
+        return new InputStreamReader(getClass().getResourceAsStream(resourcePath));
     }
 
-    static void loadJavascriptLibrary(final Context cx,
-            final Scriptable scope,
-            final Reader reader,
-            final String libraryName) {
-
-        try {
-            cx.evaluateReader(scope, reader, libraryName, 1, null);
-        } catch (final IOException e) {
-            throw new IllegalStateException("Could not load script <" + libraryName + ">", e);
-        }
+    private Optional<JavaScriptMessageMapperConfiguration> getConfiguration() {
+        return Optional.ofNullable(configuration);
     }
 
 }
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.connectivity.mapping.javascript;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Function;
 
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -26,6 +28,21 @@ import org.mozilla.javascript.RhinoException;
  */
 public interface MappingFunction<I, O> extends Function<I, O> {
 
+    /**
+     * Applies this mapping function to each of the given inputs. Implementations may override this method in order to
+     * share work between the inputs; by default the inputs are mapped one by one.
+     *
+     * @param inputs the inputs.
+     * @return the outputs in the order of the inputs.
+     */
+    default List<O> applyToAll(final List<I> inputs) {
+        final List<O> outputs = new ArrayList<>(inputs.size());
+        for (final I input : inputs) {
+            outputs.add(apply(input));
+        }
+        return outputs;
+    }
+
     /**
      * Build {@link MessageMappingFailedException} from a {@link RhinoException}.
      * @param e the original exception thrown by the rhino engine
@@ -60,6 +60,16 @@ final class SandboxingContextFactory extends ContextFactory {
         return cx;
     }
 
+    /**
+     * Creates a new sandboxed context which is not yet associated with any thread. It may be entered repeatedly via
+     * {@link #enterContext(Context)} by the same thread.
+     *
+     * @return the new context.
+     */
+    Context newContext() {
+        return makeContext();
+    }
+
     @Override
     public boolean hasFeature(final Context cx, final int featureIndex) {
         switch (featureIndex) {
@@ -16,8 +16,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
-import javax.annotation.Nullable;
-
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
@@ -27,7 +25,6 @@ import org.eclipse.ditto.protocoladapter.Adaptable;
 import org.eclipse.ditto.protocoladapter.ProtocolFactory;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.mozilla.javascript.Context;
-import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
 import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
@@ -47,45 +44,57 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
 
     private static final String INCOMING_FUNCTION_NAME = "mapToDittoProtocolMsgWrapper";
 
-    @Nullable
-    private ContextFactory contextFactory;
-    @Nullable
-    private Scriptable scope;
+    private final CompiledMappingScripts scripts;
 
-    ScriptedIncomingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
-        this.contextFactory = contextFactory;
-        this.scope = scope;
+    ScriptedIncomingMapping(final CompiledMappingScripts scripts) {
+        this.scripts = scripts;
     }
 
     @Override
     public List<Adaptable> apply(final ExternalMessage message) {
+        return scripts.call((cx, scope) -> mapExternalMessage(cx, scope, message));
+    }
+
+    @Override
+    public List<List<Adaptable>> applyToAll(final List<ExternalMessage> messages) {
+        // enter the context of the current thread only once for all messages
+        return scripts.call((cx, scope) -> {
+            final List<List<Adaptable>> result = new ArrayList<>(messages.size());
+            for (final ExternalMessage message : messages) {
+                result.add(mapExternalMessage(cx, scope, message));
+            }
+            return result;
+        });
+    }
+
+    private List<Adaptable> mapExternalMessage(final Context cx, final Scriptable scope,
+            final ExternalMessage message) {
+
         try {
-            return contextFactory.call(cx -> {
-                final NativeObject externalMessage = mapExternalMessageToNativeObject(message);
-
-                final org.mozilla.javascript.Function
-                        mapToDittoProtocolMsgWrapper =
-                        (org.mozilla.javascript.Function) scope.get(INCOMING_FUNCTION_NAME, scope);
-                final Object result =
-                        mapToDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{externalMessage});
-
-                if (result == null) {
-                    // return empty list if result is null
-                    return Collections.emptyList();
-                } else if (result instanceof NativeArray) {
-                    // array handling
-                    final NativeArray jsArray = (NativeArray) result;
-                    final List<Adaptable> list = new ArrayList<>();
-                    for (Object idxObj : jsArray.getIds()) {
-                        int index = (Integer) idxObj;
-                        final Object element = jsArray.get(index, null);
-                        list.add(getAdaptableFromObject(cx, element));
-                    }
-                    return list;
+            final NativeObject externalMessage = mapExternalMessageToNativeObject(message);
+
+            final org.mozilla.javascript.Function
+                    mapToDittoProtocolMsgWrapper =
+                    (org.mozilla.javascript.Function) scope.get(INCOMING_FUNCTION_NAME, scope);
+            final Object result =
+                    mapToDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{externalMessage});
+
+            if (result == null) {
+                // return empty list if result is null
+                return Collections.emptyList();
+            } else if (result instanceof NativeArray) {
+                // array handling
+                final NativeArray jsArray = (NativeArray) result;
+                final List<Adaptable> list = new ArrayList<>();
+                for (Object idxObj : jsArray.getIds()) {
+                    int index = (Integer) idxObj;
+                    final Object element = jsArray.get(index, null);
+                    list.add(getAdaptableFromObject(cx, scope, element));
                 }
+                return list;
+            }
 
-                return Collections.singletonList(getAdaptableFromObject(cx, result));
-            });
+            return Collections.singletonList(getAdaptableFromObject(cx, scope, result));
         } catch (final RhinoException e) {
             throw buildMessageMappingFailedException(e, message.findContentType().orElse(""),
                     DittoHeaders.of(message.getHeaders()));
@@ -122,7 +131,7 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
         return externalMessage;
     }
 
-    private Adaptable getAdaptableFromObject(final Context cx, final Object result) {
+    private static Adaptable getAdaptableFromObject(final Context cx, final Scriptable scope, final Object result) {
         final String dittoProtocolJsonStr = (String) NativeJSON.stringify(cx, scope, result, null, null);
 
         return DittoJsonException.wrapJsonRuntimeException(() -> {
@@ -24,7 +24,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import javax.annotation.Nullable;
 import javax.script.Bindings;
 
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -38,7 +37,6 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.mozilla.javascript.Callable;
 import org.mozilla.javascript.Context;
-import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
 import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
@@ -59,43 +57,55 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
 
     private static final String OUTGOING_FUNCTION_NAME = "mapFromDittoProtocolMsgWrapper";
 
-    @Nullable private final ContextFactory contextFactory;
-    @Nullable private final Scriptable scope;
+    private final CompiledMappingScripts scripts;
 
-    ScriptedOutgoingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
-        this.contextFactory = contextFactory;
-        this.scope = scope;
+    ScriptedOutgoingMapping(final CompiledMappingScripts scripts) {
+        this.scripts = scripts;
     }
 
     @Override
     public List<ExternalMessage> apply(final Adaptable adaptable) {
+        return scripts.call((cx, scope) -> mapAdaptable(cx, scope, adaptable));
+    }
+
+    @Override
+    public List<List<ExternalMessage>> applyToAll(final List<Adaptable> adaptables) {
+        // enter the context of the current thread only once for all adaptables
+        return scripts.call((cx, scope) -> {
+            final List<List<ExternalMessage>> result = new ArrayList<>(adaptables.size());
+            for (final Adaptable adaptable : adaptables) {
+                result.add(mapAdaptable(cx, scope, adaptable));
+            }
+            return result;
+        });
+    }
+
+    private List<ExternalMessage> mapAdaptable(final Context cx, final Scriptable scope, final Adaptable adaptable) {
         try {
             final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
-            return contextFactory.call(cx -> {
-                final Object dittoProtocolMessage =
-                        NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
-
-                final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper =
-                        (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
-                final Object result =
-                        mapFromDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{dittoProtocolMessage});
-
-                if (result == null) {
-                    // return empty list if result is null
-                    return Collections.emptyList();
-                } else if (result instanceof NativeArray) {
-                    // handle array
-                    final NativeArray jsArray = (NativeArray) result;
-                    final List<ExternalMessage> list = new ArrayList<>();
-                    for (Object idxObj : jsArray.getIds()) {
-                        int index = (Integer) idxObj;
-                        final Object element = jsArray.get(index, null);
-                        list.add(getExternalMessageFromObject(adaptable, (NativeObject) element));
-                    }
-                    return list;
+            final Object dittoProtocolMessage =
+                    NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
+
+            final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper =
+                    (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
+            final Object result =
+                    mapFromDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[]{dittoProtocolMessage});
+
+            if (result == null) {
+                // return empty list if result is null
+                return Collections.emptyList();
+            } else if (result instanceof NativeArray) {
+                // handle array
+                final NativeArray jsArray = (NativeArray) result;
+                final List<ExternalMessage> list = new ArrayList<>();
+                for (Object idxObj : jsArray.getIds()) {
+                    int index = (Integer) idxObj;
+                    final Object element = jsArray.get(index, null);
+                    list.add(getExternalMessageFromObject(adaptable, (NativeObject) element));
                 }
-                return Collections.singletonList(getExternalMessageFromObject(adaptable, (NativeObject) result));
-            });
+                return list;
+            }
+            return Collections.singletonList(getExternalMessageFromObject(adaptable, (NativeObject) result));
         } catch (final RhinoException e) {
             throw buildMessageMappingFailedException(e, MessageMapper.findContentType(adaptable).orElse(""),
                     adaptable.getHeaders().orElseGet(DittoHeaders::empty));
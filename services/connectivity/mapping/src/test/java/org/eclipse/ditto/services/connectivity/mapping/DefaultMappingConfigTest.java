@@ -62,7 +62,8 @@ public final class DefaultMappingConfigTest {
 
         softly.assertThat(underTest.toString())
                 .contains(underTest.getClass().getSimpleName())
-                .contains("javaScriptConfig", "mapperLimitsConfig", "bufferSize", "parallelism");
+                .contains("javaScriptConfig", "mapperLimitsConfig", "bufferSize", "parallelism",
+                        "maxBatchSize", "maxPendingPublications");
     }
 
     @Test
@@ -76,6 +77,14 @@ public final class DefaultMappingConfigTest {
         softly.assertThat(underTest.getParallelism())
                 .describedAs(MappingConfig.MappingConfigValue.PARALLELISM.getConfigPath())
                 .isEqualTo(67890);
+
+        softly.assertThat(underTest.getMaxBatchSize())
+                .describedAs(MappingConfig.MappingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(42);
+
+        softly.assertThat(underTest.getMaxPendingPublications())
+                .describedAs(MappingConfig.MappingConfigValue.MAX_PENDING_PUBLICATIONS.getConfigPath())
+                .isEqualTo(24);
     }
 
 }
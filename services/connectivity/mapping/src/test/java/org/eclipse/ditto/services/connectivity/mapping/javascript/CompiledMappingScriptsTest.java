@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Function;
+import org.mozilla.javascript.RhinoException;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Tests {@link CompiledMappingScripts}.
+ */
+public final class CompiledMappingScriptsTest {
+
+    private static final String COUNTER_SCRIPT = "var counter = 0;\nfunction increment() { return ++counter; }";
+
+    private final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10);
+
+    @Test
+    public void scopeIsReusedBySequentialCalls() {
+        final CompiledMappingScripts underTest = CompiledMappingScripts.newBuilder(contextFactory)
+                .withScript("counter", COUNTER_SCRIPT)
+                .build();
+
+        assertThat(underTest.call(CompiledMappingScriptsTest::increment)).isEqualTo(1);
+        assertThat(underTest.call(CompiledMappingScriptsTest::increment)).isEqualTo(2);
+        assertThat(CompletableFuture.supplyAsync(() -> underTest.call(CompiledMappingScriptsTest::increment)).join())
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void concurrentCallsHaveTheirOwnScopes() {
+        final CompiledMappingScripts underTest = CompiledMappingScripts.newBuilder(contextFactory)
+                .withScript("counter", COUNTER_SCRIPT)
+                .build();
+
+        final int concurrentResult = underTest.call((cx, scope) -> {
+            final int result = increment(cx, scope);
+            assertThat(CompletableFuture.supplyAsync(() -> underTest.call(CompiledMappingScriptsTest::increment))
+                    .join())
+                    .isEqualTo(1);
+            return result;
+        });
+
+        assertThat(concurrentResult).isEqualTo(1);
+    }
+
+    @Test
+    public void idleSandboxesAreBounded() {
+        final CompiledMappingScripts underTest = CompiledMappingScripts.newBuilder(contextFactory)
+                .withScript("counter", COUNTER_SCRIPT)
+                .withMaxIdleSandboxes(1)
+                .build();
+
+        // two sandboxes are in use at the same time, the one returned last is discarded
+        underTest.call((cx, scope) -> {
+            increment(cx, scope);
+            return CompletableFuture.supplyAsync(() -> underTest.call(CompiledMappingScriptsTest::increment)).join();
+        });
+
+        assertThat(underTest.call(CompiledMappingScriptsTest::increment)).isEqualTo(2);
+        assertThat(CompletableFuture.supplyAsync(() -> underTest.call(CompiledMappingScriptsTest::increment)).join())
+                .isEqualTo(3);
+    }
+
+    @Test
+    public void maxIdleSandboxesMustBePositive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> CompiledMappingScripts.newBuilder(contextFactory).withMaxIdleSandboxes(0));
+    }
+
+    @Test
+    public void syntaxErrorsAreReportedWhenCompiling() {
+        final CompiledMappingScripts.Builder builder = CompiledMappingScripts.newBuilder(contextFactory)
+                .withScript("invalid", "function increment( { return 1; }");
+
+        assertThatExceptionOfType(RhinoException.class).isThrownBy(builder::build);
+    }
+
+    private static int increment(final Context cx, final Scriptable scope) {
+        final Function increment = (Function) scope.get("increment", scope);
+        return ((Number) increment.call(cx, scope, scope, new Object[0])).intValue();
+    }
+
+}
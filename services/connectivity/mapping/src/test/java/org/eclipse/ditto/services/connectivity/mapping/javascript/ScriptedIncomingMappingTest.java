@@ -27,7 +27,6 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.junit.Test;
 import org.mozilla.javascript.NativeObject;
-import org.mozilla.javascript.Scriptable;
 import org.mozilla.javascript.typedarrays.NativeArrayBuffer;
 
 public class ScriptedIncomingMappingTest {
@@ -115,30 +114,26 @@ public class ScriptedIncomingMappingTest {
 
     private void testJavascript(final String scriptToTest, final Consumer<List<Adaptable>> mappedAdaptables) {
         final SandboxingContextFactory contextFactory = new SandboxingContextFactory(Duration.ofMillis(500), 10);
-        contextFactory.call(cx -> {
-            final Scriptable scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
-            JavaScriptMessageMapperRhino.loadJavascriptLibrary(cx, scope, new InputStreamReader(
-                            getClass().getResourceAsStream(JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT)),
-                    JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT);
-            JavaScriptMessageMapperRhino.loadJavascriptLibrary(cx, scope,
-                    new InputStreamReader(getClass().getResourceAsStream(JavaScriptMessageMapperRhino.INCOMING_SCRIPT)),
-                    JavaScriptMessageMapperRhino.INCOMING_SCRIPT);
-            JavaScriptMessageMapperRhino.loadJavascriptLibrary(cx, scope,
-                    new InputStreamReader(getClass().getResourceAsStream(JavaScriptMessageMapperRhino.OUTGOING_SCRIPT)),
-                    JavaScriptMessageMapperRhino.OUTGOING_SCRIPT);
-
-            final ScriptedIncomingMapping incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
-            cx.evaluateString(scope, scriptToTest,
-                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
-
-            final ExternalMessage externalMessage = ExternalMessageFactory
-                    .newExternalMessageBuilder(new HashMap<>())
-                    .withText(PAYLOAD)
-                    .build();
-            final List<Adaptable> adaptables = incomingMapping.apply(externalMessage);
-            mappedAdaptables.accept(adaptables);
-
-            return scope;
-        });
+        final CompiledMappingScripts scripts = CompiledMappingScripts.newBuilder(contextFactory)
+                .withScript(JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT, getResourceReader(
+                        JavaScriptMessageMapperRhino.DITTO_SCOPE_SCRIPT))
+                .withScript(JavaScriptMessageMapperRhino.INCOMING_SCRIPT, getResourceReader(
+                        JavaScriptMessageMapperRhino.INCOMING_SCRIPT))
+                .withScript(JavaScriptMessageMapperRhino.OUTGOING_SCRIPT, getResourceReader(
+                        JavaScriptMessageMapperRhino.OUTGOING_SCRIPT))
+                .withScript(JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, scriptToTest)
+                .build();
+        final ScriptedIncomingMapping incomingMapping = new ScriptedIncomingMapping(scripts);
+
+        final ExternalMessage externalMessage = ExternalMessageFactory
+                .newExternalMessageBuilder(new HashMap<>())
+                .withText(PAYLOAD)
+                .build();
+        final List<Adaptable> adaptables = incomingMapping.apply(externalMessage);
+        mappedAdaptables.accept(adaptables);
+    }
+
+    private InputStreamReader getResourceReader(final String resourcePath) {
+        return new InputStreamReader(getClass().getResourceAsStream(resourcePath));
     }
 }
\ No newline at end of file
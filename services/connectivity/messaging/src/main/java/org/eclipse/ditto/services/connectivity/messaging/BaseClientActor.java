@@ -63,12 +63,14 @@ import org.eclipse.ditto.services.connectivity.messaging.internal.ClientDisconne
 import org.eclipse.ditto.services.connectivity.messaging.internal.ConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.messaging.monitoring.DefaultConnectionMonitorRegistry;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.ConnectionLogger;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.ConnectionLoggerRegistry;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.InfoProviderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.metrics.ConnectivityCounterRegistry;
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
@@ -77,6 +79,7 @@ import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 import org.eclipse.ditto.services.utils.protocol.ProtocolAdapterProvider;
 import org.eclipse.ditto.signals.base.Signal;
+import org.eclipse.ditto.signals.commands.connectivity.ConnectivityCommand;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionFailedException;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionSignalIllegalException;
 import org.eclipse.ditto.signals.commands.connectivity.modify.CheckConnectionLogsActive;
@@ -133,6 +136,7 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
     private final ConnectivityCounterRegistry connectionCounterRegistry;
     private final ActorRef messageMappingProcessorActor;
     private final ReconnectTimeoutStrategy reconnectTimeoutStrategy;
+    private final SignalFilter signalFilter;
 
     // counter for all child actors ever started to disambiguate between them
     private int childActorCount = 0;
@@ -196,6 +200,8 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
 
         reconnectTimeoutStrategy = DuplicationReconnectTimeoutStrategy.fromConfig(clientConfig);
 
+        signalFilter = new SignalFilter(connection, DefaultConnectionMonitorRegistry.fromConfig(monitoringConfig));
+
         messageMappingProcessorActor = startMessageMappingProcessorActor();
 
         initialize();
@@ -322,7 +328,9 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
                 .event(CheckConnectionLogsActive.class, BaseClientData.class,
                         (command, data) -> checkLoggingActive(command))
                 .event(OutboundSignal.class, BaseClientData.class, this::handleOutboundSignal)
-                .event(PublishMappedMessage.class, BaseClientData.class, this::publishMappedMessage);
+                .event(PublishMappedMessage.class, BaseClientData.class, this::publishMappedMessage)
+                .event(Signal.class, BaseClientData.class, (signal, data) -> !(signal instanceof ConnectivityCommand),
+                        this::handleSignal);
     }
 
     /**
@@ -521,13 +529,32 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
     @Nullable
     protected abstract ActorRef getPublisherActor();
 
+    /**
+     * Indicates whether the publisher actor of this client buffers messages before sending them and acknowledges
+     * them with {@link BasePublisherActor#whenAccepted()}. The mapping of outbound messages waits for these
+     * acknowledgements; publishers which send messages right away are not asked for them.
+     *
+     * @return {@code true} if the mapping of outbound messages should wait for the publisher actor.
+     */
+    protected boolean isPublisherBackpressuring() {
+        return false;
+    }
+
     private FSM.State<BaseClientState, BaseClientData> publishMappedMessage(final PublishMappedMessage message,
             final BaseClientData data) {
 
-        if (getPublisherActor() != null) {
-            getPublisherActor().forward(message.getOutboundSignal(), getContext());
+        final ActorRef publisherActor = getPublisherActor();
+        if (publisherActor != null) {
+            publisherActor.tell(message.getOutboundSignal(), message.getSender());
+            if (message.isAcknowledgementRequested()) {
+                // the publisher actor acknowledges once it accepted the message, the sender waits for it
+                publisherActor.forward(BasePublisherActor.AcknowledgeAccepted.INSTANCE, getContext());
+            }
         } else {
             log.error("No publisher actor available, dropping message: {}", message);
+            if (message.isAcknowledgementRequested()) {
+                getSender().tell(Done.getInstance(), getSelf());
+            }
         }
         return stay();
     }
@@ -1092,6 +1119,36 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         return stay();
     }
 
+    /**
+     * Determines the targets of a signal published to the client actors of the connection and forwards it to the
+     * message mapping. The connection persistence actor subscribes its client actors for the signals directly.
+     */
+    private FSM.State<BaseClientState, BaseClientData> handleSignal(final Signal<?> signal,
+            final BaseClientData data) {
+
+        enhanceLogUtil(signal);
+        if (connectionId().toString().equals(signal.getDittoHeaders().getOrigin().orElse(null))) {
+            logDroppedSignal(signal.getType(), "Was sent by myself.");
+            return stay();
+        }
+
+        final List<Target> subscribedAndAuthorizedTargets = signalFilter.filter(signal);
+        if (subscribedAndAuthorizedTargets.isEmpty()) {
+            logDroppedSignal(signal.getType(), "No subscribed and authorized targets present");
+            return stay();
+        }
+
+        log.debug("Forwarding signal <{}> to message mapping with targets: {}.", signal.getType(),
+                subscribedAndAuthorizedTargets);
+        final OutboundSignal outbound = OutboundSignalFactory.newOutboundSignal(signal, subscribedAndAuthorizedTargets);
+        messageMappingProcessorActor.tell(outbound, getSender());
+        return stay();
+    }
+
+    private void logDroppedSignal(final String type, final String reason) {
+        log.debug("Signal ({}) dropped: {}", type, reason);
+    }
+
     private void enhanceLogUtil(final WithDittoHeaders<?> signal) {
         ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(log, signal, connectionId());
     }
@@ -1152,7 +1209,7 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
         log.debug("Starting MessageMappingProcessorActor with pool size of <{}>.",
                 connection.getProcessorPoolSize());
         final Props props = MessageMappingProcessorActor.props(conciergeForwarder, getSelf(), processor,
-                connectionId(), connection.getProcessorPoolSize());
+                connectionId(), connection.getProcessorPoolSize(), isPublisherBackpressuring());
 
         return getContext().actorOf(props, MessageMappingProcessorActor.ACTOR_NAME);
     }
@@ -1366,24 +1423,48 @@ public abstract class BaseClientActor extends AbstractFSMWithStash<BaseClientSta
     }
 
     /**
-     * Wrapper for a mapped {@link OutboundSignal} that should be forwarded to the publisher actor.
+     * Wrapper for a mapped {@link OutboundSignal} that should be forwarded to the publisher actor. If an
+     * acknowledgement is requested, the client actor answers it with {@link Done} once the publisher actor accepted
+     * the signal.
      */
     static final class PublishMappedMessage {
 
         private final OutboundSignal.Mapped outboundSignal;
+        private final ActorRef sender;
+        private final boolean acknowledgementRequested;
+
+        PublishMappedMessage(final OutboundSignal.Mapped outboundSignal, final ActorRef sender,
+                final boolean acknowledgementRequested) {
 
-        PublishMappedMessage(final OutboundSignal.Mapped outboundSignal) {
             this.outboundSignal = outboundSignal;
+            this.sender = sender;
+            this.acknowledgementRequested = acknowledgementRequested;
         }
 
         OutboundSignal.Mapped getOutboundSignal() {
             return outboundSignal;
         }
 
+        /**
+         * @return the sender of the signal, which the publisher actor sends errors to.
+         */
+        ActorRef getSender() {
+            return sender;
+        }
+
+        /**
+         * @return whether the client actor should answer with {@link Done} once the publisher accepted the signal.
+         */
+        boolean isAcknowledgementRequested() {
+            return acknowledgementRequested;
+        }
+
         @Override
         public String toString() {
             return getClass().getSimpleName() + " [" +
                     "outboundSignal=" + outboundSignal +
+                    ", sender=" + sender +
+                    ", acknowledgementRequested=" + acknowledgementRequested +
                     "]";
         }
 
@@ -14,7 +14,9 @@ package org.eclipse.ditto.services.connectivity.messaging;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
@@ -26,6 +28,7 @@ import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.DefaultConnectionMonitorRegistry;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
@@ -35,6 +38,7 @@ import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 
 import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
+import akka.pattern.Patterns;
 
 /**
  * Base class for consumer actors that holds common fields and handles the address status.
@@ -75,6 +79,21 @@ public abstract class BaseConsumerActor extends AbstractActorWithTimers {
         doForwardToMappingActor(message);
     }
 
+    /**
+     * Send a message to the mapping actor and wait until all signals mapped from it were forwarded.
+     * Thread-safe.
+     *
+     * @param message the message to process.
+     * @param timeout how long to wait for the message to be processed.
+     * @return a future which completes when the message was processed and fails if the message could not be
+     * processed in time.
+     */
+    protected CompletionStage<Object> forwardToMappingActorWithAck(final ExternalMessage message,
+            final Duration timeout) {
+
+        return Patterns.ask(messageMappingProcessor, AcknowledgeableMessage.of(addReplyTarget(message)), timeout);
+    }
+
     private void doForwardToMappingActor(final Object message) {
         messageMappingProcessor.forward(message, getContext());
     }
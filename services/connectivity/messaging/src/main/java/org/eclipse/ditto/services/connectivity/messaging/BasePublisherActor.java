@@ -22,6 +22,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -57,9 +59,11 @@ import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 import org.eclipse.ditto.signals.base.Signal;
 
+import akka.Done;
 import akka.actor.AbstractActor;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 
 /**
  * Base class for publisher actors. Holds the map of configured targets.
@@ -173,6 +177,8 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                                         }));
                     });
                 })
+                .matchEquals(AcknowledgeAccepted.INSTANCE, request ->
+                        Patterns.pipe(whenAccepted(), getContext().getDispatcher()).to(getSender()))
                 .match(RetrieveAddressStatus.class, ram -> getCurrentTargetStatus().forEach(rs ->
                         getSender().tell(rs, getSelf())))
                 .matchAny(m -> {
@@ -253,6 +259,16 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
      */
     protected abstract DiagnosticLoggingAdapter log();
 
+    /**
+     * Returns a future which completes once all messages received so far were accepted for publishing. Publishers
+     * which buffer messages before sending them override this to backpressure the mapping of outbound messages.
+     *
+     * @return the future; completed by default.
+     */
+    protected CompletionStage<Done> whenAccepted() {
+        return CompletableFuture.completedFuture(Done.getInstance());
+    }
+
     /**
      * Checks whether the passed in {@code outboundSignal} is a response or an error.
      *
@@ -319,4 +335,17 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return resolver.resolve(value).toOptional();
     }
 
+    /**
+     * Message asking the publisher actor to answer with {@link Done} once it accepted all messages it received before.
+     */
+    public static final class AcknowledgeAccepted {
+
+        public static final AcknowledgeAccepted INSTANCE = new AcknowledgeAccepted();
+
+        private AcknowledgeAccepted() {
+            // intentionally empty
+        }
+
+    }
+
 }
@@ -26,12 +26,14 @@ import org.eclipse.ditto.services.utils.tracing.TracingTags;
 final class MappingTimer {
 
     private static final String TIMER_NAME = "connectivity_message_mapping";
+    private static final String BATCH_TIMER_NAME = TIMER_NAME + "_batch";
     private static final String INBOUND = "inbound";
     private static final String OUTBOUND = "outbound";
     private static final String PAYLOAD_SEGMENT_NAME = "payload";
     private static final String PROTOCOL_SEGMENT_NAME = "protocol";
     private static final String DIRECTION_TAG_NAME = "direction";
     private static final String MAPPER_TAG_NAME = "mapper";
+    private static final String BATCH_SIZE_TAG_NAME = "batch_size";
 
     private final StartedTimer timer;
 
@@ -44,7 +46,21 @@ final class MappingTimer {
      * @return a new {@link MappingTimer} instance ready to measure inbound mappings.
      */
     static MappingTimer inbound(final ConnectionId connectionId) {
-        return new MappingTimer(startNewTimer(connectionId.toString()).tag(DIRECTION_TAG_NAME, INBOUND));
+        return new MappingTimer(startNewTimer(TIMER_NAME, connectionId.toString()).tag(DIRECTION_TAG_NAME, INBOUND));
+    }
+
+    /**
+     * The time of mapping a batch of messages at once is recorded by a separate timer, so that it does not distort
+     * the distribution of the mapping times of single messages.
+     *
+     * @param connectionId ID of the connection
+     * @param batchSize the number of messages mapped together
+     * @return a new {@link MappingTimer} instance ready to measure inbound mappings of a batch of messages.
+     */
+    static MappingTimer inboundBatch(final ConnectionId connectionId, final int batchSize) {
+        return new MappingTimer(startNewTimer(BATCH_TIMER_NAME, connectionId.toString())
+                .tag(DIRECTION_TAG_NAME, INBOUND)
+                .tag(BATCH_SIZE_TAG_NAME, batchSize));
     }
 
     /**
@@ -52,7 +68,7 @@ final class MappingTimer {
      * @return a new {@link MappingTimer} instance ready to measure outbound mappings.
      */
     static MappingTimer outbound(final ConnectionId connectionId) {
-        return new MappingTimer(startNewTimer(connectionId.toString()).tag(DIRECTION_TAG_NAME, OUTBOUND));
+        return new MappingTimer(startNewTimer(TIMER_NAME, connectionId.toString()).tag(DIRECTION_TAG_NAME, OUTBOUND));
     }
 
     /**
@@ -112,9 +128,9 @@ final class MappingTimer {
         }
     }
 
-    private static StartedTimer startNewTimer(final String connectionId) {
+    private static StartedTimer startNewTimer(final String timerName, final String connectionId) {
         return DittoMetrics
-                .expiringTimer(TIMER_NAME)
+                .expiringTimer(timerName)
                 .tag(TracingTags.CONNECTION_ID, connectionId)
                 .expirationHandling(expiredTimer -> expiredTimer.tag(TracingTags.MAPPING_SUCCESS, false))
                 .build();
@@ -15,10 +15,12 @@ package org.eclipse.ditto.services.connectivity.messaging;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import static org.eclipse.ditto.model.base.headers.DittoHeaderDefinition.CORRELATION_ID;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -53,7 +55,10 @@ import org.eclipse.ditto.services.models.connectivity.MappedInboundExternalMessa
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.protocol.ProtocolAdapterProvider;
+import org.eclipse.ditto.services.utils.tracing.TracingTags;
 import org.eclipse.ditto.signals.base.Signal;
 
 import akka.actor.ActorSystem;
@@ -64,11 +69,14 @@ import akka.actor.ActorSystem;
  */
 public final class MessageMappingProcessor {
 
+    private static final String BATCH_FALLBACK_COUNTER_NAME = "connectivity_message_mapping_batch_fallback";
+
     private final ConnectionId connectionId;
     private final MessageMapperRegistry registry;
     private final DittoDiagnosticLoggingAdapter logger;
     private final ProtocolAdapter protocolAdapter;
     private final DittoHeadersSizeChecker dittoHeadersSizeChecker;
+    private final Counter batchFallbackCounter;
 
     private MessageMappingProcessor(final ConnectionId connectionId,
             final MessageMapperRegistry registry,
@@ -81,6 +89,8 @@ public final class MessageMappingProcessor {
         this.logger = logger;
         this.protocolAdapter = protocolAdapter;
         this.dittoHeadersSizeChecker = dittoHeadersSizeChecker;
+        batchFallbackCounter = DittoMetrics.counter(BATCH_FALLBACK_COUNTER_NAME)
+                .tag(TracingTags.CONNECTION_ID, connectionId.toString());
     }
 
     /**
@@ -151,6 +161,51 @@ public final class MessageMappingProcessor {
         return result;
     }
 
+    /**
+     * Processes a batch of {@link ExternalMessage}s, each of which may result in 0..n messages/errors. Messages which
+     * resolve the same mappers are mapped together by one call of each mapper. If a mapper fails to map the batch,
+     * the messages are mapped one by one so that the failure is reported for the failed message only.
+     * The mapping of a batch is timed separately from the mapping of single messages, and the messages mapped again
+     * one by one are counted.
+     *
+     * @param messages the inbound {@link ExternalMessage}s to be processed.
+     * @param resultHandlers the handlers of the 0..n results of the mapping(s) of the message at the same position.
+     * @return for each message the combined results of all message mappers.
+     * @param <R> type of results.
+     */
+    <R> List<R> process(final List<ExternalMessage> messages,
+            final List<? extends MappingResultHandler<MappedInboundExternalMessage, R>> resultHandlers) {
+
+        if (messages.size() == 1) {
+            return Collections.singletonList(process(messages.get(0), resultHandlers.get(0)));
+        }
+        final List<R> results = new ArrayList<>(messages.size());
+        final Map<List<MessageMapper>, List<Integer>> messageIndexesByMappers = new LinkedHashMap<>();
+        for (int i = 0; i < messages.size(); ++i) {
+            results.add(resultHandlers.get(i).emptyResult());
+            messageIndexesByMappers.computeIfAbsent(getMappers(messages.get(i)), mappers -> new ArrayList<>()).add(i);
+        }
+        messageIndexesByMappers.forEach((mappers, messageIndexes) -> {
+            logger.debug("Mappers resolved for <{}> messages: {}", messageIndexes.size(), mappers);
+            for (final MessageMapper mapper : mappers) {
+                final List<Integer> indexesToMap = new ArrayList<>(messageIndexes.size());
+                for (final int index : messageIndexes) {
+                    final ExternalMessage message = messages.get(index);
+                    if (shouldMapMessage(mapper, message)) {
+                        indexesToMap.add(index);
+                    } else {
+                        final MappingResultHandler<MappedInboundExternalMessage, R> handler =
+                                resultHandlers.get(index);
+                        results.set(index, handler.combineResults(results.get(index),
+                                dropBlacklistedMessage(mapper, message, handler)));
+                    }
+                }
+                convertInboundMessages(mapper, messages, indexesToMap, resultHandlers, results);
+            }
+        });
+        return results;
+    }
+
     /**
      * Processes an {@link OutboundSignal} to 0..n {@link OutboundSignal.Mapped} signals and passes them to the given
      * {@link MappingResultHandler}.
@@ -236,58 +291,128 @@ public final class MessageMappingProcessor {
         return protocolAdapter.headerTranslator();
     }
 
+    private <R> void convertInboundMessages(final MessageMapper mapper,
+            final List<ExternalMessage> messages,
+            final List<Integer> messageIndexes,
+            final List<? extends MappingResultHandler<MappedInboundExternalMessage, R>> resultHandlers,
+            final List<R> results) {
+
+        if (messageIndexes.isEmpty()) {
+            return;
+        }
+        final List<ExternalMessage> batch = messageIndexes.stream().map(messages::get).collect(Collectors.toList());
+        final MappingTimer batchTimer = MappingTimer.inboundBatch(connectionId, batch.size());
+        List<List<Adaptable>> mappedBatch;
+        try {
+            mappedBatch = batchTimer.overall(() ->
+                    batchTimer.payload(mapper.getId(), () -> mapper.mapExternalMessages(batch)));
+            if (mappedBatch.size() != batch.size()) {
+                throw new IllegalStateException("Mapper returned <" + mappedBatch.size() + "> results for <" +
+                        batch.size() + "> messages.");
+            }
+        } catch (final Exception e) {
+            logger.debug("Mapping <{}> messages at once with mapper <{}> failed, mapping them one by one: {}",
+                    batch.size(), mapper.getId(), e.getMessage());
+            // count the messages which are mapped again one by one
+            batchFallbackCounter.increment(batch.size());
+            mappedBatch = null;
+        }
+        for (int i = 0; i < messageIndexes.size(); ++i) {
+            final int index = messageIndexes.get(i);
+            final ExternalMessage message = messages.get(index);
+            final MappingResultHandler<MappedInboundExternalMessage, R> handler = resultHandlers.get(index);
+            ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(logger,
+                    message.getHeaders().get(CORRELATION_ID.getKey()), connectionId);
+            final MappingTimer timer = MappingTimer.inbound(connectionId);
+            final R mappingResult;
+            if (null != mappedBatch) {
+                final List<Adaptable> adaptables = mappedBatch.get(i);
+                mappingResult = timer.overall(() -> handleInboundAdaptables(mapper, message, adaptables, timer,
+                        handler));
+            } else {
+                mappingResult = timer.overall(() -> convertInboundMessage(mapper, message, timer, handler));
+            }
+            results.set(index, handler.combineResults(results.get(index), mappingResult));
+        }
+    }
+
     private <R> R convertInboundMessage(final MessageMapper mapper,
             final ExternalMessage message,
             final MappingTimer timer,
             final MappingResultHandler<MappedInboundExternalMessage, R> handler) {
 
         checkNotNull(message, "message");
-        R result = handler.emptyResult();
         try {
-            final boolean shouldMapMessage = message.findContentType()
-                    .map(filterByContentTypeBlacklist(mapper))
-                    .orElse(true); // if no content-type was present, map the message!
-
-            if (shouldMapMessage) {
+            if (shouldMapMessage(mapper, message)) {
                 logger.withCorrelationId(message.getInternalHeaders())
                         .debug("Mapping message using mapper {}.", mapper.getId());
                 final List<Adaptable> adaptables = timer.payload(mapper.getId(), () -> mapper.map(message));
-                if (isNullOrEmpty(adaptables)) {
-                    return handler.onMessageDropped();
-                } else {
-                    for (final Adaptable adaptable : adaptables) {
-                        enhanceLogFromAdaptable(adaptable);
-                        handler.onTopicPathResolved(adaptable.getTopicPath());
-                        final Signal<?> signal = timer.protocol(() -> protocolAdapter.fromAdaptable(adaptable));
-                        dittoHeadersSizeChecker.check(signal.getDittoHeaders());
-                        final DittoHeaders dittoHeaders = signal.getDittoHeaders();
-                        final DittoHeaders headersWithMapper =
-                                dittoHeaders.toBuilder().inboundPayloadMapper(mapper.getId()).build();
-                        final Signal<?> signalWithMapperHeader = signal.setDittoHeaders(headersWithMapper);
-                        final MappedInboundExternalMessage mappedMessage =
-                                MappedInboundExternalMessage.of(message, adaptable.getTopicPath(),
-                                        signalWithMapperHeader);
-                        result = handler.combineResults(result, handler.onMessageMapped(mappedMessage));
-                    }
-                }
+                return handleInboundAdaptables(mapper, message, adaptables, timer, handler);
             } else {
-                result = handler.onMessageDropped();
-                logger.withCorrelationId(message.getInternalHeaders())
-                        .debug("Not mapping message with mapper <{}> as content-type <{}> was blacklisted.",
-                                mapper.getId(), message.findContentType());
+                return dropBlacklistedMessage(mapper, message, handler);
+            }
+        } catch (final Exception e) {
+            return handler.onException(toInboundMappingException(mapper, message, e));
+        }
+    }
+
+    private <R> R handleInboundAdaptables(final MessageMapper mapper,
+            final ExternalMessage message,
+            @Nullable final List<Adaptable> adaptables,
+            final MappingTimer timer,
+            final MappingResultHandler<MappedInboundExternalMessage, R> handler) {
+
+        if (isNullOrEmpty(adaptables)) {
+            return handler.onMessageDropped();
+        }
+        R result = handler.emptyResult();
+        try {
+            for (final Adaptable adaptable : adaptables) {
+                enhanceLogFromAdaptable(adaptable);
+                handler.onTopicPathResolved(adaptable.getTopicPath());
+                final Signal<?> signal = timer.protocol(() -> protocolAdapter.fromAdaptable(adaptable));
+                dittoHeadersSizeChecker.check(signal.getDittoHeaders());
+                final DittoHeaders dittoHeaders = signal.getDittoHeaders();
+                final DittoHeaders headersWithMapper =
+                        dittoHeaders.toBuilder().inboundPayloadMapper(mapper.getId()).build();
+                final Signal<?> signalWithMapperHeader = signal.setDittoHeaders(headersWithMapper);
+                final MappedInboundExternalMessage mappedMessage =
+                        MappedInboundExternalMessage.of(message, adaptable.getTopicPath(), signalWithMapperHeader);
+                result = handler.combineResults(result, handler.onMessageMapped(mappedMessage));
             }
-        } catch (final DittoRuntimeException e) {
-            // combining error result with any previously successfully mapped result
-            result = handler.combineResults(result, handler.onException(e));
         } catch (final Exception e) {
-            final MessageMappingFailedException mappingFailedException = buildMappingFailedException("inbound",
-                    message.findContentType().orElse(""), mapper.getId(), DittoHeaders.of(message.getHeaders()), e);
             // combining error result with any previously successfully mapped result
-            result = handler.combineResults(result, handler.onException(mappingFailedException));
+            result = handler.combineResults(result, handler.onException(toInboundMappingException(mapper, message, e)));
         }
         return result;
     }
 
+    private static boolean shouldMapMessage(final MessageMapper mapper, final ExternalMessage message) {
+        return message.findContentType()
+                .map(filterByContentTypeBlacklist(mapper))
+                .orElse(true); // if no content-type was present, map the message!
+    }
+
+    private <R> R dropBlacklistedMessage(final MessageMapper mapper, final ExternalMessage message,
+            final MappingResultHandler<MappedInboundExternalMessage, R> handler) {
+
+        logger.withCorrelationId(message.getInternalHeaders())
+                .debug("Not mapping message with mapper <{}> as content-type <{}> was blacklisted.",
+                        mapper.getId(), message.findContentType());
+        return handler.onMessageDropped();
+    }
+
+    private static Exception toInboundMappingException(final MessageMapper mapper, final ExternalMessage message,
+            final Exception e) {
+
+        if (e instanceof DittoRuntimeException) {
+            return e;
+        } else {
+            return buildMappingFailedException("inbound", message.findContentType().orElse(""), mapper.getId(),
+                    DittoHeaders.of(message.getHeaders()), e);
+        }
+    }
+
     private static Function<String, Boolean> filterByContentTypeBlacklist(final MessageMapper mapper) {
         return contentType -> !mapper.getContentTypeBlacklist().contains(contentType);
     }
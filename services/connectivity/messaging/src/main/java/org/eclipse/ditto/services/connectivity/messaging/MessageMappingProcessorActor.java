@@ -17,6 +17,7 @@ import static org.eclipse.ditto.model.connectivity.MetricType.MAPPED;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -27,6 +28,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -58,9 +60,9 @@ import org.eclipse.ditto.model.connectivity.MetricType;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
 import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
-import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.ProtocolAdapter;
 import org.eclipse.ditto.protocoladapter.TopicPath;
@@ -71,6 +73,7 @@ import org.eclipse.ditto.services.connectivity.mapping.MappingConfig;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor.PublishMappedMessage;
 import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
@@ -91,13 +94,16 @@ import org.eclipse.ditto.signals.commands.base.ErrorResponse;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 
+import akka.Done;
 import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 import akka.stream.OverflowStrategy;
+import akka.stream.QueueOfferResult;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Sink;
@@ -123,26 +129,36 @@ public final class MessageMappingProcessorActor
      */
     private static final String MESSAGE_MAPPING_PROCESSOR_DISPATCHER = "message-mapping-processor-dispatcher";
 
+    /**
+     * Maximum number of compiled target filters kept by one actor. The filters are the topics of the connection's
+     * targets; the bound only guards against connections with an unusually large number of filtered topics.
+     */
+    private static final int MAX_COMPILED_FILTERS = 256;
+
     private final ActorRef clientActor;
     private final MessageMappingProcessor messageMappingProcessor;
     private final ConnectionId connectionId;
     private final ActorRef conciergeForwarder;
     private final MappingConfig mappingConfig;
+    private final Duration publishAcknowledgementTimeout;
+    private final boolean publisherBackpressuring;
     private final DefaultConnectionMonitorRegistry connectionMonitorRegistry;
     private final ConnectionMonitor responseDispatchedMonitor;
     private final ConnectionMonitor responseDroppedMonitor;
     private final ConnectionMonitor responseMappedMonitor;
     private final SignalEnrichmentFacade signalEnrichmentFacade;
     private final int processorPoolSize;
-    private final SourceQueue<ExternalMessage> inboundSourceQueue;
+    private final SourceQueue<Pair<ExternalMessage, ActorRef>> inboundSourceQueue;
     private final DittoRuntimeExceptionToErrorResponseFunction toErrorResponseFunction;
+    private final Map<FilteredTopic, Predicate<Thing>> compiledFilters;
 
     @SuppressWarnings("unused")
     private MessageMappingProcessorActor(final ActorRef conciergeForwarder,
             final ActorRef clientActor,
             final MessageMappingProcessor messageMappingProcessor,
             final ConnectionId connectionId,
-            final int processorPoolSize) {
+            final int processorPoolSize,
+            final boolean publisherBackpressuring) {
 
         super(OutboundSignal.class);
 
@@ -157,6 +173,8 @@ public final class MessageMappingProcessorActor
         final DittoConnectivityConfig connectivityConfig = DittoConnectivityConfig.of(dittoScoped);
         final MonitoringConfig monitoringConfig = connectivityConfig.getMonitoringConfig();
         mappingConfig = connectivityConfig.getMappingConfig();
+        publishAcknowledgementTimeout = connectivityConfig.getConnectionConfig().getClientActorAskTimeout();
+        this.publisherBackpressuring = publisherBackpressuring;
 
         connectionMonitorRegistry = DefaultConnectionMonitorRegistry.fromConfig(monitoringConfig);
         responseDispatchedMonitor = connectionMonitorRegistry.forResponseDispatched(connectionId);
@@ -168,6 +186,7 @@ public final class MessageMappingProcessorActor
         inboundSourceQueue = materializeInboundStream(processorPoolSize);
         final LimitsConfig limitsConfig = DefaultLimitsConfig.of(dittoScoped);
         toErrorResponseFunction = DittoRuntimeExceptionToErrorResponseFunction.of(limitsConfig.getHeadersMaxSize());
+        compiledFilters = new ConcurrentHashMap<>();
     }
 
     /**
@@ -186,8 +205,30 @@ public final class MessageMappingProcessorActor
             final ConnectionId connectionId,
             final int processorPoolSize) {
 
+        return props(conciergeForwarder, clientActor, processor, connectionId, processorPoolSize, false);
+    }
+
+    /**
+     * Creates Akka configuration object for this actor.
+     *
+     * @param conciergeForwarder the actor used to send signals to the concierge service.
+     * @param clientActor the client actor that created this mapping actor
+     * @param processor the MessageMappingProcessor to use.
+     * @param connectionId the connection ID.
+     * @param processorPoolSize how many message processing may happen in parallel per direction (incoming or outgoing).
+     * @param publisherBackpressuring whether the mapping of outbound messages waits until the publisher actor of the
+     * client actor accepted them.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final ActorRef conciergeForwarder,
+            final ActorRef clientActor,
+            final MessageMappingProcessor processor,
+            final ConnectionId connectionId,
+            final int processorPoolSize,
+            final boolean publisherBackpressuring) {
+
         return Props.create(MessageMappingProcessorActor.class, conciergeForwarder, clientActor, processor,
-                connectionId, processorPoolSize)
+                connectionId, processorPoolSize, publisherBackpressuring)
                 .withDispatcher(MESSAGE_MAPPING_PROCESSOR_DISPATCHER);
     }
 
@@ -201,6 +242,7 @@ public final class MessageMappingProcessorActor
         receiveBuilder
                 // Incoming messages are handled in a separate stream parallelized by this actor's own dispatcher
                 .match(ExternalMessage.class, this::handleInboundMessage)
+                .match(AcknowledgeableMessage.class, this::handleAcknowledgeableMessage)
                 // Outgoing responses and signals go through the signal enrichment stream
                 .match(CommandResponse.class, response -> handleCommandResponse(response, null, getSender()))
                 .match(Signal.class, signal -> handleSignal(signal, getSender()))
@@ -208,18 +250,30 @@ public final class MessageMappingProcessorActor
                         f.cause().getClass().getSimpleName(), f.cause().getMessage()));
     }
 
-    private SourceQueue<ExternalMessage> materializeInboundStream(final int processorPoolSize) {
-        return Source.<ExternalMessage>queue(getBufferSize(), OverflowStrategy.dropNew())
+    private SourceQueue<Pair<ExternalMessage, ActorRef>> materializeInboundStream(final int processorPoolSize) {
+        return Source.<Pair<ExternalMessage, ActorRef>>queue(getBufferSize(), OverflowStrategy.dropNew())
+                // combine the messages arriving while all mapping slots are busy so that they are mapped together
+                .batch(mappingConfig.getMaxBatchSize(), InboundBatch::new, InboundBatch::add)
                 // parallelize potentially CPU-intensive payload mapping on this actor's dispatcher
-                .mapAsync(processorPoolSize, externalMessage -> CompletableFuture.supplyAsync(
-                        () -> mapInboundMessage(externalMessage),
+                .mapAsync(processorPoolSize, batch -> CompletableFuture.supplyAsync(
+                        () -> mapInboundMessages(batch),
                         getContext().getDispatcher())
                 )
-                .flatMapConcat(signalSource -> signalSource)
-                .toMat(Sink.foreach(signal -> conciergeForwarder.tell(signal, getSelf())), Keep.left())
+                .mapConcat(signalsAndAckRecipients -> signalsAndAckRecipients)
+                // acknowledge each message after all signals mapped from it were forwarded
+                .flatMapConcat(signalsAndAckRecipient -> signalsAndAckRecipient.first()
+                        .<Runnable>map(signal -> () -> conciergeForwarder.tell(signal, getSelf()))
+                        .concat(Source.<Runnable>single(() -> acknowledge(signalsAndAckRecipient.second()))))
+                .toMat(Sink.foreach(Runnable::run), Keep.left())
                 .run(materializer);
     }
 
+    private void acknowledge(@Nullable final ActorRef ackRecipient) {
+        if (null != ackRecipient) {
+            ackRecipient.tell(new Status.Success(Done.getInstance()), getSelf());
+        }
+    }
+
     @Override
     protected void handleDittoRuntimeException(final DittoRuntimeException exception) {
         final ErrorResponse<?> errorResponse = toErrorResponseFunction.apply(exception, null);
@@ -288,13 +342,29 @@ public final class MessageMappingProcessorActor
 
     @Override
     protected Sink<OutboundSignalWithId, ?> processedMessageSink() {
-        return Flow.<OutboundSignalWithId>create()
-                .mapAsync(processorPoolSize, outboundSignal -> CompletableFuture.supplyAsync(() ->
-                                handleOutboundSignal(outboundSignal),
-                        getContext().getDispatcher()
-                ))
-                .flatMapConcat(mappedOutboundSignalSource -> mappedOutboundSignalSource)
-                .to(Sink.foreach(this::forwardToPublisherActor));
+        final Flow<OutboundSignalWithId, OutboundSignalWithId, NotUsed> mappedSignals =
+                Flow.<OutboundSignalWithId>create()
+                        .mapAsync(processorPoolSize, outboundSignal -> CompletableFuture.supplyAsync(() ->
+                                        handleOutboundSignal(outboundSignal),
+                                getContext().getDispatcher()
+                        ))
+                        .flatMapConcat(mappedOutboundSignalSource -> mappedOutboundSignalSource);
+        if (publisherBackpressuring) {
+            return mappedSignals
+                    .mapAsync(mappingConfig.getMaxPendingPublications(), this::forwardToBackpressuringPublisherActor)
+                    .to(Sink.ignore());
+        } else {
+            return mappedSignals.to(Sink.foreach(this::forwardToPublisherActor));
+        }
+    }
+
+    // Called inside future; must be thread-safe
+    @Override
+    protected void handleDroppedMessage(final OutboundSignalWithId outboundSignal) {
+        getMonitorsForDroppedSignal(outboundSignal, connectionId).forEach(monitor ->
+                monitor.failure(outboundSignal.getSource(),
+                        "Message dropped because the number of signals waiting to be mapped exceeded <{0}>",
+                        getBufferSize()));
     }
 
     // Called inside stream; must be thread-safe
@@ -332,20 +402,21 @@ public final class MessageMappingProcessorActor
                 });
     }
 
-    private static Collection<OutboundSignalWithId> applyFilter(final OutboundSignalWithId outboundSignalWithExtra,
+    // Called inside future; must be thread-safe
+    private Collection<OutboundSignalWithId> applyFilter(final OutboundSignalWithId outboundSignalWithExtra,
             final FilteredTopic filteredTopic) {
 
         final Optional<String> filter = filteredTopic.getFilter();
         final Optional<JsonFieldSelector> extraFields = filteredTopic.getExtraFields();
         if (filter.isPresent() && extraFields.isPresent()) {
             // evaluate filter criteria again if signal enrichment is involved.
-            final Criteria criteria = QueryFilterCriteriaFactory.modelBased()
-                    .filterCriteria(filter.get(), outboundSignalWithExtra.getSource().getDittoHeaders());
+            final Predicate<Thing> thingPredicate =
+                    getCompiledFilter(filteredTopic, outboundSignalWithExtra.getSource().getDittoHeaders());
             return outboundSignalWithExtra.getExtra()
                     .flatMap(extra -> {
                         final Signal<?> signal = outboundSignalWithExtra.getSource();
                         return ThingEventToThingConverter.mergeThingWithExtraFields(signal, extraFields.get(), extra)
-                                .filter(ThingPredicateVisitor.apply(criteria))
+                                .filter(thingPredicate)
                                 .map(thing -> outboundSignalWithExtra);
                     })
                     .map(Collections::singletonList)
@@ -356,6 +427,29 @@ public final class MessageMappingProcessorActor
         }
     }
 
+    /**
+     * Get the filter of a topic compiled into a predicate on things. Each filter is compiled only once during the
+     * lifetime of the connection's targets unless more than {@value #MAX_COMPILED_FILTERS} filters are in use, in
+     * which case the compiled filters are discarded and compiled again on demand.
+     *
+     * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
+     * mapped to a valid criterion
+     */
+    private Predicate<Thing> getCompiledFilter(final FilteredTopic filteredTopic, final DittoHeaders dittoHeaders) {
+        final Predicate<Thing> cachedFilter = compiledFilters.get(filteredTopic);
+        if (null != cachedFilter) {
+            return cachedFilter;
+        }
+        final Predicate<Thing> compiledFilter = ThingPredicateVisitor.apply(
+                QueryFilterCriteriaFactory.modelBased().filterCriteria(filteredTopic.getFilter()
+                        .orElseThrow(IllegalStateException::new), dittoHeaders));
+        if (compiledFilters.size() >= MAX_COMPILED_FILTERS) {
+            compiledFilters.clear();
+        }
+        final Predicate<Thing> existingFilter = compiledFilters.putIfAbsent(filteredTopic, compiledFilter);
+        return null != existingFilter ? existingFilter : compiledFilter;
+    }
+
     // Called inside future; must be thread-safe
     private OutboundSignalWithId recoverFromEnrichmentError(final OutboundSignalWithId outboundSignal,
             final Target target, final Throwable error) {
@@ -399,7 +493,64 @@ public final class MessageMappingProcessorActor
 
     private void handleInboundMessage(final ExternalMessage externalMessage) {
         ConditionChecker.checkNotNull(externalMessage);
-        inboundSourceQueue.offer(externalMessage);
+        inboundSourceQueue.offer(Pair.create(externalMessage, null));
+    }
+
+    private void handleAcknowledgeableMessage(final AcknowledgeableMessage acknowledgeableMessage) {
+        final ActorRef ackRecipient = getSender();
+        inboundSourceQueue.offer(Pair.create(acknowledgeableMessage.getMessage(), ackRecipient))
+                .whenComplete((queueOfferResult, error) -> {
+                    // the message will never be acknowledged if it is not enqueued; let the sender know at once
+                    if (null != error) {
+                        ackRecipient.tell(new Status.Failure(error), ActorRef.noSender());
+                    } else if (QueueOfferResult.enqueued() != queueOfferResult) {
+                        final String message = "Inbound message was not processed: " + queueOfferResult;
+                        ackRecipient.tell(new Status.Failure(new IllegalStateException(message)),
+                                ActorRef.noSender());
+                    }
+                });
+    }
+
+    private List<Pair<Source<Signal<?>, ?>, ActorRef>> mapInboundMessages(final InboundBatch batch) {
+        if (batch.messages.size() == 1) {
+            return Collections.singletonList(
+                    Pair.create(mapInboundMessage(batch.messages.get(0)), batch.ackRecipients.get(0)));
+        }
+        final List<Source<Signal<?>, ?>> signals = new ArrayList<>(batch.messages.size());
+        final List<ExternalMessage> messagesToMap = new ArrayList<>(batch.messages.size());
+        final List<Integer> indexesToMap = new ArrayList<>(batch.messages.size());
+        final List<InboundMappingResultHandler> resultHandlers = new ArrayList<>(batch.messages.size());
+        for (int i = 0; i < batch.messages.size(); ++i) {
+            final ExternalMessage externalMessage = batch.messages.get(i);
+            signals.add(Source.empty());
+            try {
+                resultHandlers.add(
+                        handleMappingResult(externalMessage, getAuthorizationContextOrThrow(externalMessage)));
+                messagesToMap.add(externalMessage);
+                indexesToMap.add(i);
+            } catch (final Exception e) {
+                handleInboundException(e, externalMessage, null,
+                        getAuthorizationContext(externalMessage).orElse(null));
+            }
+        }
+        logger.debug("Handling <{}> ExternalMessages at once.", messagesToMap.size());
+        try {
+            final List<Source<Signal<?>, ?>> mappedSignals =
+                    messageMappingProcessor.process(messagesToMap, resultHandlers);
+            for (int i = 0; i < indexesToMap.size(); ++i) {
+                signals.set(indexesToMap.get(i), mappedSignals.get(i));
+            }
+        } catch (final Exception e) {
+            // fall back to handling the messages one by one in order to attribute the exception to its message
+            for (final int index : indexesToMap) {
+                signals.set(index, mapInboundMessage(batch.messages.get(index)));
+            }
+        }
+        final List<Pair<Source<Signal<?>, ?>, ActorRef>> signalsAndAckRecipients = new ArrayList<>(signals.size());
+        for (int i = 0; i < signals.size(); ++i) {
+            signalsAndAckRecipients.add(Pair.create(signals.get(i), batch.ackRecipients.get(i)));
+        }
+        return signalsAndAckRecipients;
     }
 
     private Source<Signal<?>, ?> mapInboundMessage(final ExternalMessage externalMessage) {
@@ -557,7 +708,24 @@ public final class MessageMappingProcessorActor
 
     private void forwardToPublisherActor(final OutboundSignalWithId mappedEnvelop) {
         final OutboundSignal.Mapped mappedOutboundSignal = (OutboundSignal.Mapped) mappedEnvelop.delegate;
-        clientActor.tell(new PublishMappedMessage(mappedOutboundSignal), mappedEnvelop.sender);
+        clientActor.tell(new PublishMappedMessage(mappedOutboundSignal, mappedEnvelop.sender, false),
+                mappedEnvelop.sender);
+    }
+
+    // Called inside stream; must be thread-safe
+    private CompletionStage<Done> forwardToBackpressuringPublisherActor(final OutboundSignalWithId mappedEnvelop) {
+        final OutboundSignal.Mapped mappedOutboundSignal = (OutboundSignal.Mapped) mappedEnvelop.delegate;
+        // the publisher actor acknowledges the message once it accepted it, which backpressures the mapping stream
+        return Patterns.ask(clientActor, new PublishMappedMessage(mappedOutboundSignal, mappedEnvelop.sender, true),
+                publishAcknowledgementTimeout)
+                .handle((acknowledgement, error) -> {
+                    if (error != null) {
+                        logger.withCorrelationId(mappedOutboundSignal.getSource())
+                                .warning("Publisher actor did not accept <{}> in time: {}",
+                                        mappedOutboundSignal.getSource().getType(), error.getMessage());
+                    }
+                    return Done.getInstance();
+                });
     }
 
     /**
@@ -786,6 +954,29 @@ public final class MessageMappingProcessorActor
                 signal.getDittoHeaders().getReplyTarget().isPresent();
     }
 
+    /**
+     * External messages which arrived while all mapping slots were busy together with their acknowledgement
+     * recipients.
+     */
+    private static final class InboundBatch {
+
+        private final List<ExternalMessage> messages;
+        private final List<ActorRef> ackRecipients;
+
+        private InboundBatch(final Pair<ExternalMessage, ActorRef> first) {
+            messages = new ArrayList<>();
+            ackRecipients = new ArrayList<>();
+            add(first);
+        }
+
+        private InboundBatch add(final Pair<ExternalMessage, ActorRef> next) {
+            messages.add(next.first());
+            ackRecipients.add(next.second());
+            return this;
+        }
+
+    }
+
     static final class OutboundSignalWithId implements OutboundSignal, WithId {
 
         private final OutboundSignal delegate;
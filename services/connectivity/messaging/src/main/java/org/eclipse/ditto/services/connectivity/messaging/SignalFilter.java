@@ -10,23 +10,29 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.connectivity.messaging.persistence;
+package org.eclipse.ditto.services.connectivity.messaging;
 
 import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.COMMANDS;
 import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.EVENTS;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonPointer;
-import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.FilteredTopic;
@@ -35,6 +41,7 @@ import org.eclipse.ditto.model.connectivity.Topic;
 import org.eclipse.ditto.model.namespaces.NamespaceReader;
 import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.WithThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
@@ -55,11 +62,17 @@ import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
  * <li>removing those targets that do not want to receive a signal</li>
  * <li>removing those targets that are not allowed to read a signal</li>
  * </ul>
+ * The targets are indexed by their authorization subjects, topics and namespaces when the filter is created, so that
+ * only the targets which are authorized and subscribed for the topic and namespace of a signal are looked at.
  */
 final class SignalFilter {
 
     private final Connection connection;
     private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
+    private final Map<FilteredTopic, Predicate<Thing>> compiledFilters;
+    private final List<Target> targets;
+    private final Map<AuthorizationSubject, BitSet> targetsBySubject;
+    private final Map<Topic, NamespaceIndex> targetsByTopic;
 
     /**
      * Constructs a new SignalFilter instance with the given {@code connection}.
@@ -70,6 +83,20 @@ final class SignalFilter {
             final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry) {
         this.connection = connection;
         this.connectionMonitorRegistry = connectionMonitorRegistry;
+        compiledFilters = new ConcurrentHashMap<>();
+        targets = connection.getTargets();
+        targetsBySubject = new HashMap<>();
+        targetsByTopic = new EnumMap<>(Topic.class);
+        for (int i = 0; i < targets.size(); ++i) {
+            final Target target = targets.get(i);
+            for (final AuthorizationSubject subject : target.getAuthorizationContext().getAuthorizationSubjects()) {
+                targetsBySubject.computeIfAbsent(subject, s -> new BitSet()).set(i);
+            }
+            for (final FilteredTopic filteredTopic : target.getTopics()) {
+                targetsByTopic.computeIfAbsent(filteredTopic.getTopic(), t -> new NamespaceIndex())
+                        .add(filteredTopic.getNamespaces(), i);
+            }
+        }
     }
 
     /**
@@ -81,41 +108,62 @@ final class SignalFilter {
      * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the optional filter string of a
      * Target cannot be mapped to a valid criterion
      */
-    @SuppressWarnings("squid:S3864")
     List<Target> filter(final Signal<?> signal) {
-        return connection.getTargets().stream()
-                .filter(t -> isTargetAuthorized(t, signal)) // this is cheaper, so check this first
-                // count authorized targets
-                .peek(authorizedTarget -> connectionMonitorRegistry.forOutboundDispatched(connection.getId(),
+        final BitSet authorizedTargets = getAuthorizedTargets(signal.getDittoHeaders()); // this is cheaper, so first
+        // count authorized targets
+        authorizedTargets.stream()
+                .mapToObj(targets::get)
+                .forEach(authorizedTarget -> connectionMonitorRegistry.forOutboundDispatched(connection.getId(),
                         authorizedTarget.getAddress())
-                        .success(signal))
-                .filter(t -> isTargetSubscribedForTopic(t, signal))
-                // count authorized + filtered targets
-                .peek(filteredTarget -> connectionMonitorRegistry.forOutboundFiltered(connection.getId(),
-                        filteredTarget.getAddress())
-                        .success(signal))
-                .collect(Collectors.toList());
-    }
+                        .success(signal));
 
-    private static boolean isTargetAuthorized(final Target target, final Signal<?> signal) {
-        final AuthorizationContext authorizationContext = target.getAuthorizationContext();
-        final DittoHeaders headers = signal.getDittoHeaders();
-        return authorizationContext.isAuthorized(headers.getReadGrantedSubjects(), headers.getReadRevokedSubjects());
+        final Topic topic = topicFromSignal(signal).orElse(null);
+        final NamespaceIndex namespaceIndex = null != topic ? targetsByTopic.get(topic) : null;
+        if (null == namespaceIndex) {
+            return Collections.emptyList();
+        }
+        final String namespace = namespaceFromId(signal);
+        final BitSet candidateTargets = namespaceIndex.get(namespace);
+        candidateTargets.and(authorizedTargets);
+
+        final List<Target> filteredTargets = new ArrayList<>(candidateTargets.cardinality());
+        candidateTargets.stream()
+                .mapToObj(targets::get)
+                .filter(t -> isTargetSubscribedForTopic(t, topic, namespace, signal))
+                .forEach(filteredTarget -> {
+                    // count authorized + filtered targets
+                    connectionMonitorRegistry.forOutboundFiltered(connection.getId(), filteredTarget.getAddress())
+                            .success(signal);
+                    filteredTargets.add(filteredTarget);
+                });
+        return filteredTargets;
     }
 
-    private boolean isTargetSubscribedForTopic(final Target target, final Signal<?> signal) {
-        return target.getTopics().stream()
-                .filter(applyTopicFilter(signal))
-                .filter(applyNamespaceFilter(signal))
-                .anyMatch(filteredTopic -> matchesFilterBeforeEnrichment(filteredTopic, signal));
+    private BitSet getAuthorizedTargets(final DittoHeaders headers) {
+        final BitSet authorizedTargets = new BitSet(targets.size());
+        headers.getReadGrantedSubjects().forEach(subject -> orTargetsOf(subject, authorizedTargets));
+        if (!authorizedTargets.isEmpty()) {
+            final BitSet revokedTargets = new BitSet(targets.size());
+            headers.getReadRevokedSubjects().forEach(subject -> orTargetsOf(subject, revokedTargets));
+            authorizedTargets.andNot(revokedTargets);
+        }
+        return authorizedTargets;
     }
 
-    private static Predicate<FilteredTopic> applyTopicFilter(final Signal<?> signal) {
-        return t -> t.getTopic().equals(topicFromSignal(signal).orElse(null));
+    private void orTargetsOf(final AuthorizationSubject subject, final BitSet result) {
+        final BitSet targetsOfSubject = targetsBySubject.get(subject);
+        if (null != targetsOfSubject) {
+            result.or(targetsOfSubject);
+        }
     }
 
-    private static Predicate<FilteredTopic> applyNamespaceFilter(final WithId signal) {
-        return t -> t.getNamespaces().isEmpty() || t.getNamespaces().contains(namespaceFromId(signal));
+    private boolean isTargetSubscribedForTopic(final Target target, final Topic topic, @Nullable final String namespace,
+            final Signal<?> signal) {
+
+        return target.getTopics().stream()
+                .filter(t -> t.getTopic() == topic)
+                .filter(t -> t.getNamespaces().isEmpty() || t.getNamespaces().contains(namespace))
+                .anyMatch(filteredTopic -> matchesFilterBeforeEnrichment(filteredTopic, signal));
     }
 
     @Nullable
@@ -124,17 +172,10 @@ final class SignalFilter {
     }
 
     private boolean matchesFilterBeforeEnrichment(final FilteredTopic filteredTopic, final Signal<?> signal) {
-        final Optional<String> filterOptional = filteredTopic.getFilter();
-        if (filterOptional.isPresent() && signal instanceof ThingEvent) {
+        if (filteredTopic.getFilter().isPresent() && signal instanceof ThingEvent) {
             // match filter ignoring "extraFields"
             return ThingEventToThingConverter.thingEventToThing((ThingEvent<?>) signal)
-                    .filter(thing -> {
-                        final Criteria criteria = parseCriteria(filterOptional.get(), signal.getDittoHeaders());
-                        final Set<JsonPointer> extraFields = filteredTopic.getExtraFields()
-                                .map(JsonFieldSelector::getPointers)
-                                .orElse(Collections.emptySet());
-                        return Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields, thing);
-                    })
+                    .filter(getCompiledFilter(filteredTopic, signal.getDittoHeaders()))
                     .isPresent();
         } else {
             return true;
@@ -142,11 +183,21 @@ final class SignalFilter {
     }
 
     /**
+     * Get the filter of a topic compiled into a predicate on partial things. Each filter is compiled only once
+     * during the lifetime of the connection's targets.
+     *
      * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
      * mapped to a valid criterion
      */
-    private Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
-        return QueryFilterCriteriaFactory.modelBased().filterCriteria(filter, dittoHeaders);
+    private Predicate<Thing> getCompiledFilter(final FilteredTopic filteredTopic, final DittoHeaders dittoHeaders) {
+        return compiledFilters.computeIfAbsent(filteredTopic, topic -> {
+            final Criteria criteria = QueryFilterCriteriaFactory.modelBased().filterCriteria(topic.getFilter()
+                    .orElseThrow(IllegalStateException::new), dittoHeaders);
+            final Set<JsonPointer> extraFields = topic.getExtraFields()
+                    .map(JsonFieldSelector::getPointers)
+                    .orElse(Collections.emptySet());
+            return Thing3ValuePredicateVisitor.couldBeTrue(criteria, extraFields);
+        });
     }
 
     private static Optional<Topic> topicFromSignal(final Signal<?> signal) {
@@ -195,4 +246,37 @@ final class SignalFilter {
         return criterion;
     }
 
+    /**
+     * Indexes of the targets subscribed for a topic in all or in particular namespaces.
+     */
+    private static final class NamespaceIndex {
+
+        private final BitSet allNamespaces;
+        private final Map<String, BitSet> byNamespace;
+
+        private NamespaceIndex() {
+            allNamespaces = new BitSet();
+            byNamespace = new HashMap<>();
+        }
+
+        private void add(final Collection<String> namespaces, final int targetIndex) {
+            if (namespaces.isEmpty()) {
+                allNamespaces.set(targetIndex);
+            } else {
+                namespaces.forEach(namespace ->
+                        byNamespace.computeIfAbsent(namespace, n -> new BitSet()).set(targetIndex));
+            }
+        }
+
+        private BitSet get(@Nullable final String namespace) {
+            final BitSet result = (BitSet) allNamespaces.clone();
+            final BitSet targetsOfNamespace = null != namespace ? byNamespace.get(namespace) : null;
+            if (null != targetsOfNamespace) {
+                result.or(targetsOfNamespace);
+            }
+            return result;
+        }
+
+    }
+
 }
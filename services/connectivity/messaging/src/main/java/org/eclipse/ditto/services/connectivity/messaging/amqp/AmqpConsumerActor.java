@@ -17,7 +17,10 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicReference;
@@ -33,6 +36,7 @@ import javax.jms.TextMessage;
 
 import org.apache.qpid.jms.JmsMessageConsumer;
 import org.apache.qpid.jms.message.JmsMessage;
+import org.apache.qpid.jms.message.JmsMessageSupport;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -87,6 +91,14 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
     // the state for message throttling
     private final AtomicReference<ThrottleState> throttleState;
 
+    // the maximum number of unacknowledged messages; messages are acknowledged immediately if not positive
+    private final int maxInFlight;
+    private final Duration ackTimeout;
+    // the messages of the current message consumer handed on for processing which are not yet acknowledged
+    private final Set<JmsMessage> inFlightMessages;
+    // whether the message consumer was stopped because too many messages are not yet acknowledged
+    private boolean stoppedForInFlight;
+
     // Access to the actor who performs JMS tasks in own thread
     private final ActorRef jmsActor;
     private final Duration jmsActorAskTimeout;
@@ -116,6 +128,11 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
         throttlingLimit = amqp10Config.getConsumerThrottlingLimit();
         throttleState = new AtomicReference<>(new ThrottleState(0L, 0));
 
+        maxInFlight = amqp10Config.getConsumerMaxInFlight();
+        ackTimeout = amqp10Config.getConsumerAckTimeout();
+        inFlightMessages = Collections.newSetFromMap(new IdentityHashMap<>());
+        stoppedForInFlight = false;
+
         final Enforcement enforcement = consumerData.getSource().getEnforcement().orElse(null);
         headerEnforcementFilterFactory = enforcement != null ? EnforcementFactoryFactory
                 .newEnforcementFilterFactory(enforcement, PlaceholderFactory.newHeadersPlaceholder()) :
@@ -142,6 +159,7 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
         return ReceiveBuilder.create()
                 .match(RestartMessageConsumer.class, this::handleRestartMessageConsumer)
                 .match(JmsMessage.class, this::handleJmsMessage)
+                .match(MessageProcessed.class, this::handleMessageProcessed)
                 .match(ResourceStatus.class, this::handleAddressStatus)
                 .match(RetrieveAddressStatus.class, ras -> getSender().tell(getCurrentSourceStatus(), getSelf()))
                 .match(ConsumerClosedStatusReport.class, this::matchesOwnConsumer, this::handleConsumerClosed)
@@ -243,6 +261,9 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
         if (consumerData.equals(response.consumerData)) {
             log.info("Consumer <{}> created", response.messageConsumer);
             destroyMessageConsumer();
+            // unacknowledged messages of the closed consumer are redelivered by the broker
+            inFlightMessages.clear();
+            stoppedForInFlight = false;
             messageConsumer = response.messageConsumer;
             initMessageConsumer();
             resetResourceStatus();
@@ -296,7 +317,10 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
      */
     private void handleRestartMessageConsumer(final RestartMessageConsumer restartMessageConsumer) {
         final long delay = restartMessageConsumer.getRestartAt() - System.currentTimeMillis();
-        if (delay <= 25) { // restart message consumer immediately if delay is negative or too small to schedule
+        if (stoppedForInFlight) {
+            // the consumer is restarted once enough messages were acknowledged
+            log.debug("Not restarting message consumer, too many messages are not yet acknowledged.");
+        } else if (delay <= 25) { // restart message consumer immediately if delay is negative or too small to schedule
             log.debug("Restarting message consumer.");
             startMessageConsumer();
         } else { // otherwise schedule restarting of consumer
@@ -307,6 +331,7 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
 
     private void handleJmsMessage(final JmsMessage message) {
         Map<String, String> headers = null;
+        boolean acknowledgeNow = true;
         try {
             headers = extractHeadersMapFromJmsMessage(message);
             final ExternalMessageBuilder builder = ExternalMessageFactory.newExternalMessageBuilder(headers);
@@ -325,7 +350,12 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
                 log.debug("Received message from AMQP 1.0 ({}): {}", externalMessage.getHeaders(),
                         externalMessage.getTextPayload().orElse("binary"));
             }
-            forwardToMappingActor(externalMessage);
+            if (isDeferredAcknowledgement()) {
+                forwardWithDeferredAcknowledgement(message, externalMessage);
+                acknowledgeNow = false;
+            } else {
+                forwardToMappingActor(externalMessage);
+            }
         } catch (final DittoRuntimeException e) {
             log.info("Got DittoRuntimeException '{}' when command was parsed: {}", e.getErrorCode(), e.getMessage());
             if (headers != null) {
@@ -345,15 +375,66 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
 
             log.error(e, "Unexpected {}: {}", e.getClass().getName(), e.getMessage());
         } finally {
-            try {
+            if (acknowledgeNow) {
                 // we use the manual acknowledge mode so we always have to ack the message
-                message.acknowledge();
+                acknowledge(message);
+            }
+        }
+    }
+
+    private boolean isDeferredAcknowledgement() {
+        return maxInFlight > 0;
+    }
+
+    private void forwardWithDeferredAcknowledgement(final JmsMessage message, final ExternalMessage externalMessage) {
+        inFlightMessages.add(message);
+        if (inFlightMessages.size() >= maxInFlight && !stoppedForInFlight) {
+            log.debug("Stopping message consumer, <{}> messages are not yet acknowledged.",
+                    inFlightMessages.size());
+            stopMessageConsumer();
+            stoppedForInFlight = true;
+        }
+        final CompletionStage<MessageProcessed> messageProcessed =
+                forwardToMappingActorWithAck(externalMessage, ackTimeout)
+                        .handle((result, error) -> new MessageProcessed(message, error));
+        Patterns.pipe(messageProcessed, getContext().getDispatcher()).to(getSelf());
+    }
+
+    private void handleMessageProcessed(final MessageProcessed messageProcessed) {
+        final JmsMessage message = messageProcessed.message;
+        if (!inFlightMessages.remove(message)) {
+            // the message was received by a consumer which was closed meanwhile and is redelivered by the broker
+            log.debug("Ignoring acknowledgement of a message of a closed message consumer.");
+            return;
+        }
+        if (messageProcessed.error != null) {
+            log.info("Handing message back to the broker for redelivery because it was not processed: {}",
+                    messageProcessed.error.getMessage());
+            try {
+                message.setIntProperty(JmsMessageSupport.JMS_AMQP_ACK_TYPE, JmsMessageSupport.MODIFIED_FAILED);
             } catch (final JMSException e) {
-                log.error(e, "Failed to ack an AMQP message");
+                log.error(e, "Failed to mark an AMQP message for redelivery");
+            }
+        }
+        acknowledge(message);
+        if (stoppedForInFlight && inFlightMessages.size() < maxInFlight) {
+            log.debug("Restarting message consumer, <{}> messages are not yet acknowledged.",
+                    inFlightMessages.size());
+            stoppedForInFlight = false;
+            if (!getTimers().isTimerActive(RESTART_MESSAGE_CONSUMER)) {
+                startMessageConsumer();
             }
         }
     }
 
+    private void acknowledge(final JmsMessage message) {
+        try {
+            message.acknowledge();
+        } catch (final JMSException e) {
+            log.error(e, "Failed to ack an AMQP message");
+        }
+    }
+
     private ExternalMessageBuilder extractPayloadFromMessage(final JmsMessage message,
             final ExternalMessageBuilder builder) throws JMSException {
         if (message instanceof TextMessage) {
@@ -398,6 +479,20 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
         }
     }
 
+    /**
+     * Self message signalling that a message whose acknowledgement was deferred was processed or failed to be.
+     */
+    private static final class MessageProcessed {
+
+        private final JmsMessage message;
+        @Nullable private final Throwable error;
+
+        private MessageProcessed(final JmsMessage message, @Nullable final Throwable error) {
+            this.message = message;
+            this.error = error;
+        }
+    }
+
     private static final class ThrottleState {
 
         private final long currentInterval;
@@ -32,10 +32,14 @@ import javax.naming.NamingException;
 
 import org.apache.qpid.jms.JmsConnection;
 import org.apache.qpid.jms.JmsQueue;
+import org.apache.qpid.jms.JmsSession;
+import org.apache.qpid.jms.policy.JmsDefaultPrefetchPolicy;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivityConfig;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionFailedException;
 
 import akka.actor.AbstractActor;
@@ -71,6 +75,7 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
     private final Connection connection;
     private final ExceptionListener exceptionListener;
     private final JmsConnectionFactory jmsConnectionFactory;
+    private final int consumerMaxInFlight;
 
     @Nullable private Session currentSession = null;
 
@@ -81,6 +86,11 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
         this.connection = checkNotNull(connection, "connection");
         this.exceptionListener = exceptionListener;
         this.jmsConnectionFactory = jmsConnectionFactory;
+        consumerMaxInFlight = DittoConnectivityConfig.of(
+                DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config()))
+                .getConnectionConfig()
+                .getAmqp10Config()
+                .getConsumerMaxInFlight();
     }
 
     /**
@@ -265,8 +275,11 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
     }
 
     private Session createSession(final JmsConnection jmsConnection) {
+        // with deferred acknowledgement, acknowledging a message must not acknowledge the messages received before it
+        final int acknowledgeMode =
+                isDeferredAcknowledgement() ? JmsSession.INDIVIDUAL_ACKNOWLEDGE : Session.CLIENT_ACKNOWLEDGE;
         final Session session = safelyExecuteJmsOperation(jmsConnection, "create session",
-                () -> (jmsConnection.createSession(Session.CLIENT_ACKNOWLEDGE)));
+                () -> (jmsConnection.createSession(acknowledgeMode)));
         currentSession = session;
         return session;
     }
@@ -336,10 +349,20 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
                 log.debug("Attempt to create connection {} for URI [{}]", connection.getId(),
                         ConnectionBasedJmsConnectionFactory.buildAmqpConnectionUriFromConnection(connection));
             }
-            return jmsConnectionFactory.createConnection(connection, exceptionListener);
+            final JmsConnection jmsConnection = jmsConnectionFactory.createConnection(connection, exceptionListener);
+            if (isDeferredAcknowledgement() &&
+                    jmsConnection.getPrefetchPolicy() instanceof JmsDefaultPrefetchPolicy) {
+                // the consumers stop receiving once this many messages are unacknowledged
+                ((JmsDefaultPrefetchPolicy) jmsConnection.getPrefetchPolicy()).setAll(consumerMaxInFlight);
+            }
+            return jmsConnection;
         });
     }
 
+    private boolean isDeferredAcknowledgement() {
+        return consumerMaxInFlight > 0;
+    }
+
     private ConnectionFailedException buildConnectionFailedException(final Map<String, Exception> failedSources) {
         return ConnectionFailedException
                 .newBuilder(connection.getId())
@@ -53,6 +53,23 @@ public interface Amqp10Config {
         return getConsumerThrottlingConfig().getLimit();
     }
 
+    /**
+     * Returns the maximum number of messages per consumer which were received but not yet acknowledged because
+     * they are still being processed. A value of zero or less disables deferred acknowledgement: messages are
+     * acknowledged as soon as they are handed on to the message mapping.
+     *
+     * @return the maximum number of unacknowledged messages per consumer or zero.
+     */
+    int getConsumerMaxInFlight();
+
+    /**
+     * Returns how long to wait for a message to be processed before it is handed back to the broker for redelivery.
+     * Only relevant if {@link #getConsumerMaxInFlight()} is positive.
+     *
+     * @return the acknowledgement timeout.
+     */
+    Duration getConsumerAckTimeout();
+
     /**
      * Returns how many message producers to cache.
      *
@@ -76,7 +93,17 @@ public interface Amqp10Config {
         /**
          * How many message producers to cache per client actor.
          */
-        PRODUCER_CACHE_SIZE("producer-cache-size", 10);
+        PRODUCER_CACHE_SIZE("producer-cache-size", 10),
+
+        /**
+         * The maximum number of unacknowledged messages per consumer; zero to acknowledge messages immediately.
+         */
+        CONSUMER_MAX_IN_FLIGHT("consumer.max-in-flight", 0),
+
+        /**
+         * How long to wait for a message to be processed before it is handed back to the broker.
+         */
+        CONSUMER_ACK_TIMEOUT("consumer.ack-timeout", Duration.ofSeconds(30L));
 
         private final String path;
         private final Object defaultValue;
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -38,6 +39,8 @@ public final class DefaultAmqp10Config implements Amqp10Config {
     private final int producerCacheSize;
     private final BackOffConfig backOffConfig;
     private final ThrottlingConfig consumerThrottlingConfig;
+    private final int consumerMaxInFlight;
+    private final Duration consumerAckTimeout;
 
     private DefaultAmqp10Config(final ScopedConfig config) {
         producerCacheSize = config.getInt(Amqp10ConfigValue.PRODUCER_CACHE_SIZE.getConfigPath());
@@ -45,6 +48,8 @@ public final class DefaultAmqp10Config implements Amqp10Config {
         consumerThrottlingConfig = ThrottlingConfig.of(config.hasPath(CONSUMER_PATH)
                 ? config.getConfig(CONSUMER_PATH)
                 : ConfigFactory.empty());
+        consumerMaxInFlight = config.getInt(Amqp10ConfigValue.CONSUMER_MAX_IN_FLIGHT.getConfigPath());
+        consumerAckTimeout = config.getDuration(Amqp10ConfigValue.CONSUMER_ACK_TIMEOUT.getConfigPath());
     }
 
     /**
@@ -63,6 +68,16 @@ public final class DefaultAmqp10Config implements Amqp10Config {
         return consumerThrottlingConfig;
     }
 
+    @Override
+    public int getConsumerMaxInFlight() {
+        return consumerMaxInFlight;
+    }
+
+    @Override
+    public Duration getConsumerAckTimeout() {
+        return consumerAckTimeout;
+    }
+
     @Override
     public int getProducerCacheSize() {
         return producerCacheSize;
@@ -84,12 +99,15 @@ public final class DefaultAmqp10Config implements Amqp10Config {
         final DefaultAmqp10Config that = (DefaultAmqp10Config) o;
         return producerCacheSize == that.producerCacheSize &&
                 Objects.equals(backOffConfig, that.backOffConfig) &&
-                Objects.equals(consumerThrottlingConfig, that.consumerThrottlingConfig);
+                consumerMaxInFlight == that.consumerMaxInFlight &&
+                Objects.equals(consumerThrottlingConfig, that.consumerThrottlingConfig) &&
+                Objects.equals(consumerAckTimeout, that.consumerAckTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(producerCacheSize, backOffConfig, consumerThrottlingConfig);
+        return Objects.hash(producerCacheSize, backOffConfig, consumerThrottlingConfig, consumerMaxInFlight,
+                consumerAckTimeout);
     }
 
     @Override
@@ -98,6 +116,8 @@ public final class DefaultAmqp10Config implements Amqp10Config {
                 "producerCacheSize=" + producerCacheSize +
                 ", backOffConfig=" + backOffConfig +
                 ", consumerThrottlingConfig=" + consumerThrottlingConfig +
+                ", consumerMaxInFlight=" + consumerMaxInFlight +
+                ", consumerAckTimeout=" + consumerAckTimeout +
                 "]";
     }
 
@@ -12,14 +12,16 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 
 /**
  * This class is the default implementation of {@link KafkaConfig}.
@@ -30,9 +32,28 @@ public final class DefaultKafkaConfig implements KafkaConfig {
     private static final String CONFIG_PATH = "kafka";
 
     private final Config internalProducerConfig;
+    private final Config internalConsumerConfig;
+    private final Config committerConfig;
+    private final int consumerParallelism;
+    private final Duration consumerAckTimeout;
+    private final Duration consumerMinBackoff;
+    private final Duration consumerMaxBackoff;
+    private final Duration consumerLagReportInterval;
 
     private DefaultKafkaConfig(final ScopedConfig kafkaScopedConfig) {
         internalProducerConfig = kafkaScopedConfig.getConfig("producer.internal");
+        internalConsumerConfig = getConfigOrEmpty(kafkaScopedConfig, "consumer.internal");
+        committerConfig = getConfigOrEmpty(kafkaScopedConfig, "consumer.committer");
+        consumerParallelism =
+                kafkaScopedConfig.getPositiveIntOrThrow(KafkaConfigValue.CONSUMER_PARALLELISM);
+        consumerAckTimeout =
+                kafkaScopedConfig.getNonNegativeDurationOrThrow(KafkaConfigValue.CONSUMER_ACK_TIMEOUT);
+        consumerMinBackoff =
+                kafkaScopedConfig.getNonNegativeDurationOrThrow(KafkaConfigValue.CONSUMER_MIN_BACKOFF);
+        consumerMaxBackoff =
+                kafkaScopedConfig.getNonNegativeDurationOrThrow(KafkaConfigValue.CONSUMER_MAX_BACKOFF);
+        consumerLagReportInterval =
+                kafkaScopedConfig.getNonNegativeDurationOrThrow(KafkaConfigValue.CONSUMER_LAG_REPORT_INTERVAL);
     }
 
     /**
@@ -43,7 +64,11 @@ public final class DefaultKafkaConfig implements KafkaConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultKafkaConfig of(final Config config) {
-        return new DefaultKafkaConfig(DefaultScopedConfig.newInstance(config, CONFIG_PATH));
+        return new DefaultKafkaConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, KafkaConfigValue.values()));
+    }
+
+    private static Config getConfigOrEmpty(final Config config, final String configPath) {
+        return config.hasPath(configPath) ? config.getConfig(configPath) : ConfigFactory.empty();
     }
 
     @Override
@@ -51,6 +76,41 @@ public final class DefaultKafkaConfig implements KafkaConfig {
         return internalProducerConfig;
     }
 
+    @Override
+    public Config getInternalConsumerConfig() {
+        return internalConsumerConfig;
+    }
+
+    @Override
+    public Config getCommitterConfig() {
+        return committerConfig;
+    }
+
+    @Override
+    public int getConsumerParallelism() {
+        return consumerParallelism;
+    }
+
+    @Override
+    public Duration getConsumerAckTimeout() {
+        return consumerAckTimeout;
+    }
+
+    @Override
+    public Duration getConsumerMinBackoff() {
+        return consumerMinBackoff;
+    }
+
+    @Override
+    public Duration getConsumerMaxBackoff() {
+        return consumerMaxBackoff;
+    }
+
+    @Override
+    public Duration getConsumerLagReportInterval() {
+        return consumerLagReportInterval;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -60,18 +120,33 @@ public final class DefaultKafkaConfig implements KafkaConfig {
             return false;
         }
         final DefaultKafkaConfig that = (DefaultKafkaConfig) o;
-        return Objects.equals(internalProducerConfig, that.internalProducerConfig);
+        return consumerParallelism == that.consumerParallelism &&
+                Objects.equals(internalProducerConfig, that.internalProducerConfig) &&
+                Objects.equals(internalConsumerConfig, that.internalConsumerConfig) &&
+                Objects.equals(committerConfig, that.committerConfig) &&
+                Objects.equals(consumerAckTimeout, that.consumerAckTimeout) &&
+                Objects.equals(consumerMinBackoff, that.consumerMinBackoff) &&
+                Objects.equals(consumerMaxBackoff, that.consumerMaxBackoff) &&
+                Objects.equals(consumerLagReportInterval, that.consumerLagReportInterval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(internalProducerConfig);
+        return Objects.hash(internalProducerConfig, internalConsumerConfig, committerConfig, consumerParallelism,
+                consumerAckTimeout, consumerMinBackoff, consumerMaxBackoff, consumerLagReportInterval);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "internalProducerConfig=" + internalProducerConfig +
+                ", internalConsumerConfig=" + internalConsumerConfig +
+                ", committerConfig=" + committerConfig +
+                ", consumerParallelism=" + consumerParallelism +
+                ", consumerAckTimeout=" + consumerAckTimeout +
+                ", consumerMinBackoff=" + consumerMinBackoff +
+                ", consumerMaxBackoff=" + consumerMaxBackoff +
+                ", consumerLagReportInterval=" + consumerLagReportInterval +
                 "]";
     }
 
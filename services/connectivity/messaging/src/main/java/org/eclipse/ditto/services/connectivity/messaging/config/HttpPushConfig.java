@@ -23,7 +23,7 @@ import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 public interface HttpPushConfig {
 
     /**
-     * @return maximum number of messages buffered at the publisher actor before dropping them.
+     * @return maximum number of messages buffered at the publisher actor before backpressuring the mapping.
      */
     int getMaxQueueSize();
 
@@ -39,7 +39,8 @@ public interface HttpPushConfig {
     enum ConfigValue implements KnownConfigValue {
 
         /**
-         * How many messages to buffer in the publisher actor before dropping them. Each takes up to 100 KB heap space.
+         * How many messages to buffer in the publisher actor before backpressuring the mapping of outbound messages.
+         * Each takes up to 100 KB heap space.
          */
         MAX_QUEUE_SIZE("max-queue-size", 10);
 
@@ -12,8 +12,12 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
 import com.typesafe.config.Config;
 
 /**
@@ -30,4 +34,110 @@ public interface KafkaConfig {
      */
     Config getInternalProducerConfig();
 
+    /**
+     * Returns the Config for consumers needed by akka-stream-kafka. Settings which are not contained fall back to
+     * {@code akka.kafka.consumer}.
+     *
+     * @see <a href="https://doc.akka.io/docs/akka-stream-kafka/current/consumer.html#settings">akka-stream-kafka Consumer settings</a>
+     * @return internal consumer configuration needed by akka-stream-kafka client.
+     */
+    Config getInternalConsumerConfig();
+
+    /**
+     * Returns the Config for committing the offsets of consumed records in batches. Settings which are not contained
+     * fall back to {@code akka.kafka.committer}.
+     *
+     * @return the committer configuration needed by akka-stream-kafka client.
+     */
+    Config getCommitterConfig();
+
+    /**
+     * Returns the maximum number of partitions a Kafka consumer processes concurrently. The records of one partition
+     * are always processed in order. Should be at least the number of partitions assigned to one consumer.
+     *
+     * @return the maximum number of concurrently processed partitions.
+     */
+    int getConsumerParallelism();
+
+    /**
+     * Returns how long to wait for a consumed record to be mapped and forwarded before the record is forwarded again.
+     *
+     * @return the timeout.
+     */
+    Duration getConsumerAckTimeout();
+
+    /**
+     * Returns the minimum delay before a consumed record whose forwarding failed is forwarded again and before a
+     * failed consumer is restarted. The delay doubles with each consecutive failure.
+     *
+     * @return the minimum backoff.
+     */
+    Duration getConsumerMinBackoff();
+
+    /**
+     * Returns the maximum delay before a consumed record whose forwarding failed is forwarded again and before a
+     * failed consumer is restarted.
+     *
+     * @return the maximum backoff.
+     */
+    Duration getConsumerMaxBackoff();
+
+    /**
+     * Returns the interval in which the lag of Kafka consumers is reported as metric.
+     *
+     * @return the interval.
+     */
+    Duration getConsumerLagReportInterval();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code KafkaConfig}.
+     */
+    enum KafkaConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum number of partitions a Kafka consumer processes concurrently.
+         */
+        CONSUMER_PARALLELISM("consumer.parallelism", 16),
+
+        /**
+         * How long to wait for a consumed record to be mapped and forwarded.
+         */
+        CONSUMER_ACK_TIMEOUT("consumer.ack-timeout", Duration.ofSeconds(30L)),
+
+        /**
+         * The minimum delay before a record is forwarded again or a failed consumer is restarted.
+         */
+        CONSUMER_MIN_BACKOFF("consumer.min-backoff", Duration.ofSeconds(1L)),
+
+        /**
+         * The maximum delay before a record is forwarded again or a failed consumer is restarted.
+         */
+        CONSUMER_MAX_BACKOFF("consumer.max-backoff", Duration.ofMinutes(1L)),
+
+        /**
+         * The interval in which the lag of Kafka consumers is reported.
+         */
+        CONSUMER_LAG_REPORT_INTERVAL("consumer.lag-report-interval", Duration.ofSeconds(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        KafkaConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
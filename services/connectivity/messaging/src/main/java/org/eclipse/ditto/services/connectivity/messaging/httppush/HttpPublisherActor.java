@@ -19,6 +19,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 
@@ -38,6 +40,7 @@ import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 
+import akka.Done;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.event.DiagnosticLoggingAdapter;
@@ -76,11 +79,12 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final HttpPushFactory factory;
-    private final HttpPushConfig config;
 
     private final ActorMaterializer materializer;
     private final SourceQueue<Pair<HttpRequest, HttpPushContext>> sourceQueue;
     private final Collection<InetAddress> blacklistedAddresses;
+    // the offer of the last request to the source queue, which accepts only one pending offer
+    private CompletionStage<Void> lastOffer;
 
     @SuppressWarnings("unused")
     private HttpPublisherActor(final Connection connection, final HttpPushFactory factory) {
@@ -91,22 +95,53 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         final ConnectionConfig connectionConfig =
                 DittoConnectivityConfig.of(DefaultScopedConfig.dittoScoped(system.settings().config()))
                         .getConnectionConfig();
-        config = connectionConfig.getHttpPushConfig();
+        final HttpPushConfig config = connectionConfig.getHttpPushConfig();
         blacklistedAddresses =
                 ConnectionValidator.calculateBlacklistedAddresses(connectionConfig.getBlacklistedHostnames(), log);
 
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        final HttpRequestBatcher batcher = HttpRequestBatcher.of(parseBatchFormat(specificConfig));
         materializer = ActorMaterializer.create(getContext());
         sourceQueue =
-                Source.<Pair<HttpRequest, HttpPushContext>>queue(config.getMaxQueueSize(), OverflowStrategy.dropNew())
+                Source.<Pair<HttpRequest, HttpPushContext>>queue(config.getMaxQueueSize(),
+                        OverflowStrategy.backpressure())
+                        // combine the requests which queue up while all connections to the endpoint are busy
+                        .batch(parseMaxBatchSize(specificConfig), HttpPublisherActor::newBatch,
+                                HttpPublisherActor::addToBatch)
+                        .mapConcat(batcher::combine)
                         .viaMat(factory.createFlow(system, log), Keep.left())
                         .toMat(Sink.foreach(this::processResponse), Keep.left())
                         .run(materializer);
+        lastOffer = CompletableFuture.completedFuture(null);
     }
 
     static Props props(final Connection connection, final HttpPushFactory factory) {
         return Props.create(HttpPublisherActor.class, connection, factory);
     }
 
+    private static int parseMaxBatchSize(final Map<String, String> specificConfig) {
+        return Optional.ofNullable(specificConfig.get(HttpPushFactory.MAX_BATCH_SIZE))
+                .map(Integer::valueOf)
+                .orElse(1);
+    }
+
+    private static HttpRequestBatcher.Format parseBatchFormat(final Map<String, String> specificConfig) {
+        return Optional.ofNullable(specificConfig.get(HttpPushFactory.BATCH_FORMAT))
+                .flatMap(HttpRequestBatcher.Format::forName)
+                .orElse(HttpRequestBatcher.Format.JSON_ARRAY);
+    }
+
+    private static <T> List<T> newBatch(final T first) {
+        final List<T> batch = new ArrayList<>();
+        batch.add(first);
+        return batch;
+    }
+
+    private static <T> List<T> addToBatch(final List<T> batch, final T next) {
+        batch.add(next);
+        return batch;
+    }
+
     @Override
     protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
         // noop
@@ -133,7 +168,10 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
             responseDroppedMonitor.failure(message, "Message dropped as the target address <{0}> is blacklisted " +
                     "and may not be used", requestHost);
         } else {
-            sourceQueue.offer(Pair.create(request, new HttpPushContext(message, request.getUri())))
+            final Pair<HttpRequest, HttpPushContext> requestWithContext =
+                    Pair.create(request, new HttpPushContext(message, request.getUri()));
+            // offer the requests one after another; the offer completes once the queue has room for the request
+            lastOffer = lastOffer.thenCompose(previous -> sourceQueue.offer(requestWithContext))
                     .handle(handleQueueOfferResult(message));
         }
     }
@@ -143,6 +181,11 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
         return log;
     }
 
+    @Override
+    protected CompletionStage<Done> whenAccepted() {
+        return lastOffer.thenApply(unused -> Done.getInstance());
+    }
+
     private HttpRequest createRequest(final HttpPublishTarget publishTarget, final ExternalMessage message) {
         final Pair<Iterable<HttpHeader>, ContentType> headersPair = getHttpHeadersPair(message);
         final HttpRequest requestWithoutEntity = factory.newRequest(publishTarget).addHeaders(headersPair.first());
@@ -180,51 +223,49 @@ final class HttpPublisherActor extends BasePublisherActor<HttpPublishTarget> {
                 log.error(error, errorDescription);
                 responseDroppedMonitor.failure(message, "Message dropped because the connection failed");
                 escalate(error, errorDescription);
-            } else if (queueOfferResult == QueueOfferResult.dropped()) {
-                log.debug("HTTP request dropped due to full queue");
-                responseDroppedMonitor.failure(message,
-                        "Message dropped because the number of ongoing requests exceeded <{0}>",
-                        config.getMaxQueueSize());
+            } else if (queueOfferResult == QueueOfferResult.queueClosed()) {
+                log.debug("HTTP request dropped due to closed queue");
+                responseDroppedMonitor.failure(message, "Message dropped because the publisher was stopped");
             }
             return null;
         };
     }
 
     // Async callback. Must be thread-safe.
-    private void processResponse(final Pair<Try<HttpResponse>, HttpPushContext> responseWithMessage) {
-        final Try<HttpResponse> tryResponse = responseWithMessage.first();
-        final HttpPushContext context = responseWithMessage.second();
-        final ExternalMessage message = context.getExternalMessage();
+    private void processResponse(final Pair<Try<HttpResponse>, HttpPushContext> responseWithMessages) {
+        final Try<HttpResponse> tryResponse = responseWithMessages.first();
+        final HttpPushContext context = responseWithMessages.second();
+        final List<ExternalMessage> messages = context.getExternalMessages();
         final Uri requestUri = context.getRequestUri();
         if (tryResponse.isFailure()) {
             final Throwable error = tryResponse.toEither().left().get();
             final String errorDescription = MessageFormat.format("Failed to send HTTP request to <{0}>.",
                     stripUserInfo(requestUri));
-            log.debug("Failed to send message <{}> due to <{}>", message, error);
-            responsePublishedMonitor.failure(message, errorDescription);
+            log.debug("Failed to send messages <{}> due to <{}>", messages, error);
+            messages.forEach(message -> responsePublishedMonitor.failure(message, errorDescription));
             escalate(error, errorDescription);
         } else {
             final HttpResponse response = tryResponse.toEither().right().get();
-            log.debug("Sent message <{}>. Got response <{} {}>", message, response.status(), response.getHeaders());
+            log.debug("Sent messages <{}>. Got response <{} {}>", messages, response.status(), response.getHeaders());
             if (response.status().isSuccess()) {
-                responsePublishedMonitor.success(message,
+                messages.forEach(message -> responsePublishedMonitor.success(message,
                         "HTTP call to <{0}> successfully responded with status <{1}>.",
-                        stripUserInfo(requestUri), response.status());
+                        stripUserInfo(requestUri), response.status()));
                 response.discardEntityBytes(materializer);
             } else {
                 getResponseBody(response, materializer)
-                        .thenAccept(body -> responsePublishedMonitor.failure(message,
+                        .thenAccept(body -> messages.forEach(message -> responsePublishedMonitor.failure(message,
                                 "HTTP call to <{0}> responded with status <{1}> and body: {2}.",
                                 stripUserInfo(requestUri),
-                                response.status(), body)
+                                response.status(), body))
                         )
                         .exceptionally(bodyReadError -> {
-                            responsePublishedMonitor.failure(message,
+                            messages.forEach(message -> responsePublishedMonitor.failure(message,
                                     "HTTP call to <{0}> responded with status <{1}>. Failed to read body within {2} ms",
-                                    stripUserInfo(requestUri), response.status(), READ_BODY_TIMEOUT_MS);
-                            LogUtil.enhanceLogWithCorrelationId(log, message.getInternalHeaders());
+                                    stripUserInfo(requestUri), response.status(), READ_BODY_TIMEOUT_MS));
+                            LogUtil.enhanceLogWithCorrelationId(log, messages.get(0).getInternalHeaders());
                             log.info("Got <{}> when reading body of publish response to <{}>", bodyReadError,
-                                    message);
+                                    messages);
                             return null;
                         });
             }
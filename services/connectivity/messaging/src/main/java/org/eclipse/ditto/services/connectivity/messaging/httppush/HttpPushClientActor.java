@@ -132,6 +132,11 @@ public final class HttpPushClientActor extends BaseClientActor {
         return httpPublisherActor;
     }
 
+    @Override
+    protected boolean isPublisherBackpressuring() {
+        return true;
+    }
+
     @Override
     protected CompletionStage<Status.Status> startPublisherActor() {
         final CompletableFuture<Status.Status> future = new CompletableFuture<>();
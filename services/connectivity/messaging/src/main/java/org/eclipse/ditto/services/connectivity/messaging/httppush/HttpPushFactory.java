@@ -33,6 +33,21 @@ public interface HttpPushFactory {
      */
     String PARALLELISM = "parallelism";
 
+    /**
+     * Specific config name for the amount of HTTP requests to send over one connection before receiving the responses.
+     */
+    String PIPELINING_LIMIT = "pipeliningLimit";
+
+    /**
+     * Specific config name for the maximum amount of messages to the same target to combine into one HTTP request.
+     */
+    String MAX_BATCH_SIZE = "maxBatchSize";
+
+    /**
+     * Specific config name for the format of HTTP requests combining several messages: "json-array" or "ndjson".
+     */
+    String BATCH_FORMAT = "batchFormat";
+
     /**
      * Create a request template without headers or payload for an HTTP publish target.
      * Published external messages set the headers and payload.
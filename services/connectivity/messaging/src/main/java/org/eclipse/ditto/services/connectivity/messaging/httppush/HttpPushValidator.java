@@ -73,7 +73,10 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         validateSourceConfigs(connection, dittoHeaders);
         validateTargetConfigs(connection, dittoHeaders);
         validatePayloadMappings(connection, actorSystem, dittoHeaders);
-        validateParallelism(connection.getSpecificConfig(), dittoHeaders);
+        validatePositiveInt(connection.getSpecificConfig(), HttpPushFactory.PARALLELISM, dittoHeaders);
+        validatePositiveInt(connection.getSpecificConfig(), HttpPushFactory.PIPELINING_LIMIT, dittoHeaders);
+        validatePositiveInt(connection.getSpecificConfig(), HttpPushFactory.MAX_BATCH_SIZE, dittoHeaders);
+        validateBatchFormat(connection.getSpecificConfig(), dittoHeaders);
     }
 
     @Override
@@ -125,33 +128,46 @@ public final class HttpPushValidator extends AbstractProtocolValidator {
         }
     }
 
-    private void validateParallelism(final Map<String, String> specificConfig, final DittoHeaders dittoHeaders) {
+    private void validatePositiveInt(final Map<String, String> specificConfig, final String key,
+            final DittoHeaders dittoHeaders) {
 
-        final String parallelismString = specificConfig.get(HttpPushFactory.PARALLELISM);
-        if (parallelismString != null) {
+        final String valueString = specificConfig.get(key);
+        if (valueString != null) {
             try {
-                final int parallelism = Integer.parseInt(parallelismString);
-                if (parallelism <= 0) {
-                    throw parallelismValidationFailed(parallelismString, dittoHeaders);
+                final int value = Integer.parseInt(valueString);
+                if (value <= 0) {
+                    throw positiveIntValidationFailed(valueString, key, dittoHeaders);
                 }
             } catch (final NumberFormatException e) {
-                throw parallelismValidationFailed(parallelismString, dittoHeaders);
+                throw positiveIntValidationFailed(valueString, key, dittoHeaders);
             }
         }
     }
 
-    private static ConnectionConfigurationInvalidException parallelismValidationFailed(final String parallelismString,
-            final DittoHeaders headers) {
+    private static ConnectionConfigurationInvalidException positiveIntValidationFailed(final String valueString,
+            final String key, final DittoHeaders headers) {
 
         final String errorMessage = String.format("The configured value '%s' of '%s' is invalid. " +
                         "It must be a positive integer.",
-                parallelismString,
-                HttpPushFactory.PARALLELISM);
+                valueString,
+                key);
         return ConnectionConfigurationInvalidException.newBuilder(errorMessage)
                 .dittoHeaders(headers)
                 .build();
     }
 
+    private void validateBatchFormat(final Map<String, String> specificConfig, final DittoHeaders dittoHeaders) {
+        final String batchFormat = specificConfig.get(HttpPushFactory.BATCH_FORMAT);
+        if (batchFormat != null && !HttpRequestBatcher.Format.forName(batchFormat).isPresent()) {
+            final String errorMessage = String.format("The configured value '%s' of '%s' is invalid.",
+                    batchFormat, HttpPushFactory.BATCH_FORMAT);
+            throw ConnectionConfigurationInvalidException.newBuilder(errorMessage)
+                    .description("Supported formats are: " + String.join(", ", HttpRequestBatcher.Format.names()))
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
     static boolean isSecureScheme(final String scheme) {
         return HTTPS.equals(scheme);
     }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.httppush;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+
+import akka.http.javadsl.model.ContentType;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpCharsets;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpEntity;
+import akka.http.javadsl.model.HttpHeader;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.MediaType;
+import akka.http.javadsl.model.MediaTypes;
+import akka.http.javadsl.model.RequestEntity;
+import akka.japi.Pair;
+import akka.util.ByteString;
+import akka.util.ByteStringBuilder;
+
+/**
+ * Combines HTTP requests with JSON payload to the same URI into one request containing all payloads.
+ * Headers are only kept in a combined request if all combined requests agree on their values.
+ */
+@Immutable
+final class HttpRequestBatcher {
+
+    private static final ContentType NDJSON = ContentTypes.create(
+            MediaTypes.applicationWithFixedCharset("x-ndjson", HttpCharsets.UTF_8, "ndjson"));
+
+    private final Format format;
+
+    private HttpRequestBatcher(final Format format) {
+        this.format = format;
+    }
+
+    /**
+     * Returns a batcher combining requests in the given format.
+     *
+     * @param format the format of combined requests.
+     * @return the batcher.
+     */
+    static HttpRequestBatcher of(final Format format) {
+        return new HttpRequestBatcher(format);
+    }
+
+    /**
+     * Combines the requests with JSON payload to the same URI with the same method. Requests which cannot be
+     * combined are returned unchanged. The order of the requests is kept for each URI.
+     *
+     * @param requests the requests together with the context of their messages.
+     * @return the combined requests.
+     */
+    List<Pair<HttpRequest, HttpPushContext>> combine(final List<Pair<HttpRequest, HttpPushContext>> requests) {
+        if (requests.size() < 2) {
+            return requests;
+        }
+        final Map<String, List<Pair<HttpRequest, HttpPushContext>>> combinable = new LinkedHashMap<>();
+        final List<Pair<HttpRequest, HttpPushContext>> result = new ArrayList<>(requests.size());
+        for (final Pair<HttpRequest, HttpPushContext> request : requests) {
+            if (hasStrictJsonEntity(request.first())) {
+                final String key = request.first().method().name() + " " + request.first().getUri();
+                combinable.computeIfAbsent(key, k -> new ArrayList<>()).add(request);
+            } else {
+                result.add(request);
+            }
+        }
+        for (final List<Pair<HttpRequest, HttpPushContext>> group : combinable.values()) {
+            result.add(group.size() == 1 ? group.get(0) : combineGroup(group));
+        }
+        return result;
+    }
+
+    private Pair<HttpRequest, HttpPushContext> combineGroup(final List<Pair<HttpRequest, HttpPushContext>> group) {
+        final HttpRequest first = group.get(0).first();
+        final List<HttpHeader> commonHeaders = new ArrayList<>();
+        first.getHeaders().forEach(commonHeaders::add);
+        final ByteStringBuilder body = ByteString.createBuilder();
+        final List<ExternalMessage> messages = new ArrayList<>(group.size());
+        if (format == Format.JSON_ARRAY) {
+            body.append(ByteString.fromString("["));
+        }
+        for (int i = 0; i < group.size(); ++i) {
+            final HttpRequest request = group.get(i).first();
+            if (i > 0) {
+                final List<HttpHeader> headers = new ArrayList<>();
+                request.getHeaders().forEach(headers::add);
+                commonHeaders.retainAll(headers);
+                if (format == Format.JSON_ARRAY) {
+                    body.append(ByteString.fromString(","));
+                }
+            }
+            body.append(((HttpEntity.Strict) request.entity()).getData());
+            if (format == Format.NDJSON) {
+                body.append(ByteString.fromString("\n"));
+            }
+            messages.addAll(group.get(i).second().getExternalMessages());
+        }
+        if (format == Format.JSON_ARRAY) {
+            body.append(ByteString.fromString("]"));
+        }
+        final ContentType contentType = format == Format.JSON_ARRAY ? ContentTypes.APPLICATION_JSON : NDJSON;
+        final HttpRequest combinedRequest = first.withHeaders(commonHeaders)
+                .withEntity(HttpEntities.create(contentType, body.result()));
+        return Pair.create(combinedRequest, new HttpPushContext(messages, first.getUri()));
+    }
+
+    private static boolean hasStrictJsonEntity(final HttpRequest request) {
+        final RequestEntity entity = request.entity();
+        if (entity instanceof HttpEntity.Strict) {
+            final MediaType mediaType = entity.getContentType().mediaType();
+            return "application".equals(mediaType.mainType()) &&
+                    ("json".equals(mediaType.subType()) || mediaType.subType().endsWith("+json"));
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Formats of HTTP requests combining several messages.
+     */
+    enum Format {
+
+        /**
+         * A JSON array of the payloads.
+         */
+        JSON_ARRAY("json-array"),
+
+        /**
+         * The payloads separated by newlines.
+         */
+        NDJSON("ndjson");
+
+        private final String name;
+
+        Format(final String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the format with the given name.
+         *
+         * @param name the name as used in the specific config of connections.
+         * @return the format or an empty optional if there is no format with the name.
+         */
+        static Optional<Format> forName(final String name) {
+            return Arrays.stream(values())
+                    .filter(format -> format.name.equals(name))
+                    .findAny();
+        }
+
+        /**
+         * @return the names of all formats.
+         */
+        static List<String> names() {
+            return Collections.unmodifiableList(Arrays.stream(values())
+                    .map(format -> format.name)
+                    .collect(Collectors.toList()));
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.internal;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+
+/**
+ * Actor message wrapping an {@link ExternalMessage} whose sender expects to be acknowledged once the message was
+ * processed. The sender receives a {@code Status.Success} after all signals mapped from the message were forwarded,
+ * including when mapping failed and an error response was published instead; it receives a {@code Status.Failure}
+ * if the message could not be processed at all, e.g. because the buffer of the mapping actor was full.
+ */
+@Immutable
+public final class AcknowledgeableMessage {
+
+    private final ExternalMessage message;
+
+    private AcknowledgeableMessage(final ExternalMessage message) {
+        this.message = message;
+    }
+
+    /**
+     * Create an acknowledgeable message.
+     *
+     * @param message the external message to process.
+     * @return the acknowledgeable message.
+     * @throws NullPointerException if {@code message} is {@code null}.
+     */
+    public static AcknowledgeableMessage of(final ExternalMessage message) {
+        return new AcknowledgeableMessage(checkNotNull(message, "message"));
+    }
+
+    /**
+     * @return the external message to process.
+     */
+    public ExternalMessage getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "message=" + message +
+                "]";
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
+
+import com.typesafe.config.Config;
+
+import akka.kafka.ConsumerSettings;
+
+/**
+ * Creates {@link akka.kafka.ConsumerSettings} from a given {@link org.eclipse.ditto.model.connectivity.Connection}
+ * configuration.
+ */
+final class ConsumerSettingsFactory {
+
+    private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS =
+            Collections.unmodifiableList(Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
+                    KafkaBootstrapServerSpecificConfig.getInstance(),
+                    KafkaConsumerSpecificConfig.getInstance()));
+
+    private static final Deserializer<String> KEY_DESERIALIZER = new StringDeserializer();
+    private static final Deserializer<String> VALUE_DESERIALIZER = KEY_DESERIALIZER;
+
+    private final Connection connection;
+    private final KafkaConfig kafkaConfig;
+    private final Config defaultConsumerConfig;
+
+    private ConsumerSettingsFactory(final Connection connection, final KafkaConfig kafkaConfig,
+            final Config defaultConsumerConfig) {
+
+        this.connection = checkNotNull(connection, "connection");
+        this.kafkaConfig = checkNotNull(kafkaConfig, "Kafka config");
+        this.defaultConsumerConfig = checkNotNull(defaultConsumerConfig, "default consumer config");
+    }
+
+    /**
+     * Returns an instance of the ConsumerSettings factory.
+     *
+     * @param connection the Kafka connection.
+     * @param kafkaConfig the Kafka configuration settings.
+     * @param defaultConsumerConfig the consumer config of akka-stream-kafka at {@code akka.kafka.consumer} to which
+     * the internal consumer config of {@code kafkaConfig} falls back.
+     * @return the instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    static ConsumerSettingsFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig,
+            final Config defaultConsumerConfig) {
+
+        return new ConsumerSettingsFactory(connection, kafkaConfig, defaultConsumerConfig);
+    }
+
+    /**
+     * Returns the settings of one consumer of the connection. All consumers of a connection belong to the consumer
+     * group named after the connection ID, so that the partitions of the consumed topics are distributed among all
+     * clients of the connection and consumption continues at the offsets committed by any of them.
+     *
+     * @param consumerId identifies the consumer among the consumers of the connection in this instance.
+     * @return the consumer settings.
+     */
+    ConsumerSettings<String, String> getConsumerSettings(final String consumerId) {
+        final Config consumerConfig = kafkaConfig.getInternalConsumerConfig().withFallback(defaultConsumerConfig);
+        ConsumerSettings<String, String> settings =
+                ConsumerSettings.create(consumerConfig, KEY_DESERIALIZER, VALUE_DESERIALIZER);
+
+        settings = addMetadata(settings, consumerId);
+        settings = addSecurityProtocol(settings);
+        settings = addSpecificConfigs(settings);
+
+        return settings;
+    }
+
+    private ConsumerSettings<String, String> addMetadata(final ConsumerSettings<String, String> settings,
+            final String consumerId) {
+
+        // identify the connected Kafka client by the connectionId followed by the instance index and the consumer:
+        final InstanceIdentifierSupplier instanceIdentifierSupplier = InstanceIdentifierSupplier.getInstance();
+
+        return settings.withProperty(CommonClientConfigs.CLIENT_ID_CONFIG,
+                connection.getId() + "-" + instanceIdentifierSupplier.get() + "-" + consumerId)
+                .withProperty(ConsumerConfig.GROUP_ID_CONFIG, connection.getId().toString());
+    }
+
+    private ConsumerSettings<String, String> addSpecificConfigs(final ConsumerSettings<String, String> settings) {
+        ConsumerSettings<String, String> currentSettings = settings;
+        for (final KafkaSpecificConfig specificConfig : SPECIFIC_CONFIGS) {
+            currentSettings = specificConfig.apply(currentSettings, connection);
+        }
+        return currentSettings;
+    }
+
+    private ConsumerSettings<String, String> addSecurityProtocol(final ConsumerSettings<String, String> settings) {
+        final boolean secure = "ssl".equals(connection.getProtocol());
+        final String securityProtocol;
+        if (KafkaAuthenticationSpecificConfig.getInstance().isApplicable(connection)) {
+            securityProtocol = secure ? "SASL_SSL" : "SASL_PLAINTEXT";
+        } else {
+            securityProtocol = secure ? "SSL" : "PLAINTEXT";
+        }
+        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, securityProtocol);
+    }
+
+}
@@ -12,28 +12,50 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
 
+import com.typesafe.config.Config;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.japi.Pair;
+import akka.kafka.CommitterSettings;
+import akka.kafka.ConsumerMessage;
 import akka.kafka.ProducerMessage;
 import akka.kafka.ProducerSettings;
+import akka.kafka.Subscriptions;
+import akka.kafka.javadsl.Committer;
+import akka.kafka.javadsl.Consumer;
 import akka.kafka.javadsl.Producer;
 import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
 
     private final Connection connection;
     private final ProducerSettings<String, String> settings;
+    private final ConsumerSettingsFactory consumerSettingsFactory;
+    private final CommitterSettings committerSettings;
 
     private DefaultKafkaConnectionFactory(final Connection connection,
-            final ProducerSettings<String, String> producerSettings) {
+            final ProducerSettings<String, String> producerSettings,
+            final ConsumerSettingsFactory consumerSettingsFactory,
+            final CommitterSettings committerSettings) {
 
         this.connection = connection;
         settings = producerSettings;
+        this.consumerSettingsFactory = consumerSettingsFactory;
+        this.committerSettings = committerSettings;
     }
 
     /**
@@ -41,12 +63,21 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
      *
      * @param connection the Kafka connection.
      * @param kafkaConfig the Kafka configuration settings.
+     * @param akkaKafkaConfig the configuration of akka-stream-kafka at {@code akka.kafka} to which the consumer and
+     * committer configuration of {@code kafkaConfig} falls back.
      * @return an Kafka connection factory.
      */
-    static DefaultKafkaConnectionFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig) {
+    static DefaultKafkaConnectionFactory getInstance(final Connection connection, final KafkaConfig kafkaConfig,
+            final Config akkaKafkaConfig) {
+
         final ProducerSettingsFactory settingsFactory = ProducerSettingsFactory.getInstance(connection, kafkaConfig);
+        final ConsumerSettingsFactory consumerSettingsFactory =
+                ConsumerSettingsFactory.getInstance(connection, kafkaConfig, akkaKafkaConfig.getConfig("consumer"));
+        final CommitterSettings committerSettings = CommitterSettings.create(
+                kafkaConfig.getCommitterConfig().withFallback(akkaKafkaConfig.getConfig("committer")));
 
-        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerSettings());
+        return new DefaultKafkaConnectionFactory(connection, settingsFactory.getProducerSettings(),
+                consumerSettingsFactory, committerSettings);
     }
 
     @Override
@@ -59,4 +90,17 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
         return Producer.flexiFlow(settings);
     }
 
+    @Override
+    public Source<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, String>, NotUsed>>,
+            Consumer.Control> newPartitionedSource(final Set<String> topics, final String consumerId) {
+
+        return Consumer.committablePartitionedSource(consumerSettingsFactory.getConsumerSettings(consumerId),
+                Subscriptions.topics(topics));
+    }
+
+    @Override
+    public Sink<ConsumerMessage.Committable, CompletionStage<Done>> newCommitterSink() {
+        return Committer.sink(committerSettings);
+    }
+
 }
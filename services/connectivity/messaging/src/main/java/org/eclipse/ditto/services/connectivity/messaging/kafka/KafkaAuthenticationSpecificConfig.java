@@ -24,6 +24,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
 
+import akka.kafka.ConsumerSettings;
 import akka.kafka.ProducerSettings;
 
 /**
@@ -106,6 +107,24 @@ final class KafkaAuthenticationSpecificConfig implements KafkaSpecificConfig {
         return producerSettings;
     }
 
+    @Override
+    public ConsumerSettings<String, String> apply(final ConsumerSettings<String, String> consumerSettings,
+            final Connection connection) {
+
+        final Optional<String> username = connection.getUsername();
+        final Optional<String> password = connection.getPassword();
+        if (isValid(connection) && username.isPresent() && password.isPresent()) {
+            final String saslMechanism = getSaslMechanismOrDefault(connection).toUpperCase();
+            final String loginModule = getLoginModuleForSaslMechanism(saslMechanism);
+            final String jaasConfig = getJaasConfig(loginModule, username.get(), password.get());
+
+            return consumerSettings.withProperty(SaslConfigs.SASL_MECHANISM, saslMechanism)
+                    .withProperty(SaslConfigs.SASL_JAAS_CONFIG, jaasConfig);
+        }
+
+        return consumerSettings;
+    }
+
     private static String getJaasConfig(final String loginModule, final String username, final String password) {
         return String.format(JAAS_CONFIG_TEMPLATE, loginModule, username, password);
     }
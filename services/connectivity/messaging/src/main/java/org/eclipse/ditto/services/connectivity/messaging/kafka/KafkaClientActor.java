@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -21,6 +23,7 @@ import java.util.concurrent.CompletionStage;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientData;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
@@ -34,6 +37,8 @@ import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConne
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.actor.Status;
+import akka.pattern.BackoffOpts;
+import akka.pattern.BackoffSupervisor;
 import akka.japi.pf.FSMStateFunctionBuilder;
 
 /**
@@ -41,9 +46,13 @@ import akka.japi.pf.FSMStateFunctionBuilder;
  */
 public final class KafkaClientActor extends BaseClientActor {
 
+    private static final double CONSUMER_BACKOFF_RANDOM_FACTOR = 0.2;
+
     private final KafkaPublisherActorFactory publisherActorFactory;
     private final Set<ActorRef> pendingStatusReportsFromStreams;
     private final KafkaConnectionFactory connectionFactory;
+    private final KafkaConfig kafkaConfig;
+    private final List<ActorRef> kafkaConsumerActors;
 
     private CompletableFuture<Status.Status> testConnectionFuture = null;
     private ActorRef kafkaPublisherActor;
@@ -55,10 +64,12 @@ public final class KafkaClientActor extends BaseClientActor {
 
         super(connection, conciergeForwarder);
         final ConnectionConfig connectionConfig = connectivityConfig.getConnectionConfig();
-        final KafkaConfig kafkaConfig = connectionConfig.getKafkaConfig();
-        connectionFactory = DefaultKafkaConnectionFactory.getInstance(connection, kafkaConfig);
+        kafkaConfig = connectionConfig.getKafkaConfig();
+        connectionFactory = DefaultKafkaConnectionFactory.getInstance(connection, kafkaConfig,
+                getContext().getSystem().settings().config().getConfig("akka.kafka"));
         publisherActorFactory = factory;
         pendingStatusReportsFromStreams = new HashSet<>();
+        kafkaConsumerActors = new ArrayList<>();
     }
 
     /**
@@ -131,15 +142,46 @@ public final class KafkaClientActor extends BaseClientActor {
         return kafkaPublisherActor;
     }
 
+    @Override
+    protected CompletionStage<Status.Status> startConsumerActors(final ClientConnected clientConnected) {
+        // consumers are started only once the client is connected, hence never in dry-run mode
+        stopKafkaConsumers();
+        for (final Source source : getSourcesOrEmptyList()) {
+            for (final String topic : source.getAddresses()) {
+                for (int i = 0; i < source.getConsumerCount(); i++) {
+                    startKafkaConsumer(source, topic, source.getIndex() + "-" + topic + "-" + i);
+                }
+            }
+        }
+        return CompletableFuture.completedFuture(DONE);
+    }
+
     /**
      * Start Kafka publishers, expect "Status.Success" from each of them, then send "ClientConnected" to self.
+     * Consumers are started in {@link #startConsumerActors(ClientConnected)} once the client is connected.
      *
      * @param dryRun if set to true, exchange no message between the broker and the Ditto cluster.
      */
     private void connectClient(final boolean dryRun) {
         // start publisher
         startKafkaPublisher(dryRun);
-        // no command consumers as we don't support consuming from sources yet
+    }
+
+    private void startKafkaConsumer(final Source source, final String topic, final String consumerId) {
+        log.info("Starting Kafka consumer actor <{}> for topic <{}>.", consumerId, topic);
+        final String consumerActorName = KafkaConsumerActor.ACTOR_NAME_PREFIX + consumerId;
+        final Props consumerActorProps = KafkaConsumerActor.props(connectionId(), getMessageMappingProcessorActor(),
+                source, topic, consumerId, connectionFactory, kafkaConfig);
+        // a failed consumer is restarted with backoff to avoid a rebalance of the consumer group in a tight loop
+        final Props supervisorProps = BackoffSupervisor.props(BackoffOpts.onFailure(consumerActorProps,
+                consumerActorName, kafkaConfig.getConsumerMinBackoff(), kafkaConfig.getConsumerMaxBackoff(),
+                CONSUMER_BACKOFF_RANDOM_FACTOR));
+        kafkaConsumerActors.add(startChildActorConflictFree(consumerActorName, supervisorProps));
+    }
+
+    private void stopKafkaConsumers() {
+        kafkaConsumerActors.forEach(this::stopChildActor);
+        kafkaConsumerActors.clear();
     }
 
     private void startKafkaPublisher(final boolean dryRun) {
@@ -154,6 +196,7 @@ public final class KafkaClientActor extends BaseClientActor {
     @Override
     protected void cleanupResourcesForConnection() {
         pendingStatusReportsFromStreams.clear();
+        stopKafkaConsumers();
         stopPublisherActor();
     }
 
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.EnforcementFactoryFactory;
+import org.eclipse.ditto.model.connectivity.EnforcementFilter;
+import org.eclipse.ditto.model.connectivity.EnforcementFilterFactory;
+import org.eclipse.ditto.model.connectivity.PayloadMapping;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Scheduler;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Keep;
+import scala.concurrent.ExecutionContextExecutor;
+
+/**
+ * Actor which consumes the records of one Kafka topic and forwards them to a {@code MessageMappingProcessorActor}.
+ * The records of each partition are processed in order while up to the configured number of partitions are
+ * processed concurrently. The offset of a record is committed only after the signals mapped from it were forwarded;
+ * offsets are committed in batches. A record which is not acknowledged is forwarded again after a backoff, which holds
+ * back the records of its partition until then.
+ */
+final class KafkaConsumerActor extends BaseConsumerActor {
+
+    static final String ACTOR_NAME_PREFIX = "kafkaConsumer-";
+
+    private static final String KAFKA_TOPIC_HEADER = "kafka.topic";
+    private static final String KAFKA_KEY_HEADER = "kafka.key";
+
+    private static final String CONSUMER_LAG_METRIC = "connectivity_kafka_consumer_lag";
+    private static final String FETCH_MANAGER_METRICS_GROUP = "consumer-fetch-manager-metrics";
+    private static final String RECORDS_LAG_MAX = "records-lag-max";
+    private static final String TOPIC_TAG = "topic";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+    private final KafkaConnectionFactory connectionFactory;
+    private final String consumerId;
+    private final int parallelism;
+    private final Duration ackTimeout;
+    private final Duration minBackoff;
+    private final Duration maxBackoff;
+    private final Scheduler scheduler;
+    private final ExecutionContextExecutor dispatcher;
+    private final Duration lagReportInterval;
+    private final PayloadMapping payloadMapping;
+    @Nullable private final EnforcementFilterFactory<String, CharSequence> topicEnforcementFilterFactory;
+    private final Gauge consumerLag;
+
+    @Nullable private Consumer.Control consumerControl;
+
+    @SuppressWarnings("unused")
+    private KafkaConsumerActor(final ConnectionId connectionId, final ActorRef messageMappingProcessor,
+            final Source source, final String topic, final String consumerId,
+            final KafkaConnectionFactory connectionFactory, final KafkaConfig kafkaConfig) {
+
+        super(connectionId, topic, messageMappingProcessor, source);
+        this.connectionFactory = connectionFactory;
+        this.consumerId = consumerId;
+        parallelism = kafkaConfig.getConsumerParallelism();
+        ackTimeout = kafkaConfig.getConsumerAckTimeout();
+        minBackoff = kafkaConfig.getConsumerMinBackoff();
+        maxBackoff = kafkaConfig.getConsumerMaxBackoff();
+        scheduler = getContext().getSystem().scheduler();
+        dispatcher = getContext().getDispatcher();
+        lagReportInterval = kafkaConfig.getConsumerLagReportInterval();
+        payloadMapping = source.getPayloadMapping();
+        topicEnforcementFilterFactory = source.getEnforcement()
+                .map(enforcement -> EnforcementFactoryFactory.newEnforcementFilterFactory(enforcement,
+                        ConnectivityModelFactory.newSourceAddressPlaceholder()))
+                .orElse(null);
+        consumerLag = DittoMetrics.gauge(CONSUMER_LAG_METRIC)
+                .tag("connection", connectionId.toString())
+                .tag("topic", topic)
+                .tag("consumer", consumerId);
+        consumerControl = null;
+    }
+
+    /**
+     * Creates Akka configuration object for this actor.
+     *
+     * @param connectionId ID of the connection this consumer belongs to.
+     * @param messageMappingProcessor the ActorRef to the {@code MessageMappingProcessor}.
+     * @param source the source from which this consumer is built.
+     * @param topic the topic to consume, one of the addresses of {@code source}.
+     * @param consumerId identifies the consumer among the consumers of the connection in this instance.
+     * @param connectionFactory the factory to create Kafka sources with.
+     * @param kafkaConfig the Kafka configuration settings.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final ConnectionId connectionId, final ActorRef messageMappingProcessor, final Source source,
+            final String topic, final String consumerId, final KafkaConnectionFactory connectionFactory,
+            final KafkaConfig kafkaConfig) {
+
+        return Props.create(KafkaConsumerActor.class, connectionId, messageMappingProcessor, source, topic,
+                consumerId, connectionFactory, kafkaConfig);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        startConsumerStream();
+        if (!lagReportInterval.isZero()) {
+            getTimers().startPeriodicTimer(ReportConsumerLag.INSTANCE, ReportConsumerLag.INSTANCE, lagReportInterval);
+        }
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != consumerControl) {
+            consumerControl.shutdown();
+        }
+        consumerLag.reset();
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(ConsumerStreamTerminated.class, this::consumerStreamTerminated)
+                .matchEquals(ReportConsumerLag.INSTANCE, this::reportConsumerLag)
+                .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .matchAny(unhandled -> {
+                    log.info("Unhandled message: {}", unhandled);
+                    unhandled(unhandled);
+                })
+                .build();
+    }
+
+    private void startConsumerStream() {
+        logWithConnectionId().info("Starting Kafka consumer <{}> of topic <{}>.", consumerId, sourceAddress);
+        final Pair<Consumer.Control, CompletionStage<Done>> materializedValues =
+                connectionFactory.newPartitionedSource(Collections.singleton(sourceAddress), consumerId)
+                        .flatMapMerge(parallelism, partitionAndRecords -> partitionAndRecords.second()
+                                // process the records of each partition in order
+                                .mapAsync(1, this::processRecord))
+                        .toMat(connectionFactory.newCommitterSink(), Keep.both())
+                        .run(ActorMaterializer.create(getContext()));
+        final Consumer.Control control = materializedValues.first();
+        consumerControl = control;
+        final ActorRef self = getSelf();
+        materializedValues.second().whenComplete((done, error) ->
+                self.tell(new ConsumerStreamTerminated(control, error), ActorRef.noSender()));
+    }
+
+    // Async callback. Must be thread-safe.
+    private CompletionStage<ConsumerMessage.Committable> processRecord(
+            final ConsumerMessage.CommittableMessage<String, String> committableMessage) {
+
+        final CompletionStage<Object> processed = toExternalMessage(committableMessage.record())
+                .map(externalMessage -> forwardUntilAcknowledged(externalMessage, minBackoff))
+                // records which cannot be converted are skipped
+                .orElseGet(() -> CompletableFuture.<Object>completedFuture(Done.getInstance()));
+
+        return processed.thenApply(ack -> committableMessage.committableOffset());
+    }
+
+    // Async callback. Must be thread-safe.
+    private CompletionStage<Object> forwardUntilAcknowledged(final ExternalMessage externalMessage,
+            final Duration backoff) {
+
+        return forwardToMappingActorWithAck(externalMessage, ackTimeout)
+                .handle((ack, error) -> {
+                    if (null == error) {
+                        return CompletableFuture.completedFuture(ack);
+                    }
+                    // e.g. the mapping actor is overloaded; retry instead of failing the consumer and all partitions
+                    inboundMonitor.exception(externalMessage,
+                            "Message was not acknowledged, forwarding it again in <{0}>: {1}", backoff,
+                            error.getMessage());
+                    final Duration doubledBackoff = backoff.multipliedBy(2L);
+                    final Duration nextBackoff = doubledBackoff.compareTo(maxBackoff) > 0 ? maxBackoff : doubledBackoff;
+                    return Patterns.after(backoff, scheduler, dispatcher,
+                            () -> forwardUntilAcknowledged(externalMessage, nextBackoff));
+                })
+                .thenCompose(Function.identity());
+    }
+
+    // Async callback. Must be thread-safe.
+    private Optional<ExternalMessage> toExternalMessage(final ConsumerRecord<String, String> record) {
+        final Map<String, String> headers = new HashMap<>();
+        try {
+            for (final Header header : record.headers()) {
+                if (null != header.value()) {
+                    headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+                }
+            }
+            headers.put(KAFKA_TOPIC_HEADER, record.topic());
+            if (null != record.key()) {
+                headers.put(KAFKA_KEY_HEADER, record.key());
+            }
+            final ExternalMessage externalMessage = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                    .withText(record.value())
+                    .withAuthorizationContext(source.getAuthorizationContext())
+                    .withEnforcement(getEnforcementFilter(record.topic()))
+                    .withSourceAddress(sourceAddress)
+                    .withPayloadMapping(payloadMapping)
+                    .withHeaderMapping(source.getHeaderMapping().orElse(null))
+                    .build();
+            inboundMonitor.success(externalMessage);
+
+            return Optional.of(externalMessage);
+        } catch (final DittoRuntimeException e) {
+            inboundMonitor.failure(headers, e);
+        } catch (final Exception e) {
+            inboundMonitor.exception(headers, e);
+        }
+        return Optional.empty();
+    }
+
+    @Nullable
+    private EnforcementFilter<CharSequence> getEnforcementFilter(final String topic) {
+        if (topicEnforcementFilterFactory != null) {
+            return topicEnforcementFilterFactory.getFilter(topic);
+        } else {
+            return null;
+        }
+    }
+
+    private void consumerStreamTerminated(final ConsumerStreamTerminated terminated) {
+        if (terminated.control != consumerControl) {
+            // stream of a previous incarnation of this actor
+            return;
+        }
+        consumerControl = null;
+        if (null != terminated.error) {
+            // restart with backoff by the supervisor, which resumes consumption at the last committed offsets
+            throw new IllegalStateException("Kafka consumer <" + consumerId + "> of topic <" + sourceAddress +
+                    "> failed.", terminated.error);
+        } else {
+            logWithConnectionId().info("Kafka consumer <{}> of topic <{}> stopped.", consumerId, sourceAddress);
+            getContext().stop(getSelf());
+        }
+    }
+
+    private void reportConsumerLag(final ReportConsumerLag trigger) {
+        if (null != consumerControl) {
+            consumerControl.getMetrics().thenAccept(metrics -> metrics.entrySet().stream()
+                    .filter(entry -> isClientRecordsLagMax(entry.getKey()))
+                    .map(Map.Entry::getValue)
+                    .map(Metric::metricValue)
+                    .filter(value -> value instanceof Number && !Double.isNaN(((Number) value).doubleValue()))
+                    .findAny()
+                    .ifPresent(value -> consumerLag.set(((Number) value).longValue())));
+        }
+    }
+
+    private static boolean isClientRecordsLagMax(final MetricName metricName) {
+        // the maximum lag over all partitions assigned to the consumer; partition metrics are tagged with the topic
+        return RECORDS_LAG_MAX.equals(metricName.name()) &&
+                FETCH_MANAGER_METRICS_GROUP.equals(metricName.group()) &&
+                !metricName.tags().containsKey(TOPIC_TAG);
+    }
+
+    private DiagnosticLoggingAdapter logWithConnectionId() {
+        ConnectionLogUtil.enhanceLogWithConnectionId(log, connectionId);
+        return log;
+    }
+
+    /**
+     * Self message reporting the termination of the consumer stream.
+     */
+    private static final class ConsumerStreamTerminated {
+
+        private final Consumer.Control control;
+        @Nullable private final Throwable error;
+
+        private ConsumerStreamTerminated(final Consumer.Control control, @Nullable final Throwable error) {
+            this.control = control;
+            this.error = error;
+        }
+
+    }
+
+    /**
+     * Self message triggering the report of the consumer lag.
+     */
+    private static final class ReportConsumerLag {
+
+        private static final ReportConsumerLag INSTANCE = new ReportConsumerLag();
+
+        private ReportConsumerLag() {
+            // intentionally empty
+        }
+
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+
+import akka.kafka.ConsumerSettings;
+import akka.kafka.ProducerSettings;
+
+/**
+ * Tunes the consumers of a connection by the specific config entry {@code consumerOffsetReset}, which is passed to
+ * the Kafka consumer as {@code auto.offset.reset}. It determines where the consumers of a connection which did not
+ * commit any offset yet start to consume: either at the {@code latest} record, which is the default, or at the
+ * {@code earliest} record still retained by Kafka.
+ */
+final class KafkaConsumerSpecificConfig implements KafkaSpecificConfig {
+
+    private static final String CONSUMER_OFFSET_RESET_KEY = "consumerOffsetReset";
+
+    private static final Collection<String> OFFSET_RESETS =
+            Collections.unmodifiableList(Arrays.asList("earliest", "latest"));
+
+    @Nullable private static KafkaConsumerSpecificConfig instance;
+
+    private KafkaConsumerSpecificConfig() {
+        // no-op
+    }
+
+    public static KafkaConsumerSpecificConfig getInstance() {
+        KafkaConsumerSpecificConfig result = instance;
+        if (null == result) {
+            result = new KafkaConsumerSpecificConfig();
+            instance = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isApplicable(final Connection connection) {
+        return connection.getSpecificConfig().containsKey(CONSUMER_OFFSET_RESET_KEY);
+    }
+
+    @Override
+    public void validateOrThrow(final Connection connection, final DittoHeaders dittoHeaders) {
+        if (!isValid(connection)) {
+            final String message = MessageFormat.format(
+                    "The connection configuration contains an invalid value for <{0}>: <{1}>. " +
+                            "Allowed values are: <{2}>",
+                    CONSUMER_OFFSET_RESET_KEY, connection.getSpecificConfig().get(CONSUMER_OFFSET_RESET_KEY),
+                    OFFSET_RESETS);
+            throw ConnectionConfigurationInvalidException.newBuilder(message)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
+    @Override
+    public boolean isValid(final Connection connection) {
+        final String offsetReset = getOffsetReset(connection);
+        return null == offsetReset || OFFSET_RESETS.contains(offsetReset);
+    }
+
+    @Override
+    public ProducerSettings<String, String> apply(final ProducerSettings<String, String> producerSettings,
+            final Connection connection) {
+
+        // only the consumers are tuned
+        return producerSettings;
+    }
+
+    @Override
+    public ConsumerSettings<String, String> apply(final ConsumerSettings<String, String> consumerSettings,
+            final Connection connection) {
+
+        final String offsetReset = getOffsetReset(connection);
+        if (null == offsetReset || !isValid(connection)) {
+            return consumerSettings;
+        }
+        return consumerSettings.withProperty(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, offsetReset);
+    }
+
+    @Nullable
+    private static String getOffsetReset(final Connection connection) {
+        final String value = connection.getSpecificConfig().get(CONSUMER_OFFSET_RESET_KEY);
+        return null != value ? value.trim() : null;
+    }
+
+}
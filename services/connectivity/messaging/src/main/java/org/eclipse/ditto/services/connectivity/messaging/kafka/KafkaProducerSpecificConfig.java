@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+
+import akka.kafka.ConsumerSettings;
+import akka.kafka.ProducerSettings;
+
+/**
+ * Tunes the producer of a connection by the specific config entries {@code lingerMs}, {@code batchSize},
+ * {@code compressionType} and {@code enableIdempotence}, which are passed to the Kafka producer as
+ * {@code linger.ms}, {@code batch.size}, {@code compression.type} and {@code enable.idempotence}.
+ * An idempotent producer additionally waits for the acknowledgement of all in-sync replicas as Kafka requires it.
+ */
+final class KafkaProducerSpecificConfig implements KafkaSpecificConfig {
+
+    private static final String LINGER_MS_KEY = "lingerMs";
+    private static final String BATCH_SIZE_KEY = "batchSize";
+    private static final String COMPRESSION_TYPE_KEY = "compressionType";
+    private static final String ENABLE_IDEMPOTENCE_KEY = "enableIdempotence";
+
+    private static final Collection<String> COMPRESSION_TYPES =
+            Collections.unmodifiableList(Arrays.asList("none", "gzip", "snappy", "lz4", "zstd"));
+    private static final Collection<String> BOOLEANS = Collections.unmodifiableList(Arrays.asList("true", "false"));
+
+    // specific config key -> Kafka producer property
+    private static final Map<String, String> PRODUCER_PROPERTIES;
+
+    static {
+        final Map<String, String> producerProperties = new LinkedHashMap<>();
+        producerProperties.put(LINGER_MS_KEY, ProducerConfig.LINGER_MS_CONFIG);
+        producerProperties.put(BATCH_SIZE_KEY, ProducerConfig.BATCH_SIZE_CONFIG);
+        producerProperties.put(COMPRESSION_TYPE_KEY, ProducerConfig.COMPRESSION_TYPE_CONFIG);
+        producerProperties.put(ENABLE_IDEMPOTENCE_KEY, ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG);
+        PRODUCER_PROPERTIES = Collections.unmodifiableMap(producerProperties);
+    }
+
+    @Nullable private static KafkaProducerSpecificConfig instance;
+
+    private KafkaProducerSpecificConfig() {
+        // no-op
+    }
+
+    public static KafkaProducerSpecificConfig getInstance() {
+        KafkaProducerSpecificConfig result = instance;
+        if (null == result) {
+            result = new KafkaProducerSpecificConfig();
+            instance = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isApplicable(final Connection connection) {
+        return PRODUCER_PROPERTIES.keySet().stream().anyMatch(connection.getSpecificConfig()::containsKey);
+    }
+
+    @Override
+    public void validateOrThrow(final Connection connection, final DittoHeaders dittoHeaders) {
+        final Optional<String> invalidKey = findInvalidKey(connection);
+        if (invalidKey.isPresent()) {
+            final String message = MessageFormat.format(
+                    "The connection configuration contains an invalid value for <{0}>: <{1}>. {2}",
+                    invalidKey.get(), connection.getSpecificConfig().get(invalidKey.get()),
+                    getValidValuesDescription(invalidKey.get()));
+            throw ConnectionConfigurationInvalidException.newBuilder(message)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
+    @Override
+    public boolean isValid(final Connection connection) {
+        return !findInvalidKey(connection).isPresent();
+    }
+
+    @Override
+    public ProducerSettings<String, String> apply(final ProducerSettings<String, String> producerSettings,
+            final Connection connection) {
+
+        if (!isValid(connection)) {
+            return producerSettings;
+        }
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        ProducerSettings<String, String> result = producerSettings;
+        for (final Map.Entry<String, String> entry : PRODUCER_PROPERTIES.entrySet()) {
+            final String value = specificConfig.get(entry.getKey());
+            if (null != value) {
+                result = result.withProperty(entry.getValue(), value.trim());
+            }
+        }
+        if ("true".equals(getTrimmed(specificConfig, ENABLE_IDEMPOTENCE_KEY))) {
+            result = result.withProperty(ProducerConfig.ACKS_CONFIG, "all");
+        }
+        return result;
+    }
+
+    @Override
+    public ConsumerSettings<String, String> apply(final ConsumerSettings<String, String> consumerSettings,
+            final Connection connection) {
+
+        // only the producer is tuned
+        return consumerSettings;
+    }
+
+    private static Optional<String> findInvalidKey(final Connection connection) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        return PRODUCER_PROPERTIES.keySet()
+                .stream()
+                .filter(key -> {
+                    final String value = getTrimmed(specificConfig, key);
+                    return null != value && !getValidator(key).test(value);
+                })
+                .findFirst();
+    }
+
+    private static Predicate<String> getValidator(final String key) {
+        switch (key) {
+            case COMPRESSION_TYPE_KEY:
+                return COMPRESSION_TYPES::contains;
+            case ENABLE_IDEMPOTENCE_KEY:
+                return BOOLEANS::contains;
+            default:
+                return KafkaProducerSpecificConfig::isNonNegativeInt;
+        }
+    }
+
+    private static String getValidValuesDescription(final String key) {
+        switch (key) {
+            case COMPRESSION_TYPE_KEY:
+                return MessageFormat.format("Allowed values are: <{0}>", COMPRESSION_TYPES);
+            case ENABLE_IDEMPOTENCE_KEY:
+                return MessageFormat.format("Allowed values are: <{0}>", BOOLEANS);
+            default:
+                return "It must be a non-negative integer.";
+        }
+    }
+
+    private static boolean isNonNegativeInt(final String value) {
+        try {
+            return Integer.parseInt(value) >= 0;
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @Nullable
+    private static String getTrimmed(final Map<String, String> specificConfig, final String key) {
+        final String value = specificConfig.get(key);
+        return null != value ? value.trim() : null;
+    }
+
+}
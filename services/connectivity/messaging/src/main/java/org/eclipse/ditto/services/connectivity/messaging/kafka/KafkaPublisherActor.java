@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.connectivity.messaging.kafka;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -35,6 +36,8 @@ import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 
 import akka.Done;
 import akka.actor.ActorRef;
@@ -59,10 +62,13 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     static final String ACTOR_NAME = "kafkaPublisher";
 
+    private static final String PRODUCER_QUEUE_TIME_METRIC = "connectivity_kafka_producer_queue_time";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final KafkaConnectionFactory connectionFactory;
     private final boolean dryRun;
+    private final PreparedTimer producerQueueTime;
 
     private boolean shuttingDown = false;
     private ActorRef sourceActor;
@@ -74,6 +80,8 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         super(connection);
         this.dryRun = dryRun;
         connectionFactory = factory;
+        producerQueueTime = DittoMetrics.timer(PRODUCER_QUEUE_TIME_METRIC)
+                .tag("connection", connectionId.toString());
 
         startInternalKafkaProducer();
         reportInitialConnectionState();
@@ -97,8 +105,10 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
         // basically, we don't know if the 'publish' will succeed or fail. We would need to write our own
         // GraphStage actor for Kafka and MQTT, since alpakka doesn't provide this useful information for us.
         return Sink.foreach(results -> {
-            final ConnectionMonitor connectionMonitor = results.passThrough().connectionMonitor;
-            connectionMonitor.success(results.passThrough().externalMessage);
+            final PassThrough passThrough = results.passThrough();
+            passThrough.producerQueueTime.record(System.nanoTime() - passThrough.enqueuedAtNanos,
+                    TimeUnit.NANOSECONDS);
+            passThrough.connectionMonitor.success(passThrough.externalMessage);
         });
     }
 
@@ -125,7 +135,7 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
             final ExternalMessage message,
             final ConnectionMonitor publishedMonitor) {
 
-        publishMessage(publishTarget, message, new PassThrough(publishedMonitor, message));
+        publishMessage(publishTarget, message, new PassThrough(publishedMonitor, message, producerQueueTime));
     }
 
     private void publishMessage(final KafkaPublishTarget publishTarget, final ExternalMessage message,
@@ -296,10 +306,16 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
         private final ConnectionMonitor connectionMonitor;
         private final ExternalMessage externalMessage;
+        // measures the time from handing the message to the producer until Kafka acknowledged it
+        private final PreparedTimer producerQueueTime;
+        private final long enqueuedAtNanos;
 
-        private PassThrough(final ConnectionMonitor connectionMonitor, final ExternalMessage message) {
+        private PassThrough(final ConnectionMonitor connectionMonitor, final ExternalMessage message,
+                final PreparedTimer producerQueueTime) {
             this.connectionMonitor = connectionMonitor;
             this.externalMessage = message;
+            this.producerQueueTime = producerQueueTime;
+            enqueuedAtNanos = System.nanoTime();
         }
 
     }
@@ -35,7 +35,8 @@ final class ProducerSettingsFactory {
 
     private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS =
             Collections.unmodifiableList(Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
-                    KafkaBootstrapServerSpecificConfig.getInstance()));
+                    KafkaBootstrapServerSpecificConfig.getInstance(),
+                    KafkaProducerSpecificConfig.getInstance()));
 
     private static final Serializer<String> KEY_SERIALIZER = new StringSerializer();
     private static final Serializer<String> VALUE_SERIALIZER = KEY_SERIALIZER;
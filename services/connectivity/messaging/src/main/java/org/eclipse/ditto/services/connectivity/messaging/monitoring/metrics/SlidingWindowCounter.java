@@ -17,26 +17,22 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
- * Simple implementation of a sliding window using a map. Depending on the given parameters
+ * Implementation of a sliding window using preallocated rings of time slots. Depending on the given parameters
  * {@code window} and {@code duration} this implementation holds counter for time slots of size {@code duration} to
- * fill the {@code window}.
+ * fill the {@code window}. Recording a measurement neither locks nor allocates; the counts of the slots are only summed
+ * up when they are retrieved.
  */
 public final class SlidingWindowCounter {
 
     private final Clock clock;
-    private final MeasurementWindow[] windows;
-    private final ConcurrentMap<Long, Long> successMeasurements = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Long> failureMeasurements = new ConcurrentHashMap<>();
+    private final SlotRing[] rings;
 
     private final AtomicLong lastSuccessTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
     private final AtomicLong lastFailureTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final Duration minResolution;
 
     /**
      * Instantiates a new {@link SlidingWindowCounter} that records the measurements for the given time windows.
@@ -45,12 +41,10 @@ public final class SlidingWindowCounter {
      */
     SlidingWindowCounter(final Clock clock, final MeasurementWindow... windows) {
         this.clock = clock;
-        this.windows = windows;
-
-        minResolution = Stream.of(windows)
-                .map(MeasurementWindow::getResolution)
-                .min(Duration::compareTo)
-                .orElse(Duration.ofMinutes(5));
+        rings = new SlotRing[windows.length];
+        for (int i = 0; i < windows.length; ++i) {
+            rings[i] = new SlotRing(windows[i]);
+        }
     }
 
     /**
@@ -82,7 +76,7 @@ public final class SlidingWindowCounter {
      * @param success whether to increment success or failure count
      */
     void increment(final boolean success) {
-        increment(success, clock.instant().toEpochMilli());
+        increment(success, clock.millis());
     }
 
     /**
@@ -92,57 +86,16 @@ public final class SlidingWindowCounter {
      * @param ts the timestamp when the operation happened (mostly useful for testing)
      */
     void increment(final boolean success, final long ts) {
-        final long previousTimestamp;
         if (success) {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastSuccessTimestamp, ts);
-            incrementMeasurements(ts, successMeasurements);
+            lastSuccessTimestamp.accumulateAndGet(ts, Math::max);
         } else {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastFailureTimestamp, ts);
-            incrementMeasurements(ts, failureMeasurements);
+            lastFailureTimestamp.accumulateAndGet(ts, Math::max);
         }
-
-        // if diff between current and last timestamp is too large, cleanup old measurements
-        if (previousTimestamp > ts - minResolution.toMillis()) {
-            cleanUpOldMeasurements();
+        for (final SlotRing ring : rings) {
+            ring.increment(success, ts);
         }
     }
 
-    private long updateTimestampAndReturnPrevious(final AtomicLong toUpdate, final long ts) {
-        return toUpdate.getAndUpdate(previous -> Math.max(previous, ts));
-    }
-
-    private void incrementMeasurements(final long ts, final Map<Long, Long> measurements) {
-        for (final MeasurementWindow window : windows) {
-            final long slot = getSlot(ts, window.getResolution().toMillis());
-            measurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
-        }
-    }
-
-    private void cleanUpOldMeasurements() {
-        cleanUpOldMeasurements(successMeasurements);
-        cleanUpOldMeasurements(failureMeasurements);
-    }
-
-    private void cleanUpOldMeasurements(final Map<Long, Long> measurements) {
-        measurements.entrySet().removeIf(e -> isOld(e.getKey()));
-    }
-
-    private boolean isOld(long slot) {
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long windowInMs = window.getWindow().toMillis();
-            // max slot is the current slot for this window
-            final long max = getSlot(now, resolutionInMs);
-            // min slot is current slot minus window size
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            if (slot <= max && slot >= min) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     /**
      * Gets counts for all measurement windows given.
      *
@@ -150,36 +103,10 @@ public final class SlidingWindowCounter {
      * @return the counts for all windows
      */
     Map<Duration, Long> getCounts(final boolean success) {
-        if (success) {
-            return getCounts(successMeasurements);
-        }
-        return getCounts(failureMeasurements);
-    }
-
-    /**
-     * Gets counts for all measurement windows given.
-     *
-     * @param measurements the measurements map to use
-     * @return the counts for all windows
-     */
-    private Map<Duration, Long> getCounts(final Map<Long, Long> measurements) {
         final Map<Duration, Long> result = new HashMap<>();
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            // min is where we start to sum up the slots
-            final long windowInMs = window.getWindow().toMillis();
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            // max is the current active time slot
-            final long max = getSlot(now, resolutionInMs);
-            long sum = 0;
-            for (final Map.Entry<Long, Long> e : measurements.entrySet()) {
-                long slot = e.getKey();
-                if (slot > min && slot <= max) {
-                    sum += e.getValue();
-                }
-            }
-            result.put(window.getWindow(), sum);
+        final long now = clock.millis();
+        for (final SlotRing ring : rings) {
+            result.put(ring.window.getWindow(), ring.sum(success, now));
         }
         return result;
     }
@@ -188,26 +115,92 @@ public final class SlidingWindowCounter {
      * Reset all counts.
      */
     void reset() {
-        reset(successMeasurements);
-        reset(failureMeasurements);
-    }
-
-    private void reset(final Map<Long, Long> measurements) {
-        measurements.clear();
-    }
-
-    private long getSlot(long ts, final long resolutionInMs) {
-        return ts / resolutionInMs;
+        for (final SlotRing ring : rings) {
+            ring.reset();
+        }
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
-                ", successMeasurements=" + successMeasurements +
-                ", failureMeasurements=" + failureMeasurements +
+                "successCounts=" + getCounts(true) +
+                ", failureCounts=" + getCounts(false) +
                 ", lastSuccessTimestamp=" + lastSuccessTimestamp +
                 ", lastFailureTimestamp=" + lastFailureTimestamp +
                 "]";
     }
 
+    /**
+     * Ring of the time slots of one measurement window. A slot is stored at the index {@code slot % size} together
+     * with its lap {@code slot / size} in one long value, so that moving on to a newer slot and counting in it is a
+     * single compare-and-set. The ring holds the slots of two windows, so that measurements ahead of the clock do not
+     * evict the measurements of the current window.
+     */
+    private static final class SlotRing {
+
+        private static final int COUNT_BITS = 36;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+        private final MeasurementWindow window;
+        private final long windowInMs;
+        private final long resolutionInMs;
+        private final int size;
+        private final AtomicLongArray successes;
+        private final AtomicLongArray failures;
+
+        private SlotRing(final MeasurementWindow window) {
+            this.window = window;
+            windowInMs = window.getWindow().toMillis();
+            resolutionInMs = window.getResolution().toMillis();
+            size = (int) (2 * Math.max(1L, windowInMs / resolutionInMs));
+            successes = new AtomicLongArray(size);
+            failures = new AtomicLongArray(size);
+        }
+
+        private void increment(final boolean success, final long ts) {
+            final AtomicLongArray counts = success ? successes : failures;
+            final long slot = ts / resolutionInMs;
+            final int index = (int) (slot % size);
+            final long lap = slot / size;
+            long current;
+            long next;
+            do {
+                current = counts.get(index);
+                final long currentLap = current >>> COUNT_BITS;
+                if (currentLap == lap) {
+                    // saturate instead of overflowing into the lap
+                    next = (current & COUNT_MASK) == COUNT_MASK ? current : current + 1;
+                } else if (currentLap < lap) {
+                    next = (lap << COUNT_BITS) | 1L;
+                } else {
+                    // the slot of the measurement was already evicted from the ring
+                    return;
+                }
+            } while (!counts.compareAndSet(index, current, next));
+        }
+
+        private long sum(final boolean success, final long now) {
+            final AtomicLongArray counts = success ? successes : failures;
+            // sum up the slots after the one where the window starts up to the current slot
+            final long min = (now - windowInMs) / resolutionInMs;
+            final long max = now / resolutionInMs;
+            long sum = 0;
+            for (long slot = min + 1; slot <= max; ++slot) {
+                final long value = counts.get((int) (slot % size));
+                if (value >>> COUNT_BITS == slot / size) {
+                    sum += value & COUNT_MASK;
+                }
+            }
+            return sum;
+        }
+
+        private void reset() {
+            for (int i = 0; i < size; ++i) {
+                successes.set(i, 0L);
+                failures.set(i, 0L);
+            }
+        }
+
+    }
+
 }
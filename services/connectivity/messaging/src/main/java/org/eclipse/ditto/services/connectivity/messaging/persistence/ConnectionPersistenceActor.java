@@ -55,9 +55,6 @@ import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivit
 import org.eclipse.ditto.services.connectivity.messaging.config.MonitoringConfig;
 import org.eclipse.ditto.services.connectivity.messaging.httppush.HttpPushValidator;
 import org.eclipse.ditto.services.connectivity.messaging.kafka.KafkaValidator;
-import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitor;
-import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitorRegistry;
-import org.eclipse.ditto.services.connectivity.messaging.monitoring.DefaultConnectionMonitorRegistry;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.ConnectionLogger;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.ConnectionLoggerRegistry;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.logs.RetrieveConnectionLogsAggregatorActor;
@@ -76,8 +73,6 @@ import org.eclipse.ditto.services.connectivity.messaging.validation.DittoConnect
 import org.eclipse.ditto.services.connectivity.util.ConnectionLogUtil;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
-import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
-import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
@@ -120,6 +115,8 @@ import akka.routing.Pool;
 /**
  * Handles {@code *Connection} commands and manages the persistence of connection. The actual connection handling to the
  * remote server is delegated to a child actor that uses a specific client (AMQP 1.0 or 0.9.1).
+ * The client actors are subscribed for the outbound signals of the connection directly, so that those signals do not
+ * pass the mailbox of this actor.
  */
 public final class ConnectionPersistenceActor
         extends AbstractShardedPersistenceActor<ConnectivityCommand, Connection, ConnectionId, ConnectionState,
@@ -151,11 +148,9 @@ public final class ConnectionPersistenceActor
     @Nullable private ActorRef clientActorRouter;
 
     private final Duration clientActorAskTimeout;
-    private final ConnectionMonitorRegistry<ConnectionMonitor> connectionMonitorRegistry;
 
     private final Duration checkLoggingActiveInterval;
 
-    @Nullable private SignalFilter signalFilter = null;
     @Nullable private Instant loggingEnabledUntil;
     private final Duration loggingEnabledDuration;
     private final ConnectionConfig config;
@@ -203,8 +198,6 @@ public final class ConnectionPersistenceActor
         clientActorAskTimeout = config.getClientActorAskTimeout();
 
         monitoringConfig = connectivityConfig.getMonitoringConfig();
-        connectionMonitorRegistry =
-                DefaultConnectionMonitorRegistry.fromConfig(monitoringConfig);
         final ConnectionLoggerRegistry loggerRegistry =
                 ConnectionLoggerRegistry.fromConfig(monitoringConfig.logger());
         connectionLogger = loggerRegistry.forConnection(connectionId);
@@ -444,9 +437,7 @@ public final class ConnectionPersistenceActor
 
     @Override
     protected void matchAnyAfterInitialization(final Object message) {
-        if (message instanceof Signal) {
-            forwardSignalToClientActors((Signal<?>) message);
-        } else if (message == CheckLoggingActive.INSTANCE) {
+        if (message == CheckLoggingActive.INSTANCE) {
             checkLoggingEnabled();
         } else {
             log.warning("Unknown message: {}", message);
@@ -458,49 +449,19 @@ public final class ConnectionPersistenceActor
         broadcastToClientActorsIfStarted(checkLoggingActive, getSelf());
     }
 
-    private void forwardSignalToClientActors(final Signal<?> signal) {
-        enhanceLogUtil(signal);
-        if (clientActorRouter == null) {
-            logDroppedSignal(signal.getType(), "Client actor not ready.");
-            return;
-        }
-        if (entity == null || signalFilter == null) {
-            logDroppedSignal(signal.getType(), "No Connection or signalFilter configuration available.");
-            return;
-        }
-        if (entityId.toString().equals(signal.getDittoHeaders().getOrigin().orElse(null))) {
-            logDroppedSignal(signal.getType(), "Was sent by myself.");
-            return;
-        }
-
-        final List<Target> subscribedAndAuthorizedTargets = signalFilter.filter(signal);
-        if (subscribedAndAuthorizedTargets.isEmpty()) {
-            logDroppedSignal(signal.getType(), "No subscribed and authorized targets present");
-            return;
-        }
-
-        log.debug("Forwarding signal <{}> to client actor with targets: {}.", signal.getType(),
-                subscribedAndAuthorizedTargets);
-
-        final OutboundSignal outbound = OutboundSignalFactory.newOutboundSignal(signal, subscribedAndAuthorizedTargets);
-        final Object msg = new ConsistentHashingRouter.ConsistentHashableEnvelope(outbound,
-                outbound.getSource().getEntityId().toString());
-        clientActorRouter.tell(msg, getSender());
-    }
-
     private void prepareForSignalForwarding(final StagedCommand command) {
-        if (entity != null) {
-            signalFilter = new SignalFilter(entity, connectionMonitorRegistry);
+        // the client actors filter the signals by the targets of their connection themselves.
+        if (clientActorRouter != null) {
+            // remove previous subscriptions.
+            // with high probability, unnecessary changes won't propagate to other cluster nodes.
+            dittoProtocolSub.removeSubscriber(clientActorRouter);
         }
 
-        // remove previous subscriptions.
-        // with high probability, unnecessary changes won't propagate to other cluster nodes.
-        dittoProtocolSub.removeSubscriber(getSelf());
-
-        if (isDesiredStateOpen()) {
+        if (isDesiredStateOpen() && clientActorRouter != null) {
             startEnabledLoggingChecker();
             updateLoggingIfEnabled();
-            dittoProtocolSub.subscribe(toStreamingTypes(getUniqueTopics(entity)), getTargetAuthSubjects(), getSelf())
+            dittoProtocolSub.subscribe(toStreamingTypes(getUniqueTopics(entity)), getTargetAuthSubjects(),
+                    clientActorRouter)
                     .thenAccept(done -> getSelf().tell(command, ActorRef.noSender()));
         } else {
             interpretStagedCommand(command);
@@ -569,15 +530,6 @@ public final class ConnectionPersistenceActor
                 });
     }
 
-    private void enhanceLogUtil(final WithDittoHeaders<?> createConnection) {
-        ConnectionLogUtil.enhanceLogWithCorrelationIdAndConnectionId(log, createConnection, entityId);
-    }
-
-
-    private void logDroppedSignal(final String type, final String reason) {
-        log.debug("Signal ({}) dropped: {}", type, reason);
-    }
-
     private void retrieveConnectionLogs(final RetrieveConnectionLogs command, final ActorRef sender) {
         this.updateLoggingIfEnabled();
         broadcastCommandWithDifferentSender(command,
@@ -788,7 +740,9 @@ public final class ConnectionPersistenceActor
             final ClusterRouterPoolSettings clusterRouterPoolSettings =
                     new ClusterRouterPoolSettings(clientCount, 1, true,
                             Collections.singleton(CLUSTER_ROLE));
-            final Pool pool = new ConsistentHashingPool(clientCount);
+            // signals are routed by the entity ID so that the signals of one entity are published in order
+            final Pool pool = new ConsistentHashingPool(clientCount)
+                    .withHashMapper(ConnectionPersistenceActor::hashKeyOfSignal);
             final Props clusterRouterPoolProps =
                     new ClusterRouterPool(pool, clusterRouterPoolSettings).props(props);
 
@@ -801,6 +755,11 @@ public final class ConnectionPersistenceActor
         }
     }
 
+    @Nullable
+    private static Object hashKeyOfSignal(final Object message) {
+        return message instanceof Signal ? ((Signal<?>) message).getEntityId().toString() : null;
+    }
+
     private int getClientCount() {
         return entity == null ? 0 : entity.getClientCount();
     }
@@ -54,7 +54,22 @@ final class Thing3ValuePredicateVisitor
      */
     static boolean couldBeTrue(final Criteria criteria, final Set<JsonPointer> unknownFields,
             final Thing partialThing) {
-        return Trilean.FALSE != criteria.accept(new Thing3ValuePredicateVisitor(unknownFields)).apply(partialThing);
+        return couldBeTrue(criteria, unknownFields).test(partialThing);
+    }
+
+    /**
+     * Compile criteria into a predicate evaluating partial things to see whether the criteria could be true.
+     * The predicate is reusable so that it is not necessary to visit the criteria for each partial thing again.
+     *
+     * @param criteria the criteria.
+     * @param unknownFields the set of unknown fields that shall not falsify the criteria evaluation result.
+     * @return the predicate testing whether the criteria may evaluate to true after replacing 'ignoredFields' by
+     * unknown values in a partial thing.
+     */
+    static java.util.function.Predicate<Thing> couldBeTrue(final Criteria criteria,
+            final Set<JsonPointer> unknownFields) {
+        final Function<Thing, Trilean> evaluation = criteria.accept(new Thing3ValuePredicateVisitor(unknownFields));
+        return partialThing -> Trilean.FALSE != evaluation.apply(partialThing);
     }
 
     @Override
@@ -69,23 +84,24 @@ final class Thing3ValuePredicateVisitor
 
     @Override
     public Function<Thing, Trilean> visitExists(final ExistsFieldExpression fieldExpression) {
-        return thing -> isUnknownField(fieldExpression)
-                ? Trilean.UNKNOWN
-                : Trilean.lift(ExistsThingPredicateVisitor.apply(fieldExpression).test(thing));
+        if (isUnknownField(fieldExpression)) {
+            return thing -> Trilean.UNKNOWN;
+        } else {
+            final java.util.function.Predicate<Thing> exists = ExistsThingPredicateVisitor.apply(fieldExpression);
+            return thing -> Trilean.lift(exists.test(thing));
+        }
     }
 
     @Override
     public Function<Thing, Trilean> visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
-        return thing -> {
-            if (isUnknownField(fieldExpression)) {
-                return Trilean.UNKNOWN;
-            } else {
-                final ThingPredicatePredicateVisitor ppVisitor = ThingPredicatePredicateVisitor.getInstance();
-                return Trilean.lift(
-                        FilterThingPredicateVisitor.apply(fieldExpression, predicate.accept(ppVisitor)).test(thing)
-                );
-            }
-        };
+        if (isUnknownField(fieldExpression)) {
+            return thing -> Trilean.UNKNOWN;
+        } else {
+            final ThingPredicatePredicateVisitor ppVisitor = ThingPredicatePredicateVisitor.getInstance();
+            final java.util.function.Predicate<Thing> filter =
+                    FilterThingPredicateVisitor.apply(fieldExpression, predicate.accept(ppVisitor));
+            return thing -> Trilean.lift(filter.test(thing));
+        }
     }
 
     @Override
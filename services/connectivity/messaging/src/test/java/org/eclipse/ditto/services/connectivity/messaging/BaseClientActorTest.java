@@ -13,19 +13,24 @@
 
 package org.eclipse.ditto.services.connectivity.messaging;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionId;
@@ -34,10 +39,12 @@ import org.eclipse.ditto.services.connectivity.messaging.config.DittoConnectivit
 import org.eclipse.ditto.services.connectivity.messaging.internal.ClientConnected;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ClientDisconnected;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionSignalIllegalException;
 import org.eclipse.ditto.signals.commands.connectivity.modify.CloseConnection;
 import org.eclipse.ditto.signals.commands.connectivity.modify.OpenConnection;
+import org.eclipse.ditto.signals.events.things.ThingModifiedEvent;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -48,6 +55,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import akka.Done;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.FSM;
@@ -245,6 +253,116 @@ public final class BaseClientActorTest {
         }};
     }
 
+    @Test
+    public void publishesSignalsToSubscribedAndAuthorizedTargetsOnly() {
+        new TestKit(actorSystem) {{
+            final ConnectionId randomConnectionId = TestConstants.createRandomConnectionId();
+            final Connection connection = TestConstants.createConnection(randomConnectionId);
+            final TestProbe publisherActor = TestProbe.apply(actorSystem);
+            final Props props = DummyClientActor.props(connection, getRef(), publisherActor.ref(), delegate);
+
+            final ActorRef dummyClientActor = watch(actorSystem.actorOf(props));
+
+            whenOpeningConnection(dummyClientActor, OpenConnection.of(randomConnectionId, DittoHeaders.empty()),
+                    getRef());
+            thenExpectConnectClientCalled();
+            andConnectionSuccessful(dummyClientActor, getRef());
+            expectMsg(CONNECTED_STATUS);
+
+            // signals of unauthorized subjects and signals without subscribed targets are dropped
+            final Set<AuthorizationSubject> valid = Collections.singleton(TestConstants.Authorization.SUBJECT);
+            final Set<AuthorizationSubject> invalid =
+                    Collections.singleton(AuthorizationModelFactory.newAuthSubject("iot:user"));
+            dummyClientActor.tell(TestConstants.thingModified(invalid), getRef());
+            dummyClientActor.tell(TestConstants.sendThingMessage(valid), getRef());
+
+            final ThingModifiedEvent thingModified = TestConstants.thingModified(valid);
+            dummyClientActor.tell(thingModified, getRef());
+
+            final OutboundSignal.Mapped mappedSignal = publisherActor.expectMsgClass(OutboundSignal.Mapped.class);
+            assertThat(mappedSignal.getSource()).isEqualTo(thingModified);
+            assertThat(mappedSignal.getTargets().stream().map(Target::getAddress))
+                    .containsExactly(TestConstants.Targets.TWIN_TARGET.getAddress());
+            publisherActor.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void thingEventIsForwardedToFilteredTarget() {
+        new TestKit(actorSystem) {{
+            final ConnectionId randomConnectionId = TestConstants.createRandomConnectionId();
+            final Connection connection =
+                    TestConstants.createConnection(randomConnectionId, TestConstants.Targets.TARGET_WITH_PLACEHOLDER);
+            final TestProbe publisherActor = TestProbe.apply(actorSystem);
+            final Props props = DummyClientActor.props(connection, getRef(), publisherActor.ref(), delegate);
+
+            final ActorRef dummyClientActor = watch(actorSystem.actorOf(props));
+
+            whenOpeningConnection(dummyClientActor, OpenConnection.of(randomConnectionId, DittoHeaders.empty()),
+                    getRef());
+            thenExpectConnectClientCalled();
+            andConnectionSuccessful(dummyClientActor, getRef());
+            expectMsg(CONNECTED_STATUS);
+
+            final ThingModifiedEvent thingModified = TestConstants.thingModified(
+                    Collections.singleton(TestConstants.Authorization.SUBJECT));
+            dummyClientActor.tell(thingModified, getRef());
+
+            // the address still contains the placeholders, they are resolved by the publisher actor
+            final OutboundSignal.Mapped mappedSignal = publisherActor.expectMsgClass(OutboundSignal.Mapped.class);
+            assertThat(mappedSignal.getSource()).isEqualTo(thingModified);
+            assertThat(mappedSignal.getTargets().stream().map(Target::getAddress))
+                    .containsExactly(TestConstants.Targets.TARGET_WITH_PLACEHOLDER.getAddress());
+            publisherActor.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void acknowledgesMappedMessageOnceThePublisherAcceptedIt() {
+        new TestKit(actorSystem) {{
+            final ConnectionId randomConnectionId = TestConstants.createRandomConnectionId();
+            final Connection connection = TestConstants.createConnection(randomConnectionId);
+            final TestProbe publisherActor = TestProbe.apply(actorSystem);
+            final Props props = DummyClientActor.props(connection, getRef(), publisherActor.ref(), delegate);
+            final ActorRef dummyClientActor = watch(actorSystem.actorOf(props));
+            final TestKit origin = new TestKit(actorSystem);
+            final OutboundSignal.Mapped mappedSignal = Mockito.mock(OutboundSignal.Mapped.class);
+
+            dummyClientActor.tell(new BaseClientActor.PublishMappedMessage(mappedSignal, origin.getRef(), true),
+                    getRef());
+
+            // the publisher actor gets the signal from its origin, which it sends errors to
+            publisherActor.expectMsg(mappedSignal);
+            assertThat(publisherActor.lastSender()).isEqualTo(origin.getRef());
+            publisherActor.expectMsg(BasePublisherActor.AcknowledgeAccepted.INSTANCE);
+            expectNoMessage();
+
+            publisherActor.reply(Done.getInstance());
+            expectMsg(Done.getInstance());
+        }};
+    }
+
+    @Test
+    public void doesNotAskThePublisherToAcknowledgeMappedMessageIfNotRequested() {
+        new TestKit(actorSystem) {{
+            final ConnectionId randomConnectionId = TestConstants.createRandomConnectionId();
+            final Connection connection = TestConstants.createConnection(randomConnectionId);
+            final TestProbe publisherActor = TestProbe.apply(actorSystem);
+            final Props props = DummyClientActor.props(connection, getRef(), publisherActor.ref(), delegate);
+            final ActorRef dummyClientActor = watch(actorSystem.actorOf(props));
+            final TestKit origin = new TestKit(actorSystem);
+            final OutboundSignal.Mapped mappedSignal = Mockito.mock(OutboundSignal.Mapped.class);
+
+            dummyClientActor.tell(new BaseClientActor.PublishMappedMessage(mappedSignal, origin.getRef(), false),
+                    getRef());
+
+            publisherActor.expectMsg(mappedSignal);
+            assertThat(publisherActor.lastSender()).isEqualTo(origin.getRef());
+            publisherActor.expectNoMessage();
+            expectNoMessage();
+        }};
+    }
+
     @Test
     public void reconnectsInConnectingStateIfNoResponseReceived() {
         new TestKit(actorSystem) {{
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.MappingContext;
+import org.eclipse.ditto.protocoladapter.Adaptable;
+import org.eclipse.ditto.services.connectivity.mapping.AbstractMessageMapper;
+import org.eclipse.ditto.services.connectivity.mapping.DittoMessageMapper;
+import org.eclipse.ditto.services.connectivity.mapping.MappingConfig;
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
+import org.eclipse.ditto.services.connectivity.mapping.MessageMapperConfiguration;
+import org.eclipse.ditto.services.connectivity.mapping.PayloadMapper;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+
+/**
+ * Implementation of {@link MessageMapper} that maps messages in Ditto Protocol and records the sizes of the batches
+ * it maps. The header {@value #BEHAVIOR_HEADER} of an inbound message makes the mapper fail ({@value #FAIL}) or wait
+ * until it is released by {@link #release()} ({@value #AWAIT}).
+ */
+@PayloadMapper(alias = BatchRecordingMessageMapper.ALIAS)
+public final class BatchRecordingMessageMapper extends AbstractMessageMapper {
+
+    static final String ALIAS = "batch-recording";
+
+    /**
+     * The context representing this mapper
+     */
+    static final MappingContext CONTEXT = ConnectivityModelFactory.newMappingContext(ALIAS, Collections.emptyMap());
+
+    static final String BEHAVIOR_HEADER = "batch-recording-behavior";
+    static final String FAIL = "fail";
+    static final String AWAIT = "await";
+
+    private static final List<Integer> BATCH_SIZES = new CopyOnWriteArrayList<>();
+    private static volatile CompletableFuture<Void> awaiting = new CompletableFuture<>();
+    private static volatile CompletableFuture<Void> released = new CompletableFuture<>();
+
+    private final MessageMapper delegate = new DittoMessageMapper();
+
+    /**
+     * Forget the recorded batch sizes and block awaiting messages again.
+     */
+    static void reset() {
+        BATCH_SIZES.clear();
+        awaiting = new CompletableFuture<>();
+        released = new CompletableFuture<>();
+    }
+
+    /**
+     * @return a future completed as soon as a message awaits its release.
+     */
+    static CompletableFuture<Void> awaiting() {
+        return awaiting;
+    }
+
+    /**
+     * Let awaiting messages be mapped.
+     */
+    static void release() {
+        released.complete(null);
+    }
+
+    /**
+     * @return the sizes of the batches mapped by {@link #mapExternalMessages(List)} since the last reset.
+     */
+    static List<Integer> getBatchSizes() {
+        return new ArrayList<>(BATCH_SIZES);
+    }
+
+    @Override
+    public void doConfigure(final MappingConfig mappingConfig, final MessageMapperConfiguration configuration) {
+        // ignore
+    }
+
+    @Override
+    public List<Adaptable> map(final ExternalMessage message) {
+        final String behavior = message.getHeaders().get(BEHAVIOR_HEADER);
+        if (FAIL.equals(behavior)) {
+            throw new IllegalStateException("inbound mapping failed");
+        }
+        if (AWAIT.equals(behavior)) {
+            awaiting.complete(null);
+            released.orTimeout(10, TimeUnit.SECONDS).join();
+        }
+        return delegate.map(message);
+    }
+
+    @Override
+    public List<List<Adaptable>> mapExternalMessages(final List<ExternalMessage> messages) {
+        BATCH_SIZES.add(messages.size());
+        final List<List<Adaptable>> result = new ArrayList<>(messages.size());
+        for (final ExternalMessage message : messages) {
+            result.add(map(message));
+        }
+        return result;
+    }
+
+    @Override
+    public List<ExternalMessage> map(final Adaptable adaptable) {
+        return delegate.map(adaptable);
+    }
+
+}
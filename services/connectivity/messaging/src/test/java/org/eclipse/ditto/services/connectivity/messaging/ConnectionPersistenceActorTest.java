@@ -32,8 +32,6 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.compress.utils.Sets;
 import org.awaitility.Awaitility;
-import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
-import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
@@ -43,13 +41,11 @@ import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidExcept
 import org.eclipse.ditto.model.connectivity.ConnectionId;
 import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
-import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.persistence.ConnectionPersistenceActor;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
-import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.test.Retry;
-import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistence;
 import org.eclipse.ditto.signals.commands.cleanup.CleanupPersistenceResponse;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionNotAccessibleException;
@@ -317,11 +313,10 @@ public final class ConnectionPersistenceActorTest extends WithMockServers {
             probe.expectMsg(openConnection);
             expectMsgClass(OpenConnectionResponse.class);
 
-            // forward signal once
-            underTest.tell(thingModified, getRef());
-            final Object outboundSignal = probe.expectMsgClass(Object.class);
-            assertThat(outboundSignal).isInstanceOf(OutboundSignal.class);
-            // probe.expectMsg(OutboundSignal.class); // does not work for some reason
+            // publish signal once: it is routed to one of the client actors
+            publishTwinEvent(thingModified);
+            final Object signal = probe.expectMsgClass(Object.class);
+            assertThat(signal).isEqualTo(thingModified);
 
             // close connection: at least 1 client actor gets the command; the other may or may not be started.
             underTest.tell(closeConnection, getRef());
@@ -699,35 +694,22 @@ public final class ConnectionPersistenceActorTest extends WithMockServers {
     }
 
     @Test
-    public void testThingEventWithAuthorizedSubjectExpectIsForwarded() {
-        final Set<AuthorizationSubject> valid = Collections.singleton(TestConstants.Authorization.SUBJECT);
-        testForwardThingEvent(true, TestConstants.thingModified(valid));
-    }
-
-    @Test
-    public void testThingEventIsForwardedToFilteredTarget() {
-        final Connection connection = TestConstants.createConnection(connectionId,
-                TestConstants.Targets.TARGET_WITH_PLACEHOLDER);
-
-        // expect that address is still with placeholders (as replacement was moved to MessageMappingProcessorActor
-        final Target expectedTarget = ConnectivityModelFactory.newTarget(TestConstants.Targets.TARGET_WITH_PLACEHOLDER,
-                TestConstants.Targets.TARGET_WITH_PLACEHOLDER.getAddress(), null);
-
-        final CreateConnection createConnection = CreateConnection.of(connection, DittoHeaders.empty());
-        testForwardThingEvent(createConnection, true, thingModified, expectedTarget);
-    }
+    public void testThingEventIsRoutedToClientActorWithoutPassingPersistenceActor() {
+        new TestKit(actorSystem) {{
+            final TestKit probe = new TestKit(actorSystem);
+            final ActorRef underTest =
+                    TestConstants.createConnectionSupervisorActor(connectionId, actorSystem, pubSubMediator,
+                            conciergeForwarder, (connection, conciergeForwarder) -> TestActor.props(probe));
+            watch(underTest);
 
-    @Test
-    public void testThingEventWithUnauthorizedSubjectExpectIsNotForwarded() {
-        final Set<AuthorizationSubject> invalid =
-                Collections.singleton(AuthorizationModelFactory.newAuthSubject("iot:user"));
-        testForwardThingEvent(false, TestConstants.thingModified(invalid));
-    }
+            // create connection
+            underTest.tell(createConnection, getRef());
+            expectMsgClass(Object.class);
 
-    @Test
-    public void testLiveMessageWithAuthorizedSubjectExpectIsNotForwarded() {
-        final Set<AuthorizationSubject> valid = Collections.singleton(TestConstants.Authorization.SUBJECT);
-        testForwardThingEvent(false, TestConstants.sendThingMessage(valid));
+            // the client actor is subscribed and filters the signal by the targets of its connection itself
+            publishTwinEvent(thingModified);
+            probe.expectMsg(thingModified);
+        }};
     }
 
     @Test
@@ -957,37 +939,9 @@ public final class ConnectionPersistenceActorTest extends WithMockServers {
         }};
     }
 
-    private void testForwardThingEvent(final boolean isForwarded, final Signal<?> signal) {
-        testForwardThingEvent(createConnection, isForwarded, signal, TestConstants.Targets.TWIN_TARGET);
-    }
-
-    private void testForwardThingEvent(final CreateConnection createConnection, final boolean isForwarded,
-            final Signal<?> signal, final Target expectedTarget) {
-        new TestKit(actorSystem) {{
-            final TestKit probe = new TestKit(actorSystem);
-            final ActorRef underTest =
-                    TestConstants.createConnectionSupervisorActor(connectionId, actorSystem, pubSubMediator,
-                            conciergeForwarder, (connection, conciergeForwarder) -> TestActor.props(probe));
-            watch(underTest);
-
-            // create connection
-            underTest.tell(createConnection, getRef());
-            expectMsgClass(Object.class);
-
-            underTest.tell(signal, getRef());
-
-            if (isForwarded) {
-                final OutboundSignal unmappedOutboundSignal =
-                        probe.expectMsgClass(OutboundSignal.class);
-                assertThat(unmappedOutboundSignal.getSource()).isEqualTo(signal);
-
-                // check target address only due to live migration
-                assertThat(unmappedOutboundSignal.getTargets().stream().map(Target::getAddress))
-                        .containsExactly(expectedTarget.getAddress());
-            } else {
-                probe.expectNoMessage();
-            }
-        }};
+    private void publishTwinEvent(final ThingModifiedEvent thingEvent) {
+        pubSubMediator.tell(DistPubSubAccess.publish(StreamingType.EVENTS.getDistributedPubSubTopic(), thingEvent),
+                ActorRef.noSender());
     }
 
     private void startSecondActorSystemAndJoinCluster() throws Exception {
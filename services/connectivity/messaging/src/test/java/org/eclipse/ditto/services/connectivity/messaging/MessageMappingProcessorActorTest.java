@@ -66,6 +66,7 @@ import org.eclipse.ditto.protocoladapter.JsonifiableAdaptable;
 import org.eclipse.ditto.protocoladapter.ProtocolFactory;
 import org.eclipse.ditto.services.connectivity.mapping.ConnectivityCachingSignalEnrichmentProvider;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientActor.PublishMappedMessage;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
@@ -86,10 +87,12 @@ import org.mockito.Mockito;
 
 import com.typesafe.config.ConfigValueFactory;
 
+import akka.Done;
 import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.actor.Status;
 import akka.pattern.Patterns;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
@@ -107,6 +110,7 @@ public final class MessageMappingProcessorActorTest {
     private static final String FAULTY_MAPPER = FaultyMessageMapper.ALIAS;
     private static final String ADD_HEADER_MAPPER = AddHeaderMessageMapper.ALIAS;
     private static final String DUPLICATING_MAPPER = DuplicatingMessageMapper.ALIAS;
+    private static final String BATCH_RECORDING_MAPPER = BatchRecordingMessageMapper.ALIAS;
     private static final AuthorizationContext AUTHORIZATION_CONTEXT_WITH_DUPLICATES =
             TestConstants.Authorization.withUnprefixedSubjects(AUTHORIZATION_CONTEXT);
 
@@ -752,6 +756,102 @@ public final class MessageMappingProcessorActorTest {
         }};
     }
 
+    @Test
+    public void testInboundMessagesArrivingWhileMappingIsBusyAreMappedTogether() throws Exception {
+        TestKit.shutdownActorSystem(actorSystem);
+        actorSystem = ActorSystem.create("AkkaTestSystemWithBatching", TestConstants.CONFIG
+                .withValue("ditto.connectivity.mapping.max-batch-size", ConfigValueFactory.fromAnyRef(10)));
+        disableLogging(actorSystem);
+        protocolAdapterProvider = ProtocolAdapterProvider.load(TestConstants.PROTOCOL_CONFIG, actorSystem);
+        BatchRecordingMessageMapper.reset();
+
+        new TestKit(actorSystem) {{
+            // a single mapping slot
+            final ActorRef messageMappingProcessorActor = actorSystem.actorOf(
+                    MessageMappingProcessorActor.props(getRef(), getRef(), getMessageMappingProcessor(),
+                            CONNECTION_ID, 1));
+            final List<TestKit> ackRecipients = Arrays.asList(new TestKit(actorSystem), new TestKit(actorSystem),
+                    new TestKit(actorSystem), new TestKit(actorSystem));
+            final List<String> behaviors = Arrays.asList(BatchRecordingMessageMapper.AWAIT, null,
+                    BatchRecordingMessageMapper.FAIL, null);
+
+            // the first message occupies the mapping slot until it is released
+            messageMappingProcessorActor.tell(batchRecordingMessage(behaviors.get(0)), ackRecipients.get(0).getRef());
+            BatchRecordingMessageMapper.awaiting().get(10L, TimeUnit.SECONDS);
+            for (int i = 1; i < behaviors.size(); ++i) {
+                messageMappingProcessorActor.tell(batchRecordingMessage(behaviors.get(i)),
+                        ackRecipients.get(i).getRef());
+            }
+            expectNoMessage(Duration.ofMillis(500L));
+            BatchRecordingMessageMapper.release();
+
+            // the mapped signals and the error response of the failed message
+            final List<Object> received = receiveN(4);
+            assertThat(received).filteredOn(ModifyAttribute.class::isInstance).hasSize(3);
+            assertThat(received).filteredOn(PublishMappedMessage.class::isInstance)
+                    .hasSize(1)
+                    .allSatisfy(error -> assertThat(((PublishMappedMessage) error).getOutboundSignal().getSource())
+                            .isInstanceOf(ThingErrorResponse.class));
+
+            // the messages arriving meanwhile were mapped together; each message is acknowledged to its sender
+            assertThat(BatchRecordingMessageMapper.getBatchSizes()).containsExactly(3);
+            ackRecipients.forEach(ackRecipient -> ackRecipient.expectMsg(new Status.Success(Done.getInstance())));
+        }};
+    }
+
+    @Test
+    public void outboundSignalsAreNotDroppedWhileABackpressuringPublisherIsBusy() {
+        TestKit.shutdownActorSystem(actorSystem);
+        actorSystem = ActorSystem.create("AkkaTestSystemWithOnePendingPublication", TestConstants.CONFIG
+                .withValue("ditto.connectivity.mapping.max-pending-publications", ConfigValueFactory.fromAnyRef(1)));
+        disableLogging(actorSystem);
+        protocolAdapterProvider = ProtocolAdapterProvider.load(TestConstants.PROTOCOL_CONFIG, actorSystem);
+
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(
+                    MessageMappingProcessorActor.props(getRef(), getRef(), getMessageMappingProcessor(),
+                            CONNECTION_ID, 99, true));
+            final Target target = ConnectivityModelFactory.newTargetBuilder()
+                    .address("target/address")
+                    .authorizationContext(AUTHORIZATION_CONTEXT)
+                    .topics(Topic.TWIN_EVENTS)
+                    .build();
+            final int signals = 5;
+            for (int i = 0; i < signals; ++i) {
+                final Signal<?> signal = TestConstants.thingModified(Collections.emptyList());
+                underTest.tell(OutboundSignalFactory.newOutboundSignal(signal, Collections.singletonList(target)),
+                        getRef());
+            }
+
+            // the busy publisher accepts one message at a time, the other messages wait in the mapping stream
+            for (int i = 0; i < signals; ++i) {
+                final PublishMappedMessage publishMappedMessage = expectMsgClass(PublishMappedMessage.class);
+                assertThat(publishMappedMessage.isAcknowledgementRequested()).isTrue();
+                expectNoMessage(Duration.ofMillis(200L));
+                reply(Done.getInstance());
+            }
+            expectNoMessage();
+        }};
+    }
+
+    private static AcknowledgeableMessage batchRecordingMessage(@Nullable final String behavior) {
+        final ModifyAttribute modifyCommand = createModifyAttributeCommand();
+        final Map<String, String> headers = new HashMap<>(modifyCommand.getDittoHeaders());
+        if (null != behavior) {
+            headers.put(BatchRecordingMessageMapper.BEHAVIOR_HEADER, behavior);
+        }
+        return AcknowledgeableMessage.of(ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withText(ProtocolFactory
+                        .wrapAsJsonifiableAdaptable(DITTO_PROTOCOL_ADAPTER.toAdaptable(modifyCommand))
+                        .toJsonString())
+                .withAuthorizationContext(AUTHORIZATION_CONTEXT)
+                .withPayloadMapping(ConnectivityModelFactory.newPayloadMapping(BATCH_RECORDING_MAPPER))
+                .withInternalHeaders(DittoHeaders.newBuilder()
+                        .replyTarget(0)
+                        .build())
+                .build());
+    }
+
     private ActorRef createMessageMappingProcessorActor(final TestKit kit) {
         final Props props =
                 MessageMappingProcessorActor.props(kit.getRef(), kit.getRef(), getMessageMappingProcessor(),
@@ -764,6 +864,7 @@ public final class MessageMappingProcessorActorTest {
         mappingDefinitions.put(FAULTY_MAPPER, FaultyMessageMapper.CONTEXT);
         mappingDefinitions.put(ADD_HEADER_MAPPER, AddHeaderMessageMapper.CONTEXT);
         mappingDefinitions.put(DUPLICATING_MAPPER, DuplicatingMessageMapper.CONTEXT);
+        mappingDefinitions.put(BATCH_RECORDING_MAPPER, BatchRecordingMessageMapper.CONTEXT);
         final PayloadMappingDefinition payloadMappingDefinition =
                 ConnectivityModelFactory.newPayloadMappingDefinition(mappingDefinitions);
         final DittoDiagnosticLoggingAdapter logger = Mockito.mock(DittoDiagnosticLoggingAdapter.class);
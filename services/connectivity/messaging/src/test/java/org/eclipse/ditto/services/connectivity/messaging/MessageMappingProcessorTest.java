@@ -76,6 +76,7 @@ public final class MessageMappingProcessorTest {
     private static final String DROPPING_MAPPER = "dropping";
     private static final String FAILING_MAPPER = "faulty";
     private static final String DUPLICATING_MAPPER = "duplicating";
+    private static final String BATCH_RECORDING_MAPPER = "batch-recording";
 
     private static ActorSystem actorSystem;
     private static ConnectivityConfig connectivityConfig;
@@ -129,6 +130,8 @@ public final class MessageMappingProcessorTest {
         final MappingContext duplicatingMappingContext =
                 ConnectivityModelFactory.newMappingContext(DuplicatingMessageMapper.ALIAS, duplicatingMapperHeaders);
         mappings.put(DUPLICATING_MAPPER, duplicatingMappingContext);
+        mappings.put(BATCH_RECORDING_MAPPER, BatchRecordingMessageMapper.CONTEXT);
+        BatchRecordingMessageMapper.reset();
 
         final PayloadMappingDefinition payloadMappingDefinition =
                 ConnectivityModelFactory.newPayloadMappingDefinition(mappings);
@@ -284,6 +287,80 @@ public final class MessageMappingProcessorTest {
         testInbound(message, 0, 1, 0);
     }
 
+    @Test
+    public void testInboundBatchIsMappedTogether() {
+        final List<ExternalMessage> messages = Arrays.asList(
+                inboundMessage(Collections.emptyMap(), BATCH_RECORDING_MAPPER),
+                inboundMessage(Collections.emptyMap(), BATCH_RECORDING_MAPPER),
+                inboundMessage(Collections.emptyMap(), BATCH_RECORDING_MAPPER));
+
+        final List<MappingResultHandler<MappedInboundExternalMessage, Void>> handlers = processInbound(messages);
+
+        assertThat(BatchRecordingMessageMapper.getBatchSizes()).containsExactly(3);
+        handlers.forEach(handler -> verifyInbound(handler, 1, 0, 0));
+    }
+
+    @Test
+    public void testInboundBatchIsMappedMessageByMessageIfBatchFails() {
+        final List<ExternalMessage> messages = Arrays.asList(
+                inboundMessage(Collections.emptyMap(), BATCH_RECORDING_MAPPER),
+                inboundMessage(Collections.singletonMap(BatchRecordingMessageMapper.BEHAVIOR_HEADER,
+                        BatchRecordingMessageMapper.FAIL), BATCH_RECORDING_MAPPER),
+                inboundMessage(Collections.emptyMap(), BATCH_RECORDING_MAPPER));
+
+        final List<MappingResultHandler<MappedInboundExternalMessage, Void>> handlers = processInbound(messages);
+
+        // the batch failed as a whole, only the failed message reports the failure
+        assertThat(BatchRecordingMessageMapper.getBatchSizes()).containsExactly(3);
+        verifyInbound(handlers.get(0), 1, 0, 0);
+        verifyInbound(handlers.get(1), 0, 0, 1);
+        verifyInbound(handlers.get(2), 1, 0, 0);
+    }
+
+    @Test
+    public void testInboundBatchWithDifferentMappers() {
+        final List<ExternalMessage> messages = Arrays.asList(
+                inboundMessage(Collections.emptyMap(), DITTO_MAPPER),
+                inboundMessage(Collections.emptyMap(), DROPPING_MAPPER),
+                inboundMessage(Collections.emptyMap(), BATCH_RECORDING_MAPPER),
+                inboundMessage(Collections.emptyMap(), FAILING_MAPPER),
+                inboundMessage(Collections.emptyMap(), DITTO_MAPPER, DUPLICATING_MAPPER),
+                inboundMessage(Collections.emptyMap(), BATCH_RECORDING_MAPPER));
+
+        final List<MappingResultHandler<MappedInboundExternalMessage, Void>> handlers = processInbound(messages);
+
+        // messages resolving the same mappers are mapped together
+        assertThat(BatchRecordingMessageMapper.getBatchSizes()).containsExactly(2);
+        verifyInbound(handlers.get(0), 1, 0, 0);
+        verifyInbound(handlers.get(1), 0, 1, 0);
+        verifyInbound(handlers.get(2), 1, 0, 0);
+        verifyInbound(handlers.get(3), 0, 0, 1);
+        verifyInbound(handlers.get(4), 3, 0, 0);
+        verifyInbound(handlers.get(5), 1, 0, 0);
+    }
+
+    @Test
+    public void testInboundBatchDropsMessagesOfBlacklistedContentType() {
+        final List<ExternalMessage> messages = Arrays.asList(
+                inboundMessage(Collections.singletonMap(ExternalMessage.CONTENT_TYPE_HEADER,
+                        "application/custom-json"), DUPLICATING_MAPPER),
+                inboundMessage(Collections.emptyMap(), DUPLICATING_MAPPER));
+
+        final List<MappingResultHandler<MappedInboundExternalMessage, Void>> handlers = processInbound(messages);
+
+        verifyInbound(handlers.get(0), 0, 1, 0);
+        verifyInbound(handlers.get(1), 2, 0, 0);
+    }
+
+    @Test
+    public void testInboundBatchOfOneMessageIsMappedOnItsOwn() {
+        final List<MappingResultHandler<MappedInboundExternalMessage, Void>> handlers = processInbound(
+                Collections.singletonList(inboundMessage(Collections.emptyMap(), BATCH_RECORDING_MAPPER)));
+
+        assertThat(BatchRecordingMessageMapper.getBatchSizes()).isEmpty();
+        verifyInbound(handlers.get(0), 1, 0, 0);
+    }
+
     private static Target targetWithMapping(final String... mappings) {
         return ConnectivityModelFactory.newTargetBuilder(TestConstants.Targets.TWIN_TARGET)
                 .address(UUID.randomUUID().toString())
@@ -344,19 +421,47 @@ public final class MessageMappingProcessorTest {
             final MappingResultHandler<MappedInboundExternalMessage, Void> mock =
                     Mockito.mock(MappingResultHandler.class);
             underTest.process(externalMessage, mock);
-            final ArgumentCaptor<MappedInboundExternalMessage> captor =
-                    ArgumentCaptor.forClass(MappedInboundExternalMessage.class);
-            verify(mock, times(mapped)).onMessageMapped(captor.capture());
-            verify(mock, times(failed)).onException(any(Exception.class));
-            verify(mock, times(dropped)).onMessageDropped();
-
-            assertThat(captor.getAllValues()).allSatisfy(mapped -> {
-                assertThat(mapped.getSignal().getDittoHeaders()).containsEntry(
-                        DittoHeaderDefinition.CORRELATION_ID.getKey(),
-                        TestConstants.CORRELATION_ID);
-                assertThat((Object) mapped.getSignal().getEntityId()).isEqualTo(TestConstants.Things.THING_ID);
-                assertThat(mapped.getSignal()).isInstanceOf(ModifyThing.class);
-            });
+            verifyInbound(mock, mapped, dropped, failed);
         }};
     }
+
+    private List<MappingResultHandler<MappedInboundExternalMessage, Void>> processInbound(
+            final List<ExternalMessage> messages) {
+
+        final List<MappingResultHandler<MappedInboundExternalMessage, Void>> handlers = messages.stream()
+                .map(message -> {
+                    @SuppressWarnings("unchecked")
+                    final MappingResultHandler<MappedInboundExternalMessage, Void> handler =
+                            Mockito.mock(MappingResultHandler.class);
+                    return handler;
+                })
+                .collect(Collectors.toList());
+        assertThat(underTest.process(messages, handlers)).hasSize(messages.size());
+        return handlers;
+    }
+
+    private static ExternalMessage inboundMessage(final Map<String, String> headers, final String... mappers) {
+        return ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withText(TestConstants.modifyThing())
+                .withPayloadMapping(ConnectivityModelFactory.newPayloadMapping(mappers))
+                .build();
+    }
+
+    private static void verifyInbound(final MappingResultHandler<MappedInboundExternalMessage, Void> handler,
+            final int mapped, final int dropped, final int failed) {
+
+        final ArgumentCaptor<MappedInboundExternalMessage> captor =
+                ArgumentCaptor.forClass(MappedInboundExternalMessage.class);
+        verify(handler, times(mapped)).onMessageMapped(captor.capture());
+        verify(handler, times(failed)).onException(any(Exception.class));
+        verify(handler, times(dropped)).onMessageDropped();
+
+        assertThat(captor.getAllValues()).allSatisfy(mappedMessage -> {
+            assertThat(mappedMessage.getSignal().getDittoHeaders()).containsEntry(
+                    DittoHeaderDefinition.CORRELATION_ID.getKey(),
+                    TestConstants.CORRELATION_ID);
+            assertThat((Object) mappedMessage.getSignal().getEntityId()).isEqualTo(TestConstants.Things.THING_ID);
+            assertThat(mappedMessage.getSignal()).isInstanceOf(ModifyThing.class);
+        });
+    }
 }
\ No newline at end of file
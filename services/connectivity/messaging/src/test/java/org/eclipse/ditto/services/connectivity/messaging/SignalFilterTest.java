@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.connectivity.messaging.persistence;
+package org.eclipse.ditto.services.connectivity.messaging;
 
 import static java.util.Collections.emptyList;
 import static org.eclipse.ditto.model.base.auth.AuthorizationModelFactory.newAuthContext;
@@ -49,7 +49,6 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.protocoladapter.TopicPath;
-import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitorRegistry;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.messages.SendThingMessage;
@@ -68,10 +67,14 @@ public final class SignalFilterTest {
     private static final AuthorizationSubject AUTHORIZED = newAuthSubject("authorized");
     private static final AuthorizationSubject UNAUTHORIZED = newAuthSubject("unauthorized");
     private static final AuthorizationSubject DUMMY = newAuthSubject("dummy");
+    private static final String NAMESPACE = "org.eclipse.ditto";
+    private static final String OTHER_NAMESPACE = "org.eclipse.other";
+    private static final Set<AuthorizationSubject> NOT_REVOKED = Collections.emptySet();
     private static final HeaderMapping HEADER_MAPPING =
             ConnectivityModelFactory.newHeaderMapping(Collections.singletonMap("reply-to", "{{fn:delete()}}"));
 
-    @Parameterized.Parameters(name = "topic={0}, readSubjects={1}, configuredTargets={2}, expectedTargets={3}")
+    @Parameterized.Parameters(name = "topic={0}, readSubjects={1}, configuredTargets={2}, expectedTargets={3}, " +
+            "revokedSubjects={4}")
     public static Collection<Object[]> data() {
 
         final Set<AuthorizationSubject> readSubjects =
@@ -126,28 +129,106 @@ public final class SignalFilterTest {
                         .build())
                 .build();
 
+        final Target twinInNamespace = ConnectivityModelFactory.newTargetBuilder(twinAuthd)
+                .address("twin/namespace")
+                .topics(ConnectivityModelFactory.newFilteredTopicBuilder(TWIN_EVENTS)
+                        .withNamespaces(Lists.list(NAMESPACE))
+                        .build())
+                .build();
+        final Target twinInOtherNamespace = ConnectivityModelFactory.newTargetBuilder(twinAuthd)
+                .address("twin/otherNamespace")
+                .topics(ConnectivityModelFactory.newFilteredTopicBuilder(TWIN_EVENTS)
+                        .withNamespaces(Lists.list(OTHER_NAMESPACE))
+                        .build())
+                .build();
+        final Target twinInBothNamespaces = ConnectivityModelFactory.newTargetBuilder(twinAuthd)
+                .address("twin/bothNamespaces")
+                .topics(ConnectivityModelFactory.newFilteredTopicBuilder(TWIN_EVENTS)
+                        .withNamespaces(Lists.list(OTHER_NAMESPACE, NAMESPACE))
+                        .build())
+                .build();
+        final Target twinInOtherNamespaceLiveInAll = ConnectivityModelFactory.newTargetBuilder(twinAuthd)
+                .address("twinOtherNamespace/liveAll")
+                .topics(ConnectivityModelFactory.newFilteredTopicBuilder(TWIN_EVENTS)
+                                .withNamespaces(Lists.list(OTHER_NAMESPACE))
+                                .build(),
+                        ConnectivityModelFactory.newFilteredTopicBuilder(LIVE_EVENTS).build(),
+                        ConnectivityModelFactory.newFilteredTopicBuilder(LIVE_MESSAGES)
+                                .withNamespaces(Lists.list(NAMESPACE))
+                                .build())
+                .build();
+        final Target allTopics = ConnectivityModelFactory.newTargetBuilder()
+                .address("all/authorized")
+                .authorizationContext(newAuthContext(AUTHORIZED))
+                .headerMapping(HEADER_MAPPING)
+                .topics(TWIN_EVENTS, LIVE_EVENTS, LIVE_MESSAGES, LIVE_COMMANDS)
+                .build();
+
         final Collection<Object[]> params = new ArrayList<>();
 
-        params.add(new Object[]{TWIN_EVENTS, readSubjects, Lists.list(twinAuthd), Lists.list(twinAuthd)});
-        params.add(new Object[]{TWIN_EVENTS, readSubjects, Lists.list(twinAuthd, twinUnauthd), Lists.list(twinAuthd)});
+        params.add(new Object[]{TWIN_EVENTS, readSubjects, Lists.list(twinAuthd), Lists.list(twinAuthd), NOT_REVOKED});
+        params.add(new Object[]{TWIN_EVENTS, readSubjects, Lists.list(twinAuthd, twinUnauthd), Lists.list(twinAuthd),
+                NOT_REVOKED});
         params.add(new Object[]{TWIN_EVENTS, readSubjects, Lists.list(twinAuthd, twinUnauthd, liveAuthd),
-                Lists.list(twinAuthd)});
+                Lists.list(twinAuthd), NOT_REVOKED});
         params.add(new Object[]{TWIN_EVENTS, readSubjects, Lists.list(twinAuthd, twinUnauthd, liveAuthd, liveUnauthd),
-                Lists.list(twinAuthd)});
+                Lists.list(twinAuthd), NOT_REVOKED});
         params.add(new Object[]{TWIN_EVENTS, readSubjects,
                 Lists.list(enrichedFiltered, enrichedNotFiltered1, enrichedNotFiltered2),
-                Lists.list(enrichedFiltered)});
+                Lists.list(enrichedFiltered), NOT_REVOKED});
 
-        params.add(new Object[]{LIVE_EVENTS, readSubjects, Lists.list(twinAuthd), emptyList()});
-        params.add(new Object[]{LIVE_EVENTS, readSubjects, Lists.list(twinAuthd, twinUnauthd), emptyList()});
+        params.add(new Object[]{LIVE_EVENTS, readSubjects, Lists.list(twinAuthd), emptyList(), NOT_REVOKED});
+        params.add(new Object[]{LIVE_EVENTS, readSubjects, Lists.list(twinAuthd, twinUnauthd), emptyList(),
+                NOT_REVOKED});
         params.add(new Object[]{LIVE_EVENTS, readSubjects, Lists.list(twinAuthd, twinUnauthd, liveAuthd),
-                Lists.list(liveAuthd)});
+                Lists.list(liveAuthd), NOT_REVOKED});
         params.add(new Object[]{LIVE_EVENTS, readSubjects, Lists.list(twinAuthd, twinUnauthd, liveAuthd, liveUnauthd),
-                Lists.list(liveAuthd)});
+                Lists.list(liveAuthd), NOT_REVOKED});
 
         params.add(new Object[]{LIVE_MESSAGES, readSubjects,
                 Lists.list(twinAuthd, twinUnauthd, liveAuthd, liveUnauthd),
-                Lists.list(twinAuthd, liveAuthd)});
+                Lists.list(twinAuthd, liveAuthd), NOT_REVOKED});
+
+        // targets restricted to namespaces mixed with targets subscribed for all namespaces
+        params.add(new Object[]{TWIN_EVENTS, readSubjects,
+                Lists.list(twinInOtherNamespace, twinAuthd, twinInNamespace, twinInBothNamespaces),
+                Lists.list(twinAuthd, twinInNamespace, twinInBothNamespaces), NOT_REVOKED});
+        params.add(new Object[]{TWIN_EVENTS, readSubjects, Lists.list(twinInOtherNamespace), emptyList(),
+                NOT_REVOKED});
+        params.add(new Object[]{TWIN_EVENTS, readSubjects,
+                Lists.list(twinInNamespace, twinUnauthd, twinInOtherNamespace),
+                Lists.list(twinInNamespace), NOT_REVOKED});
+
+        // one target with several topics, each in its own namespaces
+        params.add(new Object[]{TWIN_EVENTS, readSubjects, Lists.list(twinInOtherNamespaceLiveInAll, twinAuthd),
+                Lists.list(twinAuthd), NOT_REVOKED});
+        params.add(new Object[]{LIVE_EVENTS, readSubjects, Lists.list(twinInOtherNamespaceLiveInAll, twinAuthd),
+                Lists.list(twinInOtherNamespaceLiveInAll), NOT_REVOKED});
+        params.add(new Object[]{LIVE_MESSAGES, readSubjects, Lists.list(twinInOtherNamespaceLiveInAll, twinAuthd),
+                Lists.list(twinInOtherNamespaceLiveInAll, twinAuthd), NOT_REVOKED});
+        for (final Topic topic : new Topic[]{TWIN_EVENTS, LIVE_EVENTS, LIVE_MESSAGES, LIVE_COMMANDS}) {
+            params.add(new Object[]{topic, readSubjects, Lists.list(liveUnauthd, allTopics),
+                    Lists.list(allTopics), NOT_REVOKED});
+        }
+
+        // topics without any subscribed target
+        params.add(new Object[]{LIVE_COMMANDS, readSubjects, Lists.list(twinAuthd, liveAuthd), emptyList(),
+                NOT_REVOKED});
+        params.add(new Object[]{LIVE_EVENTS, readSubjects, Lists.list(twinInNamespace, twinInOtherNamespace),
+                emptyList(), NOT_REVOKED});
+        params.add(new Object[]{TWIN_EVENTS, readSubjects, Lists.list(liveAuthd, liveUnauthd), emptyList(),
+                NOT_REVOKED});
+
+        // a subject which is granted but also revoked does not authorize a target
+        params.add(new Object[]{TWIN_EVENTS, readSubjects, Lists.list(twinAuthd, liveAuthd, allTopics),
+                emptyList(), Sets.newSet(AUTHORIZED)});
+        params.add(new Object[]{LIVE_MESSAGES, Sets.newSet(AUTHORIZED, DUMMY), Lists.list(twinAuthd, liveAuthd),
+                emptyList(), Sets.newSet(AUTHORIZED)});
+        params.add(new Object[]{LIVE_MESSAGES, Sets.newSet(AUTHORIZED, DUMMY),
+                Lists.list(twinAuthd, twinUnauthd, allTopics),
+                Lists.list(twinAuthd, allTopics), Sets.newSet(UNAUTHORIZED)});
+        params.add(new Object[]{LIVE_MESSAGES, readSubjects, Lists.list(twinAuthd, liveAuthd),
+                Lists.list(twinAuthd, liveAuthd), Sets.newSet(newAuthSubject("ditto"))});
 
         // subject "ditto" is not authorized to read any signal
         addAllCombinationsExpectingEmptyResult(params,
@@ -179,6 +260,8 @@ public final class SignalFilterTest {
     public List<Target> targets;
     @Parameterized.Parameter(3)
     public List<Target> expectedTargets;
+    @Parameterized.Parameter(4)
+    public Set<AuthorizationSubject> revokedSubjects;
 
     private final ConnectionMonitorRegistry connectionMonitorRegistry = TestConstants.Monitoring.MONITOR_REGISTRY_MOCK;
 
@@ -191,7 +274,7 @@ public final class SignalFilterTest {
                         URI).targets(targets).build();
 
         final SignalFilter signalFilter = new SignalFilter(connection, connectionMonitorRegistry);
-        final List<Target> filteredTargets = signalFilter.filter(signal(signalTopic, readSubjects));
+        final List<Target> filteredTargets = signalFilter.filter(signal(signalTopic, readSubjects, revokedSubjects));
         Assertions.assertThat(filteredTargets)
                 .isEqualTo(expectedTargets);
     }
@@ -206,7 +289,7 @@ public final class SignalFilterTest {
             for (final Set subject : subjects) {
                 final Set<Set> targetCombinations = getCombinations(targets, new HashSet<>());
                 for (final Set target : targetCombinations) {
-                    params.add(new Object[]{topic, subject, new ArrayList<>(target), emptyList()});
+                    params.add(new Object[]{topic, subject, new ArrayList<>(target), emptyList(), NOT_REVOKED});
                 }
             }
         }
@@ -228,14 +311,17 @@ public final class SignalFilterTest {
         return result;
     }
 
-    private static Signal<?> signal(final Topic topic, final Collection<AuthorizationSubject> readSubjects) {
-        final ThingId thingId = ThingId.of("org.eclipse.ditto:myThing");
+    private static Signal<?> signal(final Topic topic, final Collection<AuthorizationSubject> readSubjects,
+            final Collection<AuthorizationSubject> revokedSubjects) {
+
+        final ThingId thingId = ThingId.of(NAMESPACE, "myThing");
         final Thing thing = ThingsModelFactory.newThingBuilder().setId(thingId)
                 .setAttribute(JsonPointer.of("x"), JsonValue.of(5))
                 .build();
 
         final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
                 .readGrantedSubjects(readSubjects)
+                .readRevokedSubjects(revokedSubjects)
                 .build();
 
         final ThingModified thingModified = ThingModified.of(thing, 1L, dittoHeaders);
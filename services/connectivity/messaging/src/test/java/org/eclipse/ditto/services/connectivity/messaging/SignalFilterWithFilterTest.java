@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.services.connectivity.messaging.persistence;
+package org.eclipse.ditto.services.connectivity.messaging;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.model.base.auth.AuthorizationModelFactory.newAuthContext;
@@ -36,13 +36,12 @@ import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.protocoladapter.TopicPath;
-import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.services.connectivity.messaging.monitoring.ConnectionMonitorRegistry;
 import org.eclipse.ditto.signals.events.things.ThingModified;
 import org.junit.Test;
 
 /**
- * Tests {@link org.eclipse.ditto.services.connectivity.messaging.persistence.SignalFilter} for filtering with namespace + RQL filter.
+ * Tests {@link org.eclipse.ditto.services.connectivity.messaging.SignalFilter} for filtering with namespace + RQL filter.
  */
 public final class SignalFilterWithFilterTest {
 
@@ -26,7 +26,9 @@ import javax.jms.JMSException;
 import javax.jms.JMSRuntimeException;
 import javax.jms.MessageConsumer;
 
+import org.apache.qpid.jms.JmsMessageConsumer;
 import org.apache.qpid.jms.message.JmsMessage;
+import org.apache.qpid.jms.message.JmsMessageSupport;
 import org.apache.qpid.jms.provider.amqp.AmqpConnection;
 import org.apache.qpid.jms.provider.amqp.message.AmqpJmsTextMessageFacade;
 import org.apache.qpid.proton.amqp.Symbol;
@@ -44,6 +46,8 @@ import org.eclipse.ditto.services.connectivity.messaging.AbstractConsumerActorTe
 import org.eclipse.ditto.services.connectivity.messaging.MessageMappingProcessor;
 import org.eclipse.ditto.services.connectivity.messaging.MessageMappingProcessorActor;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.amqp.status.ConsumerClosedStatusReport;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
@@ -51,10 +55,17 @@ import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.Done;
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.actor.Status;
 import akka.event.LoggingAdapter;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
@@ -65,6 +76,8 @@ import akka.testkit.javadsl.TestKit;
 public final class AmqpConsumerActorTest extends AbstractConsumerActorTest<JmsMessage> {
 
     private static final ConnectionId CONNECTION_ID = ConnectionId.of("connection");
+    private static final long VERIFY_TIMEOUT_MILLIS = 5_000L;
+    private static final long NO_INTERACTION_MILLIS = 300L;
 
     @Override
     protected Props getConsumerActorProps(final ActorRef mappingActor, final PayloadMapping payloadMapping) {
@@ -160,6 +173,166 @@ public final class AmqpConsumerActorTest extends AbstractConsumerActorTest<JmsMe
         }};
     }
 
+    @Test
+    public void messageIsAcknowledgedAfterItWasProcessed() throws JMSException {
+        final ActorSystem system = createActorSystemWithDeferredAcknowledgement();
+        try {
+            new TestKit(system) {{
+                final TestKit mappingActor = new TestKit(system);
+                final ActorRef underTest = system.actorOf(deferredAcknowledgementProps(
+                        Mockito.mock(JmsMessageConsumer.class), mappingActor.getRef(), getRef()));
+                final JmsMessage message = acknowledgeableJmsMessage("cor-processed");
+
+                underTest.tell(message, ActorRef.noSender());
+
+                mappingActor.expectMsgClass(AcknowledgeableMessage.class);
+                Mockito.verify(message, Mockito.after(NO_INTERACTION_MILLIS).never()).acknowledge();
+
+                mappingActor.reply(new Status.Success(Done.getInstance()));
+                Mockito.verify(message, Mockito.timeout(VERIFY_TIMEOUT_MILLIS)).acknowledge();
+                Mockito.verify(message, Mockito.never()).setIntProperty(Mockito.anyString(), Mockito.anyInt());
+            }};
+        } finally {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void messageIsRedeliveredIfItWasNotProcessed() throws JMSException {
+        final ActorSystem system = createActorSystemWithDeferredAcknowledgement();
+        try {
+            new TestKit(system) {{
+                final TestKit mappingActor = new TestKit(system);
+                final ActorRef underTest = system.actorOf(deferredAcknowledgementProps(
+                        Mockito.mock(JmsMessageConsumer.class), mappingActor.getRef(), getRef()));
+                final JmsMessage failedMessage = acknowledgeableJmsMessage("cor-failed");
+                final JmsMessage timedOutMessage = acknowledgeableJmsMessage("cor-timed-out");
+
+                underTest.tell(failedMessage, ActorRef.noSender());
+                mappingActor.expectMsgClass(AcknowledgeableMessage.class);
+                mappingActor.reply(new Status.Failure(new IllegalStateException("expected")));
+                verifyRedelivery(failedMessage);
+
+                // the mapping actor does not answer within the ack timeout
+                underTest.tell(timedOutMessage, ActorRef.noSender());
+                mappingActor.expectMsgClass(AcknowledgeableMessage.class);
+                verifyRedelivery(timedOutMessage);
+            }};
+        } finally {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void messageConsumerIsStoppedWhileTooManyMessagesAreNotAcknowledged() throws JMSException {
+        final ActorSystem system = createActorSystemWithDeferredAcknowledgement();
+        try {
+            new TestKit(system) {{
+                final TestKit mappingActor = new TestKit(system);
+                final JmsMessageConsumer messageConsumer = Mockito.mock(JmsMessageConsumer.class);
+                final ActorRef underTest = system.actorOf(
+                        deferredAcknowledgementProps(messageConsumer, mappingActor.getRef(), getRef()));
+                final JmsMessage message1 = acknowledgeableJmsMessage("cor-1");
+                final JmsMessage message2 = acknowledgeableJmsMessage("cor-2");
+                final JmsMessage message3 = acknowledgeableJmsMessage("cor-3");
+
+                underTest.tell(message1, ActorRef.noSender());
+                mappingActor.expectMsgClass(AcknowledgeableMessage.class);
+                final ActorRef ackRecipient1 = mappingActor.getLastSender();
+                Mockito.verify(messageConsumer, Mockito.after(NO_INTERACTION_MILLIS).never()).stop();
+
+                // max-in-flight is reached
+                underTest.tell(message2, ActorRef.noSender());
+                mappingActor.expectMsgClass(AcknowledgeableMessage.class);
+                Mockito.verify(messageConsumer, Mockito.timeout(VERIFY_TIMEOUT_MILLIS)).stop();
+
+                ackRecipient1.tell(new Status.Success(Done.getInstance()), ActorRef.noSender());
+                Mockito.verify(message1, Mockito.timeout(VERIFY_TIMEOUT_MILLIS)).acknowledge();
+                Mockito.verify(messageConsumer, Mockito.timeout(VERIFY_TIMEOUT_MILLIS)).start();
+
+                underTest.tell(message3, ActorRef.noSender());
+                mappingActor.expectMsgClass(AcknowledgeableMessage.class);
+                Mockito.verify(messageConsumer, Mockito.timeout(VERIFY_TIMEOUT_MILLIS).times(2)).stop();
+            }};
+        } finally {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void acknowledgementsOfMessagesOfAClosedConsumerAreIgnored() throws JMSException {
+        final ActorSystem system = createActorSystemWithDeferredAcknowledgement();
+        try {
+            new TestKit(system) {{
+                final TestKit mappingActor = new TestKit(system);
+                final JmsMessageConsumer closedConsumer = Mockito.mock(JmsMessageConsumer.class);
+                final JmsMessageConsumer recreatedConsumer = Mockito.mock(JmsMessageConsumer.class);
+                final ActorRef underTest = system.actorOf(
+                        deferredAcknowledgementProps(closedConsumer, mappingActor.getRef(), getRef()));
+                final JmsMessage message1 = acknowledgeableJmsMessage("cor-1");
+                final JmsMessage message2 = acknowledgeableJmsMessage("cor-2");
+                final JmsMessage message3 = acknowledgeableJmsMessage("cor-3");
+
+                underTest.tell(message1, ActorRef.noSender());
+                mappingActor.expectMsgClass(AcknowledgeableMessage.class);
+                final ActorRef ackRecipient1 = mappingActor.getLastSender();
+
+                // the consumer is recreated while message1 is in flight
+                underTest.tell(ConsumerClosedStatusReport.get(closedConsumer), ActorRef.noSender());
+                final AmqpConsumerActor.CreateMessageConsumer createMessageConsumer =
+                        expectMsgClass(AmqpConsumerActor.CreateMessageConsumer.class);
+                reply(createMessageConsumer.toResponse(recreatedConsumer));
+                Mockito.verify(recreatedConsumer, Mockito.timeout(VERIFY_TIMEOUT_MILLIS)).setMessageListener(
+                        Mockito.any());
+
+                ackRecipient1.tell(new Status.Success(Done.getInstance()), ActorRef.noSender());
+                Mockito.verify(message1, Mockito.after(NO_INTERACTION_MILLIS).never()).acknowledge();
+
+                // the ignored acknowledgement does not make room for another message in flight
+                underTest.tell(message2, ActorRef.noSender());
+                mappingActor.expectMsgClass(AcknowledgeableMessage.class);
+                Mockito.verify(recreatedConsumer, Mockito.after(NO_INTERACTION_MILLIS).never()).stop();
+                underTest.tell(message3, ActorRef.noSender());
+                mappingActor.expectMsgClass(AcknowledgeableMessage.class);
+                Mockito.verify(recreatedConsumer, Mockito.timeout(VERIFY_TIMEOUT_MILLIS)).stop();
+            }};
+        } finally {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    private static void verifyRedelivery(final JmsMessage message) throws JMSException {
+        Mockito.verify(message, Mockito.timeout(VERIFY_TIMEOUT_MILLIS)).acknowledge();
+        final InOrder inOrder = Mockito.inOrder(message);
+        inOrder.verify(message)
+                .setIntProperty(JmsMessageSupport.JMS_AMQP_ACK_TYPE, JmsMessageSupport.MODIFIED_FAILED);
+        inOrder.verify(message).acknowledge();
+    }
+
+    private static ActorSystem createActorSystemWithDeferredAcknowledgement() {
+        final Config config = ConfigFactory.parseString("ditto.connectivity.connection.amqp10.consumer {\n" +
+                "  max-in-flight = 2\n" +
+                "  ack-timeout = 2s\n" +
+                "}").withFallback(ConfigFactory.load("test"));
+        return ActorSystem.create("AkkaTestSystemWithDeferredAcknowledgement", config);
+    }
+
+    private static Props deferredAcknowledgementProps(final MessageConsumer messageConsumer,
+            final ActorRef mappingActor, final ActorRef jmsActor) {
+        final Source source = ConnectivityModelFactory.newSourceBuilder()
+                .authorizationContext(TestConstants.Authorization.AUTHORIZATION_CONTEXT)
+                .build();
+        return AmqpConsumerActor.props(CONNECTION_ID, consumerData("deferred", messageConsumer, source),
+                mappingActor, jmsActor);
+    }
+
+    private static JmsMessage acknowledgeableJmsMessage(final String correlationId) throws JMSException {
+        final JmsMessage message = Mockito.spy(getJmsMessage("hello world!", correlationId));
+        Mockito.doNothing().when(message).acknowledge();
+        Mockito.doNothing().when(message).setIntProperty(Mockito.anyString(), Mockito.anyInt());
+        return message;
+    }
+
     @SafeVarargs // varargs array is not modified or passed around
     private static JmsMessage getJmsMessage(final String plainPayload, final String correlationId,
             final Map.Entry<String, ?>... headers) {
@@ -111,11 +111,42 @@ public final class DefaultConnectionConfigTest {
                         .as(MqttConfig.MqttConfigValue.SOURCE_BUFFER_SIZE.getConfigPath())
                         .isEqualTo(7));
 
+        softly.assertThat(underTest.getAmqp10Config())
+                .as("amqp10Config")
+                .satisfies(amqp10Config -> {
+                    softly.assertThat(amqp10Config.getConsumerMaxInFlight())
+                            .as(Amqp10Config.Amqp10ConfigValue.CONSUMER_MAX_IN_FLIGHT.getConfigPath())
+                            .isEqualTo(50);
+                    softly.assertThat(amqp10Config.getConsumerAckTimeout())
+                            .as(Amqp10Config.Amqp10ConfigValue.CONSUMER_ACK_TIMEOUT.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(15L));
+                });
+
         softly.assertThat(underTest.getHttpPushConfig())
                 .as("httpPushConfig")
                 .satisfies(httpPushConfig -> softly.assertThat(httpPushConfig.getMaxQueueSize())
                         .as(HttpPushConfig.ConfigValue.MAX_QUEUE_SIZE.getConfigPath())
                         .isEqualTo(9));
+
+        softly.assertThat(underTest.getKafkaConfig())
+                .as("kafkaConfig")
+                .satisfies(kafkaConfig -> {
+                    softly.assertThat(kafkaConfig.getConsumerParallelism())
+                            .as(KafkaConfig.KafkaConfigValue.CONSUMER_PARALLELISM.getConfigPath())
+                            .isEqualTo(4);
+                    softly.assertThat(kafkaConfig.getConsumerAckTimeout())
+                            .as(KafkaConfig.KafkaConfigValue.CONSUMER_ACK_TIMEOUT.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(20L));
+                    softly.assertThat(kafkaConfig.getConsumerMinBackoff())
+                            .as(KafkaConfig.KafkaConfigValue.CONSUMER_MIN_BACKOFF.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(2L));
+                    softly.assertThat(kafkaConfig.getConsumerMaxBackoff())
+                            .as(KafkaConfig.KafkaConfigValue.CONSUMER_MAX_BACKOFF.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(30L));
+                    softly.assertThat(kafkaConfig.getConsumerLagReportInterval())
+                            .as(KafkaConfig.KafkaConfigValue.CONSUMER_LAG_REPORT_INTERVAL.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(5L));
+                });
     }
 
 }
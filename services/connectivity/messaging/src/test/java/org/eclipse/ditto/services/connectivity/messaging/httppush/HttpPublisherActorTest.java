@@ -15,18 +15,22 @@ package org.eclipse.ditto.services.connectivity.messaging.httppush;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.eclipse.ditto.model.base.common.DittoConstants;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractPublisherActorTest;
+import org.eclipse.ditto.services.connectivity.messaging.BasePublisherActor;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.junit.Test;
 
 import com.typesafe.config.ConfigValueFactory;
 
+import akka.Done;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
@@ -93,6 +97,51 @@ public final class HttpPublisherActorTest extends AbstractPublisherActorTest {
         }
     }
 
+    @Test
+    public void messagesAreNotDroppedWhileTheEndpointIsBusy() {
+        final ActorSystem systemWithSmallQueue = ActorSystem.create("systemWithSmallQueue",
+                CONFIG.withValue("ditto.connectivity.connection.http-push.max-queue-size",
+                        ConfigValueFactory.fromAnyRef(1)));
+        final CountDownLatch endpointBusy = new CountDownLatch(1);
+        try {
+            new TestKit(systemWithSmallQueue) {{
+                final TestProbe probe = new TestProbe(systemWithSmallQueue);
+                httpPushFactory = new DummyHttpPushFactory("8.8.4.4", request -> {
+                    probe.ref().tell(request, ActorRef.noSender());
+                    try {
+                        endpointBusy.await(10L, TimeUnit.SECONDS);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return HttpResponse.create().withStatus(StatusCodes.OK);
+                });
+                final ActorRef underTest = childActorOf(getPublisherActorProps());
+                final int messages = 5;
+
+                // WHEN: more messages are published than the queue holds while the endpoint is busy
+                for (int i = 0; i < messages; ++i) {
+                    underTest.tell(getMockOutboundSignal(), getRef());
+                }
+                underTest.tell(BasePublisherActor.AcknowledgeAccepted.INSTANCE, getRef());
+
+                // THEN: the publisher does not accept all messages until the endpoint responds
+                probe.expectMsgClass(HttpRequest.class);
+                expectNoMessage();
+
+                // THEN: no message is dropped
+                endpointBusy.countDown();
+                expectMsg(Done.getInstance());
+                for (int i = 1; i < messages; ++i) {
+                    probe.expectMsgClass(HttpRequest.class);
+                }
+                probe.expectNoMessage();
+            }};
+        } finally {
+            endpointBusy.countDown();
+            TestKit.shutdownActorSystem(systemWithSmallQueue);
+        }
+    }
+
     @Override
     protected Props getPublisherActorProps() {
         return HttpPublisherActor.props(TestConstants.createConnection(), httpPushFactory);
@@ -105,6 +105,34 @@ public final class HttpPushValidatorTest {
         verifyConnectionConfigurationInvalidExceptionIsThrown(getConnectionWithTarget("DELETE:/bar"));
     }
 
+    @Test
+    public void testBatchingConfig() {
+        final DittoHeaders emptyDittoHeaders = DittoHeaders.empty();
+        underTest.validate(getConnectionWithSpecificConfig(HttpPushFactory.MAX_BATCH_SIZE, "10"), emptyDittoHeaders,
+                actorSystem);
+        underTest.validate(getConnectionWithSpecificConfig(HttpPushFactory.PIPELINING_LIMIT, "4"), emptyDittoHeaders,
+                actorSystem);
+        underTest.validate(getConnectionWithSpecificConfig(HttpPushFactory.BATCH_FORMAT, "ndjson"), emptyDittoHeaders,
+                actorSystem);
+        underTest.validate(getConnectionWithSpecificConfig(HttpPushFactory.BATCH_FORMAT, "json-array"),
+                emptyDittoHeaders, actorSystem);
+
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                getConnectionWithSpecificConfig(HttpPushFactory.MAX_BATCH_SIZE, "0"));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                getConnectionWithSpecificConfig(HttpPushFactory.PIPELINING_LIMIT, "many"));
+        verifyConnectionConfigurationInvalidExceptionIsThrown(
+                getConnectionWithSpecificConfig(HttpPushFactory.BATCH_FORMAT, "xml"));
+    }
+
+    private static Connection getConnectionWithSpecificConfig(final String key, final String value) {
+        final Map<String, String> specificConfig = new HashMap<>(defaultSpecificConfig);
+        specificConfig.put(key, value);
+        return ConnectivityModelFactory.newConnectionBuilder(getConnectionWithTarget("POST:events"))
+                .specificConfig(specificConfig)
+                .build();
+    }
+
     private static Connection getConnectionWithTarget(final String target) {
         return getConnectionWithHostAndTarget("8.8.4.4", target);
     }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.httppush;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.junit.Test;
+
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpEntity;
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.Uri;
+import akka.http.javadsl.model.headers.RawHeader;
+import akka.japi.Pair;
+
+/**
+ * Tests {@link HttpRequestBatcher}.
+ */
+public final class HttpRequestBatcherTest {
+
+    private static final String URI = "http://localhost:12345/events";
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(HttpRequestBatcher.class, areImmutable());
+    }
+
+    @Test
+    public void combinesJsonRequestsToTheSameUriIntoJsonArray() {
+        final HttpRequestBatcher underTest = HttpRequestBatcher.of(HttpRequestBatcher.Format.JSON_ARRAY);
+
+        final List<Pair<HttpRequest, HttpPushContext>> result = underTest.combine(Arrays.asList(
+                jsonRequest(URI, "{\"a\":1}", "1"),
+                jsonRequest(URI, "{\"b\":2}", "2")));
+
+        assertThat(result).hasSize(1);
+        final HttpRequest combined = result.get(0).first();
+        assertThat(getBody(combined)).isEqualTo("[{\"a\":1},{\"b\":2}]");
+        assertThat(combined.entity().getContentType()).isEqualTo(ContentTypes.APPLICATION_JSON);
+        assertThat(combined.getHeader("common")).contains(RawHeader.create("common", "value"));
+        assertThat(combined.getHeader("differing")).isEmpty();
+        assertThat(result.get(0).second().getExternalMessages()).hasSize(2);
+    }
+
+    @Test
+    public void combinesJsonRequestsIntoNewlineDelimitedJson() {
+        final HttpRequestBatcher underTest = HttpRequestBatcher.of(HttpRequestBatcher.Format.NDJSON);
+
+        final List<Pair<HttpRequest, HttpPushContext>> result = underTest.combine(Arrays.asList(
+                jsonRequest(URI, "{\"a\":1}", "1"),
+                jsonRequest(URI, "{\"b\":2}", "2")));
+
+        assertThat(result).hasSize(1);
+        final HttpRequest combined = result.get(0).first();
+        assertThat(getBody(combined)).isEqualTo("{\"a\":1}\n{\"b\":2}\n");
+        assertThat(combined.entity().getContentType().mediaType().subType()).isEqualTo("x-ndjson");
+    }
+
+    @Test
+    public void keepsRequestsWhichCannotBeCombined() {
+        final HttpRequestBatcher underTest = HttpRequestBatcher.of(HttpRequestBatcher.Format.JSON_ARRAY);
+        final Pair<HttpRequest, HttpPushContext> textRequest =
+                Pair.create(HttpRequest.POST(URI).withEntity("text"), context(URI));
+        final Pair<HttpRequest, HttpPushContext> otherUri = jsonRequest(URI + "/other", "{}", "3");
+
+        final List<Pair<HttpRequest, HttpPushContext>> result = underTest.combine(Arrays.asList(
+                textRequest,
+                jsonRequest(URI, "1", "1"),
+                otherUri,
+                jsonRequest(URI, "2", "2")));
+
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0)).isEqualTo(textRequest);
+        assertThat(getBody(result.get(1).first())).isEqualTo("[1,2]");
+        assertThat(result.get(2)).isEqualTo(otherUri);
+    }
+
+    private static Pair<HttpRequest, HttpPushContext> jsonRequest(final String uri, final String body,
+            final String differingHeaderValue) {
+
+        final HttpRequest request = HttpRequest.POST(uri)
+                .addHeader(RawHeader.create("common", "value"))
+                .addHeader(RawHeader.create("differing", differingHeaderValue))
+                .withEntity(HttpEntities.create(ContentTypes.APPLICATION_JSON, body));
+        return Pair.create(request, context(uri));
+    }
+
+    private static HttpPushContext context(final String uri) {
+        final ExternalMessage message =
+                ExternalMessageFactory.newExternalMessageBuilder(Collections.emptyMap()).withText(uri).build();
+        return new HttpPushContext(message, Uri.create(uri));
+    }
+
+    private static String getBody(final HttpRequest request) {
+        return ((HttpEntity.Strict) request.entity()).getData().utf8String();
+    }
+
+}
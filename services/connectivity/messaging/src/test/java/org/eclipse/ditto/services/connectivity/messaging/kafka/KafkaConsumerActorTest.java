@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the consumer stream of {@link KafkaConsumerActor}.
+ */
+public final class KafkaConsumerActorTest {
+
+    private static final ConnectionId CONNECTION_ID = TestConstants.createRandomConnectionId();
+    private static final String TOPIC = "topic";
+    private static final org.eclipse.ditto.model.connectivity.Source SOURCE =
+            ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, TOPIC);
+
+    private ActorSystem actorSystem;
+    private TestKit committer;
+    private KafkaConnectionFactory connectionFactory;
+    private Map<String, ConsumerMessage.CommittableOffset> offsets;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", TestConstants.CONFIG);
+        committer = new TestKit(actorSystem);
+        connectionFactory = mock(KafkaConnectionFactory.class);
+        offsets = new HashMap<>();
+        final ActorRef committerRef = committer.getRef();
+        when(connectionFactory.newCommitterSink()).thenReturn(
+                Sink.foreach(committable -> committerRef.tell(committable, ActorRef.noSender())));
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem, scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS),
+                    false);
+        }
+    }
+
+    @Test
+    public void offsetsAreCommittedAfterAcknowledgement() {
+        new TestKit(actorSystem) {{
+            givenPartitions(Arrays.asList("a1", "a2"));
+            actorSystem.actorOf(consumerActorProps(getRef()));
+
+            expectRecord(this, "a1");
+            committer.expectNoMessage();
+
+            reply(Done.getInstance());
+            committer.expectMsg(offsets.get("a1"));
+
+            expectRecord(this, "a2");
+            committer.expectNoMessage();
+
+            reply(Done.getInstance());
+            committer.expectMsg(offsets.get("a2"));
+        }};
+    }
+
+    @Test
+    public void recordsOfEachPartitionAreProcessedInOrder() {
+        new TestKit(actorSystem) {{
+            givenPartitions(Arrays.asList("a1", "a2"), Arrays.asList("b1", "b2"));
+            actorSystem.actorOf(consumerActorProps(getRef()));
+
+            // the partitions are processed concurrently, the records of a partition one after another
+            final Map<String, ActorRef> pendingAcks = new HashMap<>();
+            pendingAcks.put(receiveRecord(this), getLastSender());
+            pendingAcks.put(receiveRecord(this), getLastSender());
+            assertThat(pendingAcks).containsOnlyKeys("a1", "b1");
+            expectNoMessage();
+
+            pendingAcks.get("b1").tell(Done.getInstance(), ActorRef.noSender());
+            committer.expectMsg(offsets.get("b1"));
+            expectRecord(this, "b2");
+            reply(Done.getInstance());
+            committer.expectMsg(offsets.get("b2"));
+
+            // "a2" is not forwarded before "a1" is acknowledged
+            expectNoMessage();
+            committer.expectNoMessage();
+            pendingAcks.get("a1").tell(Done.getInstance(), ActorRef.noSender());
+            committer.expectMsg(offsets.get("a1"));
+            expectRecord(this, "a2");
+            reply(Done.getInstance());
+            committer.expectMsg(offsets.get("a2"));
+        }};
+    }
+
+    @Test
+    public void recordIsForwardedAgainIfItsAcknowledgementFailed() {
+        new TestKit(actorSystem) {{
+            givenPartitions(Arrays.asList("a1", "a2"));
+            actorSystem.actorOf(consumerActorProps(getRef()));
+
+            expectRecord(this, "a1");
+            reply(new Status.Failure(new IllegalStateException("Inbound message was not processed: Dropped")));
+
+            // the record is forwarded again after the backoff and its offset is not committed before
+            final AcknowledgeableMessage retried = expectMsgClass(Duration.ofSeconds(5L), AcknowledgeableMessage.class);
+            assertThat(retried.getMessage().getTextPayload()).contains("a1");
+            committer.expectNoMessage();
+            reply(Done.getInstance());
+            committer.expectMsg(offsets.get("a1"));
+
+            expectRecord(this, "a2");
+            reply(Done.getInstance());
+            committer.expectMsg(offsets.get("a2"));
+
+            // the consumer stream was not restarted
+            verify(connectionFactory, times(1)).newPartitionedSource(any(), anyString());
+        }};
+    }
+
+    @SafeVarargs
+    private final void givenPartitions(final List<String>... partitions) {
+        final List<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, String>, NotUsed>>>
+                partitionSources = new ArrayList<>();
+        for (int partition = 0; partition < partitions.length; ++partition) {
+            final List<ConsumerMessage.CommittableMessage<String, String>> records = new ArrayList<>();
+            long offset = 0L;
+            for (final String value : partitions[partition]) {
+                final ConsumerMessage.CommittableOffset committableOffset =
+                        mock(ConsumerMessage.CommittableOffset.class);
+                offsets.put(value, committableOffset);
+                records.add(new ConsumerMessage.CommittableMessage<>(
+                        new ConsumerRecord<>(TOPIC, partition, offset++, "key", value), committableOffset));
+            }
+            partitionSources.add(Pair.create(new TopicPartition(TOPIC, partition), Source.from(records)));
+        }
+        final Consumer.Control control = mock(Consumer.Control.class);
+        when(connectionFactory.newPartitionedSource(any(), anyString())).thenReturn(
+                Source.from(partitionSources)
+                        .concat(Source.maybe())
+                        .mapMaterializedValue(notUsed -> control));
+    }
+
+    private Props consumerActorProps(final ActorRef messageMappingProcessor) {
+        return KafkaConsumerActor.props(CONNECTION_ID, messageMappingProcessor, SOURCE, TOPIC, "0-0",
+                connectionFactory, TestConstants.CONNECTION_CONFIG.getKafkaConfig());
+    }
+
+    private static void expectRecord(final TestKit mappingProcessor, final String value) {
+        assertThat(receiveRecord(mappingProcessor)).isEqualTo(value);
+    }
+
+    private static String receiveRecord(final TestKit mappingProcessor) {
+        final AcknowledgeableMessage message = mappingProcessor.expectMsgClass(AcknowledgeableMessage.class);
+        return message.getMessage().getTextPayload().orElse(null);
+    }
+
+}
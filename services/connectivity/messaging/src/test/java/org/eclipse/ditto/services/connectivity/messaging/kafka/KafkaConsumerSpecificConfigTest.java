@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.kafka.ConsumerSettings;
+
+/**
+ * Unit test for {@link KafkaConsumerSpecificConfig}.
+ */
+public final class KafkaConsumerSpecificConfigTest {
+
+    private static final DittoHeaders HEADERS = DittoHeaders.empty();
+
+    private static ConsumerSettings<String, String> defaultConsumerSettings;
+
+    private KafkaConsumerSpecificConfig underTest;
+
+    @BeforeClass
+    public static void initTestFixture() {
+        final Deserializer<String> stringDeserializer = new StringDeserializer();
+        defaultConsumerSettings = ConsumerSettings.create(ConfigFactory.load().getConfig("akka.kafka.consumer"),
+                stringDeserializer, stringDeserializer);
+    }
+
+    @Before
+    public void setUp() {
+        underTest = KafkaConsumerSpecificConfig.getInstance();
+    }
+
+    @Test
+    public void shouldNotBeApplicableWithoutOffsetReset() {
+        assertThat(underTest.isApplicable(getConnection(specificConfig()))).isFalse();
+    }
+
+    @Test
+    public void shouldBeApplicableIfOffsetResetExists() {
+        assertThat(underTest.isApplicable(getConnection(specificConfig("consumerOffsetReset", "earliest"))))
+                .isTrue();
+    }
+
+    @Test
+    public void shouldBeValidForSupportedValues() {
+        shouldValidate(getConnection(specificConfig()));
+        shouldValidate(getConnection(specificConfig("consumerOffsetReset", "earliest")));
+        shouldValidate(getConnection(specificConfig("consumerOffsetReset", " latest ")));
+    }
+
+    @Test
+    public void shouldThrowOnValidationForUnsupportedValues() {
+        final Connection connection = getConnection(specificConfig("consumerOffsetReset", "none"));
+
+        assertThat(underTest.isValid(connection)).isFalse();
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateOrThrow(connection, HEADERS));
+    }
+
+    @Test
+    public void shouldAddOffsetReset() {
+        final Connection connection = getConnection(specificConfig("consumerOffsetReset", " earliest "));
+
+        final ConsumerSettings<String, String> settings = underTest.apply(defaultConsumerSettings, connection);
+
+        assertThat(settings.properties().get(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG).get()).isEqualTo("earliest");
+    }
+
+    @Test
+    public void shouldNotAddOffsetResetForUnsupportedValues() {
+        final Connection connection = getConnection(specificConfig("consumerOffsetReset", "none"));
+
+        final ConsumerSettings<String, String> settings = underTest.apply(defaultConsumerSettings, connection);
+
+        assertThat(settings).isSameAs(defaultConsumerSettings);
+    }
+
+    private void shouldValidate(final Connection connection) {
+        assertThat(underTest.isValid(connection)).isTrue();
+        underTest.validateOrThrow(connection, HEADERS);
+    }
+
+    private static Map<String, String> specificConfig(final String... keysAndValues) {
+        final Map<String, String> specificConfig = new HashMap<>();
+        specificConfig.put("bootstrapServers", "localhost:9092");
+        for (int i = 0; i + 1 < keysAndValues.length; i += 2) {
+            specificConfig.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return specificConfig;
+    }
+
+    private static Connection getConnection(final Map<String, String> specificConfig) {
+        return ConnectivityModelFactory.newConnectionBuilder(ConnectionId.of("kafka"), ConnectionType.KAFKA,
+                ConnectivityStatus.OPEN, "tcp://localhost:9092")
+                .sources(singletonList(ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "source")))
+                .specificConfig(specificConfig)
+                .build();
+    }
+
+}
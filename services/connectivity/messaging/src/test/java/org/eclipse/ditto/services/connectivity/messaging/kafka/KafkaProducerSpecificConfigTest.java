@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.ConnectionId;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.config.KafkaConfig;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+
+import akka.kafka.ProducerSettings;
+
+/**
+ * Unit test for {@link KafkaProducerSpecificConfig}.
+ */
+public final class KafkaProducerSpecificConfigTest {
+
+    private static final DittoHeaders HEADERS = DittoHeaders.empty();
+
+    private static ProducerSettings<String, String> defaultProducerSettings;
+
+    private KafkaProducerSpecificConfig underTest;
+
+    @BeforeClass
+    public static void initTestFixture() {
+        final KafkaConfig kafkaConfig = TestConstants.CONNECTION_CONFIG.getKafkaConfig();
+        final Config internalProducerConfig = kafkaConfig.getInternalProducerConfig();
+        final Serializer<String> stringSerializer = new StringSerializer();
+        defaultProducerSettings = ProducerSettings.create(internalProducerConfig, stringSerializer, stringSerializer);
+    }
+
+    @Before
+    public void setUp() {
+        underTest = KafkaProducerSpecificConfig.getInstance();
+    }
+
+    @Test
+    public void shouldNotBeApplicableWithoutProducerTuning() {
+        assertThat(underTest.isApplicable(getConnection(specificConfig()))).isFalse();
+    }
+
+    @Test
+    public void shouldBeApplicableIfAnyProducerTuningExists() {
+        assertThat(underTest.isApplicable(getConnection(specificConfig("lingerMs", "5")))).isTrue();
+        assertThat(underTest.isApplicable(getConnection(specificConfig("compressionType", "lz4")))).isTrue();
+    }
+
+    @Test
+    public void shouldBeValidForSupportedValues() {
+        final Connection connection = getConnection(specificConfig("lingerMs", "5", "batchSize", "65536",
+                "compressionType", "zstd", "enableIdempotence", "true"));
+
+        assertThat(underTest.isValid(connection)).isTrue();
+        underTest.validateOrThrow(connection, HEADERS);
+    }
+
+    @Test
+    public void shouldThrowOnValidationForUnsupportedValues() {
+        shouldNotValidate(getConnection(specificConfig("lingerMs", "-1")));
+        shouldNotValidate(getConnection(specificConfig("batchSize", "large")));
+        shouldNotValidate(getConnection(specificConfig("compressionType", "brotli")));
+        shouldNotValidate(getConnection(specificConfig("enableIdempotence", "yes")));
+    }
+
+    @Test
+    public void shouldAddProducerProperties() {
+        final Connection connection = getConnection(specificConfig("lingerMs", "5", "batchSize", "65536",
+                "compressionType", " lz4 "));
+
+        final ProducerSettings<String, String> settings = underTest.apply(defaultProducerSettings, connection);
+
+        assertThat(settings.properties().get(ProducerConfig.LINGER_MS_CONFIG).get()).isEqualTo("5");
+        assertThat(settings.properties().get(ProducerConfig.BATCH_SIZE_CONFIG).get()).isEqualTo("65536");
+        assertThat(settings.properties().get(ProducerConfig.COMPRESSION_TYPE_CONFIG).get()).isEqualTo("lz4");
+        assertThat(settings.properties().get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG).isDefined()).isFalse();
+    }
+
+    @Test
+    public void shouldRequireAllAcknowledgementsForIdempotentProducer() {
+        final Connection connection = getConnection(specificConfig("enableIdempotence", "true"));
+
+        final ProducerSettings<String, String> settings = underTest.apply(defaultProducerSettings, connection);
+
+        assertThat(settings.properties().get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG).get()).isEqualTo("true");
+        assertThat(settings.properties().get(ProducerConfig.ACKS_CONFIG).get()).isEqualTo("all");
+    }
+
+    @Test
+    public void shouldNotAddProducerPropertiesForUnsupportedValues() {
+        final Connection connection = getConnection(specificConfig("lingerMs", "5", "compressionType", "brotli"));
+
+        final ProducerSettings<String, String> settings = underTest.apply(defaultProducerSettings, connection);
+
+        assertThat(settings).isSameAs(defaultProducerSettings);
+    }
+
+    private void shouldNotValidate(final Connection connection) {
+        assertThat(underTest.isValid(connection)).isFalse();
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateOrThrow(connection, HEADERS));
+    }
+
+    private static Map<String, String> specificConfig(final String... keysAndValues) {
+        final Map<String, String> specificConfig = new HashMap<>();
+        specificConfig.put("bootstrapServers", "localhost:9092");
+        for (int i = 0; i + 1 < keysAndValues.length; i += 2) {
+            specificConfig.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return specificConfig;
+    }
+
+    private static Connection getConnection(final Map<String, String> specificConfig) {
+        return ConnectivityModelFactory.newConnectionBuilder(ConnectionId.of("kafka"), ConnectionType.KAFKA,
+                ConnectivityStatus.OPEN, "tcp://localhost:9092")
+                .targets(singletonList(ConnectivityModelFactory.newTargetBuilder()
+                        .address("target")
+                        .authorizationContext(AUTHORIZATION_CONTEXT)
+                        .qos(1)
+                        .topics(Topic.LIVE_EVENTS)
+                        .build()))
+                .specificConfig(specificConfig)
+                .build();
+    }
+
+}
@@ -77,11 +77,25 @@ public final class KafkaValidatorTest {
     }
 
     @Test
-    public void testSourcesAreInvalid() {
-        final Source source = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "any");
+    public void testValidSourceAddress() {
+        underTest.validateSource(ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "telemetry"),
+                DittoHeaders.empty(), () -> "");
+        underTest.validateSource(ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "ditto.telemetry-1"),
+                DittoHeaders.empty(), () -> "");
+    }
+
+    @Test
+    public void testInvalidSourceAddress() {
+        final Source emptySource = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "");
+        final Source sourceWithPlaceholder = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "{{thing:id}}");
+        final Source sourceWithSlash = ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "events/");
 
         assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
-                .isThrownBy(() -> underTest.validateSource(source, DittoHeaders.empty(), () -> ""));
+                .isThrownBy(() -> underTest.validateSource(emptySource, DittoHeaders.empty(), () -> ""));
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateSource(sourceWithPlaceholder, DittoHeaders.empty(), () -> ""));
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> underTest.validateSource(sourceWithSlash, DittoHeaders.empty(), () -> ""));
     }
 
     @Test
@@ -16,7 +16,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
@@ -25,6 +31,9 @@ import org.junit.Test;
  */
 public class SlidingWindowCounterTest {
 
+    private static final Instant NOW = Instant.parse("2020-06-01T12:00:00.500Z");
+    private static final Clock FIXED_CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
     @Test
     public void testLastMeasurementAt() {
         final SlidingWindowCounter counter = new SlidingWindowCounter(Clock.systemUTC(), MeasurementWindow.ONE_HOUR);
@@ -63,4 +72,84 @@ public class SlidingWindowCounterTest {
 
     }
 
+    @Test
+    public void measurementsOutsideOfTheWindowAreNotCounted() {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(FIXED_CLOCK, MeasurementWindow.ONE_MINUTE);
+        final long now = NOW.toEpochMilli();
+        final long windowInMs = MeasurementWindow.ONE_MINUTE.getWindow().toMillis();
+
+        counter.increment(true, now);
+        counter.increment(true, now - windowInMs / 2);
+        counter.increment(true, now - windowInMs - 1000L);
+        counter.increment(true, now + windowInMs / 2);
+
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 2L);
+        assertThat(counter.getCounts(false)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 0L);
+    }
+
+    @Test
+    public void slotsOfEarlierLapsAreReplaced() {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(FIXED_CLOCK, MeasurementWindow.ONE_MINUTE);
+        final long now = NOW.toEpochMilli();
+        final long windowInMs = MeasurementWindow.ONE_MINUTE.getWindow().toMillis();
+
+        // measurements two windows ago share their slot with the current measurements
+        counter.increment(false, now - 2 * windowInMs);
+        counter.increment(false, now - 2 * windowInMs);
+        counter.increment(false, now);
+
+        assertThat(counter.getCounts(false)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 1L);
+
+        // a late measurement must not overwrite the newer slot
+        counter.increment(false, now - 2 * windowInMs);
+
+        assertThat(counter.getCounts(false)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 1L);
+        assertThat(counter.getLastFailureMeasurementAt()).isEqualTo(now);
+    }
+
+    @Test
+    public void resetClearsAllCounts() {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(FIXED_CLOCK,
+                MeasurementWindow.ONE_MINUTE,
+                MeasurementWindow.ONE_HOUR);
+        counter.increment(true);
+        counter.increment(false);
+
+        counter.reset();
+
+        assertThat(counter.getCounts(true)).containsOnly(
+                Map.entry(MeasurementWindow.ONE_MINUTE.getWindow(), 0L),
+                Map.entry(MeasurementWindow.ONE_HOUR.getWindow(), 0L));
+        assertThat(counter.getCounts(false)).containsOnly(
+                Map.entry(MeasurementWindow.ONE_MINUTE.getWindow(), 0L),
+                Map.entry(MeasurementWindow.ONE_HOUR.getWindow(), 0L));
+    }
+
+    @Test
+    public void concurrentIncrementsAreNotLost() throws Exception {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(FIXED_CLOCK,
+                MeasurementWindow.ONE_MINUTE,
+                MeasurementWindow.ONE_HOUR);
+        final int threads = 8;
+        final int incrementsPerThread = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final CompletableFuture<?>[] futures = new CompletableFuture<?>[threads];
+            for (int i = 0; i < threads; ++i) {
+                futures[i] = CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < incrementsPerThread; ++j) {
+                        counter.increment(true);
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final long expected = (long) threads * incrementsPerThread;
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), expected);
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_HOUR.getWindow(), expected);
+    }
+
 }
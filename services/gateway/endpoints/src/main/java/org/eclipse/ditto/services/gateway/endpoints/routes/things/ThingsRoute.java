@@ -22,9 +22,11 @@ import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
@@ -55,6 +57,7 @@ import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributes;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyPolicyId;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingDefinition;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveAcl;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveAclEntry;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveAttribute;
@@ -142,6 +145,22 @@ public final class ThingsRoute extends AbstractRoute {
                 .orElse(null);
     }
 
+    private static ModifyThings createModifyThings(final String jsonString, final DittoHeaders dittoHeaders) {
+        final JsonArray inputJson = wrapJsonRuntimeException(() -> JsonFactory.newArray(jsonString));
+        final List<Thing> things = inputJson.stream()
+                .map(jsonValue -> {
+                    if (!jsonValue.isObject()) {
+                        throw new DittoJsonException(JsonParseException.newBuilder()
+                                .message("The JSON array of Things must only contain JSON objects, but contained <" +
+                                        jsonValue + ">.")
+                                .build(), dittoHeaders);
+                    }
+                    return wrapJsonRuntimeException(() -> ThingsModelFactory.newThing(jsonValue.asObject()));
+                })
+                .collect(Collectors.toList());
+        return wrapJsonRuntimeException(() -> ModifyThings.of(things, dittoHeaders));
+    }
+
     private static JsonObject createThingJsonObjectForPut(final String jsonString, final String thingId) {
         final JsonObject inputJson = wrapJsonRuntimeException(() -> JsonFactory.newObject(jsonString));
         final JsonObjectBuilder outputJsonBuilder = inputJson.toBuilder();
@@ -211,6 +230,13 @@ public final class ThingsRoute extends AbstractRoute {
                                                         dittoHeaders)
                                         )
                                 )
+                        ),
+                        put(() -> // PUT /things
+                                extractDataBytes(payloadSource ->
+                                        handlePerRequest(ctx, dittoHeaders, payloadSource,
+                                                thingsJson -> createModifyThings(thingsJson, dittoHeaders)
+                                        )
+                                )
                         )
                 )
         );
@@ -39,9 +39,7 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.SignalEnrichmentFailedException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
-import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.query.filter.QueryFilterCache;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
@@ -93,7 +91,7 @@ public final class ThingsSseRouteBuilder implements SseRouteBuilder {
 
     private final ActorRef streamingActor;
     private final StreamingConfig streamingConfig;
-    private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
+    private final QueryFilterCache queryFilterCache;
 
     private SseAuthorizationEnforcer sseAuthorizationEnforcer;
     private SseConnectionSupervisor sseConnectionSupervisor;
@@ -102,11 +100,11 @@ public final class ThingsSseRouteBuilder implements SseRouteBuilder {
 
     private ThingsSseRouteBuilder(final ActorRef streamingActor,
             final StreamingConfig streamingConfig,
-            final QueryFilterCriteriaFactory queryFilterCriteriaFactory) {
+            final QueryFilterCache queryFilterCache) {
 
         this.streamingActor = streamingActor;
         this.streamingConfig = streamingConfig;
-        this.queryFilterCriteriaFactory = queryFilterCriteriaFactory;
+        this.queryFilterCache = queryFilterCache;
         sseAuthorizationEnforcer = new NoOpSseAuthorizationEnforcer();
         sseConnectionSupervisor = new NoOpSseConnectionSupervisor();
         eventSniffer = EventSniffer.noOp();
@@ -123,10 +121,8 @@ public final class ThingsSseRouteBuilder implements SseRouteBuilder {
     public static ThingsSseRouteBuilder getInstance(final ActorRef streamingActor,
             final StreamingConfig streamingConfig) {
         checkNotNull(streamingActor, "streamingActor");
-        final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
-                new QueryFilterCriteriaFactory(new CriteriaFactoryImpl(), new ModelBasedThingsFieldExpressionFactory());
 
-        return new ThingsSseRouteBuilder(streamingActor, streamingConfig, queryFilterCriteriaFactory);
+        return new ThingsSseRouteBuilder(streamingActor, streamingConfig, QueryFilterCache.modelBased());
     }
 
     @Override
@@ -209,8 +205,9 @@ public final class ThingsSseRouteBuilder implements SseRouteBuilder {
                             .tag("direction", "out");
 
                     if (filterString != null) {
-                        // will throw an InvalidRqlExpressionException if the RQL expression was not valid:
-                        queryFilterCriteriaFactory.filterCriteria(filterString, dittoHeaders);
+                        // will throw an InvalidRqlExpressionException if the RQL expression was not valid;
+                        // the streaming session compiles the filter of each stream from the same cache:
+                        queryFilterCache.getCriteria(filterString, dittoHeaders);
                     }
 
                     final Source<SessionedJsonifiable, ActorRef> publisherSource =
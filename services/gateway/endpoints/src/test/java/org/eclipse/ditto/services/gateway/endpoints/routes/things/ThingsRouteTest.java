@@ -14,14 +14,20 @@ package org.eclipse.ditto.services.gateway.endpoints.routes.things;
 
 import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
 
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.services.gateway.endpoints.EndpointTestBase;
 import org.eclipse.ditto.services.utils.protocol.ProtocolAdapterProvider;
 import org.eclipse.ditto.signals.commands.things.exceptions.MissingThingIdsException;
+import org.eclipse.ditto.signals.commands.things.exceptions.TooManyThingsException;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyPolicyId;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyThingDefinition;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThings;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveAttributes;
 import org.junit.Before;
 import org.junit.Test;
@@ -80,6 +86,43 @@ public final class ThingsRouteTest extends EndpointTestBase {
         result.assertStatusCode(StatusCodes.BAD_REQUEST);
     }
 
+    @Test
+    public void putThingsWithoutThingId() {
+        final String body = "[{\"attributes\":{\"manufacturer\":\"ACME\"}}]";
+        final RequestEntity requestEntity = HttpEntities.create(ContentTypes.APPLICATION_JSON, body);
+        final TestRouteResult result = underTest.run(HttpRequest.PUT("/things").withEntity(requestEntity));
+        result.assertStatusCode(StatusCodes.BAD_REQUEST);
+    }
+
+    @Test
+    public void putThingsWithNonObjectElement() {
+        final String body = "[{\"thingId\":\"org.eclipse.ditto:t1\"},42]";
+        final RequestEntity requestEntity = HttpEntities.create(ContentTypes.APPLICATION_JSON, body);
+        final TestRouteResult result = underTest.run(HttpRequest.PUT("/things").withEntity(requestEntity));
+        result.assertStatusCode(StatusCodes.BAD_REQUEST);
+        assertThat(JsonObject.of(result.entityString())).contains(JsonKey.of("error"), JsonParseException.ERROR_CODE);
+    }
+
+    @Test
+    public void putThings() {
+        final String body = "[{\"thingId\":\"org.eclipse.ditto:t1\"},{\"thingId\":\"org.eclipse.ditto:t2\"}]";
+        final RequestEntity requestEntity = HttpEntities.create(ContentTypes.APPLICATION_JSON, body);
+        final String response = underTest.run(HttpRequest.PUT("/things").withEntity(requestEntity)).entityString();
+        assertThat(JsonObject.of(response)).contains(JsonKey.of("type"), ModifyThings.TYPE);
+    }
+
+    @Test
+    public void putTooManyThings() {
+        final String body = IntStream.rangeClosed(0, ModifyThings.MAX_NUMBER_OF_THINGS)
+                .mapToObj(i -> "{\"thingId\":\"org.eclipse.ditto:t" + i + "\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        final RequestEntity requestEntity = HttpEntities.create(ContentTypes.APPLICATION_JSON, body);
+        final TestRouteResult result = underTest.run(HttpRequest.PUT("/things").withEntity(requestEntity));
+        result.assertStatusCode(StatusCodes.REQUEST_ENTITY_TOO_LARGE);
+        assertThat(JsonObject.of(result.entityString()))
+                .contains(JsonKey.of("error"), TooManyThingsException.ERROR_CODE);
+    }
+
     @Test
     public void putPolicyIdAssumesJsonContentType() {
         final String nonJsonStringResponse = underTest.run(HttpRequest.PUT("/things/org.eclipse.ditto%3Adummy/policyId")
@@ -38,6 +38,11 @@ public final class ThingsMessagingConstants {
      */
     public static final String THINGS_SNAPSHOT_STREAMING_ACTOR_PATH = ROOT_ACTOR_PATH + "/snapshotStreamingActor";
 
+    /**
+     * Path of the actor that answers SudoRetrieveThings commands for the shards hosted by its cluster member.
+     */
+    public static final String THINGS_SUDO_RETRIEVE_THINGS_ACTOR_PATH = ROOT_ACTOR_PATH + "/sudoRetrieveThingsActor";
+
     /**
      * Name of the shard region for Thing entities.
      */
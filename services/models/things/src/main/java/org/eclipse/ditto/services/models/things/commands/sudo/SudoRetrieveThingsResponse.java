@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.models.things.commands.sudo;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
@@ -39,6 +41,7 @@ import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.signals.commands.base.AbstractCommandResponse;
 import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
@@ -71,14 +74,20 @@ public final class SudoRetrieveThingsResponse extends AbstractCommandResponse<Su
             JsonFactory.newStringFieldDefinition("payload/thingsPlainJson", FieldType.REGULAR, JsonSchemaVersion.V_1,
                     JsonSchemaVersion.V_2);
 
+    static final JsonFieldDefinition<JsonArray> JSON_FAILED_THING_IDS =
+            JsonFactory.newJsonArrayFieldDefinition("payload/failedThingIds", FieldType.REGULAR,
+                    JsonSchemaVersion.V_1, JsonSchemaVersion.V_2);
+
     private final String thingsPlainJson;
+    private final List<ThingId> failedThingIds;
 
     @Nullable private JsonArray things;
 
     private SudoRetrieveThingsResponse(final HttpStatusCode statusCode, @Nullable final JsonArray things,
-            final String thingsPlainJson, final DittoHeaders dittoHeaders) {
+            final String thingsPlainJson, final List<ThingId> failedThingIds, final DittoHeaders dittoHeaders) {
         super(TYPE, statusCode, dittoHeaders);
         this.thingsPlainJson = checkNotNull(thingsPlainJson, "Things plain JSON");
+        this.failedThingIds = Collections.unmodifiableList(new ArrayList<>(failedThingIds));
         this.things = things;
     }
 
@@ -91,7 +100,8 @@ public final class SudoRetrieveThingsResponse extends AbstractCommandResponse<Su
      * @throws NullPointerException if any argument is {@code null}.
      */
     public static SudoRetrieveThingsResponse of(final String thingsPlainJson, final DittoHeaders dittoHeaders) {
-        return new SudoRetrieveThingsResponse(HttpStatusCode.OK, null, thingsPlainJson, dittoHeaders);
+        return new SudoRetrieveThingsResponse(HttpStatusCode.OK, null, thingsPlainJson, Collections.emptyList(),
+                dittoHeaders);
     }
 
     /**
@@ -103,8 +113,25 @@ public final class SudoRetrieveThingsResponse extends AbstractCommandResponse<Su
      * @throws NullPointerException if any argument is {@code null}.
      */
     public static SudoRetrieveThingsResponse of(final List<String> thingsPlainJson, final DittoHeaders dittoHeaders) {
+        return of(thingsPlainJson, Collections.emptyList(), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@link SudoRetrieveThingsResponse} command which could retrieve only some of the
+     * requested Things.
+     *
+     * @param thingsPlainJson the retrieved Things.
+     * @param failedThingIds the IDs of the Things whose retrieval failed for other reasons than their absence.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoRetrieveThingsResponse of(final List<String> thingsPlainJson,
+            final List<ThingId> failedThingIds, final DittoHeaders dittoHeaders) {
+
         return new SudoRetrieveThingsResponse(HttpStatusCode.OK, null, thingsPlainJson.stream()
-                .collect(Collectors.joining(",", "[", "]")), dittoHeaders);
+                .collect(Collectors.joining(",", "[", "]")), checkNotNull(failedThingIds, "failed Thing IDs"),
+                dittoHeaders);
     }
 
     /**
@@ -116,7 +143,8 @@ public final class SudoRetrieveThingsResponse extends AbstractCommandResponse<Su
      * @throws NullPointerException if any argument is {@code null}.
      */
     public static SudoRetrieveThingsResponse of(final JsonArray things, final DittoHeaders dittoHeaders) {
-        return new SudoRetrieveThingsResponse(HttpStatusCode.OK, things, things.toString(), dittoHeaders);
+        return new SudoRetrieveThingsResponse(HttpStatusCode.OK, things, things.toString(), Collections.emptyList(),
+                dittoHeaders);
     }
 
     /**
@@ -134,7 +162,8 @@ public final class SudoRetrieveThingsResponse extends AbstractCommandResponse<Su
                 .map(thing -> thing.toJson(dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST),
                         predicate))
                 .collect(JsonCollectors.valuesToArray());
-        return new SudoRetrieveThingsResponse(HttpStatusCode.OK, thingsArray, thingsArray.toString(), dittoHeaders);
+        return new SudoRetrieveThingsResponse(HttpStatusCode.OK, thingsArray, thingsArray.toString(),
+                Collections.emptyList(), dittoHeaders);
     }
 
     /**
@@ -153,7 +182,8 @@ public final class SudoRetrieveThingsResponse extends AbstractCommandResponse<Su
                 .map(thing -> thing.toJson(dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST),
                         fieldSelector, predicate))
                 .collect(JsonCollectors.valuesToArray());
-        return new SudoRetrieveThingsResponse(HttpStatusCode.OK, thingsArray, thingsArray.toString(), dittoHeaders);
+        return new SudoRetrieveThingsResponse(HttpStatusCode.OK, thingsArray, thingsArray.toString(),
+                Collections.emptyList(), dittoHeaders);
     }
 
     /**
@@ -189,9 +219,16 @@ public final class SudoRetrieveThingsResponse extends AbstractCommandResponse<Su
                     final JsonArray thingsJsonArray = jsonObject.getValue(JSON_THINGS).orElse(null);
                     final String plainJsonString = jsonObject.getValue(JSON_THINGS_PLAIN_JSON)
                             .orElseGet(() -> thingsJsonArray != null ? thingsJsonArray.toString() : null);
+                    final List<ThingId> failedThingIds = jsonObject.getValue(JSON_FAILED_THING_IDS)
+                            .map(failedThingIdsJsonArray -> failedThingIdsJsonArray.stream()
+                                    .filter(JsonValue::isString)
+                                    .map(JsonValue::asString)
+                                    .map(ThingId::of)
+                                    .collect(Collectors.toList()))
+                            .orElseGet(Collections::emptyList);
 
                     return new SudoRetrieveThingsResponse(HttpStatusCode.OK, thingsJsonArray, plainJsonString,
-                            dittoHeaders);
+                            failedThingIds, dittoHeaders);
                 });
     }
 
@@ -204,6 +241,16 @@ public final class SudoRetrieveThingsResponse extends AbstractCommandResponse<Su
         return getThingStream(lazyLoadThingsJsonArray()).collect(Collectors.toList());
     }
 
+    /**
+     * Returns the IDs of the requested Things which are neither contained in this response nor known to be absent
+     * because their retrieval failed, e.g. due to a timeout.
+     *
+     * @return the IDs of the Things whose retrieval failed.
+     */
+    public List<ThingId> getFailedThingIds() {
+        return failedThingIds;
+    }
+
     private Stream<Thing> getThingStream(JsonArray thingsArray) {
         return thingsArray.stream()
                 .filter(JsonValue::isObject)
@@ -226,12 +273,15 @@ public final class SudoRetrieveThingsResponse extends AbstractCommandResponse<Su
     @Override
     public SudoRetrieveThingsResponse setEntity(final JsonValue entity) {
         checkNotNull(entity, "entity");
-        return of(entity.asArray(), getDittoHeaders());
+        final JsonArray thingsArray = entity.asArray();
+        return new SudoRetrieveThingsResponse(HttpStatusCode.OK, thingsArray, thingsArray.toString(), failedThingIds,
+                getDittoHeaders());
     }
 
     @Override
     public SudoRetrieveThingsResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
-        return of(thingsPlainJson, dittoHeaders);
+        return new SudoRetrieveThingsResponse(HttpStatusCode.OK, things, thingsPlainJson, failedThingIds,
+                dittoHeaders);
     }
 
     @Override
@@ -239,11 +289,18 @@ public final class SudoRetrieveThingsResponse extends AbstractCommandResponse<Su
             final Predicate<JsonField> thePredicate) {
         final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
         jsonObjectBuilder.set(JSON_THINGS_PLAIN_JSON, thingsPlainJson, predicate);
+        if (!failedThingIds.isEmpty()) {
+            final JsonArray failedThingIdsJsonArray = failedThingIds.stream()
+                    .map(String::valueOf)
+                    .map(JsonFactory::newValue)
+                    .collect(JsonCollectors.valuesToArray());
+            jsonObjectBuilder.set(JSON_FAILED_THING_IDS, failedThingIdsJsonArray, predicate);
+        }
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), things, thingsPlainJson);
+        return Objects.hash(super.hashCode(), things, thingsPlainJson, failedThingIds);
     }
 
     @SuppressWarnings({"squid:MethodCyclomaticComplexity", "squid:S1067", "pmd:SimplifyConditional"})
@@ -257,7 +314,8 @@ public final class SudoRetrieveThingsResponse extends AbstractCommandResponse<Su
         }
         final SudoRetrieveThingsResponse that = (SudoRetrieveThingsResponse) o;
         return that.canEqual(this) && Objects.equals(things, that.things)
-                && Objects.equals(thingsPlainJson, that.thingsPlainJson) && super.equals(that);
+                && Objects.equals(thingsPlainJson, that.thingsPlainJson)
+                && Objects.equals(failedThingIds, that.failedThingIds) && super.equals(that);
     }
 
     @Override
@@ -268,7 +326,7 @@ public final class SudoRetrieveThingsResponse extends AbstractCommandResponse<Su
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" + super.toString() + ", things=" + things + ", thingsPlainJson=" +
-                thingsPlainJson + "]";
+                thingsPlainJson + ", failedThingIds=" + failedThingIds + "]";
     }
 
 }
@@ -18,6 +18,7 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -29,6 +30,7 @@ import org.eclipse.ditto.model.base.common.HttpStatusCode;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.models.things.TestConstants;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
@@ -63,6 +65,7 @@ public final class SudoRetrieveThingsResponseTest {
         assertInstancesOf(SudoRetrieveThingsResponse.class,
                 areImmutable(),
                 provided(Thing.class).isAlsoImmutable(),
+                assumingFields("failedThingIds").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
                 assumingFields("things").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
                 assumingFields("things").areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
@@ -114,6 +117,23 @@ public final class SudoRetrieveThingsResponseTest {
         assertThat(responseFromJson).isEqualTo(response);
     }
 
+    /** */
+    @Test
+    public void createInstanceWithFailedThingIdsFromJson() {
+        final List<ThingId> failedThingIds =
+                Arrays.asList(ThingId.of("org.eclipse.ditto", "failed1"), ThingId.of("org.eclipse.ditto", "failed2"));
+        final SudoRetrieveThingsResponse response =
+                SudoRetrieveThingsResponse.of(KNOWN_THINGS.stream().map(Thing::toJsonString)
+                        .collect(Collectors.toList()), failedThingIds, EMPTY_DITTO_HEADERS);
+
+        final SudoRetrieveThingsResponse responseFromJson =
+                SudoRetrieveThingsResponse.fromJson(response.toJson(), EMPTY_DITTO_HEADERS);
+
+        assertThat(responseFromJson).isEqualTo(response);
+        assertThat(responseFromJson.getFailedThingIds()).isEqualTo(failedThingIds);
+        assertThat(responseFromJson.getThings()).isEqualTo(KNOWN_THINGS);
+    }
+
     /** */
     @Test
     public void checkSudoCommandResponseTypeWorks() {
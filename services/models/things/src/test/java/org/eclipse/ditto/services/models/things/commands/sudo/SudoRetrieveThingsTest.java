@@ -120,6 +120,18 @@ public final class SudoRetrieveThingsTest {
         assertThat(underTest.getSelectedFields()).isEqualTo(Optional.of(getJsonFieldSelector()));
     }
 
+    @Test
+    public void jsonSerializationRetainsOriginalSchemaVersionFlag() {
+        final SudoRetrieveThings underTest =
+                SudoRetrieveThings.withOriginalSchemaVersion(getThingIds(), EMPTY_DITTO_HEADERS);
+        final JsonObject actualJson = underTest.toJson(FieldType.regularOrSpecial());
+
+        assertThat(actualJson).isEqualTo(KNOWN_JSON.toBuilder()
+                .set(SudoRetrieveThings.JSON_USE_ORIGINAL_SCHEMA_VERSION, true)
+                .build());
+        assertThat(SudoRetrieveThings.fromJson(actualJson, EMPTY_DITTO_HEADERS)).isEqualTo(underTest);
+    }
+
     @Test
     public void checkSudoCommandTypeWorks() {
         final SudoRetrieveThings sudoRetrieveThings =
@@ -152,6 +152,11 @@ public final class PolicyPersistenceActor
         return policyConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected long getEntitySizeInBytes(final Policy entity) {
+        return entity.toJson().getUpperBoundForStringSize();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(PolicyLifecycle.DELETED);
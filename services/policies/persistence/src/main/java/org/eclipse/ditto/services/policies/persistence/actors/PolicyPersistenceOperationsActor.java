@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.policies.persistence.actors;
 
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.ops.eventsource.MongoEntitiesPersistenceOperations;
@@ -52,6 +53,18 @@ public final class PolicyPersistenceOperationsActor extends AbstractPersistenceO
                 mongoClient);
     }
 
+    private PolicyPersistenceOperationsActor(final ActorRef pubSubMediator,
+            final NamespacePersistenceOperations namespaceOps,
+            final EntityPersistenceOperations entitiesOps,
+            final PersistenceOperationsConfig persistenceOperationsConfig) {
+
+        super(pubSubMediator,
+                PolicyCommand.RESOURCE_TYPE,
+                namespaceOps,
+                entitiesOps,
+                persistenceOperationsConfig);
+    }
+
     /**
      * Create Props of this actor.
      *
@@ -67,21 +80,46 @@ public final class PolicyPersistenceOperationsActor extends AbstractPersistenceO
             final PersistenceOperationsConfig persistenceOperationsConfig) {
 
         return Props.create(PolicyPersistenceOperationsActor.class, () -> {
-            final MongoEventSourceSettings eventSourceSettings =
-                    MongoEventSourceSettings.fromConfig(config, PolicyPersistenceActor.PERSISTENCE_ID_PREFIX, true,
-                            PolicyPersistenceActor.JOURNAL_PLUGIN_ID, PolicyPersistenceActor.SNAPSHOT_PLUGIN_ID);
-
             final MongoClientWrapper mongoClient = MongoClientWrapper.newInstance(mongoDbConfig);
             final MongoDatabase db = mongoClient.getDefaultDatabase();
+            final MongoEventSourceSettings eventSourceSettings = getEventSourceSettings(config);
 
-            final NamespacePersistenceOperations namespaceOps =
-                    MongoNamespacePersistenceOperations.of(db, eventSourceSettings);
-            final EntityPersistenceOperations entitiesOps =
-                    MongoEntitiesPersistenceOperations.of(db, eventSourceSettings);
+            return new PolicyPersistenceOperationsActor(pubSubMediator,
+                    MongoNamespacePersistenceOperations.of(db, eventSourceSettings),
+                    MongoEntitiesPersistenceOperations.of(db, eventSourceSettings), mongoClient,
+                    persistenceOperationsConfig);
+        });
+    }
 
-            return new PolicyPersistenceOperationsActor(pubSubMediator, namespaceOps, entitiesOps, mongoClient,
+    /**
+     * Create Props of this actor which shares a MongoDB client with other actors. The client is not closed when the
+     * actor stops.
+     *
+     * @param pubSubMediator Akka pub-sub mediator.
+     * @param mongoClient the shared MongoDB client.
+     * @param config Configuration with info about event journal, snapshot store and database.
+     * @param persistenceOperationsConfig the persistence operations configuration settings.
+     * @return a Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator,
+            final DittoMongoClient mongoClient,
+            final Config config,
+            final PersistenceOperationsConfig persistenceOperationsConfig) {
+
+        return Props.create(PolicyPersistenceOperationsActor.class, () -> {
+            final MongoDatabase db = mongoClient.getDefaultDatabase();
+            final MongoEventSourceSettings eventSourceSettings = getEventSourceSettings(config);
+
+            return new PolicyPersistenceOperationsActor(pubSubMediator,
+                    MongoNamespacePersistenceOperations.of(db, eventSourceSettings),
+                    MongoEntitiesPersistenceOperations.of(db, eventSourceSettings),
                     persistenceOperationsConfig);
         });
     }
 
+    private static MongoEventSourceSettings getEventSourceSettings(final Config config) {
+        return MongoEventSourceSettings.fromConfig(config, PolicyPersistenceActor.PERSISTENCE_ID_PREFIX, true,
+                PolicyPersistenceActor.JOURNAL_PLUGIN_ID, PolicyPersistenceActor.SNAPSHOT_PLUGIN_ID);
+    }
+
 }
@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.policies.persistence.actors;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
 
 import javax.annotation.Nullable;
 
@@ -26,9 +28,13 @@ import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConf
 import org.eclipse.ditto.services.policies.common.config.DittoPoliciesConfig;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmStartConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmStartConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyUnavailableException;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorKilledException;
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -44,10 +50,14 @@ public final class PolicySupervisorActor extends AbstractPersistenceSupervisor<P
 
     private final ActorRef pubSubMediator;
     private final SnapshotAdapter<Policy> snapshotAdapter;
+    @Nullable private final Duration activityReportInterval;
+
+    private PolicySupervisorActor(final ActorRef pubSubMediator, final SnapshotAdapter<Policy> snapshotAdapter,
+            final WarmStartConfig warmStartConfig) {
 
-    private PolicySupervisorActor(final ActorRef pubSubMediator, final SnapshotAdapter<Policy> snapshotAdapter) {
         this.pubSubMediator = pubSubMediator;
         this.snapshotAdapter = snapshotAdapter;
+        activityReportInterval = warmStartConfig.isEnabled() ? warmStartConfig.getInterval() : null;
     }
 
     /**
@@ -63,7 +73,22 @@ public final class PolicySupervisorActor extends AbstractPersistenceSupervisor<P
      */
     public static Props props(final ActorRef pubSubMediator, final SnapshotAdapter<Policy> snapshotAdapter) {
 
-        return Props.create(PolicySupervisorActor.class, pubSubMediator, snapshotAdapter);
+        return props(pubSubMediator, snapshotAdapter, DefaultWarmStartConfig.of(ConfigFactory.empty()));
+    }
+
+    /**
+     * Props for creating a {@code PolicySupervisorActor} which reports the activity of its policy if warm start is
+     * enabled.
+     *
+     * @param pubSubMediator the PubSub mediator actor.
+     * @param snapshotAdapter the adapter to serialize snapshots.
+     * @param warmStartConfig the config of warm-starting the most active policies.
+     * @return the {@link Props} to create this actor.
+     */
+    public static Props props(final ActorRef pubSubMediator, final SnapshotAdapter<Policy> snapshotAdapter,
+            final WarmStartConfig warmStartConfig) {
+
+        return Props.create(PolicySupervisorActor.class, pubSubMediator, snapshotAdapter, warmStartConfig);
     }
 
     @Override
@@ -76,6 +101,11 @@ public final class PolicySupervisorActor extends AbstractPersistenceSupervisor<P
         return PolicyPersistenceActor.props(entityId, snapshotAdapter, pubSubMediator);
     }
 
+    @Override
+    protected Optional<Duration> getActivityReportInterval() {
+        return Optional.ofNullable(activityReportInterval);
+    }
+
     @Override
     protected ExponentialBackOffConfig getExponentialBackOffConfig() {
         final DittoPoliciesConfig policiesConfig = DittoPoliciesConfig.of(
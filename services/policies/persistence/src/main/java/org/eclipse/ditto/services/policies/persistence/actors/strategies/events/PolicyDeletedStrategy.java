@@ -15,26 +15,32 @@ package org.eclipse.ditto.services.policies.persistence.actors.strategies.events
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
 import org.eclipse.ditto.model.policies.PolicyLifecycle;
+import org.eclipse.ditto.services.utils.persistentactors.events.BuilderEventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.signals.events.policies.PolicyDeleted;
 
 /**
  * This strategy handles {@link org.eclipse.ditto.signals.events.policies.PolicyDeleted} events.
  */
-final class PolicyDeletedStrategy implements EventStrategy<PolicyDeleted, Policy> {
+final class PolicyDeletedStrategy implements EventStrategy<PolicyDeleted, Policy>,
+        BuilderEventStrategy<PolicyDeleted, PolicyBuilder> {
 
     @Nullable
     @Override
     public Policy handle(final PolicyDeleted event, @Nullable final Policy policy, final long revision) {
         if (policy != null) {
-            return policy.toBuilder()
-                    .setLifecycle(PolicyLifecycle.DELETED)
-                    .setRevision(revision)
-                    .setModified(event.getTimestamp().orElse(null))
-                    .build();
+            return apply(event, policy.toBuilder(), revision).build();
         } else {
             return null;
         }
     }
+
+    @Override
+    public PolicyBuilder apply(final PolicyDeleted event, final PolicyBuilder policyBuilder, final long revision) {
+        return policyBuilder.setLifecycle(PolicyLifecycle.DELETED)
+                .setRevision(revision)
+                .setModified(event.getTimestamp().orElse(null));
+    }
 }
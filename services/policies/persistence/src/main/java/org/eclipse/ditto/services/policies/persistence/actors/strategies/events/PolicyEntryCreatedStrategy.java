@@ -17,20 +17,27 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.services.utils.persistentactors.events.BuilderEventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.signals.events.policies.PolicyEntryCreated;
 
 /**
  * This strategy handles {@link org.eclipse.ditto.signals.events.policies.PolicyEntryCreated} events.
  */
-final class PolicyEntryCreatedStrategy implements EventStrategy<PolicyEntryCreated, Policy> {
+final class PolicyEntryCreatedStrategy implements EventStrategy<PolicyEntryCreated, Policy>,
+        BuilderEventStrategy<PolicyEntryCreated, PolicyBuilder> {
 
     @Override
     public Policy handle(final PolicyEntryCreated pec, @Nullable final Policy policy, final long revision) {
-        return checkNotNull(policy, "policy").toBuilder()
+        return apply(pec, checkNotNull(policy, "policy").toBuilder(), revision).build();
+    }
+
+    @Override
+    public PolicyBuilder apply(final PolicyEntryCreated pec, final PolicyBuilder policyBuilder, final long revision) {
+        return policyBuilder
                 .set(pec.getPolicyEntry())
                 .setRevision(revision)
-                .setModified(pec.getTimestamp().orElse(null))
-                .build();
+                .setModified(pec.getTimestamp().orElse(null));
     }
 }
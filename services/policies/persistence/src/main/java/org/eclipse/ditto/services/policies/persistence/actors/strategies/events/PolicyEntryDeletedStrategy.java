@@ -17,20 +17,27 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.services.utils.persistentactors.events.BuilderEventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.signals.events.policies.PolicyEntryDeleted;
 
 /**
  * This strategy handles {@link org.eclipse.ditto.signals.events.policies.PolicyEntryDeleted} events.
  */
-final class PolicyEntryDeletedStrategy implements EventStrategy<PolicyEntryDeleted, Policy> {
+final class PolicyEntryDeletedStrategy implements EventStrategy<PolicyEntryDeleted, Policy>,
+        BuilderEventStrategy<PolicyEntryDeleted, PolicyBuilder> {
 
     @Override
     public Policy handle(final PolicyEntryDeleted ped, @Nullable final Policy policy, final long revision) {
-        return checkNotNull(policy, "policy").toBuilder()
+        return apply(ped, checkNotNull(policy, "policy").toBuilder(), revision).build();
+    }
+
+    @Override
+    public PolicyBuilder apply(final PolicyEntryDeleted ped, final PolicyBuilder policyBuilder, final long revision) {
+        return policyBuilder
                 .remove(ped.getLabel())
                 .setRevision(revision)
-                .setModified(ped.getTimestamp().orElse(null))
-                .build();
+                .setModified(ped.getTimestamp().orElse(null));
     }
 }
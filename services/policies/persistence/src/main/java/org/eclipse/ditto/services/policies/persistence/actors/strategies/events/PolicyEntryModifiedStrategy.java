@@ -17,20 +17,27 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.services.utils.persistentactors.events.BuilderEventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.signals.events.policies.PolicyEntryModified;
 
 /**
  * This strategy handles {@link org.eclipse.ditto.signals.events.policies.PolicyEntryModified} events.
  */
-final class PolicyEntryModifiedStrategy implements EventStrategy<PolicyEntryModified, Policy> {
+final class PolicyEntryModifiedStrategy implements EventStrategy<PolicyEntryModified, Policy>,
+        BuilderEventStrategy<PolicyEntryModified, PolicyBuilder> {
 
     @Override
     public Policy handle(final PolicyEntryModified pem, @Nullable final Policy policy, final long revision) {
-        return checkNotNull(policy, "policy").toBuilder()
+        return apply(pem, checkNotNull(policy, "policy").toBuilder(), revision).build();
+    }
+
+    @Override
+    public PolicyBuilder apply(final PolicyEntryModified pem, final PolicyBuilder policyBuilder, final long revision) {
+        return policyBuilder
                 .set(pem.getPolicyEntry())
                 .setRevision(revision)
-                .setModified(pem.getTimestamp().orElse(null))
-                .build();
+                .setModified(pem.getTimestamp().orElse(null));
     }
 }
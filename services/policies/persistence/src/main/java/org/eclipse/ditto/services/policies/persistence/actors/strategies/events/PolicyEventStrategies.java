@@ -13,7 +13,8 @@
 package org.eclipse.ditto.services.policies.persistence.actors.strategies.events;
 
 import org.eclipse.ditto.model.policies.Policy;
-import org.eclipse.ditto.services.utils.persistentactors.events.AbstractEventStrategies;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.services.utils.persistentactors.events.AbstractBuilderEventStrategies;
 import org.eclipse.ditto.signals.events.policies.PolicyCreated;
 import org.eclipse.ditto.signals.events.policies.PolicyDeleted;
 import org.eclipse.ditto.signals.events.policies.PolicyEntriesModified;
@@ -34,26 +35,37 @@ import org.eclipse.ditto.signals.events.policies.SubjectsModified;
 /**
  * PersistentActor which "knows" the state of a single {@link org.eclipse.ditto.model.policies.Policy}.
  */
-public final class PolicyEventStrategies extends AbstractEventStrategies<PolicyEvent, Policy> {
+public final class PolicyEventStrategies
+        extends AbstractBuilderEventStrategies<PolicyEvent, Policy, PolicyBuilder> {
 
     private static final PolicyEventStrategies INSTANCE = new PolicyEventStrategies();
 
     private PolicyEventStrategies() {
         addStrategy(PolicyCreated.class, new PolicyCreatedStrategy());
         addStrategy(PolicyModified.class, new PolicyModifiedStrategy());
-        addStrategy(PolicyDeleted.class, new PolicyDeletedStrategy());
+        addBuilderStrategy(PolicyDeleted.class, new PolicyDeletedStrategy());
         addStrategy(PolicyEntriesModified.class, new PolicyEntriesModifiedStrategy());
-        addStrategy(PolicyEntryCreated.class, new PolicyEntryCreatedStrategy());
-        addStrategy(PolicyEntryModified.class, new PolicyEntryModifiedStrategy());
-        addStrategy(PolicyEntryDeleted.class, new PolicyEntryDeletedStrategy());
+        addBuilderStrategy(PolicyEntryCreated.class, new PolicyEntryCreatedStrategy());
+        addBuilderStrategy(PolicyEntryModified.class, new PolicyEntryModifiedStrategy());
+        addBuilderStrategy(PolicyEntryDeleted.class, new PolicyEntryDeletedStrategy());
         addStrategy(SubjectsModified.class, new SubjectsModifiedStrategy());
         addStrategy(SubjectCreated.class, new SubjectCreatedStrategy());
         addStrategy(SubjectModified.class, new SubjectModifiedStrategy());
-        addStrategy(SubjectDeleted.class, new SubjectDeletedStrategy());
+        addBuilderStrategy(SubjectDeleted.class, new SubjectDeletedStrategy());
         addStrategy(ResourcesModified.class, new ResourcesModifiedStrategy());
         addStrategy(ResourceCreated.class, new ResourceCreatedStrategy());
         addStrategy(ResourceModified.class, new ResourceModifiedStrategy());
-        addStrategy(ResourceDeleted.class, new ResourceDeletedStrategy());
+        addBuilderStrategy(ResourceDeleted.class, new ResourceDeletedStrategy());
+    }
+
+    @Override
+    protected PolicyBuilder toBuilder(final Policy policy) {
+        return policy.toBuilder();
+    }
+
+    @Override
+    protected Policy build(final PolicyBuilder policyBuilder) {
+        return policyBuilder.build();
     }
 
     /**
@@ -17,21 +17,28 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.services.utils.persistentactors.events.BuilderEventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.signals.events.policies.ResourceDeleted;
 
 /**
  * This strategy handles {@link org.eclipse.ditto.signals.events.policies.ResourceDeleted} events.
  */
-final class ResourceDeletedStrategy implements EventStrategy<ResourceDeleted, Policy> {
+final class ResourceDeletedStrategy implements EventStrategy<ResourceDeleted, Policy>,
+        BuilderEventStrategy<ResourceDeleted, PolicyBuilder> {
 
     @Override
     public Policy handle(final ResourceDeleted rd, @Nullable final Policy policy, final long revision) {
-        return checkNotNull(policy, "policy").toBuilder()
+        return apply(rd, checkNotNull(policy, "policy").toBuilder(), revision).build();
+    }
+
+    @Override
+    public PolicyBuilder apply(final ResourceDeleted rd, final PolicyBuilder policyBuilder, final long revision) {
+        return policyBuilder
                 .forLabel(rd.getLabel())
                 .removeResource(rd.getResourceKey())
                 .setRevision(revision)
-                .setModified(rd.getTimestamp().orElse(null))
-                .build();
+                .setModified(rd.getTimestamp().orElse(null));
     }
 }
@@ -17,21 +17,28 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.services.utils.persistentactors.events.BuilderEventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.signals.events.policies.SubjectDeleted;
 
 /**
  * This strategy handles {@link org.eclipse.ditto.signals.events.policies.SubjectDeleted} events.
  */
-final class SubjectDeletedStrategy implements EventStrategy<SubjectDeleted, Policy> {
+final class SubjectDeletedStrategy implements EventStrategy<SubjectDeleted, Policy>,
+        BuilderEventStrategy<SubjectDeleted, PolicyBuilder> {
 
     @Override
     public Policy handle(final SubjectDeleted sd, @Nullable final Policy policy, final long revision) {
-        return checkNotNull(policy, "policy").toBuilder()
+        return apply(sd, checkNotNull(policy, "policy").toBuilder(), revision).build();
+    }
+
+    @Override
+    public PolicyBuilder apply(final SubjectDeleted sd, final PolicyBuilder policyBuilder, final long revision) {
+        return policyBuilder
                 .forLabel(sd.getLabel())
                 .removeSubject(sd.getSubjectId())
                 .setRevision(revision)
-                .setModified(sd.getTimestamp().orElse(null))
-                .build();
+                .setModified(sd.getTimestamp().orElse(null));
     }
 }
@@ -28,6 +28,7 @@ import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonCbor;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.signals.base.WithType;
 import org.eclipse.ditto.signals.events.base.Event;
@@ -58,11 +59,13 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
 
     protected final GlobalEventRegistry eventRegistry;
     @Nullable private final ExtendedActorSystem system;
+    private final boolean binaryEncoding;
 
     protected AbstractPolicyMongoEventAdapter(final Logger logger, @Nullable final ExtendedActorSystem system) {
         this.logger = logger;
         this.system = system;
         eventRegistry = GlobalEventRegistry.getInstance();
+        binaryEncoding = DittoBsonCbor.isEnabled(system);
     }
 
     @Override
@@ -82,6 +85,9 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
             final JsonSchemaVersion schemaVersion = theEvent.getImplementedSchemaVersion();
             final JsonObject jsonObject =
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()));
+            if (binaryEncoding) {
+                return DittoBsonCbor.getInstance().parse(jsonObject);
+            }
             final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
             return dittoBsonJson.parse(jsonObject);
         } else {
@@ -93,7 +99,7 @@ public abstract class AbstractPolicyMongoEventAdapter implements EventAdapter {
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            return EventSeq.single(tryToCreateEventFrom(DittoBsonCbor.getInstance().serialize((BsonValue) event)));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
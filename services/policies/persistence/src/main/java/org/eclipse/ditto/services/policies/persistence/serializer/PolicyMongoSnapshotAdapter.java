@@ -31,7 +31,16 @@ public final class PolicyMongoSnapshotAdapter extends AbstractMongoSnapshotAdapt
      * Constructs a new {@code PolicyMongoSnapshotAdapter}.
      */
     public PolicyMongoSnapshotAdapter() {
-        super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class));
+        this(false);
+    }
+
+    /**
+     * Constructs a new {@code PolicyMongoSnapshotAdapter}.
+     *
+     * @param binaryEncoding whether to write snapshots as binary document.
+     */
+    public PolicyMongoSnapshotAdapter(final boolean binaryEncoding) {
+        super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class), binaryEncoding);
     }
 
     @Override
@@ -20,10 +20,13 @@ import java.net.InetSocketAddress;
 import java.time.Duration;
 import java.util.concurrent.CompletionStage;
 
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
 import org.eclipse.ditto.services.policies.common.config.PoliciesConfig;
 import org.eclipse.ditto.services.policies.persistence.actors.PoliciesPersistenceStreamingActorCreator;
 import org.eclipse.ditto.services.policies.persistence.actors.PolicyPersistenceOperationsActor;
@@ -41,9 +44,14 @@ import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.MetricsReporterConfig;
 import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmStartConfig;
+import org.eclipse.ditto.services.utils.persistentactors.warmstart.MongoWarmStartPersistence;
+import org.eclipse.ditto.services.utils.persistentactors.warmstart.WarmStartActor;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
 
 import akka.Done;
@@ -73,9 +81,12 @@ public final class PoliciesRootActor extends DittoRootActor {
      */
     public static final String ACTOR_NAME = "policiesRoot";
 
+    private static final String WARM_START_COLLECTION_NAME = "policies_warm_start";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final RetrieveStatisticsDetailsResponseSupplier retrieveStatisticsDetailsResponseSupplier;
+    private final DittoMongoClient mongoClient;
 
     @SuppressWarnings("unused")
     private PoliciesRootActor(final PoliciesConfig policiesConfig,
@@ -83,11 +94,16 @@ public final class PoliciesRootActor extends DittoRootActor {
             final ActorRef pubSubMediator,
             final ActorMaterializer materializer) {
 
+        // the persistence operations and the warm start share one connection pool
+        mongoClient = MongoClientWrapper.newInstance(policiesConfig.getMongoDbConfig());
+
         final ActorSystem actorSystem = getContext().system();
         final ClusterShardingSettings shardingSettings =
                 ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE);
 
-        final Props policySupervisorProps = PolicySupervisorActor.props(pubSubMediator, snapshotAdapter);
+        final WarmStartConfig warmStartConfig = policiesConfig.getPolicyConfig().getWarmStartConfig();
+        final Props policySupervisorProps =
+                PolicySupervisorActor.props(pubSubMediator, snapshotAdapter, warmStartConfig);
 
         final TagsConfig tagsConfig = policiesConfig.getTagsConfig();
         final ActorRef persistenceStreamingActor = startChildActor(PoliciesPersistenceStreamingActorCreator.ACTOR_NAME,
@@ -97,12 +113,21 @@ public final class PoliciesRootActor extends DittoRootActor {
         pubSubMediator.tell(DistPubSubAccess.put(persistenceStreamingActor), getSelf());
 
         final ClusterConfig clusterConfig = policiesConfig.getClusterConfig();
+        final ShardRegionExtractor shardRegionExtractor =
+                ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem);
         final ActorRef policiesShardRegion = ClusterSharding.get(actorSystem)
                 .start(PoliciesMessagingConstants.SHARD_REGION, policySupervisorProps, shardingSettings,
-                        ShardRegionExtractor.of(clusterConfig.getNumberOfShards(), actorSystem));
+                        shardRegionExtractor);
+
+        if (warmStartConfig.isEnabled()) {
+            startChildActor(WarmStartActor.ACTOR_NAME, WarmStartActor.props(policiesShardRegion, shardRegionExtractor,
+                    MongoWarmStartPersistence.of(mongoClient, WARM_START_COLLECTION_NAME),
+                    warmStartConfig,
+                    policyId -> SudoRetrievePolicy.of(PolicyId.of(policyId), DittoHeaders.empty())));
+        }
 
         startChildActor(PolicyPersistenceOperationsActor.ACTOR_NAME,
-                PolicyPersistenceOperationsActor.props(pubSubMediator, policiesConfig.getMongoDbConfig(),
+                PolicyPersistenceOperationsActor.props(pubSubMediator, mongoClient,
                         actorSystem.settings().config(), policiesConfig.getPersistenceOperationsConfig()));
 
         retrieveStatisticsDetailsResponseSupplier = RetrieveStatisticsDetailsResponseSupplier.of(policiesShardRegion,
@@ -172,6 +197,12 @@ public final class PoliciesRootActor extends DittoRootActor {
         return Props.create(PoliciesRootActor.class, policiesConfig, snapshotAdapter, pubSubMediator, materializer);
     }
 
+    @Override
+    public void postStop() throws Exception {
+        mongoClient.close();
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
@@ -12,18 +12,25 @@
  */
 package org.eclipse.ditto.services.things.common.config;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.DefaultSupervisorConfig;
 import org.eclipse.ditto.services.base.config.supervision.SupervisorConfig;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultEntityMetricsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultGroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmStartConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EntityMetricsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmStartConfig;
 
 import com.typesafe.config.Config;
 
@@ -38,11 +45,20 @@ public final class DefaultThingConfig implements ThingConfig {
     private final SupervisorConfig supervisorConfig;
     private final ActivityCheckConfig activityCheckConfig;
     private final SnapshotConfig snapshotConfig;
+    private final GroupCommitConfig groupCommitConfig;
+    private final WarmStartConfig warmStartConfig;
+    private final EntityMetricsConfig entityMetricsConfig;
+    private final Duration sudoRetrieveThingsTimeout;
 
     private DefaultThingConfig(final ScopedConfig scopedConfig) {
         supervisorConfig = DefaultSupervisorConfig.of(scopedConfig);
         activityCheckConfig = DefaultActivityCheckConfig.of(scopedConfig);
         snapshotConfig = DefaultSnapshotConfig.of(scopedConfig);
+        groupCommitConfig = DefaultGroupCommitConfig.of(scopedConfig);
+        warmStartConfig = DefaultWarmStartConfig.of(scopedConfig);
+        entityMetricsConfig = DefaultEntityMetricsConfig.of(scopedConfig);
+        sudoRetrieveThingsTimeout =
+                scopedConfig.getNonNegativeDurationOrThrow(ThingConfigValue.SUDO_RETRIEVE_THINGS_TIMEOUT);
     }
 
     /**
@@ -53,7 +69,7 @@ public final class DefaultThingConfig implements ThingConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultThingConfig of(final Config config) {
-        return new DefaultThingConfig(DefaultScopedConfig.newInstance(config, CONFIG_PATH));
+        return new DefaultThingConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, ThingConfigValue.values()));
     }
 
     @Override
@@ -71,6 +87,26 @@ public final class DefaultThingConfig implements ThingConfig {
         return snapshotConfig;
     }
 
+    @Override
+    public GroupCommitConfig getGroupCommitConfig() {
+        return groupCommitConfig;
+    }
+
+    @Override
+    public WarmStartConfig getWarmStartConfig() {
+        return warmStartConfig;
+    }
+
+    @Override
+    public EntityMetricsConfig getEntityMetricsConfig() {
+        return entityMetricsConfig;
+    }
+
+    @Override
+    public Duration getSudoRetrieveThingsTimeout() {
+        return sudoRetrieveThingsTimeout;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -82,12 +118,17 @@ public final class DefaultThingConfig implements ThingConfig {
         final DefaultThingConfig that = (DefaultThingConfig) o;
         return Objects.equals(supervisorConfig, that.supervisorConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
-                Objects.equals(snapshotConfig, that.snapshotConfig);
+                Objects.equals(snapshotConfig, that.snapshotConfig) &&
+                Objects.equals(groupCommitConfig, that.groupCommitConfig) &&
+                Objects.equals(warmStartConfig, that.warmStartConfig) &&
+                Objects.equals(entityMetricsConfig, that.entityMetricsConfig) &&
+                Objects.equals(sudoRetrieveThingsTimeout, that.sudoRetrieveThingsTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig);
+        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, groupCommitConfig,
+                warmStartConfig, entityMetricsConfig, sudoRetrieveThingsTimeout);
     }
 
     @Override
@@ -96,6 +137,10 @@ public final class DefaultThingConfig implements ThingConfig {
                 "supervisorConfig=" + supervisorConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", snapshotConfig=" + snapshotConfig +
+                ", groupCommitConfig=" + groupCommitConfig +
+                ", warmStartConfig=" + warmStartConfig +
+                ", entityMetricsConfig=" + entityMetricsConfig +
+                ", sudoRetrieveThingsTimeout=" + sudoRetrieveThingsTimeout +
                 "]";
     }
 
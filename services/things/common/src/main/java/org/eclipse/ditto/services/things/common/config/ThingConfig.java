@@ -12,15 +12,62 @@
  */
 package org.eclipse.ditto.services.things.common.config;
 
+import java.time.Duration;
+
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.WithSupervisorConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithEntityMetricsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithGroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WithWarmStartConfig;
 
 /**
  * Provides configuration settings for thing entities.
  */
 @Immutable
-public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig {
+public interface ThingConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig,
+        WithGroupCommitConfig, WithWarmStartConfig, WithEntityMetricsConfig {
+
+    /**
+     * Returns how long to wait for each Thing of a {@code SudoRetrieveThings} command answered by the things service.
+     * Things which are not retrieved in time are reported as failed in the response.
+     *
+     * @return the timeout of retrieving a single Thing.
+     */
+    Duration getSudoRetrieveThingsTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ThingConfig}.
+     */
+    enum ThingConfigValue implements KnownConfigValue {
+
+        /**
+         * How long to wait for each Thing of a {@code SudoRetrieveThings} command.
+         */
+        SUDO_RETRIEVE_THINGS_TIMEOUT("sudo-retrieve-things-timeout", Duration.ofSeconds(10L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ThingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
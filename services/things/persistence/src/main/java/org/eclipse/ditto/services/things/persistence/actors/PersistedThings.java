@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.things.persistence.actors.strategies.commands.ThingCommandStrategies;
+import org.eclipse.ditto.services.utils.persistentactors.commands.DefaultContext;
+import org.eclipse.ditto.services.utils.persistentactors.results.Result;
+import org.eclipse.ditto.services.utils.persistentactors.results.ResultVisitor;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+import akka.event.DiagnosticLoggingAdapter;
+
+/**
+ * Registry of the persisted state of the Things whose {@link ThingPersistenceActor}s run on this cluster member.
+ * Each {@code ThingPersistenceActor} publishes the immutable persisted state of its Thing here so that the
+ * {@link ThingSupervisorActor} and the {@link SudoRetrieveThingsActor} can answer queries without passing the mailbox
+ * of the persistence actor.
+ */
+@ThreadSafe
+public final class PersistedThings implements Extension {
+
+    private final Map<ThingId, Entry> entries;
+
+    private PersistedThings() {
+        entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the {@code PersistedThings} of the given actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the registry of the persisted Things of the actor system.
+     */
+    public static PersistedThings get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * Publishes the persisted state of a Thing, replacing the state published before.
+     *
+     * @param thingId the ID of the Thing.
+     * @param entry the persisted state of the Thing.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    void put(final ThingId thingId, final Entry entry) {
+        entries.put(checkNotNull(thingId, "thingId"), checkNotNull(entry, "entry"));
+    }
+
+    /**
+     * Returns the latest published persisted state of a Thing.
+     *
+     * @param thingId the ID of the Thing.
+     * @return the persisted state or an empty Optional if none is published.
+     */
+    Optional<Entry> find(final ThingId thingId) {
+        return Optional.ofNullable(entries.get(thingId));
+    }
+
+    /**
+     * Answers a query command from the latest published persisted state of a Thing. The command strategies evaluate
+     * conditional headers and selected fields exactly like the persistence actor.
+     *
+     * @param thingId the ID of the Thing.
+     * @param query the query command.
+     * @param log the logger of the querying actor.
+     * @return the response or the error of the query, or an empty Optional if no persisted state is published or the
+     * command is no query.
+     */
+    Optional<Object> query(final ThingId thingId, final Command<?> query, final DiagnosticLoggingAdapter log) {
+        return find(thingId).flatMap(entry -> {
+            entry.countRead();
+            try {
+                final Result<ThingEvent> result = ThingCommandStrategies.getInstance()
+                        .apply(DefaultContext.getInstance(thingId, log), entry.getThing(), entry.getRevision() + 1,
+                                query);
+                final QueryResponseCollector collector = new QueryResponseCollector();
+                result.accept(collector);
+                return Optional.ofNullable(collector.response);
+            } catch (final DittoRuntimeException e) {
+                return Optional.of(e);
+            }
+        });
+    }
+
+    /**
+     * Removes the persisted state of a Thing if it is still the given one.
+     *
+     * @param thingId the ID of the Thing.
+     * @param entry the persisted state to remove.
+     */
+    void remove(final ThingId thingId, final Entry entry) {
+        entries.remove(thingId, entry);
+    }
+
+    /**
+     * The persisted state of a Thing stamped with its revision.
+     */
+    @Immutable
+    static final class Entry {
+
+        private final Thing thing;
+        private final long revision;
+        private final LongAdder readCounter;
+
+        /**
+         * Constructs a new {@code Entry}.
+         *
+         * @param thing the persisted Thing.
+         * @param revision the revision of the persisted Thing.
+         * @param readCounter counter of the reads of the Thing shared by all entries of the same persistence actor.
+         */
+        Entry(final Thing thing, final long revision, final LongAdder readCounter) {
+            this.thing = thing;
+            this.revision = revision;
+            this.readCounter = readCounter;
+        }
+
+        /**
+         * @return the persisted Thing.
+         */
+        Thing getThing() {
+            return thing;
+        }
+
+        /**
+         * @return the revision of the persisted Thing.
+         */
+        long getRevision() {
+            return revision;
+        }
+
+        /**
+         * Counts a read of the persisted Thing so that the persistence actor is not passivated for inactivity.
+         */
+        void countRead() {
+            readCounter.increment();
+        }
+
+    }
+
+    private static final class QueryResponseCollector implements ResultVisitor<ThingEvent> {
+
+        @Nullable private Object response;
+
+        @Override
+        public void onMutation(final Command command, final ThingEvent event, final WithDittoHeaders response,
+                final boolean becomeCreated, final boolean becomeDeleted) {
+
+            // queries never mutate; leave the command to the persistence actor
+        }
+
+        @Override
+        public void onQuery(final Command command, final WithDittoHeaders response) {
+            this.response = response;
+        }
+
+        @Override
+        public void onError(final DittoRuntimeException error) {
+            response = error;
+        }
+
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<PersistedThings> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public PersistedThings createExtension(final ExtendedActorSystem system) {
+            return new PersistedThings();
+        }
+
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+
+/**
+ * Answers {@link SudoRetrieveThings} commands on the cluster member which hosts the shard of the requested Things.
+ * Each Thing is answered from the persisted state published to {@link PersistedThings} or else retrieved from the
+ * local shard region, so that no Thing is started only to route the command. Things which do not exist are left out
+ * of the response; Things whose retrieval failed or timed out are listed as failed so that only they are retried.
+ */
+public final class SudoRetrieveThingsActor extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "sudoRetrieveThingsActor";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+    private final ActorRef thingsShardRegion;
+    private final Duration sudoRetrieveThingTimeout;
+    private final PersistedThings persistedThings;
+
+    @SuppressWarnings("unused")
+    private SudoRetrieveThingsActor(final ActorRef thingsShardRegion, final Duration sudoRetrieveThingTimeout) {
+        this.thingsShardRegion = thingsShardRegion;
+        this.sudoRetrieveThingTimeout = sudoRetrieveThingTimeout;
+        persistedThings = PersistedThings.get(getContext().getSystem());
+    }
+
+    /**
+     * Creates Akka configuration object Props for this actor.
+     *
+     * @param thingsShardRegion the things shard region of this cluster member.
+     * @param sudoRetrieveThingTimeout how long to wait for each Thing retrieved from the shard region.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final ActorRef thingsShardRegion, final Duration sudoRetrieveThingTimeout) {
+        return Props.create(SudoRetrieveThingsActor.class, thingsShardRegion, sudoRetrieveThingTimeout);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(SudoRetrieveThings.class, this::retrieveThings)
+                .matchAny(message -> log.warning("Got unknown message: <{}>", message))
+                .build();
+    }
+
+    private void retrieveThings(final SudoRetrieveThings command) {
+        final List<ThingId> thingIds = command.getThingIds();
+        final List<CompletableFuture<Object>> responses = thingIds.stream()
+                .map(thingId -> retrieveThing(thingId, command).toCompletableFuture())
+                .collect(Collectors.toList());
+
+        final CompletionStage<SudoRetrieveThingsResponse> response =
+                CompletableFuture.allOf(responses.toArray(new CompletableFuture[0]))
+                        .thenApply(unused -> toSudoRetrieveThingsResponse(command, responses));
+
+        Patterns.pipe(response, getContext().getDispatcher()).to(getSender());
+    }
+
+    private CompletionStage<Object> retrieveThing(final ThingId thingId, final SudoRetrieveThings command) {
+        final SudoRetrieveThing sudoRetrieveThing = toSudoRetrieveThing(thingId, command);
+        return persistedThings.query(thingId, sudoRetrieveThing, log)
+                .<CompletionStage<Object>>map(CompletableFuture::completedFuture)
+                .orElseGet(() -> Patterns.ask(thingsShardRegion, sudoRetrieveThing, sudoRetrieveThingTimeout)
+                        // a failed retrieval is reported per Thing and must not fail the whole command
+                        .handle((reply, error) -> error != null ? error : reply));
+    }
+
+    // Called inside future; must be thread-safe
+    private static SudoRetrieveThingsResponse toSudoRetrieveThingsResponse(final SudoRetrieveThings command,
+            final List<CompletableFuture<Object>> responses) {
+
+        final List<ThingId> thingIds = command.getThingIds();
+        final List<String> thingJsons = new ArrayList<>();
+        final List<ThingId> failedThingIds = new ArrayList<>();
+        for (int i = 0; i < thingIds.size(); ++i) {
+            final Object response = responses.get(i).join();
+            if (response instanceof SudoRetrieveThingResponse) {
+                thingJsons.add(((SudoRetrieveThingResponse) response).getEntity().toString());
+            } else if (!(response instanceof ThingNotAccessibleException)) {
+                // things which do not exist are left out; everything else failed
+                failedThingIds.add(thingIds.get(i));
+            }
+        }
+        return SudoRetrieveThingsResponse.of(thingJsons, failedThingIds, command.getDittoHeaders());
+    }
+
+    private static SudoRetrieveThing toSudoRetrieveThing(final ThingId thingId, final SudoRetrieveThings command) {
+        final JsonFieldSelector selectedFields = command.getSelectedFields().orElse(null);
+        if (command.useOriginalSchemaVersion()) {
+            return SudoRetrieveThing.withOriginalSchemaVersion(thingId, selectedFields, command.getDittoHeaders());
+        } else {
+            return SudoRetrieveThing.of(thingId, selectedFields, command.getDittoHeaders());
+        }
+    }
+
+}
@@ -12,6 +12,10 @@
  */
 package org.eclipse.ditto.services.things.persistence.actors;
 
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.Thing;
@@ -27,6 +31,8 @@ import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapsh
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EntityMetricsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersistenceActor;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
@@ -66,6 +72,9 @@ public final class ThingPersistenceActor
 
     private final ThingConfig thingConfig;
     private final DistributedPub<ThingEvent> distributedPub;
+    private final PersistedThings persistedThings;
+    private final LongAdder readCounter;
+    @Nullable private PersistedThings.Entry publishedEntry;
 
     @SuppressWarnings("unused")
     private ThingPersistenceActor(final ThingId thingId, final DistributedPub<ThingEvent> distributedPub,
@@ -77,6 +86,9 @@ public final class ThingPersistenceActor
         );
         thingConfig = thingsConfig.getThingConfig();
         this.distributedPub = distributedPub;
+        persistedThings = PersistedThings.get(getContext().getSystem());
+        readCounter = new LongAdder();
+        publishedEntry = null;
     }
 
     /**
@@ -154,6 +166,21 @@ public final class ThingPersistenceActor
         return thingConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected long getEntitySizeInBytes(final Thing entity) {
+        return entity.toJson().getUpperBoundForStringSize();
+    }
+
+    @Override
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return thingConfig.getGroupCommitConfig();
+    }
+
+    @Override
+    protected EntityMetricsConfig getEntityMetricsConfig() {
+        return thingConfig.getEntityMetricsConfig();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(ThingLifecycle.DELETED);
@@ -173,6 +200,22 @@ public final class ThingPersistenceActor
         }
     }
 
+    @Override
+    protected void publishPersistedState(@Nullable final Thing persistedEntity, final long revision) {
+        if (null != persistedEntity && !persistedEntity.isDeleted()) {
+            publishedEntry = new PersistedThings.Entry(persistedEntity, revision, readCounter);
+            persistedThings.put(entityId, publishedEntry);
+        } else if (null != publishedEntry) {
+            persistedThings.remove(entityId, publishedEntry);
+            publishedEntry = null;
+        }
+    }
+
+    @Override
+    protected long getAccessCountWithoutMailbox() {
+        return readCounter.sum();
+    }
+
     @Override
     protected void publishEvent(final ThingEvent event) {
         distributedPub.publish(event, ActorRef.noSender());
@@ -15,6 +15,8 @@ package org.eclipse.ditto.services.things.persistence.actors;
 import java.util.Deque;
 import java.util.concurrent.LinkedBlockingDeque;
 
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingTooManyModifyingRequestsException;
 import org.eclipse.ditto.signals.commands.things.modify.ThingModifyCommand;
@@ -73,11 +75,13 @@ public class ThingPersistenceActorMailbox implements MailboxType,
         private static final long serialVersionUID = -3799029649510677683L;
 
         private final transient LoggingAdapter log;
+        private final transient Histogram mailboxSizes;
 
         private final int capacity;
 
         public ThingPersistenceActorMessageQueue(final int capacity, final ActorSystem actorSystem) {
             log = Logging.getLogger(actorSystem, ThingPersistenceActorMessageQueue.class);
+            mailboxSizes = DittoMetrics.histogram("mailbox_size").tag("entity_type", "thing");
             this.capacity = capacity;
         }
 
@@ -95,6 +99,7 @@ public class ThingPersistenceActorMailbox implements MailboxType,
                 // all other messages are enqueued right away and with no "limit":
                 queue().add(handle);
             }
+            mailboxSizes.record((long) numberOfMessages());
         }
 
         @Override
@@ -106,6 +111,7 @@ public class ThingPersistenceActorMailbox implements MailboxType,
                 // all other messages are enqueued right away and with no "limit":
                 queue().addFirst(handle);
             }
+            mailboxSizes.record((long) numberOfMessages());
         }
 
         private void queueSizeBasedAction(final ActorRef sender, final ThingModifyCommand command, final Runnable r) {
@@ -128,7 +134,11 @@ public class ThingPersistenceActorMailbox implements MailboxType,
 
         @Override
         public Envelope dequeue() {
-            return queue().poll();
+            final Envelope envelope = queue().poll();
+            if (envelope != null) {
+                mailboxSizes.record((long) numberOfMessages());
+            }
+            return envelope;
         }
 
         @Override
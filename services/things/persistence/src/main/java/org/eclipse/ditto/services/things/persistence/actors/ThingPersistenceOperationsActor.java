@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.things.persistence.actors;
 
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.ops.eventsource.MongoEventSourceSettings;
@@ -49,6 +50,17 @@ public final class ThingPersistenceOperationsActor extends AbstractPersistenceOp
                 mongoClientWrapper);
     }
 
+    private ThingPersistenceOperationsActor(final ActorRef pubSubMediator,
+            final NamespacePersistenceOperations namespaceOps,
+            final PersistenceOperationsConfig persistenceOperationsConfig) {
+
+        super(pubSubMediator,
+                ThingCommand.RESOURCE_TYPE,
+                namespaceOps,
+                null,
+                persistenceOperationsConfig);
+    }
+
     /**
      * Create Props of this actor.
      *
@@ -64,19 +76,40 @@ public final class ThingPersistenceOperationsActor extends AbstractPersistenceOp
             final PersistenceOperationsConfig persistenceOperationsConfig) {
 
         return Props.create(ThingPersistenceOperationsActor.class, () -> {
-            final MongoEventSourceSettings eventSourceSettings =
-                    MongoEventSourceSettings.fromConfig(config, ThingPersistenceActor.PERSISTENCE_ID_PREFIX, true,
-                            ThingPersistenceActor.JOURNAL_PLUGIN_ID, ThingPersistenceActor.SNAPSHOT_PLUGIN_ID);
-
             final MongoClientWrapper mongoClient = MongoClientWrapper.newInstance(mongoDbConfig);
-            final MongoDatabase db = mongoClient.getDefaultDatabase();
+            return new ThingPersistenceOperationsActor(pubSubMediator, getNamespaceOps(mongoClient, config),
+                    mongoClient, persistenceOperationsConfig);
+        });
+    }
 
-            final NamespacePersistenceOperations namespaceOps =
-                    MongoNamespacePersistenceOperations.of(db, eventSourceSettings);
+    /**
+     * Create Props of this actor which shares a MongoDB client with other actors. The client is not closed when the
+     * actor stops.
+     *
+     * @param pubSubMediator Akka pub-sub mediator.
+     * @param mongoClient the shared MongoDB client.
+     * @param config Configuration with info about event journal, snapshot store and database.
+     * @param persistenceOperationsConfig the persistence operations config.
+     * @return a Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator,
+            final DittoMongoClient mongoClient,
+            final Config config,
+            final PersistenceOperationsConfig persistenceOperationsConfig) {
 
-            return new ThingPersistenceOperationsActor(pubSubMediator, namespaceOps, mongoClient,
-                    persistenceOperationsConfig);
-        });
+        return Props.create(ThingPersistenceOperationsActor.class,
+                () -> new ThingPersistenceOperationsActor(pubSubMediator, getNamespaceOps(mongoClient, config),
+                        persistenceOperationsConfig));
+    }
+
+    private static NamespacePersistenceOperations getNamespaceOps(final DittoMongoClient mongoClient,
+            final Config config) {
+
+        final MongoEventSourceSettings eventSourceSettings =
+                MongoEventSourceSettings.fromConfig(config, ThingPersistenceActor.PERSISTENCE_ID_PREFIX, true,
+                        ThingPersistenceActor.JOURNAL_PLUGIN_ID, ThingPersistenceActor.SNAPSHOT_PLUGIN_ID);
+        final MongoDatabase db = mongoClient.getDefaultDatabase();
+        return MongoNamespacePersistenceOperations.of(db, eventSourceSettings);
     }
 
 }
@@ -14,6 +14,8 @@ package org.eclipse.ditto.services.things.persistence.actors;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -25,11 +27,16 @@ import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmStartConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmStartConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorKilledException;
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -41,21 +48,30 @@ import akka.actor.Props;
  * Between the termination of the child and the restart, this actor answers to all requests with a
  * {@link ThingUnavailableException} as fail fast strategy.
  * </p>
+ * <p>
+ * While the child runs, this actor answers {@link RetrieveThing} commands from the persisted state the child published
+ * to {@link PersistedThings} so that queries do not wait behind modifications in the mailbox of the child.
+ * </p>
  */
 public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<ThingId> {
 
     private final ActorRef pubSubMediator;
     private final DistributedPub<ThingEvent> distributedPub;
     private final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory;
+    @Nullable private final Duration activityReportInterval;
+    private final PersistedThings persistedThings;
 
     @SuppressWarnings("unused")
     private ThingSupervisorActor(final ActorRef pubSubMediator,
             final DistributedPub<ThingEvent> distributedPub,
-            final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory) {
+            final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory,
+            final WarmStartConfig warmStartConfig) {
 
         this.pubSubMediator = pubSubMediator;
         this.distributedPub = distributedPub;
         this.thingPersistenceActorPropsFactory = thingPersistenceActorPropsFactory;
+        activityReportInterval = warmStartConfig.isEnabled() ? warmStartConfig.getInterval() : null;
+        persistedThings = PersistedThings.get(getContext().getSystem());
     }
 
     /**
@@ -75,7 +91,27 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
             final DistributedPub<ThingEvent> distributedPub,
             final ThingPersistenceActorPropsFactory propsFactory) {
 
-        return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory);
+        return props(pubSubMediator, distributedPub, propsFactory, DefaultWarmStartConfig.of(ConfigFactory.empty()));
+    }
+
+    /**
+     * Props for creating a {@code ThingSupervisorActor} which reports the activity of its thing if warm start is
+     * enabled.
+     *
+     * @param distributedPub distributed-pub access for publishing thing events.
+     * @param propsFactory factory for creating Props to be used for creating
+     * {@link ThingPersistenceActor}s.
+     * @param warmStartConfig the config of warm-starting the most active things.
+     * @return the {@link Props} to create this actor.
+     */
+    public static Props props(
+            final ActorRef pubSubMediator,
+            final DistributedPub<ThingEvent> distributedPub,
+            final ThingPersistenceActorPropsFactory propsFactory,
+            final WarmStartConfig warmStartConfig) {
+
+        return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory,
+                warmStartConfig);
     }
 
     @Override
@@ -105,6 +141,19 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
         }
     }
 
+    @Override
+    protected Optional<Duration> getActivityReportInterval() {
+        return Optional.ofNullable(activityReportInterval);
+    }
+
+    @Override
+    protected boolean answerWithoutPersistenceActor(final Object message, final ActorRef sender) {
+        if (message instanceof RetrieveThing) {
+            return answerFromPersistedThing((RetrieveThing) message, sender);
+        }
+        return false;
+    }
+
     @Override
     @Nonnull
     protected ExponentialBackOffConfig getExponentialBackOffConfig() {
@@ -114,4 +163,13 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
                 .getExponentialBackOffConfig();
     }
 
+    private boolean answerFromPersistedThing(final RetrieveThing retrieveThing, final ActorRef sender) {
+        return persistedThings.query(retrieveThing.getThingEntityId(), retrieveThing, log)
+                .map(response -> {
+                    sender.tell(response, getSelf());
+                    return true;
+                })
+                .orElse(false);
+    }
+
 }
@@ -17,6 +17,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.services.utils.persistentactors.events.BuilderEventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
@@ -24,6 +25,8 @@ import org.eclipse.ditto.signals.events.things.ThingEvent;
  * This abstract implementation of {@code EventStrategy} checks if the Thing to be handled is {@code null}.
  * If the Thing is {@code null} the {@code handle} method returns with {@code null}; otherwise a ThingBuilder will be
  * derived from the Thing with the revision and modified timestamp set.
+ * The same is done for a ThingBuilder passed to {@code apply}, which allows to apply a sequence of events to one
+ * builder.
  * This builder is then passed to the
  * {@link #applyEvent(T, org.eclipse.ditto.model.things.ThingBuilder.FromCopy)}
  * method for further handling.
@@ -33,7 +36,8 @@ import org.eclipse.ditto.signals.events.things.ThingEvent;
  * @param <T> the type of the handled ThingEvent.
  */
 @Immutable
-abstract class AbstractThingEventStrategy<T extends ThingEvent<T>> implements EventStrategy<T, Thing> {
+abstract class AbstractThingEventStrategy<T extends ThingEvent<T>> implements EventStrategy<T, Thing>,
+        BuilderEventStrategy<T, ThingBuilder.FromCopy> {
 
     /**
      * Constructs a new {@code AbstractEventStrategy} object.
@@ -46,15 +50,16 @@ abstract class AbstractThingEventStrategy<T extends ThingEvent<T>> implements Ev
     @Override
     public Thing handle(final T event, @Nullable final Thing thing, final long revision) {
         if (null != thing) {
-            ThingBuilder.FromCopy thingBuilder = thing.toBuilder()
-                    .setRevision(revision)
-                    .setModified(event.getTimestamp().orElse(null));
-            thingBuilder = applyEvent(event, thingBuilder);
-            return thingBuilder.build();
+            return apply(event, thing.toBuilder(), revision).build();
         }
         return null;
     }
 
+    @Override
+    public ThingBuilder.FromCopy apply(final T event, final ThingBuilder.FromCopy thingBuilder, final long revision) {
+        return applyEvent(event, thingBuilder.setRevision(revision).setModified(event.getTimestamp().orElse(null)));
+    }
+
     /**
      * Apply the specified event to the also specified ThingBuilder. The builder has already the specified revision
      * set as well as the event's timestamp.
@@ -15,7 +15,8 @@ package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.things.Thing;
-import org.eclipse.ditto.services.utils.persistentactors.events.AbstractEventStrategies;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.services.utils.persistentactors.events.AbstractBuilderEventStrategies;
 import org.eclipse.ditto.signals.events.things.AclEntryCreated;
 import org.eclipse.ditto.signals.events.things.AclEntryDeleted;
 import org.eclipse.ditto.signals.events.things.AclEntryModified;
@@ -55,7 +56,8 @@ import org.eclipse.ditto.signals.events.things.ThingModified;
  * This Singleton strategy handles all {@link org.eclipse.ditto.signals.events.things.ThingEvent}s.
  */
 @Immutable
-public final class ThingEventStrategies extends AbstractEventStrategies<ThingEvent, Thing> {
+public final class ThingEventStrategies
+        extends AbstractBuilderEventStrategies<ThingEvent, Thing, ThingBuilder.FromCopy> {
 
     private static final ThingEventStrategies INSTANCE = new ThingEventStrategies();
 
@@ -80,59 +82,69 @@ public final class ThingEventStrategies extends AbstractEventStrategies<ThingEve
         addPolicyIdStrategies();
     }
 
+    @Override
+    protected ThingBuilder.FromCopy toBuilder(final Thing thing) {
+        return thing.toBuilder();
+    }
+
+    @Override
+    protected Thing build(final ThingBuilder.FromCopy thingBuilder) {
+        return thingBuilder.build();
+    }
+
     private void addThingStrategies() {
         addStrategy(ThingCreated.class, new ThingCreatedStrategy());
-        addStrategy(ThingModified.class, new ThingModifiedStrategy());
-        addStrategy(ThingDeleted.class, new ThingDeletedStrategy());
+        addBuilderStrategy(ThingModified.class, new ThingModifiedStrategy());
+        addBuilderStrategy(ThingDeleted.class, new ThingDeletedStrategy());
     }
 
     private void addAclStrategies() {
-        addStrategy(AclModified.class, new AclModifiedStrategy());
-        addStrategy(AclEntryCreated.class, new AclEntryCreatedStrategy());
-        addStrategy(AclEntryModified.class, new AclEntryModifiedStrategy());
-        addStrategy(AclEntryDeleted.class, new AclEntryDeletedStrategy());
+        addBuilderStrategy(AclModified.class, new AclModifiedStrategy());
+        addBuilderStrategy(AclEntryCreated.class, new AclEntryCreatedStrategy());
+        addBuilderStrategy(AclEntryModified.class, new AclEntryModifiedStrategy());
+        addBuilderStrategy(AclEntryDeleted.class, new AclEntryDeletedStrategy());
     }
 
     private void addAttributesStrategies() {
-        addStrategy(AttributesCreated.class, new AttributesCreatedStrategy());
-        addStrategy(AttributesModified.class, new AttributesModifiedStrategy());
-        addStrategy(AttributesDeleted.class, new AttributesDeletedStrategy());
+        addBuilderStrategy(AttributesCreated.class, new AttributesCreatedStrategy());
+        addBuilderStrategy(AttributesModified.class, new AttributesModifiedStrategy());
+        addBuilderStrategy(AttributesDeleted.class, new AttributesDeletedStrategy());
 
-        addStrategy(AttributeCreated.class, new AttributeCreatedStrategy());
-        addStrategy(AttributeModified.class, new AttributeModifiedStrategy());
-        addStrategy(AttributeDeleted.class, new AttributeDeletedStrategy());
+        addBuilderStrategy(AttributeCreated.class, new AttributeCreatedStrategy());
+        addBuilderStrategy(AttributeModified.class, new AttributeModifiedStrategy());
+        addBuilderStrategy(AttributeDeleted.class, new AttributeDeletedStrategy());
     }
 
     private void addDefinitionStrategies() {
-        addStrategy(ThingDefinitionCreated.class, new ThingDefinitionCreatedStrategy());
-        addStrategy(ThingDefinitionModified.class, new ThingDefinitionModifiedStrategy());
-        addStrategy(ThingDefinitionDeleted.class, new ThingDefinitionDeletedStrategy());
+        addBuilderStrategy(ThingDefinitionCreated.class, new ThingDefinitionCreatedStrategy());
+        addBuilderStrategy(ThingDefinitionModified.class, new ThingDefinitionModifiedStrategy());
+        addBuilderStrategy(ThingDefinitionDeleted.class, new ThingDefinitionDeletedStrategy());
     }
 
     private void addFeaturesStrategies() {
-        addStrategy(FeaturesCreated.class, new FeaturesCreatedStrategy());
-        addStrategy(FeaturesModified.class, new FeaturesModifiedStrategy());
-        addStrategy(FeaturesDeleted.class, new FeaturesDeletedStrategy());
+        addBuilderStrategy(FeaturesCreated.class, new FeaturesCreatedStrategy());
+        addBuilderStrategy(FeaturesModified.class, new FeaturesModifiedStrategy());
+        addBuilderStrategy(FeaturesDeleted.class, new FeaturesDeletedStrategy());
 
-        addStrategy(FeatureCreated.class, new FeatureCreatedStrategy());
-        addStrategy(FeatureModified.class, new FeatureModifiedStrategy());
-        addStrategy(FeatureDeleted.class, new FeatureDeletedStrategy());
+        addBuilderStrategy(FeatureCreated.class, new FeatureCreatedStrategy());
+        addBuilderStrategy(FeatureModified.class, new FeatureModifiedStrategy());
+        addBuilderStrategy(FeatureDeleted.class, new FeatureDeletedStrategy());
 
-        addStrategy(FeatureDefinitionCreated.class, new FeatureDefinitionCreatedStrategy());
-        addStrategy(FeatureDefinitionModified.class, new FeatureDefinitionModifiedStrategy());
-        addStrategy(FeatureDefinitionDeleted.class, new FeatureDefinitionDeletedStrategy());
+        addBuilderStrategy(FeatureDefinitionCreated.class, new FeatureDefinitionCreatedStrategy());
+        addBuilderStrategy(FeatureDefinitionModified.class, new FeatureDefinitionModifiedStrategy());
+        addBuilderStrategy(FeatureDefinitionDeleted.class, new FeatureDefinitionDeletedStrategy());
 
-        addStrategy(FeaturePropertiesCreated.class, new FeaturePropertiesCreatedStrategy());
-        addStrategy(FeaturePropertiesModified.class, new FeaturePropertiesModifiedStrategy());
-        addStrategy(FeaturePropertiesDeleted.class, new FeaturePropertiesDeletedStrategy());
+        addBuilderStrategy(FeaturePropertiesCreated.class, new FeaturePropertiesCreatedStrategy());
+        addBuilderStrategy(FeaturePropertiesModified.class, new FeaturePropertiesModifiedStrategy());
+        addBuilderStrategy(FeaturePropertiesDeleted.class, new FeaturePropertiesDeletedStrategy());
 
-        addStrategy(FeaturePropertyCreated.class, new FeaturePropertyCreatedStrategy());
-        addStrategy(FeaturePropertyModified.class, new FeaturePropertyModifiedStrategy());
-        addStrategy(FeaturePropertyDeleted.class, new FeaturePropertyDeletedStrategy());
+        addBuilderStrategy(FeaturePropertyCreated.class, new FeaturePropertyCreatedStrategy());
+        addBuilderStrategy(FeaturePropertyModified.class, new FeaturePropertyModifiedStrategy());
+        addBuilderStrategy(FeaturePropertyDeleted.class, new FeaturePropertyDeletedStrategy());
     }
 
     private void addPolicyIdStrategies() {
-        addStrategy(PolicyIdCreated.class, new PolicyIdCreatedStrategy());
-        addStrategy(PolicyIdModified.class, new PolicyIdModifiedStrategy());
+        addBuilderStrategy(PolicyIdCreated.class, new PolicyIdCreatedStrategy());
+        addBuilderStrategy(PolicyIdModified.class, new PolicyIdModifiedStrategy());
     }
 }
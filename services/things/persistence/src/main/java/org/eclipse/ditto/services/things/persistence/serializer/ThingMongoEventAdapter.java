@@ -35,6 +35,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonCbor;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.signals.events.base.Event;
 import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
@@ -91,10 +92,12 @@ public final class ThingMongoEventAdapter implements EventAdapter {
     private final Map<String, Function<JsonObject, JsonObject>> migrationMappings;
     private final ExtendedActorSystem system;
     private final GlobalEventRegistry eventRegistry;
+    private final boolean binaryEncoding;
 
     public ThingMongoEventAdapter(@Nullable final ExtendedActorSystem system) {
         this.system = system;
         eventRegistry = GlobalEventRegistry.getInstance();
+        binaryEncoding = DittoBsonCbor.isEnabled(system);
 
         migrationMappings = new HashMap<>();
         migrationMappings.put(FeatureModified.NAME,
@@ -144,6 +147,9 @@ public final class ThingMongoEventAdapter implements EventAdapter {
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial())) //
                             // remove the policy entries from thing event payload
                             .remove(POLICY_IN_THING_EVENT_PAYLOAD);
+            if (binaryEncoding) {
+                return DittoBsonCbor.getInstance().parse(jsonObject);
+            }
             final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
             return dittoBsonJson.parse(jsonObject);
         } else {
@@ -154,7 +160,7 @@ public final class ThingMongoEventAdapter implements EventAdapter {
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryToCreateEventFrom(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            return EventSeq.single(tryToCreateEventFrom(DittoBsonCbor.getInstance().serialize((BsonValue) event)));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
@@ -17,21 +17,32 @@ import javax.annotation.concurrent.ThreadSafe;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
-import org.eclipse.ditto.services.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.AbstractMongoDeltaSnapshotAdapter;
 import org.slf4j.LoggerFactory;
 
 /**
- * A {@link org.eclipse.ditto.services.utils.persistence.SnapshotAdapter} for snapshotting a
- * {@link org.eclipse.ditto.model.things.Thing}.
+ * A {@link org.eclipse.ditto.services.utils.persistence.DeltaSnapshotAdapter} for snapshotting a
+ * {@link org.eclipse.ditto.model.things.Thing}. Delta snapshots contain the changed attributes and features.
  */
 @ThreadSafe
-public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapter<Thing> {
+public final class ThingMongoSnapshotAdapter extends AbstractMongoDeltaSnapshotAdapter<Thing> {
 
     /**
      * Constructs a new {@code ThingMongoSnapshotAdapter}.
      */
     public ThingMongoSnapshotAdapter() {
-        super(LoggerFactory.getLogger(ThingMongoSnapshotAdapter.class));
+        this(false);
+    }
+
+    /**
+     * Constructs a new {@code ThingMongoSnapshotAdapter}.
+     *
+     * @param binaryEncoding whether to write snapshots as binary document.
+     */
+    public ThingMongoSnapshotAdapter(final boolean binaryEncoding) {
+        super(LoggerFactory.getLogger(ThingMongoSnapshotAdapter.class), binaryEncoding,
+                Thing.JsonFields.ATTRIBUTES.getPointer().getRoot().orElseThrow(IllegalStateException::new),
+                Thing.JsonFields.FEATURES.getPointer().getRoot().orElseThrow(IllegalStateException::new));
     }
 
     @Override
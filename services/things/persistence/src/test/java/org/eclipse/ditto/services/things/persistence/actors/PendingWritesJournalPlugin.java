@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import akka.persistence.AtomicWrite;
+import akka.persistence.PersistentRepr;
+import akka.persistence.journal.japi.AsyncWriteJournal;
+import scala.collection.JavaConverters;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.Future;
+
+/**
+ * Journal plugin which keeps the events in memory and holds back every write until the test confirms or rejects it.
+ * The writes are published as {@link Write} to the event stream of the actor system.
+ */
+final class PendingWritesJournalPlugin extends AsyncWriteJournal {
+
+    private static final Map<String, List<PersistentRepr>> EVENTS = new ConcurrentHashMap<>();
+
+    @Override
+    public Future<Iterable<Optional<Exception>>> doAsyncWriteMessages(final Iterable<AtomicWrite> messages) {
+        final List<AtomicWrite> atomicWrites = new ArrayList<>();
+        messages.forEach(atomicWrites::add);
+        final List<PersistentRepr> events = atomicWrites.stream()
+                .flatMap(atomicWrite -> JavaConverters.seqAsJavaList(atomicWrite.payload()).stream())
+                .collect(Collectors.toList());
+
+        final Write write = new Write(events);
+        context().system().eventStream().publish(write);
+
+        return FutureConverters.toScala(write.result.<Iterable<Optional<Exception>>>thenApply(rejection -> {
+            if (!rejection.isPresent()) {
+                events.forEach(event ->
+                        EVENTS.computeIfAbsent(event.persistenceId(), id -> new CopyOnWriteArrayList<>()).add(event));
+            }
+            return Collections.nCopies(atomicWrites.size(), rejection);
+        }));
+    }
+
+    @Override
+    public Future<Void> doAsyncReplayMessages(final String persistenceId, final long fromSequenceNr,
+            final long toSequenceNr, final long max, final Consumer<PersistentRepr> replayCallback) {
+
+        EVENTS.getOrDefault(persistenceId, Collections.emptyList())
+                .stream()
+                .filter(event -> event.sequenceNr() >= fromSequenceNr && event.sequenceNr() <= toSequenceNr)
+                .limit(max)
+                .forEach(replayCallback);
+        return Future.successful(null);
+    }
+
+    @Override
+    public Future<Long> doAsyncReadHighestSequenceNr(final String persistenceId, final long fromSequenceNr) {
+        final long highestSequenceNr = EVENTS.getOrDefault(persistenceId, Collections.emptyList())
+                .stream()
+                .mapToLong(PersistentRepr::sequenceNr)
+                .max()
+                .orElse(0L);
+        return Future.successful(highestSequenceNr);
+    }
+
+    @Override
+    public Future<Void> doAsyncDeleteMessagesTo(final String persistenceId, final long toSequenceNr) {
+        // events are kept so that the highest sequence number is never lost
+        return Future.successful(null);
+    }
+
+    /**
+     * A write of the journal which is completed only after the test confirmed or rejected it.
+     */
+    static final class Write {
+
+        private final List<PersistentRepr> events;
+        private final CompletableFuture<Optional<Exception>> result;
+
+        private Write(final List<PersistentRepr> events) {
+            this.events = events;
+            result = new CompletableFuture<>();
+        }
+
+        List<Long> getSequenceNumbers() {
+            return events.stream().map(PersistentRepr::sequenceNr).collect(Collectors.toList());
+        }
+
+        void confirm() {
+            result.complete(Optional.empty());
+        }
+
+        void reject() {
+            result.complete(Optional.of(new IllegalStateException("Write was rejected by the test.")));
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link SudoRetrieveThingsActor}.
+ */
+public final class SudoRetrieveThingsActorTest {
+
+    private static final Duration SUDO_RETRIEVE_THING_TIMEOUT = Duration.ofSeconds(1L);
+
+    private ActorSystem actorSystem;
+    private TestKit shardRegion;
+    private ActorRef underTest;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+        shardRegion = new TestKit(actorSystem);
+        underTest = actorSystem.actorOf(SudoRetrieveThingsActor.props(shardRegion.getRef(),
+                SUDO_RETRIEVE_THING_TIMEOUT));
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void publishedThingsAreAnsweredWithoutAskingTheShardRegion() {
+        new TestKit(actorSystem) {{
+            final Thing thing = thing("published");
+            publish(thing);
+
+            underTest.tell(SudoRetrieveThings.withOriginalSchemaVersion(Collections.singletonList(thingId(thing)),
+                    DittoHeaders.empty()), getRef());
+
+            final SudoRetrieveThingsResponse response = expectMsgClass(SudoRetrieveThingsResponse.class);
+            assertThat(response.getThings()).extracting(SudoRetrieveThingsActorTest::thingId)
+                    .containsExactly(thingId(thing));
+            assertThat(response.getFailedThingIds()).isEmpty();
+            shardRegion.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void failedThingsAreReportedWithoutFailingTheOthers() {
+        new TestKit(actorSystem) {{
+            final Thing published = thing("published");
+            final Thing retrieved = thing("retrieved");
+            final Thing nonexistent = thing("nonexistent");
+            final Thing timedOut = thing("timedOut");
+            publish(published);
+
+            underTest.tell(SudoRetrieveThings.withOriginalSchemaVersion(
+                    Arrays.asList(thingId(published), thingId(retrieved), thingId(nonexistent), thingId(timedOut)),
+                    DittoHeaders.empty()), getRef());
+
+            assertThat(shardRegion.expectMsgClass(SudoRetrieveThing.class).getEntityId())
+                    .isEqualTo(thingId(retrieved));
+            shardRegion.reply(SudoRetrieveThingResponse.of(retrieved.toJson(), DittoHeaders.empty()));
+            assertThat(shardRegion.expectMsgClass(SudoRetrieveThing.class).getEntityId())
+                    .isEqualTo(thingId(nonexistent));
+            shardRegion.reply(ThingNotAccessibleException.newBuilder(thingId(nonexistent)).build());
+            // the shard region does not answer for the last thing
+            assertThat(shardRegion.expectMsgClass(SudoRetrieveThing.class).getEntityId())
+                    .isEqualTo(thingId(timedOut));
+
+            final SudoRetrieveThingsResponse response = expectMsgClass(SudoRetrieveThingsResponse.class);
+            assertThat(response.getThings()).extracting(SudoRetrieveThingsActorTest::thingId)
+                    .containsExactlyInAnyOrder(thingId(published), thingId(retrieved));
+            assertThat(response.getFailedThingIds()).containsExactly(thingId(timedOut));
+        }};
+    }
+
+    private void publish(final Thing thing) {
+        PersistedThings.get(actorSystem).put(thingId(thing), new PersistedThings.Entry(thing, 1L, new LongAdder()));
+    }
+
+    private static Thing thing(final String name) {
+        return ThingsModelFactory.newThingBuilder()
+                .setId(ThingId.of("org.eclipse.ditto", name))
+                .setAttribute(JsonPointer.of("name"), JsonValue.of(name))
+                .build();
+    }
+
+    private static ThingId thingId(final Thing thing) {
+        return thing.getEntityId().orElseThrow();
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.persistentactors.entitymetrics.SlowestEntitiesActor;
+import org.eclipse.ditto.signals.commands.devops.RetrieveSlowestEntities;
+import org.eclipse.ditto.signals.commands.devops.RetrieveSlowestEntitiesResponse;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the durations which sampled {@link ThingPersistenceActor}s record.
+ */
+public final class ThingPersistenceActorEntityMetricsTest extends PersistenceActorTestBase {
+
+    @Test
+    public void sampledThingRecordsItsPersistDurations() {
+        setup(ConfigFactory.parseString("ditto.things.thing.entity-metrics.sample-rate = 1.0"));
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(CreateThingResponse.class);
+            underTest.tell(modifyAttribute(thingId, 1), getRef());
+            expectMsgClass(ModifyAttributeResponse.class);
+            underTest.tell(modifyAttribute(thingId, 2), getRef());
+            expectMsgClass(ModifyAttributeResponse.class);
+
+            final JsonObject durations = retrieveSlowestEntities(this).getEntities()
+                    .stream()
+                    .map(JsonValue::asObject)
+                    .filter(entity -> entity.getValue("entityId").map(JsonValue::asString)
+                            .filter(thingId.toString()::equals)
+                            .isPresent())
+                    .findAny()
+                    .orElseThrow();
+            assertThat(durations.getValue("entityType")).contains(JsonValue.of("thing"));
+            assertThat(durations.getValue("persistCount")).contains(JsonValue.of(3L));
+
+            // the durations of a stopped thing are not retrieved any more
+            watch(underTest);
+            actorSystem.stop(underTest);
+            expectTerminated(underTest);
+            assertThat(retrieveSlowestEntities(this).getEntities()).isEmpty();
+        }};
+    }
+
+    @Test
+    public void thingsAreNotSampledByDefault() {
+        setup(ConfigFactory.empty());
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ActorRef underTest = createPersistenceActorFor(thing.getEntityId().orElseThrow());
+
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(CreateThingResponse.class);
+
+            assertThat(retrieveSlowestEntities(this).getEntities()).isEmpty();
+        }};
+    }
+
+    private RetrieveSlowestEntitiesResponse retrieveSlowestEntities(final TestKit testKit) {
+        final ActorRef slowestEntitiesActor = actorSystem.actorOf(SlowestEntitiesActor.props());
+        slowestEntitiesActor.tell(RetrieveSlowestEntities.of(DittoHeaders.empty()), testKit.getRef());
+        return testKit.expectMsgClass(RetrieveSlowestEntitiesResponse.class);
+    }
+
+    private ModifyAttribute modifyAttribute(final ThingId thingId, final int value) {
+        return ModifyAttribute.of(thingId, JsonPointer.of("counter"), JsonValue.of(value), dittoHeadersV2);
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingTooManyModifyingRequestsException;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.dispatch.Envelope;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ThingPersistenceActorMailbox}.
+ */
+public final class ThingPersistenceActorMailboxTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto", "mailbox");
+    private static final int CAPACITY = 2;
+
+    private ActorSystem actorSystem;
+    private TestKit sender;
+    private ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue underTest;
+    private Histogram mailboxSizes;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+        sender = new TestKit(actorSystem);
+        underTest = new ThingPersistenceActorMailbox.ThingPersistenceActorMessageQueue(CAPACITY, actorSystem);
+        mailboxSizes = DittoMetrics.histogram("mailbox_size").tag("entity_type", "thing");
+        mailboxSizes.reset();
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void modifyCommandsExceedingTheCapacityAreRejected() {
+        for (int i = 0; i <= CAPACITY; ++i) {
+            underTest.enqueue(ActorRef.noSender(), envelope(modifyAttribute(i)));
+        }
+        assertThat(underTest.numberOfMessages()).isEqualTo(CAPACITY + 1);
+        sender.expectNoMessage();
+
+        final ModifyAttribute rejected = modifyAttribute(CAPACITY + 1);
+        underTest.enqueue(ActorRef.noSender(), envelope(rejected));
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(CAPACITY + 1);
+        final ThingErrorResponse errorResponse = sender.expectMsgClass(ThingErrorResponse.class);
+        assertThat(errorResponse.getDittoRuntimeException())
+                .isInstanceOf(ThingTooManyModifyingRequestsException.class);
+        assertThat(errorResponse.getDittoHeaders().getCorrelationId()).contains(correlationId(CAPACITY + 1));
+    }
+
+    @Test
+    public void otherMessagesAreEnqueuedBeyondTheCapacity() {
+        for (int i = 0; i <= CAPACITY; ++i) {
+            underTest.enqueue(ActorRef.noSender(), envelope(modifyAttribute(i)));
+        }
+        final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, DittoHeaders.empty());
+
+        underTest.enqueue(ActorRef.noSender(), envelope(retrieveThing));
+        underTest.enqueue(ActorRef.noSender(), envelope("recovery"));
+
+        assertThat(underTest.numberOfMessages()).isEqualTo(CAPACITY + 3);
+        sender.expectNoMessage();
+    }
+
+    @Test
+    public void enqueueFirstPrependsMessagesAndIsBoundedToo() {
+        underTest.enqueue(ActorRef.noSender(), envelope(modifyAttribute(0)));
+        underTest.enqueueFirst(ActorRef.noSender(), envelope(modifyAttribute(1)));
+        underTest.enqueueFirst(ActorRef.noSender(), envelope(modifyAttribute(2)));
+        underTest.enqueueFirst(ActorRef.noSender(), envelope(modifyAttribute(3)));
+        sender.expectMsgClass(ThingErrorResponse.class);
+
+        assertThat(underTest.dequeue().message()).isEqualTo(modifyAttribute(2));
+        assertThat(underTest.dequeue().message()).isEqualTo(modifyAttribute(1));
+        assertThat(underTest.dequeue().message()).isEqualTo(modifyAttribute(0));
+        assertThat(underTest.hasMessages()).isFalse();
+    }
+
+    @Test
+    public void mailboxSizeIsRecordedOnEnqueueAndDequeue() {
+        underTest.enqueue(ActorRef.noSender(), envelope(modifyAttribute(0)));
+        underTest.enqueueFirst(ActorRef.noSender(), envelope(modifyAttribute(1)));
+        underTest.dequeue();
+        underTest.dequeue();
+
+        // polling an empty mailbox records nothing
+        underTest.dequeue();
+
+        assertThat(mailboxSizes.getRecordedValues()).containsExactlyInAnyOrder(1L, 2L, 1L, 0L);
+    }
+
+    @Test
+    public void capacityMustBePositive() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> new ThingPersistenceActorMailbox(actorSystem.settings(),
+                        ConfigFactory.parseString("mailbox-capacity = 0")));
+    }
+
+    private Envelope envelope(final Object message) {
+        return Envelope.apply(message, sender.getRef(), actorSystem);
+    }
+
+    private static ModifyAttribute modifyAttribute(final int index) {
+        return ModifyAttribute.of(THING_ID, JsonPointer.of("attribute"), JsonValue.of(index),
+                DittoHeaders.newBuilder().correlationId(correlationId(index)).build());
+    }
+
+    private static String correlationId(final int index) {
+        return "modify-" + index;
+    }
+
+}
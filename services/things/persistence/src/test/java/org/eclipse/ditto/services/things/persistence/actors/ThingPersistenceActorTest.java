@@ -28,6 +28,7 @@ import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.retrieveThingResponse;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -67,6 +68,7 @@ import org.eclipse.ditto.model.things.ThingLifecycle;
 import org.eclipse.ditto.model.things.ThingRevision;
 import org.eclipse.ditto.model.things.ThingTooLargeException;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.things.persistence.testhelper.ThingsSnapshotTestHelper;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.test.Retry;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
@@ -87,6 +89,7 @@ import org.eclipse.ditto.signals.commands.things.modify.DeleteThingResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAcl;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAclEntry;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributes;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatureProperty;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyFeatures;
@@ -111,6 +114,7 @@ import org.junit.rules.TestWatcher;
 import org.slf4j.LoggerFactory;
 
 import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
@@ -123,6 +127,7 @@ import scala.PartialFunction;
 import scala.concurrent.Await;
 import scala.concurrent.Future;
 import scala.concurrent.duration.Duration;
+import scala.concurrent.duration.FiniteDuration;
 import scala.runtime.BoxedUnit;
 
 /**
@@ -135,6 +140,8 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
                     SubjectId.newInstance(SubjectIssuer.GOOGLE, "testuser").toString());
     private static final Permissions PERMISSIONS = Thing.MIN_REQUIRED_PERMISSIONS;
 
+    private static final FiniteDuration NO_REPLY_TIMEOUT = Duration.create(300, TimeUnit.MILLISECONDS);
+
     private static final JsonParseOptions JSON_PARSE_OPTIONS =
             JsonFactory.newParseOptionsBuilder().withoutUrlDecoding().build();
 
@@ -203,6 +210,40 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void supervisorAnswersRetrieveThingFromPersistedState() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = getIdOrThrow(thing);
+
+                final ActorRef underTest = createSupervisorActorFor(thingId);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                final JsonPointer attributePointer = JsonPointer.of("persisted");
+                underTest.tell(ModifyAttribute.of(thingId, attributePointer, JsonValue.of(true), dittoHeadersV2),
+                        getRef());
+                expectMsgClass(ModifyAttributeResponse.class);
+
+                // the persistence actor published the persisted state before answering the modification
+                final PersistedThings.Entry entry = PersistedThings.get(actorSystem).find(thingId).orElseThrow(
+                        () -> new AssertionError("Persisted state of Thing was not published"));
+                Assertions.assertThat(entry.getRevision()).isEqualTo(2L);
+
+                final RetrieveThing retrieveThing = RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                        .withSelectedFields(JsonFieldSelector.newInstance("attributes"))
+                        .build();
+                underTest.tell(retrieveThing, getRef());
+                final RetrieveThingResponse response = expectMsgClass(RetrieveThingResponse.class);
+                final JsonObject thingJson = response.getEntity(JsonSchemaVersion.V_2);
+                Assertions.assertThat(thingJson.getValue("attributes/persisted")).contains(JsonValue.of(true));
+                Assertions.assertThat(thingJson.contains("thingId")).isFalse();
+            }
+        };
+    }
+
     @Test
     public void tryToModifyFeaturePropertyAndReceiveCorrectErrorCode() {
         final ThingId thingId = ThingId.of("org.eclipse.ditto", "myThing");
@@ -1544,6 +1585,157 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         }};
     }
 
+    @Test
+    public void queuedModificationsArePersistedInOneBatchWithGroupCommit() {
+        setUpWithGroupCommit();
+        new TestKit(actorSystem) {{
+            final TestKit journal = subscribeForJournalWrites();
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = getIdOrThrow(thing);
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectJournalWrite(journal, 1L).confirm();
+            expectMsgClass(CreateThingResponse.class);
+
+            underTest.tell(modifyAttribute(thingId, "first"), getRef());
+            final PendingWritesJournalPlugin.Write firstWrite = expectJournalWrite(journal, 2L);
+
+            // the commands arriving during a write are applied one after the other and persisted together
+            underTest.tell(modifyAttribute(thingId, "second"), getRef());
+            underTest.tell(modifyAttribute(thingId, "third"), getRef());
+            underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+            expectNoMessage(NO_REPLY_TIMEOUT);
+            firstWrite.confirm();
+            expectMsgClass(ModifyAttributeResponse.class);
+
+            final PendingWritesJournalPlugin.Write secondWrite = expectJournalWrite(journal, 3L, 4L);
+            expectNoMessage(NO_REPLY_TIMEOUT);
+            secondWrite.confirm();
+            expectMsgClass(ModifyAttributeResponse.class);
+            expectMsgClass(ModifyAttributeResponse.class);
+
+            // the query was deferred behind the pending events and sees their revision
+            final Thing retrievedThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+            assertThat(retrievedThing).hasRevision(ThingRevision.newInstance(4L));
+            Assertions.assertThat(retrievedThing.getAttributes().flatMap(attributes -> attributes.getValue("third")))
+                    .contains(JsonValue.of(true));
+        }};
+    }
+
+    @Test
+    public void creationAndDeletionArePersistedWithoutFurtherCommandsWithGroupCommit() {
+        setUpWithGroupCommit();
+        new TestKit(actorSystem) {{
+            final TestKit journal = subscribeForJournalWrites();
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = getIdOrThrow(thing);
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectJournalWrite(journal, 1L).confirm();
+            expectMsgClass(CreateThingResponse.class);
+
+            underTest.tell(modifyAttribute(thingId, "first"), getRef());
+            final PendingWritesJournalPlugin.Write firstWrite = expectJournalWrite(journal, 2L);
+            underTest.tell(modifyAttribute(thingId, "second"), getRef());
+            underTest.tell(DeleteThing.of(thingId, dittoHeadersV2), getRef());
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            underTest.tell(modifyAttribute(thingId, "third"), getRef());
+            firstWrite.confirm();
+            expectMsgClass(ModifyAttributeResponse.class);
+
+            // the deletion ends the batch and the re-creation is persisted on its own
+            expectJournalWrite(journal, 3L, 4L).confirm();
+            expectMsgClass(ModifyAttributeResponse.class);
+            expectMsgClass(DeleteThingResponse.class);
+            expectJournalWrite(journal, 5L).confirm();
+            expectMsgClass(CreateThingResponse.class);
+            expectJournalWrite(journal, 6L).confirm();
+            expectMsgClass(ModifyAttributeResponse.class);
+        }};
+    }
+
+    @Test
+    public void persistenceActorStopsIfAGroupCommitIsRejected() {
+        setUpWithGroupCommit();
+        disableLogging();
+        new TestKit(actorSystem) {{
+            final TestKit journal = subscribeForJournalWrites();
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = getIdOrThrow(thing);
+            final ActorRef underTest = watch(createPersistenceActorFor(thingId));
+
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectJournalWrite(journal, 1L).confirm();
+            expectMsgClass(CreateThingResponse.class);
+
+            underTest.tell(modifyAttribute(thingId, "rejected"), getRef());
+            expectJournalWrite(journal, 2L).reject();
+
+            // the rejected event was already applied to the in-memory state which must be recovered instead
+            expectTerminated(underTest);
+            final ActorRef recoveredActor = createPersistenceActorFor(thingId);
+            recoveredActor.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+            final Thing retrievedThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+            assertThat(retrievedThing).hasRevision(ThingRevision.newInstance(1L));
+            Assertions.assertThat(retrievedThing.getAttributes().flatMap(attributes -> attributes.getValue("rejected")))
+                    .isEmpty();
+        }};
+    }
+
+    @Test
+    public void adaptiveSnapshotOfASmallThingIsTakenOnceItsEventsExceedTheMaximumReplayBytes() {
+        setUpWithAdaptiveSnapshots();
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = getIdOrThrow(thing);
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(CreateThingResponse.class);
+            Awaitility.await().untilAsserted(() ->
+                    Assertions.assertThat(getSnapshotRevisions(thingId)).containsExactly(1L));
+
+            // small events are replayed until they exceed both the maximum replay bytes and the small thing
+            modifyAttributes(underTest, this, 1, i -> modifyAttribute(thingId, "small"));
+            Assertions.assertThat(getSnapshotRevisions(thingId)).containsExactly(1L);
+            modifyAttributes(underTest, this, 20, i -> modifyAttribute(thingId, "small" + i));
+
+            // long before the fixed threshold of events
+            Awaitility.await().untilAsserted(() ->
+                    Assertions.assertThat(getSnapshotRevisions(thingId)).hasSizeGreaterThan(1));
+        }};
+    }
+
+    @Test
+    public void adaptiveSnapshotOfALargeThingIsNotTakenBeforeItsEventsExceedTheThing() {
+        setUpWithAdaptiveSnapshots();
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId().toBuilder()
+                    .setAttribute(JsonPointer.of("large"), JsonValue.of("x".repeat(20_000)))
+                    .build();
+            final ThingId thingId = getIdOrThrow(thing);
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+
+            // the creation alone exceeds the maximum replay bytes
+            underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+            expectMsgClass(CreateThingResponse.class);
+            Awaitility.await().untilAsserted(() ->
+                    Assertions.assertThat(getSnapshotRevisions(thingId)).containsExactly(1L));
+
+            // each of these events exceeds the maximum replay bytes, but together they are smaller than the thing
+            final Function<Integer, ModifyAttribute> modifyLargeAttribute = i -> ModifyAttribute.of(thingId,
+                    JsonPointer.of("changing"), JsonValue.of(String.valueOf(i).repeat(1_000)), dittoHeadersV2);
+            modifyAttributes(underTest, this, 3, modifyLargeAttribute);
+            Assertions.assertThat(getSnapshotRevisions(thingId)).containsExactly(1L);
+
+            modifyAttributes(underTest, this, 120, modifyLargeAttribute);
+            Awaitility.await().untilAsserted(() ->
+                    Assertions.assertThat(getSnapshotRevisions(thingId)).hasSizeGreaterThan(1));
+        }};
+    }
+
     private DittoHeaders testCreateAndModify(final Thing toCreate,
             final JsonSchemaVersion createVersion,
             final Thing toModify,
@@ -1568,6 +1760,56 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         return modifyThing.getDittoHeaders();
     }
 
+    private void setUpWithGroupCommit() {
+        tearDownBase();
+        setup(ConfigFactory.empty()
+                .withValue("ditto.things.thing.group-commit.enabled", ConfigValueFactory.fromAnyRef(true))
+                .withValue("akka-contrib-mongodb-persistence-things-journal.class",
+                        ConfigValueFactory.fromAnyRef(PendingWritesJournalPlugin.class.getName())));
+    }
+
+    private void setUpWithAdaptiveSnapshots() {
+        tearDownBase();
+        setup(ConfigFactory.empty()
+                .withValue("ditto.things.thing.snapshot.threshold", ConfigValueFactory.fromAnyRef(1000))
+                .withValue("ditto.things.thing.snapshot.adaptive.enabled", ConfigValueFactory.fromAnyRef(true))
+                .withValue("ditto.things.thing.snapshot.adaptive.max-replay-bytes",
+                        ConfigValueFactory.fromAnyRef(400)));
+    }
+
+    private List<Long> getSnapshotRevisions(final ThingId thingId) {
+        final ThingsSnapshotTestHelper<Long> snapshotTestHelper = new ThingsSnapshotTestHelper<>(actorSystem,
+                (snapshot, revision) -> revision, id -> ThingPersistenceActor.PERSISTENCE_ID_PREFIX + id);
+        return snapshotTestHelper.getAllSnapshotsAscending(thingId);
+    }
+
+    private void modifyAttributes(final ActorRef underTest, final TestKit sender, final int times,
+            final Function<Integer, ModifyAttribute> modifyAttribute) {
+
+        for (int i = 0; i < times; i++) {
+            underTest.tell(modifyAttribute.apply(i), sender.getRef());
+            sender.expectMsgClass(ModifyAttributeResponse.class);
+        }
+    }
+
+    private TestKit subscribeForJournalWrites() {
+        final TestKit journal = new TestKit(actorSystem);
+        actorSystem.eventStream().subscribe(journal.getRef(), PendingWritesJournalPlugin.Write.class);
+        return journal;
+    }
+
+    private static PendingWritesJournalPlugin.Write expectJournalWrite(final TestKit journal,
+            final Long... sequenceNumbers) {
+
+        final PendingWritesJournalPlugin.Write write = journal.expectMsgClass(PendingWritesJournalPlugin.Write.class);
+        Assertions.assertThat(write.getSequenceNumbers()).containsExactly(sequenceNumbers);
+        return write;
+    }
+
+    private ModifyAttribute modifyAttribute(final ThingId thingId, final String attributeKey) {
+        return ModifyAttribute.of(thingId, JsonPointer.of(attributeKey), JsonValue.of(true), dittoHeadersV2);
+    }
+
     private void assertPublishEvent(final ThingEvent event) {
         final ThingEvent msg = pubSubTestProbe.expectMsgClass(ThingEvent.class);
         Assertions.assertThat(msg.toJson())
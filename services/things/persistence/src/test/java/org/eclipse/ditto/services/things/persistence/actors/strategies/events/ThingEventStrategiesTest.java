@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors.strategies.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.utils.persistentactors.events.EventFold;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.FeatureCreated;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
+import org.eclipse.ditto.signals.events.things.ThingCreated;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ThingEventStrategies}.
+ */
+public final class ThingEventStrategiesTest extends AbstractStrategyTest {
+
+    private static final List<ThingEvent> EVENTS = Arrays.asList(
+            ThingCreated.of(THING, 1L, DittoHeaders.empty()),
+            AttributeModified.of(THING_ID, ATTRIBUTE_POINTER, ATTRIBUTE_VALUE, 2L, DittoHeaders.empty()),
+            FeatureCreated.of(THING_ID, FEATURE, 3L, DittoHeaders.empty()),
+            FeaturePropertyModified.of(THING_ID, FEATURE_ID, FEATURE_PROPERTY_POINTER, FEATURE_PROPERTY_VALUE, 4L,
+                    DittoHeaders.empty()),
+            AttributeModified.of(THING_ID, ATTRIBUTE_POINTER, JsonValue.of("changed"), 5L, DittoHeaders.empty()),
+            ThingDeleted.of(THING_ID, 6L, DittoHeaders.empty()),
+            ThingCreated.of(THING, 7L, DittoHeaders.empty()),
+            FeaturePropertyModified.of(THING_ID, FEATURE_ID, FEATURE_PROPERTY_POINTER, FEATURE_PROPERTY_VALUE, 8L,
+                    DittoHeaders.empty())
+    );
+
+    @Test
+    public void eventFoldAppliesEventsLikeHandle() {
+        final ThingEventStrategies underTest = ThingEventStrategies.getInstance();
+
+        Thing expected = null;
+        final EventFold<ThingEvent, Thing> eventFold = underTest.newEventFold(null);
+        for (final ThingEvent event : EVENTS) {
+            expected = underTest.handle(event, expected, event.getRevision());
+            eventFold.apply(event, event.getRevision());
+        }
+
+        assertThat(eventFold.get()).isEqualTo(expected);
+    }
+
+    @Test
+    public void eventFoldAppliesEventsToExistingThing() {
+        final ThingEventStrategies underTest = ThingEventStrategies.getInstance();
+        final List<ThingEvent> eventsAfterCreation = EVENTS.subList(1, 5);
+
+        Thing expected = THING;
+        final EventFold<ThingEvent, Thing> eventFold = underTest.newEventFold(THING);
+        for (final ThingEvent event : eventsAfterCreation) {
+            expected = underTest.handle(event, expected, event.getRevision());
+            eventFold.apply(event, event.getRevision());
+        }
+
+        assertThat(eventFold.get()).isEqualTo(expected);
+        // building the accumulated Thing does not change it
+        assertThat(eventFold.get()).isEqualTo(expected);
+    }
+
+}
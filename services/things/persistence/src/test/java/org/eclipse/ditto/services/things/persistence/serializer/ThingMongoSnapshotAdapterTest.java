@@ -14,9 +14,17 @@ package org.eclipse.ditto.services.things.persistence.serializer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Optional;
+
 import org.bson.BsonDocument;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonCbor;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -48,4 +56,89 @@ public final class ThingMongoSnapshotAdapterTest {
         assertThat(restoredThing).isEqualTo(thing);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void fullSnapshotHasNoBaseRevision() {
+        final Object rawSnapshotEntity = underTest.toSnapshotStore(TestConstants.Thing.THING_V2);
+        assertThat(underTest.getBaseRevision(rawSnapshotEntity)).isEmpty();
+    }
+
+    @Test
+    public void deltaSnapshotRoundtripReturnsExpected() {
+        final Thing base = createThingWithFeatures(50);
+        final Thing thing = base.toBuilder()
+                .setAttribute(JsonPointer.of("location"), JsonValue.of("changed"))
+                .removeFeature("feature-1")
+                .setFeatureProperty("feature-2", JsonPointer.of("value"), JsonValue.of(42))
+                .setRevision(51L)
+                .build();
+
+        final Optional<Object> delta = underTest.toDeltaSnapshotStore(base, 50L, thing);
+        assertThat(delta).isPresent();
+        assertThat(underTest.getBaseRevision(delta.get())).hasValue(50L);
+
+        final Thing restoredThing = underTest.fromDeltaSnapshotStore(base, delta.get());
+        assertThat(restoredThing).isEqualTo(thing);
+    }
+
+    @Test
+    public void noDeltaSnapshotIfMostFeaturesChanged() {
+        final Thing base = createThingWithFeatures(5);
+        final Thing thing = base.toBuilder().removeAllFeatures().build();
+
+        assertThat(underTest.toDeltaSnapshotStore(base, 5L, thing)).isEmpty();
+    }
+
+    @Test
+    public void binarySnapshotRoundtripReturnsExpected() {
+        final ThingMongoSnapshotAdapter binaryAdapter = new ThingMongoSnapshotAdapter(true);
+        final Thing thing = TestConstants.Thing.THING_V2;
+
+        final Object rawSnapshotEntity = binaryAdapter.toSnapshotStore(thing);
+        assertThat(DittoBsonCbor.isBinaryEncoded(rawSnapshotEntity)).isTrue();
+        // plain top-level fields stay available for projections of the snapshot store
+        assertThat(((BsonDocument) rawSnapshotEntity).containsKey("thingId")).isTrue();
+        assertThat(((BsonDocument) rawSnapshotEntity).containsKey("features")).isFalse();
+
+        // snapshots are read independently of the encoding the adapter writes
+        assertThat(binaryAdapter.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, rawSnapshotEntity)))
+                .isEqualTo(thing);
+        assertThat(underTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, rawSnapshotEntity)))
+                .isEqualTo(thing);
+        assertThat(binaryAdapter.fromSnapshotStore(
+                new SnapshotOffer(SNAPSHOT_METADATA, underTest.toSnapshotStore(thing))))
+                .isEqualTo(thing);
+    }
+
+    @Test
+    public void binaryDeltaSnapshotRoundtripReturnsExpected() {
+        final ThingMongoSnapshotAdapter binaryAdapter = new ThingMongoSnapshotAdapter(true);
+        final Thing base = createThingWithFeatures(50);
+        final Thing thing = base.toBuilder()
+                .setFeatureProperty("feature-2", JsonPointer.of("value"), JsonValue.of(42))
+                .setRevision(51L)
+                .build();
+
+        final Optional<Object> delta = binaryAdapter.toDeltaSnapshotStore(base, 50L, thing);
+        assertThat(delta).isPresent();
+        assertThat(DittoBsonCbor.isBinaryEncoded(delta.get())).isTrue();
+        assertThat(binaryAdapter.getBaseRevision(delta.get())).hasValue(50L);
+        assertThat(binaryAdapter.fromDeltaSnapshotStore(base, delta.get())).isEqualTo(thing);
+    }
+
+    private static Thing createThingWithFeatures(final int numberOfFeatures) {
+        final JsonObjectBuilder features = JsonObject.newBuilder();
+        for (int i = 0; i < numberOfFeatures; ++i) {
+            features.set("feature-" + i, JsonObject.newBuilder()
+                    .set("properties", JsonObject.newBuilder().set("value", i).build())
+                    .build());
+        }
+        return ThingsModelFactory.newThing(JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, "org.eclipse.ditto:delta")
+                .set(Thing.JsonFields.POLICY_ID, "org.eclipse.ditto:delta")
+                .set(Thing.JsonFields.ATTRIBUTES, JsonObject.newBuilder().set("location", "initial").build())
+                .set(Thing.JsonFields.FEATURES, features.build())
+                .set(Thing.JsonFields.REVISION, (long) numberOfFeatures)
+                .build());
+    }
+
+}
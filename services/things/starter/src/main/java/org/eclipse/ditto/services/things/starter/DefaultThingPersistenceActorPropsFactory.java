@@ -19,6 +19,7 @@ import javax.annotation.concurrent.Immutable;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActorPropsFactory;
+import org.eclipse.ditto.services.things.persistence.serializer.ThingMongoSnapshotAdapter;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
@@ -30,21 +31,26 @@ import akka.actor.Props;
 @Immutable
 final class DefaultThingPersistenceActorPropsFactory implements ThingPersistenceActorPropsFactory {
 
-    private DefaultThingPersistenceActorPropsFactory() {}
+    private final boolean binarySnapshotEncoding;
+
+    private DefaultThingPersistenceActorPropsFactory(final boolean binarySnapshotEncoding) {
+        this.binarySnapshotEncoding = binarySnapshotEncoding;
+    }
 
     /**
      * Returns an instance of {@code ThingPersistenceActorPropsFactory}.
      *
+     * @param binarySnapshotEncoding whether the created actors write snapshots as binary document.
      * @return the instance.
-     * @throws NullPointerException if any argument is {@code null}.
      */
-    static DefaultThingPersistenceActorPropsFactory getInstance() {
-        return new DefaultThingPersistenceActorPropsFactory();
+    static DefaultThingPersistenceActorPropsFactory getInstance(final boolean binarySnapshotEncoding) {
+        return new DefaultThingPersistenceActorPropsFactory(binarySnapshotEncoding);
     }
 
     @Override
     public Props props(final ThingId thingId, final DistributedPub<ThingEvent> distributedPub) {
         argumentNotEmpty(thingId);
-        return ThingPersistenceActor.props(thingId, distributedPub);
+        return ThingPersistenceActor.props(thingId, distributedPub,
+                new ThingMongoSnapshotAdapter(binarySnapshotEncoding));
     }
 }
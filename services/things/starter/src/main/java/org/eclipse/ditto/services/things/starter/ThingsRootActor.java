@@ -19,11 +19,16 @@ import static org.eclipse.ditto.services.models.things.ThingsMessagingConstants.
 import java.time.Duration;
 import java.util.concurrent.CompletionStage;
 
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
 import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.things.common.config.ThingConfig;
 import org.eclipse.ditto.services.things.common.config.ThingsConfig;
+import org.eclipse.ditto.services.things.persistence.actors.SudoRetrieveThingsActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActorPropsFactory;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceOperationsActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingSupervisorActor;
@@ -40,9 +45,15 @@ import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.MetricsReporterConfig;
 import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmStartConfig;
+import org.eclipse.ditto.services.utils.persistentactors.entitymetrics.SlowestEntitiesActor;
+import org.eclipse.ditto.services.utils.persistentactors.warmstart.MongoWarmStartPersistence;
+import org.eclipse.ditto.services.utils.persistentactors.warmstart.WarmStartActor;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.signals.commands.devops.RetrieveStatisticsDetails;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
@@ -74,9 +85,12 @@ public final class ThingsRootActor extends DittoRootActor {
      */
     public static final String ACTOR_NAME = "thingsRoot";
 
+    private static final String WARM_START_COLLECTION_NAME = "things_warm_start";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final RetrieveStatisticsDetailsResponseSupplier retrieveStatisticsDetailsResponseSupplier;
+    private final DittoMongoClient mongoClient;
 
     @SuppressWarnings("unused")
     private ThingsRootActor(final ThingsConfig thingsConfig,
@@ -84,6 +98,9 @@ public final class ThingsRootActor extends DittoRootActor {
             final ActorMaterializer materializer,
             final ThingPersistenceActorPropsFactory propsFactory) {
 
+        // the persistence operations and the warm start share one connection pool
+        mongoClient = MongoClientWrapper.newInstance(thingsConfig.getMongoDbConfig());
+
         final ActorSystem actorSystem = getContext().system();
 
         final ClusterConfig clusterConfig = thingsConfig.getClusterConfig();
@@ -92,14 +109,28 @@ public final class ThingsRootActor extends DittoRootActor {
         final ThingEventPubSubFactory pubSubFactory = ThingEventPubSubFactory.of(getContext(), shardRegionExtractor);
         final DistributedPub<ThingEvent> distributedPub = pubSubFactory.startDistributedPub();
 
+        final ThingConfig thingConfig = thingsConfig.getThingConfig();
+        final WarmStartConfig warmStartConfig = thingConfig.getWarmStartConfig();
         final ActorRef thingsShardRegion = ClusterSharding.get(actorSystem)
                 .start(ThingsMessagingConstants.SHARD_REGION,
-                        getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory),
+                        getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory, warmStartConfig),
                         ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE),
                         shardRegionExtractor);
 
+        if (warmStartConfig.isEnabled()) {
+            startChildActor(WarmStartActor.ACTOR_NAME, WarmStartActor.props(thingsShardRegion, shardRegionExtractor,
+                    MongoWarmStartPersistence.of(mongoClient, WARM_START_COLLECTION_NAME),
+                    warmStartConfig,
+                    thingId -> SudoRetrieveThing.of(ThingId.of(thingId), DittoHeaders.empty())));
+        }
+
+        startChildActor(SlowestEntitiesActor.ACTOR_NAME, SlowestEntitiesActor.props());
+
+        final ActorRef sudoRetrieveThingsActor = startChildActor(SudoRetrieveThingsActor.ACTOR_NAME,
+                SudoRetrieveThingsActor.props(thingsShardRegion, thingConfig.getSudoRetrieveThingsTimeout()));
+
         startChildActor(ThingPersistenceOperationsActor.ACTOR_NAME,
-                ThingPersistenceOperationsActor.props(pubSubMediator, thingsConfig.getMongoDbConfig(),
+                ThingPersistenceOperationsActor.props(pubSubMediator, mongoClient,
                         actorSystem.settings().config(), thingsConfig.getPersistenceOperationsConfig()));
 
         retrieveStatisticsDetailsResponseSupplier = RetrieveStatisticsDetailsResponseSupplier.of(thingsShardRegion,
@@ -135,6 +166,7 @@ public final class ThingsRootActor extends DittoRootActor {
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
         pubSubMediator.tell(DistPubSubAccess.put(eventStreamingActor), getSelf());
         pubSubMediator.tell(DistPubSubAccess.put(snapshotStreamingActor), getSelf());
+        pubSubMediator.tell(DistPubSubAccess.put(sudoRetrieveThingsActor), getSelf());
 
         final HttpConfig httpConfig = thingsConfig.getHttpConfig();
         String hostname = httpConfig.getHostname();
@@ -188,6 +220,12 @@ public final class ThingsRootActor extends DittoRootActor {
         return logRequest("http-request", () -> logResult("http-response", statusRoute::buildStatusRoute));
     }
 
+    @Override
+    public void postStop() throws Exception {
+        mongoClient.close();
+        super.postStop();
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
@@ -209,9 +247,10 @@ public final class ThingsRootActor extends DittoRootActor {
     private static Props getThingSupervisorActorProps(
             final ActorRef pubSubMediator,
             final DistributedPub<ThingEvent> distributedPub,
-            final ThingPersistenceActorPropsFactory propsFactory) {
+            final ThingPersistenceActorPropsFactory propsFactory,
+            final WarmStartConfig warmStartConfig) {
 
-        return ThingSupervisorActor.props(pubSubMediator, distributedPub, propsFactory);
+        return ThingSupervisorActor.props(pubSubMediator, distributedPub, propsFactory, warmStartConfig);
     }
 
 }
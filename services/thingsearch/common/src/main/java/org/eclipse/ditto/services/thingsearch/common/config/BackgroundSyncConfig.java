@@ -105,6 +105,14 @@ public interface BackgroundSyncConfig extends BackgroundStreamingConfig {
      */
     Duration getRecovery();
 
+    /**
+     * Get into how many ranges of thing IDs to split the background sync. The ranges are synchronized concurrently
+     * and their progress is bookmarked separately.
+     *
+     * @return the number of partitions.
+     */
+    int getPartitions();
+
     /**
      * Enumeration of known config keys and default values for {@code PersistenceCleanupConfig}
      */
@@ -169,7 +177,12 @@ public interface BackgroundSyncConfig extends BackgroundStreamingConfig {
         /**
          * Assume upstream healthy if no error happened for this long.
          */
-        RECOVERY("recovery", Duration.ofMinutes(4L));
+        RECOVERY("recovery", Duration.ofMinutes(4L)),
+
+        /**
+         * Number of thing ID ranges to synchronize concurrently.
+         */
+        PARTITIONS("partitions", 1);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the queue of thing changes waiting to be written into the search index.
+ */
+@Immutable
+public interface ChangeQueueConfig {
+
+    /**
+     * Returns the number of queued changes at which the queue is flushed regardless of their age.
+     *
+     * @return the flush threshold.
+     */
+    int getFlushThreshold();
+
+    /**
+     * Returns the maximum time the oldest queued change may wait before the queue is flushed.
+     *
+     * @return the maximum age.
+     */
+    Duration getMaxAge();
+
+    /**
+     * Returns how often the search updater stream asks the queue whether it should be flushed.
+     *
+     * @return the poll interval.
+     */
+    Duration getPollInterval();
+
+    /**
+     * An enumeration of known config path expressions and their associated default values for
+     * {@code ChangeQueueConfig}.
+     */
+    enum ChangeQueueConfigValue implements KnownConfigValue {
+
+        /**
+         * The number of queued changes at which the queue is flushed regardless of their age.
+         */
+        FLUSH_THRESHOLD("flush-threshold", 250),
+
+        /**
+         * The maximum time the oldest queued change may wait before the queue is flushed.
+         */
+        MAX_AGE("max-age", Duration.ofSeconds(1L)),
+
+        /**
+         * How often the search updater stream asks the queue whether it should be flushed.
+         */
+        POLL_INTERVAL("poll-interval", Duration.ofMillis(100L));
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private ChangeQueueConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
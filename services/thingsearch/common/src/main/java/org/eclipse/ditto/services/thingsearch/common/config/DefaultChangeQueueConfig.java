@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ChangeQueueConfig}.
+ */
+@Immutable
+public final class DefaultChangeQueueConfig implements ChangeQueueConfig {
+
+    private static final String CONFIG_PATH = "change-queue";
+
+    private final int flushThreshold;
+    private final Duration maxAge;
+    private final Duration pollInterval;
+
+    private DefaultChangeQueueConfig(final ConfigWithFallback changeQueueScopedConfig) {
+        flushThreshold = changeQueueScopedConfig.getInt(ChangeQueueConfigValue.FLUSH_THRESHOLD.getConfigPath());
+        maxAge = changeQueueScopedConfig.getDuration(ChangeQueueConfigValue.MAX_AGE.getConfigPath());
+        pollInterval = changeQueueScopedConfig.getDuration(ChangeQueueConfigValue.POLL_INTERVAL.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of DefaultChangeQueueConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the change queue config at {@value CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultChangeQueueConfig of(final Config config) {
+        return new DefaultChangeQueueConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ChangeQueueConfigValue.values()));
+    }
+
+    @Override
+    public int getFlushThreshold() {
+        return flushThreshold;
+    }
+
+    @Override
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    @Override
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultChangeQueueConfig that = (DefaultChangeQueueConfig) o;
+        return flushThreshold == that.flushThreshold &&
+                maxAge.equals(that.maxAge) &&
+                pollInterval.equals(that.pollInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(flushThreshold, maxAge, pollInterval);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "flushThreshold=" + flushThreshold +
+                ", maxAge=" + maxAge +
+                ", pollInterval=" + pollInterval +
+                "]";
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link RetrievalStreamConfig}.
+ */
+@Immutable
+public final class DefaultRetrievalStreamConfig implements RetrievalStreamConfig {
+
+    private static final String CONFIG_PATH = "retrieval";
+
+    private final int batchSize;
+    private final DefaultStreamStageConfig defaultStreamStageConfig;
+
+    private DefaultRetrievalStreamConfig(final ConfigWithFallback retrievalStreamScopedConfig,
+            final DefaultStreamStageConfig defaultStreamStageConfig) {
+
+        batchSize = retrievalStreamScopedConfig.getInt(RetrievalStreamConfigValue.BATCH_SIZE.getConfigPath());
+        this.defaultStreamStageConfig = defaultStreamStageConfig;
+    }
+
+    /**
+     * Returns an instance of DefaultRetrievalStreamConfig based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the retrieval stream config at {@value CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultRetrievalStreamConfig of(final Config config) {
+        return new DefaultRetrievalStreamConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, RetrievalStreamConfigValue.values()),
+                DefaultStreamStageConfig.getInstance(config, CONFIG_PATH));
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public int getParallelism() {
+        return defaultStreamStageConfig.getParallelism();
+    }
+
+    @Override
+    public ExponentialBackOffConfig getExponentialBackOffConfig() {
+        return defaultStreamStageConfig.getExponentialBackOffConfig();
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultRetrievalStreamConfig that = (DefaultRetrievalStreamConfig) o;
+        return batchSize == that.batchSize &&
+                defaultStreamStageConfig.equals(that.defaultStreamStageConfig);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(batchSize, defaultStreamStageConfig);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "batchSize=" + batchSize +
+                ", defaultStreamStageConfig=" + defaultStreamStageConfig +
+                "]";
+    }
+
+}
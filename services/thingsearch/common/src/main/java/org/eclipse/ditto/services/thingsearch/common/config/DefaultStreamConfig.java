@@ -28,22 +28,23 @@ import com.typesafe.config.Config;
 @Immutable
 public final class DefaultStreamConfig implements StreamConfig {
     private static final String CONFIG_PATH = "stream";
-    private static final String RETRIEVAL_CONFIG_PATH = "retrieval";
 
     private final int maxArraySize;
     private final Duration writeInterval;
     private final Duration askTimeout;
-    private final DefaultStreamStageConfig retrievalConfig;
+    private final DefaultRetrievalStreamConfig retrievalConfig;
     private final DefaultPersistenceStreamConfig persistenceStreamConfig;
     private final DefaultStreamCacheConfig streamCacheConfig;
+    private final DefaultChangeQueueConfig changeQueueConfig;
 
     private DefaultStreamConfig(final ConfigWithFallback streamScopedConfig) {
         maxArraySize = streamScopedConfig.getInt(StreamConfigValue.MAX_ARRAY_SIZE.getConfigPath());
         writeInterval = streamScopedConfig.getDuration(StreamConfigValue.WRITE_INTERVAL.getConfigPath());
         askTimeout = streamScopedConfig.getDuration(StreamConfigValue.ASK_TIMEOUT.getConfigPath());
-        retrievalConfig = DefaultStreamStageConfig.getInstance(streamScopedConfig, RETRIEVAL_CONFIG_PATH);
+        retrievalConfig = DefaultRetrievalStreamConfig.of(streamScopedConfig);
         persistenceStreamConfig = DefaultPersistenceStreamConfig.of(streamScopedConfig);
         streamCacheConfig = DefaultStreamCacheConfig.of(streamScopedConfig);
+        changeQueueConfig = DefaultChangeQueueConfig.of(streamScopedConfig);
     }
 
     /**
@@ -73,7 +74,7 @@ public final class DefaultStreamConfig implements StreamConfig {
     }
 
     @Override
-    public StreamStageConfig getRetrievalConfig() {
+    public RetrievalStreamConfig getRetrievalConfig() {
         return retrievalConfig;
     }
 
@@ -87,6 +88,11 @@ public final class DefaultStreamConfig implements StreamConfig {
         return streamCacheConfig;
     }
 
+    @Override
+    public ChangeQueueConfig getChangeQueueConfig() {
+        return changeQueueConfig;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -101,13 +107,14 @@ public final class DefaultStreamConfig implements StreamConfig {
                 askTimeout.equals(that.askTimeout) &&
                 retrievalConfig.equals(that.retrievalConfig) &&
                 persistenceStreamConfig.equals(that.persistenceStreamConfig) &&
-                streamCacheConfig.equals(that.streamCacheConfig);
+                streamCacheConfig.equals(that.streamCacheConfig) &&
+                changeQueueConfig.equals(that.changeQueueConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(maxArraySize, writeInterval, askTimeout, retrievalConfig, persistenceStreamConfig,
-                streamCacheConfig);
+                streamCacheConfig, changeQueueConfig);
     }
 
     @Override
@@ -119,6 +126,7 @@ public final class DefaultStreamConfig implements StreamConfig {
                 ", retrievalConfig=" + retrievalConfig +
                 ", persistenceStreamConfig=" + persistenceStreamConfig +
                 ", streamCacheConfig=" + streamCacheConfig +
+                ", changeQueueConfig=" + changeQueueConfig +
                 "]";
     }
 
@@ -44,6 +44,7 @@ public final class DittoSearchConfig implements SearchConfig {
 
     private final DittoServiceConfig dittoServiceConfig;
     @Nullable private final String mongoHintsByNamespace;
+    @Nullable private final String indexedFieldsByNamespace;
     private final DeleteConfig deleteConfig;
     private final DeletionConfig deletionConfig;
     private final UpdaterConfig updaterConfig;
@@ -62,6 +63,8 @@ public final class DittoSearchConfig implements SearchConfig {
         final ConfigWithFallback configWithFallback =
                 ConfigWithFallback.newInstance(dittoScopedConfig, CONFIG_PATH, SearchConfigValue.values());
         mongoHintsByNamespace = configWithFallback.getStringOrNull(SearchConfigValue.MONGO_HINTS_BY_NAMESPACE);
+        indexedFieldsByNamespace =
+                configWithFallback.getStringOrNull(SearchConfigValue.INDEXED_FIELDS_BY_NAMESPACE);
         deleteConfig = DefaultDeleteConfig.of(configWithFallback);
         deletionConfig = DefaultDeletionConfig.of(configWithFallback);
         updaterConfig = DefaultUpdaterConfig.of(configWithFallback);
@@ -86,6 +89,11 @@ public final class DittoSearchConfig implements SearchConfig {
         return Optional.ofNullable(mongoHintsByNamespace);
     }
 
+    @Override
+    public Optional<String> getIndexedFieldsByNamespace() {
+        return Optional.ofNullable(indexedFieldsByNamespace);
+    }
+
     @Override
     public DeleteConfig getDeleteConfig() {
         return deleteConfig;
@@ -157,6 +165,7 @@ public final class DittoSearchConfig implements SearchConfig {
         }
         final DittoSearchConfig that = (DittoSearchConfig) o;
         return Objects.equals(mongoHintsByNamespace, that.mongoHintsByNamespace) &&
+                Objects.equals(indexedFieldsByNamespace, that.indexedFieldsByNamespace) &&
                 Objects.equals(deleteConfig, that.deleteConfig) &&
                 Objects.equals(deletionConfig, that.deletionConfig) &&
                 Objects.equals(updaterConfig, that.updaterConfig) &&
@@ -170,14 +179,16 @@ public final class DittoSearchConfig implements SearchConfig {
 
     @Override
     public int hashCode() {
-        return Objects.hash(mongoHintsByNamespace, deleteConfig, deletionConfig, updaterConfig, dittoServiceConfig,
-                healthCheckConfig, indexInitializationConfig, persistenceOperationsConfig, mongoDbConfig, streamConfig);
+        return Objects.hash(mongoHintsByNamespace, indexedFieldsByNamespace, deleteConfig, deletionConfig,
+                updaterConfig, dittoServiceConfig, healthCheckConfig, indexInitializationConfig,
+                persistenceOperationsConfig, mongoDbConfig, streamConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "mongoHintsByNamespace=" + mongoHintsByNamespace +
+                ", indexedFieldsByNamespace=" + indexedFieldsByNamespace +
                 ", deleteConfig=" + deleteConfig +
                 ", deletionConfig=" + deletionConfig +
                 ", updaterConfig=" + updaterConfig +
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the retrieval of things and policy-enforcers.
+ */
+@Immutable
+public interface RetrievalStreamConfig extends StreamStageConfig {
+
+    /**
+     * Returns the amount of things of the same shard to retrieve with one command. Values less than 2 mean that each
+     * thing is retrieved from the things shard region individually.
+     *
+     * @return the batch size.
+     */
+    int getBatchSize();
+
+    /**
+     * An enumeration of known config path expressions and their associated default values for
+     * {@code RetrievalStreamConfig}.
+     * This enumeration is a logical extension of {@link StreamStageConfigValue}.
+     */
+    enum RetrievalStreamConfigValue implements KnownConfigValue {
+
+        /**
+         * The amount of things to retrieve with one command.
+         */
+        BATCH_SIZE("batch-size", 1);
+
+        private final String configPath;
+        private final Object defaultValue;
+
+        private RetrievalStreamConfigValue(final String configPath, final Object defaultValue) {
+            this.configPath = configPath;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return configPath;
+        }
+
+    }
+
+}
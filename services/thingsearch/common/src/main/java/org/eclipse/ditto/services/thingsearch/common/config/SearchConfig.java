@@ -32,6 +32,13 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
 
     Optional<String> getMongoHintsByNamespace();
 
+    /**
+     * Returns the JSON representation of the paths to index per namespace if configured.
+     *
+     * @return the indexed fields by namespace.
+     */
+    Optional<String> getIndexedFieldsByNamespace();
+
     /**
      * Returns the configuration settings of the "delete" section.
      *
@@ -69,7 +76,12 @@ public interface SearchConfig extends ServiceSpecificConfig, WithHealthCheckConf
         /**
          * Default value is {@code null}.
          */
-        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null);
+        MONGO_HINTS_BY_NAMESPACE("mongo-hints-by-namespace", null),
+
+        /**
+         * Default value is {@code null}.
+         */
+        INDEXED_FIELDS_BY_NAMESPACE("indexed-fields-by-namespace", null);
 
         private final String path;
         private final Object defaultValue;
@@ -50,7 +50,7 @@ public interface StreamConfig {
      *
      * @return the config.
      */
-    StreamStageConfig getRetrievalConfig();
+    RetrievalStreamConfig getRetrievalConfig();
 
     /**
      * Returns the configuration settings for writing into the persistence.
@@ -66,6 +66,13 @@ public interface StreamConfig {
      */
     StreamCacheConfig getCacheConfig();
 
+    /**
+     * Returns the configuration settings of the queue of thing changes.
+     *
+     * @return the config.
+     */
+    ChangeQueueConfig getChangeQueueConfig();
+
     /**
      * An enumeration of known config path expressions and their associated default values for {@code StreamConfig}.
      */
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * One group of an aggregation over the search index: the things sharing a value of the grouping field, together with
+ * statistics of a numeric field of these things.
+ */
+@Immutable
+public final class AggregationBucket {
+
+    private static final JsonFieldDefinition<JsonValue> GROUP = JsonFieldDefinition.ofJsonValue("group");
+    private static final JsonFieldDefinition<Long> COUNT = JsonFieldDefinition.ofLong("count");
+    private static final JsonFieldDefinition<Double> MIN = JsonFieldDefinition.ofDouble("min");
+    private static final JsonFieldDefinition<Double> MAX = JsonFieldDefinition.ofDouble("max");
+    private static final JsonFieldDefinition<Double> AVG = JsonFieldDefinition.ofDouble("avg");
+
+    private final JsonValue group;
+    private final long count;
+    @Nullable private final Double min;
+    @Nullable private final Double max;
+    @Nullable private final Double avg;
+
+    private AggregationBucket(final JsonValue group, final long count, @Nullable final Double min,
+            @Nullable final Double max, @Nullable final Double avg) {
+
+        this.group = requireNonNull(group);
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.avg = avg;
+    }
+
+    /**
+     * Create an aggregation bucket.
+     *
+     * @param group the value of the grouping field shared by all things of the bucket.
+     * @param count the number of things in the bucket.
+     * @param min the minimum of the numeric field, or null if no statistics were requested or no value is numeric.
+     * @param max the maximum of the numeric field, or null if no statistics were requested or no value is numeric.
+     * @param avg the average of the numeric field, or null if no statistics were requested or no value is numeric.
+     * @return the bucket.
+     */
+    public static AggregationBucket of(final JsonValue group, final long count, @Nullable final Double min,
+            @Nullable final Double max, @Nullable final Double avg) {
+
+        return new AggregationBucket(group, count, min, max, avg);
+    }
+
+    /**
+     * @return the value of the grouping field shared by all things of the bucket.
+     */
+    public JsonValue getGroup() {
+        return group;
+    }
+
+    /**
+     * @return the number of things in the bucket.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the minimum of the numeric field over the things of the bucket, if any.
+     */
+    public Optional<Double> getMin() {
+        return Optional.ofNullable(min);
+    }
+
+    /**
+     * @return the maximum of the numeric field over the things of the bucket, if any.
+     */
+    public Optional<Double> getMax() {
+        return Optional.ofNullable(max);
+    }
+
+    /**
+     * @return the average of the numeric field over the things of the bucket, if any.
+     */
+    public Optional<Double> getAvg() {
+        return Optional.ofNullable(avg);
+    }
+
+    /**
+     * @return JSON representation of this bucket.
+     */
+    public JsonObject toJson() {
+        final JsonObjectBuilder builder = JsonObject.newBuilder()
+                .set(GROUP, group)
+                .set(COUNT, count);
+        getMin().ifPresent(value -> builder.set(MIN, value));
+        getMax().ifPresent(value -> builder.set(MAX, value));
+        getAvg().ifPresent(value -> builder.set(AVG, value));
+        return builder.build();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final AggregationBucket that = (AggregationBucket) o;
+        return count == that.count &&
+                Objects.equals(group, that.group) &&
+                Objects.equals(min, that.min) &&
+                Objects.equals(max, that.max) &&
+                Objects.equals(avg, that.avg);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(group, count, min, max, avg);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "group=" + group +
+                ", count=" + count +
+                ", min=" + min +
+                ", max=" + max +
+                ", avg=" + avg +
+                "]";
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.Thing;
+
+/**
+ * Configured projection of the search index: which paths below {@code /attributes} and {@code /features} of things
+ * in a namespace are written into the search index.
+ * <p>
+ * The projection is configured as JSON object mapping namespaces to objects with the optional string arrays
+ * {@code include} and {@code exclude} of JSON pointers, where the key {@code *} matches any single pointer segment.
+ * A path is indexed if no include pattern is configured or if it lies below some include pattern, and if it does not
+ * lie below any exclude pattern. Paths of things in namespaces without configuration are always indexed.
+ * </p>
+ */
+@Immutable
+public final class IndexedFields {
+
+    private static final String WILDCARD = "*";
+
+    private static final JsonFieldDefinition<JsonArray> INCLUDE = JsonFieldDefinition.ofJsonArray("include");
+    private static final JsonFieldDefinition<JsonArray> EXCLUDE = JsonFieldDefinition.ofJsonArray("exclude");
+
+    private static final Set<String> PROJECTED_ROOT_FIELDS =
+            Set.of(keyOf(Thing.JsonFields.ATTRIBUTES.getPointer()), keyOf(Thing.JsonFields.FEATURES.getPointer()));
+
+    private final Map<String, Projection> projections;
+
+    private IndexedFields(final Map<String, Projection> projections) {
+        this.projections = projections;
+    }
+
+    /**
+     * @return indexed fields that index everything in every namespace.
+     */
+    public static IndexedFields all() {
+        return new IndexedFields(Map.of());
+    }
+
+    /**
+     * Extract the indexed fields from a JSON representation.
+     *
+     * @param jsonString text of a JSON object mapping namespaces to include- and exclude-patterns.
+     * @return the indexed fields.
+     * @throws org.eclipse.ditto.json.JsonParseException if the JSON representation is invalid.
+     */
+    public static IndexedFields byNamespace(final String jsonString) {
+        final Map<String, Projection> projections = JsonObject.of(jsonString)
+                .stream()
+                .collect(Collectors.toMap(JsonField::getKeyName, field -> Projection.of(field.getValue().asObject())));
+        return new IndexedFields(projections);
+    }
+
+    /**
+     * Remove all fields of a thing which are not to be indexed.
+     *
+     * @param namespace namespace of the thing.
+     * @param thing JSON representation of the thing.
+     * @return the thing without fields not to be indexed.
+     */
+    public JsonObject prune(final String namespace, final JsonObject thing) {
+        final Projection projection = projections.get(namespace);
+        return projection == null ? thing : projection.prune(thing, JsonPointer.empty());
+    }
+
+    /**
+     * Check whether a path is indexed for the namespaces of a search query.
+     *
+     * @param namespaces namespaces of the search query, or null if the query is not restricted to namespaces.
+     * @param pointer the path to check.
+     * @return whether the path is indexed for all given namespaces, or for all configured namespaces if no namespace
+     * is given.
+     */
+    public boolean isIndexed(@Nullable final Set<String> namespaces, final JsonPointer pointer) {
+        final Collection<Projection> relevantProjections = namespaces == null
+                ? projections.values()
+                : namespaces.stream().map(projections::get).filter(Objects::nonNull).collect(Collectors.toList());
+        return relevantProjections.stream().allMatch(projection -> projection.isQueryable(pointer));
+    }
+
+    /**
+     * @return whether any namespace restricts the indexed fields.
+     */
+    public boolean isRestricted() {
+        return !projections.isEmpty();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final IndexedFields that = (IndexedFields) o;
+        return Objects.equals(projections, that.projections);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(projections);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "projections=" + projections +
+                "]";
+    }
+
+    private static String keyOf(final JsonPointer pointer) {
+        return pointer.getRoot().map(JsonKey::toString).orElse("");
+    }
+
+    private static List<String> segments(final JsonPointer pointer) {
+        return StreamSupport.stream(pointer.spliterator(), false)
+                .map(JsonKey::toString)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Test whether the pattern matches the first segments of the path, i. e., whether the path lies below the pattern.
+     */
+    private static boolean isBelow(final List<String> path, final List<String> pattern) {
+        if (pattern.size() > path.size()) {
+            return false;
+        }
+        for (int i = 0; i < pattern.size(); ++i) {
+            final String segment = pattern.get(i);
+            if (!WILDCARD.equals(segment) && !segment.equals(path.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Test whether the pattern reaches deeper than the path and lies below it.
+     */
+    private static boolean isAbove(final List<String> path, final List<String> pattern) {
+        return pattern.size() > path.size() && isBelow(path, pattern.subList(0, path.size()));
+    }
+
+    private static final class Projection {
+
+        private final List<List<String>> includes;
+        private final List<List<String>> excludes;
+
+        private Projection(final List<List<String>> includes, final List<List<String>> excludes) {
+            this.includes = includes;
+            this.excludes = excludes;
+        }
+
+        private static Projection of(final JsonObject config) {
+            return new Projection(getPatterns(config, INCLUDE), getPatterns(config, EXCLUDE));
+        }
+
+        private static List<List<String>> getPatterns(final JsonObject config,
+                final JsonFieldDefinition<JsonArray> definition) {
+
+            return config.getValue(definition)
+                    .map(array -> array.stream()
+                            .map(JsonValue::asString)
+                            .map(JsonPointer::of)
+                            .map(IndexedFields::segments)
+                            .collect(Collectors.toList()))
+                    .orElse(List.of());
+        }
+
+        private JsonObject prune(final JsonObject object, final JsonPointer path) {
+            final JsonObjectBuilder builder = JsonObject.newBuilder();
+            for (final JsonField field : object) {
+                final JsonPointer childPointer = path.addLeaf(field.getKey());
+                final List<String> childPath = segments(childPointer);
+                final JsonValue value = field.getValue();
+                if (path.isEmpty() && !PROJECTED_ROOT_FIELDS.contains(field.getKeyName())) {
+                    builder.set(field);
+                } else if (!isExcluded(childPath)) {
+                    if (isIncluded(childPath)) {
+                        final boolean hasExcludedChildren =
+                                excludes.stream().anyMatch(pattern -> isAbove(childPath, pattern));
+                        if (value.isObject() && hasExcludedChildren) {
+                            builder.set(field.getKey(), prune(value.asObject(), childPointer));
+                        } else {
+                            builder.set(field);
+                        }
+                    } else if (value.isObject() && includes.stream().anyMatch(pattern -> isAbove(childPath, pattern))) {
+                        final JsonObject prunedChild = prune(value.asObject(), childPointer);
+                        if (!prunedChild.isEmpty()) {
+                            builder.set(field.getKey(), prunedChild);
+                        }
+                    }
+                }
+            }
+            return builder.build();
+        }
+
+        private boolean isQueryable(final JsonPointer pointer) {
+            final List<String> path = segments(pointer);
+            if (path.isEmpty() || !PROJECTED_ROOT_FIELDS.contains(path.get(0))) {
+                return true;
+            }
+            return !isExcluded(path) &&
+                    (isIncluded(path) || includes.stream().anyMatch(pattern -> isAbove(path, pattern)));
+        }
+
+        private boolean isIncluded(final List<String> path) {
+            return includes.isEmpty() || includes.stream().anyMatch(pattern -> isBelow(path, pattern));
+        }
+
+        private boolean isExcluded(final List<String> path) {
+            return excludes.stream().anyMatch(pattern -> isBelow(path, pattern));
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Projection that = (Projection) o;
+            return Objects.equals(includes, that.includes) && Objects.equals(excludes, that.excludes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(includes, excludes);
+        }
+
+        @Override
+        public String toString() {
+            return "Projection [includes=" + includes + ", excludes=" + excludes + "]";
+        }
+    }
+}
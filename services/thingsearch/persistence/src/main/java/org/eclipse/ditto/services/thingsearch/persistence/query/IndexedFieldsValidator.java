@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.query;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.model.query.criteria.Predicate;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.query.expression.visitors.FieldExpressionVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.IndexedFields;
+
+/**
+ * Rejects queries referring to fields which are not written into the search index.
+ */
+final class IndexedFieldsValidator implements CriteriaVisitor<Stream<JsonPointer>> {
+
+    private static final PointerVisitor POINTER_VISITOR = new PointerVisitor();
+
+    private IndexedFieldsValidator() {}
+
+    /**
+     * Check that all fields referred to by filter and sort options of a query are indexed.
+     *
+     * @param query the query.
+     * @param indexedFields the indexed fields.
+     * @param namespaces namespaces of the query, or null if the query is not restricted to namespaces.
+     * @param headers headers of the search command.
+     * @throws InvalidRqlExpressionException if the query refers to a field which is not indexed.
+     */
+    static void validate(final Query query, final IndexedFields indexedFields,
+            @Nullable final Set<String> namespaces, final DittoHeaders headers) {
+
+        if (indexedFields.isRestricted()) {
+            final Stream<JsonPointer> sortPointers = query.getSortOptions()
+                    .stream()
+                    .map(SortOption::getSortExpression)
+                    .map(expression -> expression.acceptSortVisitor(POINTER_VISITOR));
+            Stream.concat(query.getCriteria().accept(new IndexedFieldsValidator()), sortPointers)
+                    .filter(pointer -> !indexedFields.isIndexed(namespaces, pointer))
+                    .findAny()
+                    .ifPresent(pointer -> {
+                        throw InvalidRqlExpressionException.newBuilder()
+                                .message("The field '" + pointer + "' is not indexed.")
+                                .description("Only configured fields of things in the requested namespaces " +
+                                        "may be used in filters and sort options.")
+                                .dittoHeaders(headers)
+                                .build();
+                    });
+        }
+    }
+
+    @Override
+    public Stream<JsonPointer> visitAnd(final List<Stream<JsonPointer>> conjuncts) {
+        return conjuncts.stream().flatMap(pointers -> pointers);
+    }
+
+    @Override
+    public Stream<JsonPointer> visitAny() {
+        return Stream.empty();
+    }
+
+    @Override
+    public Stream<JsonPointer> visitExists(final ExistsFieldExpression fieldExpression) {
+        return Stream.of(fieldExpression.acceptExistsVisitor(POINTER_VISITOR));
+    }
+
+    @Override
+    public Stream<JsonPointer> visitField(final FilterFieldExpression fieldExpression, final Predicate predicate) {
+        return Stream.of(fieldExpression.acceptFilterVisitor(POINTER_VISITOR));
+    }
+
+    @Override
+    public Stream<JsonPointer> visitNor(final List<Stream<JsonPointer>> negativeDisjoints) {
+        return negativeDisjoints.stream().flatMap(pointers -> pointers);
+    }
+
+    @Override
+    public Stream<JsonPointer> visitOr(final List<Stream<JsonPointer>> disjoints) {
+        return disjoints.stream().flatMap(pointers -> pointers);
+    }
+
+    private static final class PointerVisitor implements FieldExpressionVisitor<JsonPointer> {
+
+        @Override
+        public JsonPointer visitAttribute(final String key) {
+            return JsonPointer.of("/attributes/" + key);
+        }
+
+        @Override
+        public JsonPointer visitFeature(final String featureId) {
+            return JsonPointer.of("/features/" + featureId);
+        }
+
+        @Override
+        public JsonPointer visitFeatureIdProperty(final String featureId, final String property) {
+            return JsonPointer.of("/features/" + featureId + "/properties/" + property);
+        }
+
+        @Override
+        public JsonPointer visitSimple(final String fieldName) {
+            return JsonPointer.of(fieldName);
+        }
+    }
+}
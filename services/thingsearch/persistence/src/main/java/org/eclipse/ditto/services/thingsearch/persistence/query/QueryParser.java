@@ -26,6 +26,7 @@ import org.eclipse.ditto.model.rql.ParserException;
 import org.eclipse.ditto.model.thingsearchparser.RqlOptionParser;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.SudoCountThings;
 import org.eclipse.ditto.services.models.thingsearch.query.filter.ParameterOptionVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.IndexedFields;
 import org.eclipse.ditto.signals.commands.thingsearch.exceptions.InvalidOptionException;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.ThingSearchQueryCommand;
@@ -39,15 +40,18 @@ public final class QueryParser {
     private final ThingsFieldExpressionFactory fieldExpressionFactory;
     private final QueryBuilderFactory queryBuilderFactory;
     private final RqlOptionParser rqlOptionParser;
+    private final IndexedFields indexedFields;
 
     private QueryParser(final CriteriaFactory criteriaFactory,
             final ThingsFieldExpressionFactory fieldExpressionFactory,
-            final QueryBuilderFactory queryBuilderFactory) {
+            final QueryBuilderFactory queryBuilderFactory,
+            final IndexedFields indexedFields) {
 
         this.queryFilterCriteriaFactory = new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
         this.fieldExpressionFactory = fieldExpressionFactory;
         this.queryBuilderFactory = queryBuilderFactory;
         rqlOptionParser = new RqlOptionParser();
+        this.indexedFields = indexedFields;
     }
 
     /**
@@ -62,7 +66,24 @@ public final class QueryParser {
             final ThingsFieldExpressionFactory fieldExpressionFactory,
             final QueryBuilderFactory queryBuilderFactory) {
 
-        return new QueryParser(criteriaFactory, fieldExpressionFactory, queryBuilderFactory);
+        return of(criteriaFactory, fieldExpressionFactory, queryBuilderFactory, IndexedFields.all());
+    }
+
+    /**
+     * Create a QueryFactory which rejects queries on fields that are not indexed.
+     *
+     * @param criteriaFactory a factory to create criteria.
+     * @param fieldExpressionFactory a factory to retrieve things field expressions.
+     * @param queryBuilderFactory a factory to create a query builder.
+     * @param indexedFields the fields written into the search index per namespace.
+     * @return the query factory.
+     */
+    public static QueryParser of(final CriteriaFactory criteriaFactory,
+            final ThingsFieldExpressionFactory fieldExpressionFactory,
+            final QueryBuilderFactory queryBuilderFactory,
+            final IndexedFields indexedFields) {
+
+        return new QueryParser(criteriaFactory, fieldExpressionFactory, queryBuilderFactory, indexedFields);
     }
 
     /**
@@ -70,19 +91,25 @@ public final class QueryParser {
      *
      * @param command the search command.
      * @return the query.
+     * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the query refers to a field
+     * which is not indexed.
      */
     public Query parse(final ThingSearchQueryCommand<?> command) {
         final Criteria criteria = parseCriteria(command);
+        final Query query;
         if (command instanceof QueryThings) {
             final QueryThings queryThings = (QueryThings) command;
             final QueryBuilder queryBuilder = queryBuilderFactory.newBuilder(criteria);
             queryThings.getOptions()
                     .map(optionStrings -> String.join(",", optionStrings))
                     .ifPresent(options -> setOptions(options, queryBuilder, command.getDittoHeaders()));
-            return queryBuilder.build();
+            query = queryBuilder.build();
         } else {
-            return queryBuilderFactory.newUnlimitedBuilder(criteria).build();
+            query = queryBuilderFactory.newUnlimitedBuilder(criteria).build();
         }
+        IndexedFieldsValidator.validate(query, indexedFields, command.getNamespaces().orElse(null),
+                command.getDittoHeaders());
+        return query;
     }
 
     /**
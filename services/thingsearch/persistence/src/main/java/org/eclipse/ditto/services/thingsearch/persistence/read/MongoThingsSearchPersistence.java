@@ -14,12 +14,17 @@ package org.eclipse.ditto.services.thingsearch.persistence.read;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_GRANTED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_KEY;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_INTERNAL_VALUE;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_MODIFIED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PATH_MODIFIED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVOKED;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
 
 import java.time.Duration;
@@ -36,9 +41,13 @@ import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 
 import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.query.Query;
@@ -46,6 +55,7 @@ import org.eclipse.ditto.model.query.SortOption;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceResultEntry;
+import org.eclipse.ditto.services.thingsearch.common.model.AggregationBucket;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultListImpl;
 import org.eclipse.ditto.services.thingsearch.persistence.Indices;
@@ -55,6 +65,7 @@ import org.eclipse.ditto.services.thingsearch.persistence.read.expression.visito
 import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQuery;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
 import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexInitializer;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayQueryTimeExceededException;
@@ -62,10 +73,14 @@ import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoExecutionTimeoutException;
 import com.mongodb.ReadPreference;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BsonField;
 import com.mongodb.client.model.CountOptions;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UnwindOptions;
 import com.mongodb.reactivestreams.client.AggregatePublisher;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -84,6 +99,15 @@ import scala.PartialFunction;
  */
 public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
+    private static final String DOLLAR = "$";
+    private static final String AGGREGATION_THING = "thing";
+    private static final String AGGREGATION_GROUP = "group";
+    private static final String AGGREGATION_VALUE = "value";
+    private static final String AGGREGATION_MIN = "min";
+    private static final String AGGREGATION_MAX = "max";
+    private static final String AGGREGATION_AVG = "avg";
+    private static final List<String> NUMERIC_TYPES = List.of("double", "int", "long", "decimal");
+
     private final MongoCollection<Document> collection;
     private final LoggingAdapter log;
 
@@ -195,6 +219,67 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return count(query, null);
     }
 
+    @Override
+    public Source<AggregationBucket, NotUsed> aggregate(final Query query, final JsonPointer groupBy,
+            @Nullable final JsonPointer statisticsOf, @Nullable final List<String> authorizationSubjectIds) {
+
+        checkNotNull(query, "query");
+        checkNotNull(groupBy, "groupBy");
+
+        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        log.debug("aggregate by <{}> with query filter <{}>.", groupBy, queryFilter);
+
+        final List<Bson> pipeline = new ArrayList<>();
+        pipeline.add(Aggregates.match(queryFilter));
+        final List<BsonField> thingStatistics = new ArrayList<>();
+        final List<BsonField> groupStatistics = new ArrayList<>();
+        groupStatistics.add(Accumulators.sum(PersistenceConstants.FIELD_COUNT, 1));
+        if (statisticsOf != null) {
+            pipeline.add(Aggregates.project(Projections.fields(
+                    Projections.computed(AGGREGATION_GROUP,
+                            filterVisibleEntries(groupBy, authorizationSubjectIds, false)),
+                    Projections.computed(AGGREGATION_VALUE,
+                            filterVisibleEntries(statisticsOf, authorizationSubjectIds, true)))));
+            pipeline.add(Aggregates.unwind(DOLLAR + AGGREGATION_GROUP));
+            pipeline.add(Aggregates.unwind(DOLLAR + AGGREGATION_VALUE, new UnwindOptions()
+                    .preserveNullAndEmptyArrays(true)));
+            final String value = DOLLAR + AGGREGATION_VALUE + PersistenceConstants.DOT + FIELD_INTERNAL_VALUE;
+            thingStatistics.add(Accumulators.min(AGGREGATION_MIN, value));
+            thingStatistics.add(Accumulators.max(AGGREGATION_MAX, value));
+            thingStatistics.add(Accumulators.avg(AGGREGATION_AVG, value));
+            groupStatistics.add(Accumulators.min(AGGREGATION_MIN, DOLLAR + AGGREGATION_MIN));
+            groupStatistics.add(Accumulators.max(AGGREGATION_MAX, DOLLAR + AGGREGATION_MAX));
+            groupStatistics.add(Accumulators.avg(AGGREGATION_AVG, DOLLAR + AGGREGATION_AVG));
+        } else {
+            pipeline.add(Aggregates.project(Projections.computed(AGGREGATION_GROUP,
+                    filterVisibleEntries(groupBy, authorizationSubjectIds, false))));
+            pipeline.add(Aggregates.unwind(DOLLAR + AGGREGATION_GROUP));
+        }
+        // unwinding multi-valued fields yields several documents per thing; reduce them to one per thing and group
+        // first so that each thing is counted once in its group
+        pipeline.add(Aggregates.group(new Document()
+                        .append(AGGREGATION_THING, DOLLAR + FIELD_ID)
+                        .append(AGGREGATION_GROUP,
+                                DOLLAR + AGGREGATION_GROUP + PersistenceConstants.DOT + FIELD_INTERNAL_VALUE),
+                thingStatistics));
+        pipeline.add(Aggregates.group(DOLLAR + FIELD_ID + PersistenceConstants.DOT + AGGREGATION_GROUP,
+                groupStatistics));
+
+        return Source.fromPublisher(collection.aggregate(pipeline)
+                .allowDiskUse(true)
+                .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS))
+                .map(MongoThingsSearchPersistence::readAsAggregationBucket)
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("aggregate");
+    }
+
+    @Override
+    public Source<AggregationBucket, NotUsed> sudoAggregate(final Query query, final JsonPointer groupBy,
+            @Nullable final JsonPointer statisticsOf) {
+
+        return aggregate(query, groupBy, statisticsOf, null);
+    }
+
     @Override
     public Source<ResultList<ThingId>, NotUsed> findAll(final Query query,
             @Nullable final List<String> authorizationSubjectIds,
@@ -245,6 +330,16 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         return Source.fromPublisher(publisher).map(MongoThingsSearchPersistence::readAsMetadata);
     }
 
+    @Override
+    public Source<ThingId, NotUsed> sudoSampleThingIds(final int sampleSize) {
+        final AggregatePublisher<Document> publisher = collection.aggregate(List.of(
+                Aggregates.match(Filters.exists(FIELD_DELETE_AT, false)),
+                Aggregates.sample(sampleSize),
+                Aggregates.project(Projections.include(FIELD_ID))
+        ));
+        return Source.fromPublisher(publisher).map(doc -> ThingId.of(doc.getString(FIELD_ID)));
+    }
+
     private ResultList<ThingId> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
             final List<SortOption> sortOptions) {
 
@@ -284,6 +379,49 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         }
     }
 
+    /**
+     * Create an aggregation expression selecting the key-value entries of a document with the given key which are
+     * visible to the authorization subjects.
+     *
+     * @param pointer the key of the entries.
+     * @param authorizationSubjectIds the authorization subjects, or null to select entries regardless of visibility.
+     * @param numericOnly whether to select only entries with numeric values.
+     * @return the aggregation expression.
+     */
+    private static Bson filterVisibleEntries(final JsonPointer pointer,
+            @Nullable final List<String> authorizationSubjectIds, final boolean numericOnly) {
+
+        final String entry = "$$this.";
+        final List<Bson> conditions = new ArrayList<>();
+        conditions.add(new Document("$eq", List.of(entry + FIELD_INTERNAL_KEY, pointer.toString())));
+        if (authorizationSubjectIds != null) {
+            conditions.add(new Document("$gt", List.of(new Document("$size", new Document("$setIntersection",
+                    List.of(entry + FIELD_GRANTED, authorizationSubjectIds))), 0)));
+            conditions.add(new Document("$eq", List.of(new Document("$size", new Document("$setIntersection",
+                    List.of(entry + FIELD_REVOKED, authorizationSubjectIds))), 0)));
+        }
+        if (numericOnly) {
+            conditions.add(new Document("$in",
+                    List.of(new Document("$type", entry + FIELD_INTERNAL_VALUE), NUMERIC_TYPES)));
+        }
+        return new Document("$filter", new Document("input", DOLLAR + FIELD_INTERNAL)
+                .append("cond", new Document("$and", conditions)));
+    }
+
+    private static AggregationBucket readAsAggregationBucket(final Document document) {
+        final BsonDocument bsonDocument = BsonUtil.toBsonDocument(document);
+        final JsonValue group = DittoBsonJson.getInstance().serialize(bsonDocument.get(FIELD_ID, BsonNull.VALUE));
+        final long count = bsonDocument.getNumber(PersistenceConstants.FIELD_COUNT).longValue();
+        return AggregationBucket.of(group, count, getDoubleOrNull(bsonDocument, AGGREGATION_MIN),
+                getDoubleOrNull(bsonDocument, AGGREGATION_MAX), getDoubleOrNull(bsonDocument, AGGREGATION_AVG));
+    }
+
+    @Nullable
+    private static Double getDoubleOrNull(final BsonDocument document, final String key) {
+        final BsonValue value = document.get(key);
+        return value != null && value.isNumber() ? value.asNumber().doubleValue() : null;
+    }
+
     private static Bson getMongoSort(final Query query) {
         final MongoQuery mongoQuery = (MongoQuery) query;
         return mongoQuery.getSortOptionsAsBson();
@@ -18,10 +18,12 @@ import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
+import org.eclipse.ditto.services.thingsearch.common.model.AggregationBucket;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 
@@ -66,6 +68,35 @@ public interface ThingsSearchPersistence {
      */
     Source<Long, NotUsed> sudoCount(Query query);
 
+    /**
+     * Group the things found by the given {@code query} by the value of a field and compute statistics of another
+     * numeric field for each group. Only fields visible to the authorization subjects are considered. A thing is
+     * counted once per group even if the fields hold several values; its values enter the average as their mean.
+     *
+     * @param query the query for matching.
+     * @param groupBy pointer of the field to group by, e.g., {@code /attributes/manufacturer}.
+     * @param statisticsOf pointer of the numeric field to compute minimum, maximum and average of, or null to only
+     * count the things of each group.
+     * @param authorizationSubjectIds authorization subject IDs, or null to disregard visibility.
+     * @return an {@link Source} which emits the groups in no particular order.
+     * @throws NullPointerException if {@code query} or {@code groupBy} is {@code null}.
+     */
+    Source<AggregationBucket, NotUsed> aggregate(Query query, JsonPointer groupBy, @Nullable JsonPointer statisticsOf,
+            @Nullable List<String> authorizationSubjectIds);
+
+    /**
+     * Group the things found by the given {@code query} by the value of a field regardless of visibility.
+     *
+     * @param query the query for matching.
+     * @param groupBy pointer of the field to group by.
+     * @param statisticsOf pointer of the numeric field to compute minimum, maximum and average of, or null to only
+     * count the things of each group.
+     * @return an {@link Source} which emits the groups in no particular order.
+     * @throws NullPointerException if {@code query} or {@code groupBy} is {@code null}.
+     */
+    Source<AggregationBucket, NotUsed> sudoAggregate(Query query, JsonPointer groupBy,
+            @Nullable JsonPointer statisticsOf);
+
     /**
      * Returns the IDs for all found documents.
      *
@@ -88,6 +119,15 @@ public interface ThingsSearchPersistence {
      */
     Source<Metadata, NotUsed> sudoStreamMetadata(final EntityId lowerBound);
 
+    /**
+     * Sample IDs of search index entries not marked for deletion, e.g., to split the search index into ranges of
+     * similar size. Do not consider authorization.
+     *
+     * @param sampleSize the maximum number of IDs to sample.
+     * @return the source of sampled thing IDs in no particular order.
+     */
+    Source<ThingId, NotUsed> sudoSampleThingIds(int sampleSize);
+
     /**
      * Returns the IDs for all found documents.
      *
@@ -40,6 +40,7 @@ import org.eclipse.ditto.model.policies.ResourceKey;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.thingsearch.persistence.IndexedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.signals.commands.things.ThingCommand;
@@ -95,17 +96,38 @@ public final class EnforcedThingMapper {
             final long policyRevision,
             final int maxArraySize) {
 
+        return toWriteModel(thing, enforcer, policyRevision, maxArraySize, IndexedFields.all());
+    }
+
+    /**
+     * Map a Thing JSON into a search index write model containing only the fields to index.
+     *
+     * @param thing the Thing in JSON format.
+     * @param enforcer the policy- or ACL-enforcer of the Thing.
+     * @param policyRevision revision of the policy for an policy enforcer, or any number for an ACL enforcer.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @param indexedFields the fields to index per namespace.
+     * @return BSON document to write into the search index.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if Thing ID or revision is missing.
+     */
+    public static ThingWriteModel toWriteModel(final JsonObject thing,
+            final Enforcer enforcer,
+            final long policyRevision,
+            final int maxArraySize,
+            final IndexedFields indexedFields) {
+
         final String extractedThing = thing.getValueOrThrow(Thing.JsonFields.ID);
         final ThingId thingId = ThingId.of(extractedThing);
         final long thingRevision = thing.getValueOrThrow(Thing.JsonFields.REVISION);
         final PolicyId nullablePolicyId = thing.getValue(Thing.JsonFields.POLICY_ID).map(PolicyId::of).orElse(null);
         final Metadata metadata = Metadata.of(thingId, thingRevision, nullablePolicyId, policyRevision);
+        final JsonObject indexedThing = indexedFields.prune(thingId.getNamespace(), thing);
 
         // hierarchical values for sorting
-        final BsonValue thingCopyForSorting = JsonToBson.convert(pruneArrays(thing, maxArraySize));
+        final BsonValue thingCopyForSorting = JsonToBson.convert(pruneArrays(indexedThing, maxArraySize));
 
         // flattened values for querying with special handling for thingId and namespace
-        final BsonArray flattenedValues = EnforcedThingFlattener.flattenJson(thing, enforcer, maxArraySize);
+        final BsonArray flattenedValues = EnforcedThingFlattener.flattenJson(indexedThing, enforcer, maxArraySize);
 
         final Document thingDocument =
                 new Document().append(FIELD_ID, thingId.toString())
@@ -15,8 +15,11 @@ package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.policies.PolicyId;
@@ -90,11 +93,35 @@ public final class BackgroundSyncStream {
     public Source<Metadata, NotUsed> filterForInconsistencies(final Source<Metadata, ?> metadataFromSnapshots,
             final Source<Metadata, ?> metadataFromSearchIndex) {
 
+        final Pair<Source<Metadata, ?>, Source<Metadata, ?>> singlePartition =
+                Pair.create(metadataFromSnapshots, metadataFromSearchIndex);
+        return filterForInconsistenciesInPartitions(List.of(singlePartition)).map(Pair::second);
+    }
+
+    /**
+     * Discover inconsistencies in several disjoint ranges of thing IDs concurrently. All partitions share one
+     * throttle so that the load on the persistence and the search index does not grow with the number of partitions.
+     *
+     * @param partitions pairs of metadata streamed from the things snapshot store and from the search index, both
+     * restricted to the same range of thing IDs.
+     * @return source of inconsistent entries paired with the index of their partition.
+     */
+    public Source<Pair<Integer, Metadata>, NotUsed> filterForInconsistenciesInPartitions(
+            final List<Pair<Source<Metadata, ?>, Source<Metadata, ?>>> partitions) {
 
         final Comparator<Metadata> comparator = BackgroundSyncStream::compareMetadata;
-        return MergeSortedAsPair.merge(dummyMetadata(), comparator, metadataFromSnapshots, metadataFromSearchIndex)
+        final int parallelism = Math.max(1, partitions.size());
+        final List<Integer> partitionIndices =
+                IntStream.range(0, partitions.size()).boxed().collect(Collectors.toList());
+        return Source.from(partitionIndices)
+                .flatMapMerge(parallelism, index -> {
+                    final Pair<Source<Metadata, ?>, Source<Metadata, ?>> partition = partitions.get(index);
+                    return MergeSortedAsPair.merge(dummyMetadata(), comparator, partition.first(), partition.second())
+                            .map(pair -> Pair.create(index, pair));
+                })
                 .throttle(throttleThroughput, throttlePeriod)
-                .flatMapConcat(this::filterForInconsistency)
+                .flatMapMerge(parallelism, indexedPair -> filterForInconsistency(indexedPair.second())
+                        .map(metadata -> Pair.create(indexedPair.first(), metadata)))
                 // log elements at warning level because out-of-date metadata are detected
                 .withAttributes(Attributes.logLevels(
                         Attributes.logLevelWarning(),
@@ -102,6 +129,20 @@ public final class BackgroundSyncStream {
                         Attributes.logLevelError()));
     }
 
+    /**
+     * Compare thing IDs in the order in which the persistence and the search index stream metadata.
+     * Dummy IDs are greater than all other IDs.
+     *
+     * @param thingId1 the first thing ID.
+     * @param thingId2 the second thing ID.
+     * @return negative, zero or positive number if the first thing ID is less than, equal to or greater than the
+     * second thing ID.
+     */
+    public static int compareThingIds(final ThingId thingId1, final ThingId thingId2) {
+        final int dummyComparison = Boolean.compare(thingId1.isDummy(), thingId2.isDummy());
+        return dummyComparison != 0 ? dummyComparison : thingId1.compareTo(thingId2);
+    }
+
     private boolean isInsideToleranceWindow(final Metadata metadata, final Instant toleranceCutOff) {
         return metadata.getModified()
                 .map(modified -> modified.isAfter(toleranceCutOff))
@@ -198,9 +239,4 @@ public final class BackgroundSyncStream {
         return compareThingIds(metadata1.getThingId(), metadata2.getThingId());
     }
 
-    private static int compareThingIds(final ThingId thingId1, final ThingId thingId2) {
-        final int dummyComparison = Boolean.compare(thingId1.isDummy(), thingId2.isDummy());
-        return dummyComparison != 0 ? dummyComparison : thingId1.compareTo(thingId2);
-    }
-
 }
@@ -13,11 +13,22 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.config.ChangeQueueConfig;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 
 import akka.NotUsed;
 import akka.actor.AbstractActor;
@@ -32,6 +43,11 @@ import akka.stream.javadsl.Source;
 
 /**
  * Collects changes from ThingUpdaters and forward them downstream on demand.
+ * <p>
+ * Changes of the same Thing are coalesced such that only the latest one is kept. The queue is handed downstream
+ * when it reaches the configured flush threshold, when its oldest change exceeds the configured maximum age, or
+ * as soon as it contains an urgent change, whichever happens first. Urgent changes come first in the dumped map.
+ * </p>
  */
 public final class ChangeQueueActor extends AbstractActor {
 
@@ -42,28 +58,52 @@ public final class ChangeQueueActor extends AbstractActor {
 
     private static final Duration ASK_SELF_TIMEOUT = Duration.ofSeconds(5L);
 
+    private final ChangeQueueConfig changeQueueConfig;
+    private final Gauge queueSizeGauge;
+    private final Gauge queueAgeGauge;
+    private final Histogram dumpSizeHistogram;
+
     /**
      * Caching changes of 1 Thing per key.
      * Change type values according to caching strategy;
      * for example, replace AtomicReference by a concurrent queue if changes are to be computed from events directly.
      */
     private Map<ThingId, Metadata> cache = new HashMap<>();
+    private Set<ThingId> urgentThingIds = new HashSet<>();
+    @Nullable private Instant oldestChange = null;
 
-    private ChangeQueueActor() {
-        // prevent instantiation elsewhere
+    @SuppressWarnings("unused")
+    private ChangeQueueActor(final ChangeQueueConfig changeQueueConfig) {
+        this.changeQueueConfig = changeQueueConfig;
+        queueSizeGauge = DittoMetrics.gauge("search_updater_change_queue_size");
+        queueAgeGauge = DittoMetrics.gauge("search_updater_change_queue_age_millis");
+        dumpSizeHistogram = DittoMetrics.histogram("search_updater_change_queue_dump_size");
     }
 
     /**
+     * @param changeQueueConfig the configuration of the change queue.
      * @return Props of a ChangeQueueActor.
      */
-    public static Props props() {
-        return Props.create(ChangeQueueActor.class);
+    public static Props props(final ChangeQueueConfig changeQueueConfig) {
+        return Props.create(ChangeQueueActor.class, changeQueueConfig);
+    }
+
+    /**
+     * Create a message to enqueue a change which should be written into the search index as soon as possible,
+     * e. g., because someone waits for the search index to become consistent.
+     *
+     * @param metadata a description of the change.
+     * @return the message.
+     */
+    public static Object urgent(final Metadata metadata) {
+        return new UrgentChange(metadata);
     }
 
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(Metadata.class, this::enqueue)
+                .match(UrgentChange.class, this::enqueueUrgently)
                 .matchEquals(Control.DUMP, this::dump)
                 .build();
     }
@@ -74,29 +114,63 @@ public final class ChangeQueueActor extends AbstractActor {
      * @param metadata a description of the change.
      */
     private void enqueue(final Metadata metadata) {
+        if (oldestChange == null) {
+            oldestChange = Instant.now();
+        }
         cache.put(metadata.getThingId(), metadata);
     }
 
+    private void enqueueUrgently(final UrgentChange urgentChange) {
+        enqueue(urgentChange.metadata);
+        urgentThingIds.add(urgentChange.metadata.getThingId());
+    }
+
     /**
      * Create a source of nonempty queue snapshots such that the queue content is cleared after each snapshot.
      *
      * @param changeQueueActor reference to this actor
-     * @param writeInterval minimum delays between cache dumps.
+     * @param pollInterval delay between asking the queue whether it should be flushed.
      * @return source of queue snapshots.
      */
     public static Source<Map<ThingId, Metadata>, NotUsed> createSource(
             final ActorRef changeQueueActor,
-            final Duration writeInterval) {
+            final Duration pollInterval) {
         return Source.repeat(Control.DUMP)
-                .delay(writeInterval, DelayOverflowStrategy.backpressure())
+                .delay(pollInterval, DelayOverflowStrategy.backpressure())
                 .withAttributes(Attributes.inputBuffer(1, 1))
                 .flatMapConcat(ChangeQueueActor.askSelf(changeQueueActor))
                 .filter(map -> !map.isEmpty());
     }
 
     private void dump(final Control dump) {
-        getSender().tell(cache, getSelf());
-        cache = new HashMap<>();
+        final long ageMillis = oldestChange == null ? 0L : Duration.between(oldestChange, Instant.now()).toMillis();
+        queueSizeGauge.set((long) cache.size());
+        queueAgeGauge.set(ageMillis);
+        if (shouldFlush(ageMillis)) {
+            dumpSizeHistogram.record((long) cache.size());
+            getSender().tell(prioritizeUrgentChanges(), getSelf());
+            cache = new HashMap<>();
+            urgentThingIds = new HashSet<>();
+            oldestChange = null;
+        } else {
+            getSender().tell(Map.of(), getSelf());
+        }
+    }
+
+    private boolean shouldFlush(final long ageMillis) {
+        return !cache.isEmpty() && (!urgentThingIds.isEmpty() ||
+                cache.size() >= changeQueueConfig.getFlushThreshold() ||
+                ageMillis >= changeQueueConfig.getMaxAge().toMillis());
+    }
+
+    private Map<ThingId, Metadata> prioritizeUrgentChanges() {
+        if (urgentThingIds.isEmpty()) {
+            return cache;
+        }
+        final Map<ThingId, Metadata> result = new LinkedHashMap<>();
+        urgentThingIds.forEach(thingId -> result.put(thingId, cache.get(thingId)));
+        result.putAll(cache);
+        return result;
     }
 
     private static Function<Control, Source<Map<ThingId, Metadata>, NotUsed>> askSelf(final ActorRef self) {
@@ -116,4 +190,15 @@ public final class ChangeQueueActor extends AbstractActor {
     private enum Control {
         DUMP
     }
+
+    @Immutable
+    private static final class UrgentChange {
+
+        private final Metadata metadata;
+
+        private UrgentChange(final Metadata metadata) {
+            this.metadata = metadata;
+        }
+
+    }
 }
@@ -13,17 +13,24 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.enforcers.AclEnforcer;
 import org.eclipse.ditto.model.enforcers.Enforcer;
@@ -31,10 +38,14 @@ import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingsResponse;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.IndexedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
@@ -44,6 +55,7 @@ import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.slf4j.Logger;
@@ -53,7 +65,10 @@ import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
 import akka.NotUsed;
 import akka.actor.ActorRef;
+import akka.actor.ActorSelection;
+import akka.cluster.sharding.ShardRegion;
 import akka.dispatch.MessageDispatcher;
+import akka.japi.pf.PFBuilder;
 import akka.pattern.Patterns;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Keep;
@@ -66,26 +81,40 @@ final class EnforcementFlow {
 
     private static final Source<Entry<Enforcer>, NotUsed> ENFORCER_NONEXISTENT = Source.single(Entry.nonexistent());
 
+    private static final int MAX_BATCH_RETRIES = 2;
+
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final ActorRef thingsShardRegion;
+    private final ShardRegionExtractor shardRegionExtractor;
+    private final ShardLocations shardLocations;
     private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
     private final Duration thingsTimeout;
     private final Duration cacheRetryDelay;
     private final int maxArraySize;
+    private final int retrievalBatchSize;
+    private final IndexedFields indexedFields;
     private final boolean deleteEvent;
 
     private EnforcementFlow(final ActorRef thingsShardRegion,
+            final ShardRegionExtractor shardRegionExtractor,
+            final ShardLocations shardLocations,
             final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
             final Duration thingsTimeout,
             final Duration cacheRetryDelay,
             final int maxArraySize,
+            final int retrievalBatchSize,
+            final IndexedFields indexedFields,
             final boolean deleteEvent) {
 
         this.thingsShardRegion = thingsShardRegion;
+        this.shardRegionExtractor = shardRegionExtractor;
+        this.shardLocations = shardLocations;
         this.policyEnforcerCache = policyEnforcerCache;
         this.thingsTimeout = thingsTimeout;
         this.cacheRetryDelay = cacheRetryDelay;
         this.maxArraySize = maxArraySize;
+        this.retrievalBatchSize = retrievalBatchSize;
+        this.indexedFields = indexedFields;
         this.deleteEvent = deleteEvent;
     }
 
@@ -94,14 +123,21 @@ final class EnforcementFlow {
      *
      * @param updaterStreamConfig configuration of the updater stream.
      * @param thingsShardRegion the shard region to retrieve things from.
+     * @param shardRegionExtractor the extractor of the things shard region to group things by their shards.
+     * @param shardLocations the locations of the shards of the things shard region.
      * @param policiesShardRegion the shard region to retrieve policies from.
      * @param cacheDispatcher dispatcher for the enforcer cache.
+     * @param indexedFields the fields to index per namespace.
+     * @param deleteEvent whether to delete things from the search index which no longer exist.
      * @return an EnforcementFlow object.
      */
     public static EnforcementFlow of(final StreamConfig updaterStreamConfig,
             final ActorRef thingsShardRegion,
+            final ShardRegionExtractor shardRegionExtractor,
+            final ShardLocations shardLocations,
             final ActorRef policiesShardRegion,
             final MessageDispatcher cacheDispatcher,
+            final IndexedFields indexedFields,
             final boolean deleteEvent) {
 
         final Duration askTimeout = updaterStreamConfig.getAskTimeout();
@@ -113,8 +149,10 @@ final class EnforcementFlow {
                 CacheFactory.createCache(policyEnforcerCacheLoader, streamCacheConfig,
                         EnforcementFlow.class.getCanonicalName() + ".cache", cacheDispatcher);
 
-        return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout,
-                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(), deleteEvent);
+        return new EnforcementFlow(thingsShardRegion, shardRegionExtractor, shardLocations, policyEnforcerCache,
+                askTimeout,
+                streamCacheConfig.getRetryDelay(), updaterStreamConfig.getMaxArraySize(),
+                updaterStreamConfig.getRetrievalConfig().getBatchSize(), indexedFields, deleteEvent);
     }
 
     private static EntityIdWithResourceType getPolicyEntityId(final PolicyId policyId) {
@@ -156,8 +194,10 @@ final class EnforcementFlow {
 
     /**
      * Create a flow from Thing changes to write models by retrieving data from Things shard region and enforcer cache.
+     * Things whose retrieval failed are skipped rather than deleted from the search index; the background sync
+     * indexes them later.
      *
-     * @param parallelism how many SudoRetrieveThing commands to send in parallel.
+     * @param parallelism how many SudoRetrieveThing or SudoRetrieveThings commands to send in parallel.
      * @return the flow.
      */
     public Flow<Map<ThingId, Metadata>, Source<AbstractWriteModel, NotUsed>, NotUsed> create(final int parallelism) {
@@ -165,20 +205,33 @@ final class EnforcementFlow {
             log.info("Updating search index of <{}> things", changeMap.size());
             final Set<ThingId> thingIds = changeMap.keySet();
             return sudoRetrieveThingJsons(parallelism, thingIds).flatMapConcat(responseMap ->
-                    Source.fromIterator(changeMap.values()::iterator).flatMapMerge(parallelism, metadataRef ->
-                            computeWriteModel(metadataRef, responseMap.get(metadataRef.getThingId())))
+                    Source.fromIterator(changeMap.values()::iterator)
+                            .filter(metadata -> responseMap.containsKey(metadata.getThingId()))
+                            .flatMapMerge(parallelism, metadataRef ->
+                                    computeWriteModel(metadataRef, responseMap.get(metadataRef.getThingId())))
             );
         });
 
     }
 
+    /**
+     * Retrieve things and collect the responses by thing ID. Things which do not exist are mapped to {@code null};
+     * things whose retrieval failed are absent.
+     */
     private Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> sudoRetrieveThingJsons(
             final int parallelism, final Collection<ThingId> thingIds) {
 
-        return Source.fromIterator(thingIds::iterator)
-                .flatMapMerge(parallelism, this::sudoRetrieveThing)
+        final Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> responses;
+        if (retrievalBatchSize > 1) {
+            responses = Source.from(groupByShard(thingIds))
+                    .flatMapMerge(parallelism, batch -> sudoRetrieveThingsOfShard(batch, 0));
+        } else {
+            responses = Source.fromIterator(thingIds::iterator)
+                    .flatMapMerge(parallelism, this::sudoRetrieveThing);
+        }
+        return responses
                 .<Map<ThingId, SudoRetrieveThingResponse>>fold(new HashMap<>(), (map, response) -> {
-                    map.put(getThingId(response), response);
+                    map.putAll(response);
                     return map;
                 })
                 .map(result -> {
@@ -187,19 +240,24 @@ final class EnforcementFlow {
                 });
     }
 
-    private Source<SudoRetrieveThingResponse, NotUsed> sudoRetrieveThing(final ThingId thingId) {
+    private Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> sudoRetrieveThing(final ThingId thingId) {
         final SudoRetrieveThing command =
                 SudoRetrieveThing.withOriginalSchemaVersion(thingId, DittoHeaders.empty());
-        final CompletionStage<Source<SudoRetrieveThingResponse, NotUsed>> responseFuture =
+        final CompletionStage<Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed>> responseFuture =
                 // using default thread-pool for asking Things shard region
                 Patterns.ask(thingsShardRegion, command, thingsTimeout)
                         .handle((response, error) -> {
                             if (response instanceof SudoRetrieveThingResponse) {
-                                return Source.single((SudoRetrieveThingResponse) response);
+                                return Source.single(
+                                        Collections.singletonMap(thingId, (SudoRetrieveThingResponse) response));
+                            } else if (response instanceof ThingNotAccessibleException) {
+                                // the thing does not exist
+                                return Source.single(
+                                        Collections.<ThingId, SudoRetrieveThingResponse>singletonMap(thingId, null));
                             } else {
                                 if (error != null) {
                                     log.error("Failed " + command, error);
-                                } else if (!(response instanceof ThingNotAccessibleException)) {
+                                } else {
                                     log.error("Unexpected response for <{}>: <{}>", command, response);
                                 }
                                 return Source.empty();
@@ -210,6 +268,107 @@ final class EnforcementFlow {
                 .viaMat(Flow.create(), Keep.none());
     }
 
+    /**
+     * Group thing IDs by their shards in the things shard region and split the groups into batches.
+     *
+     * @param thingIds IDs of the things to group.
+     * @return batches of IDs of things of the same shard.
+     */
+    private List<List<ThingId>> groupByShard(final Collection<ThingId> thingIds) {
+        final Map<String, List<ThingId>> thingIdsByShard = new LinkedHashMap<>();
+        for (final ThingId thingId : thingIds) {
+            thingIdsByShard.computeIfAbsent(getShardId(thingId), id -> new ArrayList<>()).add(thingId);
+        }
+        final List<List<ThingId>> batches = new ArrayList<>();
+        for (final List<ThingId> thingIdsOfShard : thingIdsByShard.values()) {
+            for (int i = 0; i < thingIdsOfShard.size(); i += retrievalBatchSize) {
+                batches.add(thingIdsOfShard.subList(i, Math.min(i + retrievalBatchSize, thingIdsOfShard.size())));
+            }
+        }
+        return batches;
+    }
+
+    private String getShardId(final ThingId thingId) {
+        return shardRegionExtractor.shardId(new ShardRegion.StartEntity(thingId.toString()));
+    }
+
+    /**
+     * Retrieve a batch of things of the same shard with one SudoRetrieveThings command sent to the things service
+     * member hosting the shard. The things whose retrieval failed are retried; if they keep failing, they are not in
+     * the result. As long as the location of the shard is unknown, the things are retrieved individually.
+     *
+     * @param thingIds IDs of the things of one shard to retrieve.
+     * @param retries how many times the things were retried already.
+     * @return source of the responses by thing ID where {@code null} marks things which do not exist.
+     */
+    private Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> sudoRetrieveThingsOfShard(
+            final List<ThingId> thingIds, final int retries) {
+
+        final Optional<ActorSelection> sudoRetrieveThingsActor = shardLocations.selectActorOfShard(
+                getShardId(thingIds.get(0)), ThingsMessagingConstants.THINGS_SUDO_RETRIEVE_THINGS_ACTOR_PATH);
+        if (!sudoRetrieveThingsActor.isPresent()) {
+            return Source.from(thingIds).flatMapConcat(this::sudoRetrieveThing);
+        }
+
+        final SudoRetrieveThings command =
+                SudoRetrieveThings.withOriginalSchemaVersion(thingIds, DittoHeaders.empty());
+        final Source<Map<ThingId, SudoRetrieveThingResponse>, NotUsed> retrieval =
+                Source.lazily(() -> Source.fromCompletionStage(
+                        Patterns.ask(sudoRetrieveThingsActor.get(), command, thingsTimeout)
+                                .thenApply(response -> toResponseMap(thingIds, response))))
+                        .viaMat(Flow.create(), Keep.none())
+                        .recover(new PFBuilder<Throwable, Map<ThingId, SudoRetrieveThingResponse>>()
+                                .matchAny(error -> {
+                                    // all things of the batch failed
+                                    log.warn("Failed {}: {}", command, error.toString());
+                                    return Collections.emptyMap();
+                                })
+                                .build());
+
+        return retrieval.flatMapConcat(responseMap -> {
+            final List<ThingId> failedThingIds = thingIds.stream()
+                    .filter(thingId -> !responseMap.containsKey(thingId))
+                    .collect(Collectors.toList());
+            if (failedThingIds.isEmpty()) {
+                return Source.single(responseMap);
+            } else if (retries < MAX_BATCH_RETRIES) {
+                log.info("Retrying <{}> failed things of <{}>", failedThingIds.size(), thingIds.size());
+                return Source.single(responseMap)
+                        .concat(sudoRetrieveThingsOfShard(failedThingIds, retries + 1).initialDelay(cacheRetryDelay));
+            } else {
+                log.error("Failed to retrieve things <{}>; leaving them to the background sync", failedThingIds);
+                return Source.single(responseMap);
+            }
+        });
+    }
+
+    /**
+     * Collect the things of a SudoRetrieveThingsResponse by their IDs. Things which do not exist are mapped to
+     * {@code null}; things whose retrieval failed are absent.
+     */
+    private static Map<ThingId, SudoRetrieveThingResponse> toResponseMap(final List<ThingId> thingIds,
+            final Object response) {
+
+        if (!(response instanceof SudoRetrieveThingsResponse)) {
+            throw new IllegalStateException("Unexpected response: " + response);
+        }
+        final SudoRetrieveThingsResponse sudoRetrieveThingsResponse = (SudoRetrieveThingsResponse) response;
+        final Set<ThingId> failedThingIds = new HashSet<>(sudoRetrieveThingsResponse.getFailedThingIds());
+        final Map<ThingId, SudoRetrieveThingResponse> result = new HashMap<>();
+        // the requested things which are neither in the response nor failed do not exist
+        thingIds.stream()
+                .filter(thingId -> !failedThingIds.contains(thingId))
+                .forEach(thingId -> result.put(thingId, null));
+        sudoRetrieveThingsResponse.getEntity()
+                .asArray()
+                .stream()
+                .filter(JsonValue::isObject)
+                .map(thing -> SudoRetrieveThingResponse.of(thing.asObject(),
+                        sudoRetrieveThingsResponse.getDittoHeaders()))
+                .forEach(thingResponse -> result.put(getThingId(thingResponse), thingResponse));
+        return result;
+    }
+
     private Source<AbstractWriteModel, NotUsed> computeWriteModel(final Metadata metadata,
             @Nullable final SudoRetrieveThingResponse sudoRetrieveThingResponse) {
 
@@ -226,7 +385,8 @@ final class EnforcementFlow {
                             try {
                                 return EnforcedThingMapper.toWriteModel(thing, entry.getValueOrThrow(),
                                         entry.getRevision(),
-                                        maxArraySize);
+                                        maxArraySize,
+                                        indexedFields);
                             } catch (final JsonRuntimeException e) {
                                 log.error(e.getMessage(), e);
                                 return ThingDeleteModel.of(metadata);
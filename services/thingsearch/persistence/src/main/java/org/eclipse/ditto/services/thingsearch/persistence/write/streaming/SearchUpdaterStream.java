@@ -22,11 +22,13 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.DeleteConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.PersistenceStreamConfig;
+import org.eclipse.ditto.services.thingsearch.common.config.RetrievalStreamConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.StreamConfig;
-import org.eclipse.ditto.services.thingsearch.common.config.StreamStageConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.IndexedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -80,6 +82,7 @@ public final class SearchUpdaterStream {
      * @param searchConfig the configuration settings of the Things-Search service.
      * @param actorSystem actor system to run the stream in.
      * @param thingsShard shard region proxy of things.
+     * @param numberOfShards number of shards of the things shard region.
      * @param policiesShard shard region proxy of policies.
      * @param updaterShard shard region of search updaters.
      * @param changeQueueActor reference of the change queue actor.
@@ -89,6 +92,7 @@ public final class SearchUpdaterStream {
     public static SearchUpdaterStream of(final SearchConfig searchConfig,
             final ActorSystem actorSystem,
             final ActorRef thingsShard,
+            final int numberOfShards,
             final ActorRef policiesShard,
             final ActorRef updaterShard,
             final ActorRef changeQueueActor,
@@ -104,9 +108,15 @@ public final class SearchUpdaterStream {
         final DeleteConfig deleteConfig = searchConfig.getDeleteConfig();
         final boolean deleteEvent = deleteConfig.isDeleteEvent();
 
+        final IndexedFields indexedFields = searchConfig.getIndexedFieldsByNamespace()
+                .map(IndexedFields::byNamespace)
+                .orElseGet(IndexedFields::all);
+
+        final ShardLocations thingsShardLocations =
+                ShardLocations.of(actorSystem, thingsShard, streamConfig.getAskTimeout());
         final EnforcementFlow enforcementFlow =
-                EnforcementFlow.of(streamConfig, thingsShard, policiesShard, messageDispatcher,
-                        deleteEvent);
+                EnforcementFlow.of(streamConfig, thingsShard, ShardRegionExtractor.of(numberOfShards, actorSystem),
+                        thingsShardLocations, policiesShard, messageDispatcher, indexedFields, deleteEvent);
 
         final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
 
@@ -133,10 +143,11 @@ public final class SearchUpdaterStream {
 
     private Source<Source<AbstractWriteModel, NotUsed>, NotUsed> createRestartSource() {
         final StreamConfig streamConfig = searchConfig.getStreamConfig();
-        final StreamStageConfig retrievalConfig = streamConfig.getRetrievalConfig();
+        final RetrievalStreamConfig retrievalConfig = streamConfig.getRetrievalConfig();
 
         final Source<Source<AbstractWriteModel, NotUsed>, NotUsed> source =
-                ChangeQueueActor.createSource(changeQueueActor, streamConfig.getWriteInterval())
+                ChangeQueueActor.createSource(changeQueueActor,
+                        streamConfig.getChangeQueueConfig().getPollInterval())
                         .via(filterMapKeysByBlockedNamespaces())
                         .via(enforcementFlow.create(retrievalConfig.getParallelism())
                                 .map(writeModelSource -> writeModelSource.via(
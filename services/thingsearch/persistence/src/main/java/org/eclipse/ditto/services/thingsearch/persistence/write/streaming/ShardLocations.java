@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorRefFactory;
+import akka.actor.ActorSelection;
+import akka.actor.Address;
+import akka.cluster.sharding.ShardRegion;
+import akka.pattern.Patterns;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Keeps track of the cluster members which host the shards of a shard region by polling its cluster sharding
+ * statistics. A location may be outdated after shards were rebalanced; an actor selected at an outdated location still
+ * reaches the entities of the shard through its own shard region, only with an additional hop.
+ */
+@ThreadSafe
+final class ShardLocations {
+
+    /**
+     * Shards move only on rebalancing or when cluster members leave, so the locations are refreshed rarely.
+     */
+    private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1L);
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+    private final ActorRefFactory actorRefFactory;
+    private final ActorRef shardRegion;
+    private final Duration askTimeout;
+    private final AtomicReference<Instant> nextRefresh;
+    private volatile Map<String, Address> addresses;
+
+    private ShardLocations(final ActorRefFactory actorRefFactory, final ActorRef shardRegion,
+            final Duration askTimeout) {
+
+        this.actorRefFactory = actorRefFactory;
+        this.shardRegion = shardRegion;
+        this.askTimeout = askTimeout;
+        nextRefresh = new AtomicReference<>(Instant.EPOCH);
+        addresses = Collections.emptyMap();
+    }
+
+    /**
+     * Create a ShardLocations object. The locations are retrieved on first use.
+     *
+     * @param actorRefFactory the factory to select actors at the locations with.
+     * @param shardRegion the shard region or shard region proxy whose shards to locate.
+     * @param askTimeout how long to wait for the cluster sharding statistics.
+     * @return the ShardLocations object.
+     */
+    static ShardLocations of(final ActorRefFactory actorRefFactory, final ActorRef shardRegion,
+            final Duration askTimeout) {
+
+        return new ShardLocations(actorRefFactory, shardRegion, askTimeout);
+    }
+
+    /**
+     * Select an actor on the cluster member which hosts a shard.
+     *
+     * @param shardId ID of the shard.
+     * @param actorPath path of the actor on the cluster member, e.g. {@code /user/thingsRoot/someActor}.
+     * @return the selected actor or an empty Optional if the location of the shard is not known yet.
+     */
+    Optional<ActorSelection> selectActorOfShard(final String shardId, final String actorPath) {
+        refreshIfDue();
+        return Optional.ofNullable(addresses.get(shardId))
+                .map(address -> actorRefFactory.actorSelection(address + actorPath));
+    }
+
+    private void refreshIfDue() {
+        final Instant now = Instant.now();
+        final Instant next = nextRefresh.get();
+        if (!now.isBefore(next) && nextRefresh.compareAndSet(next, now.plus(REFRESH_INTERVAL))) {
+            final ShardRegion.GetClusterShardingStats getStats = new ShardRegion.GetClusterShardingStats(
+                    FiniteDuration.apply(askTimeout.toMillis(), TimeUnit.MILLISECONDS));
+            // the coordinator waits for the statistics of each shard region up to the ask timeout
+            Patterns.ask(shardRegion, getStats, askTimeout.multipliedBy(2L))
+                    .thenAccept(this::updateAddresses)
+                    .exceptionally(error -> {
+                        log.warn("Failed to locate the shards of <{}>: {}", shardRegion, error.toString());
+                        return null;
+                    });
+        }
+    }
+
+    // Called inside future; must be thread-safe
+    private void updateAddresses(final Object response) {
+        if (response instanceof ShardRegion.ClusterShardingStats) {
+            final Map<String, Address> newAddresses = new HashMap<>();
+            ((ShardRegion.ClusterShardingStats) response).getRegions()
+                    .forEach((address, regionStats) -> regionStats.getStats()
+                            .keySet()
+                            .forEach(shardId -> newAddresses.put(shardId, address)));
+            addresses = Collections.unmodifiableMap(newAddresses);
+        } else {
+            log.warn("Unexpected response to GetClusterShardingStats: <{}>", response);
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.junit.Test;
+
+/**
+ * Tests {@link IndexedFields}.
+ */
+public final class IndexedFieldsTest {
+
+    private static final String NAMESPACE = "org.eclipse.ditto.test";
+
+    private static final JsonObject THING = JsonObject.of("{" +
+            "\"thingId\":\"org.eclipse.ditto.test:thing\"," +
+            "\"_revision\":1," +
+            "\"attributes\":{\"location\":{\"lat\":1,\"lon\":2},\"manufacturer\":\"ACME\",\"serial\":\"1234\"}," +
+            "\"features\":{" +
+            "\"f1\":{\"properties\":{\"status\":\"on\",\"raw\":{\"a\":1}}}," +
+            "\"f2\":{\"properties\":{\"status\":\"off\"}}" +
+            "}}");
+
+    private static final IndexedFields INDEXED_FIELDS = IndexedFields.byNamespace("{\"" + NAMESPACE + "\":{" +
+            "\"include\":[\"/attributes/location\",\"/attributes/manufacturer\",\"/features/*/properties\"]," +
+            "\"exclude\":[\"/attributes/location/lon\",\"/features/*/properties/raw\"]" +
+            "}}");
+
+    @Test
+    public void allIndexesEverything() {
+        assertThat(IndexedFields.all().prune(NAMESPACE, THING)).isEqualTo(THING);
+        assertThat(IndexedFields.all().isIndexed(null, JsonPointer.of("/attributes/serial"))).isTrue();
+    }
+
+    @Test
+    public void pruneOnlyConfiguredNamespace() {
+        assertThat(INDEXED_FIELDS.prune("other.namespace", THING)).isEqualTo(THING);
+    }
+
+    @Test
+    public void pruneNonIndexedFields() {
+        final JsonObject expected = JsonObject.of("{" +
+                "\"thingId\":\"org.eclipse.ditto.test:thing\"," +
+                "\"_revision\":1," +
+                "\"attributes\":{\"location\":{\"lat\":1},\"manufacturer\":\"ACME\"}," +
+                "\"features\":{" +
+                "\"f1\":{\"properties\":{\"status\":\"on\"}}," +
+                "\"f2\":{\"properties\":{\"status\":\"off\"}}" +
+                "}}");
+
+        assertThat(INDEXED_FIELDS.prune(NAMESPACE, THING)).isEqualTo(expected);
+    }
+
+    @Test
+    public void isIndexed() {
+        final Set<String> namespaces = Set.of(NAMESPACE);
+
+        assertThat(INDEXED_FIELDS.isIndexed(namespaces, JsonPointer.of("thingId"))).isTrue();
+        assertThat(INDEXED_FIELDS.isIndexed(namespaces, JsonPointer.of("/attributes/location/lat"))).isTrue();
+        assertThat(INDEXED_FIELDS.isIndexed(namespaces, JsonPointer.of("/features/f3/properties/status"))).isTrue();
+        assertThat(INDEXED_FIELDS.isIndexed(namespaces, JsonPointer.of("/features/f3"))).isTrue();
+        assertThat(INDEXED_FIELDS.isIndexed(namespaces, JsonPointer.of("/attributes/serial"))).isFalse();
+        assertThat(INDEXED_FIELDS.isIndexed(namespaces, JsonPointer.of("/attributes/location/lon"))).isFalse();
+        assertThat(INDEXED_FIELDS.isIndexed(namespaces, JsonPointer.of("/features/f1/properties/raw/a"))).isFalse();
+        assertThat(INDEXED_FIELDS.isIndexed(Set.of("other.namespace"), JsonPointer.of("/attributes/serial")))
+                .isTrue();
+        assertThat(INDEXED_FIELDS.isIndexed(null, JsonPointer.of("/attributes/serial"))).isFalse();
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.query;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
+import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.IndexedFields;
+import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQueryBuilderFactory;
+import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link IndexedFieldsValidator}.
+ */
+public final class IndexedFieldsValidatorTest {
+
+    private static final String NAMESPACE = "org.eclipse.ditto.test";
+    private static final String OTHER_NAMESPACE = "org.eclipse.ditto.other";
+    private static final String UNCONFIGURED_NAMESPACE = "org.eclipse.ditto.unconfigured";
+
+    private static final IndexedFields INDEXED_FIELDS = IndexedFields.byNamespace("{" +
+            "\"" + NAMESPACE + "\":{" +
+            "\"include\":[\"/attributes/location\",\"/attributes/manufacturer\",\"/features/*/properties\"]," +
+            "\"exclude\":[\"/attributes/location/lon\",\"/features/*/properties/raw\"]" +
+            "}," +
+            "\"" + OTHER_NAMESPACE + "\":{" +
+            "\"exclude\":[\"/attributes/manufacturer\"]" +
+            "}}");
+
+    // parses queries without validating them
+    private static final QueryParser PARSER = QueryParser.of(new CriteriaFactoryImpl(),
+            new ThingsFieldExpressionFactoryImpl(),
+            new MongoQueryBuilderFactory(DefaultLimitsConfig.of(ConfigFactory.empty())));
+
+    @Test
+    public void includedFieldsMayBeFiltered() {
+        assertValid(Set.of(NAMESPACE), "eq(attributes/manufacturer,\"ACME\")", null);
+        assertValid(Set.of(NAMESPACE), "eq(attributes/location/lat,1)", null);
+        assertValid(Set.of(NAMESPACE), "eq(features/anyFeature/properties/status,\"on\")", null);
+        assertValid(Set.of(NAMESPACE), "exists(features/anyFeature)", null);
+    }
+
+    @Test
+    public void fieldsNotIncludedAreRejected() {
+        assertRejected(Set.of(NAMESPACE), "eq(attributes/serial,\"1234\")", null);
+        assertRejected(Set.of(NAMESPACE), "exists(attributes/serial)", null);
+        assertRejected(Set.of(NAMESPACE), "eq(features/anyFeature/definition,\"x\")", null);
+    }
+
+    @Test
+    public void excludedFieldsAreRejected() {
+        assertRejected(Set.of(NAMESPACE), "eq(attributes/location/lon,2)", null);
+        assertRejected(Set.of(NAMESPACE), "eq(features/f1/properties/raw/a,1)", null);
+        assertRejected(Set.of(OTHER_NAMESPACE), "eq(attributes/manufacturer,\"ACME\")", null);
+        assertValid(Set.of(OTHER_NAMESPACE), "eq(attributes/serial,\"1234\")", null);
+    }
+
+    @Test
+    public void fieldsInNestedCriteriaAreChecked() {
+        assertRejected(Set.of(NAMESPACE),
+                "and(eq(attributes/manufacturer,\"ACME\")," +
+                        "or(exists(attributes/location),not(eq(attributes/serial,1))))",
+                null);
+        assertValid(Set.of(NAMESPACE),
+                "and(eq(attributes/manufacturer,\"ACME\")," +
+                        "or(exists(attributes/location),not(eq(thingId,\"x:y\"))))",
+                null);
+    }
+
+    @Test
+    public void namespacesAreRestrictedIndividually() {
+        assertValid(Set.of(UNCONFIGURED_NAMESPACE), "eq(attributes/serial,\"1234\")", null);
+        assertRejected(Set.of(NAMESPACE, UNCONFIGURED_NAMESPACE), "eq(attributes/serial,\"1234\")", null);
+        assertRejected(Set.of(NAMESPACE, OTHER_NAMESPACE), "eq(attributes/manufacturer,\"ACME\")", null);
+        assertValid(Set.of(NAMESPACE, OTHER_NAMESPACE), "eq(attributes/location/lat,1)", null);
+    }
+
+    @Test
+    public void queriesWithoutNamespacesMustOnlyReferToFieldsIndexedInAllConfiguredNamespaces() {
+        assertRejected(null, "eq(attributes/manufacturer,\"ACME\")", null);
+        assertValid(null, "eq(features/f1/properties/status,\"on\")", null);
+    }
+
+    @Test
+    public void fieldsOfThingsOutsideAttributesAndFeaturesAreAlwaysIndexed() {
+        assertValid(Set.of(NAMESPACE), "eq(thingId,\"x:y\")", "sort(+thingId)");
+    }
+
+    @Test
+    public void sortOptionsAreChecked() {
+        assertValid(Set.of(NAMESPACE), null, "sort(+attributes/manufacturer,-features/f1/properties/status)");
+        assertRejected(Set.of(NAMESPACE), null, "sort(+attributes/manufacturer,-attributes/serial)");
+        assertRejected(Set.of(NAMESPACE), null, "sort(+attributes/location/lon)");
+    }
+
+    @Test
+    public void selectedFieldsAreNotChecked() {
+        // selected fields are read from the things service, not from the search index
+        final QueryThings queryThings = QueryThings.of("eq(attributes/manufacturer,\"ACME\")", null,
+                JsonFieldSelector.newInstance("attributes/serial", "features/f1/properties/raw"),
+                Set.of(NAMESPACE), DittoHeaders.empty());
+
+        assertThatCode(() -> validate(queryThings)).doesNotThrowAnyException();
+    }
+
+    @Test
+    public void nothingIsCheckedIfAllFieldsAreIndexed() {
+        final QueryThings queryThings = queryThings(Set.of(NAMESPACE), "eq(attributes/serial,\"1234\")",
+                "sort(+attributes/location/lon)");
+        final Query query = PARSER.parse(queryThings);
+
+        assertThatCode(() -> IndexedFieldsValidator.validate(query, IndexedFields.all(), Set.of(NAMESPACE),
+                DittoHeaders.empty())).doesNotThrowAnyException();
+    }
+
+    private static void assertValid(@Nullable final Set<String> namespaces, @Nullable final String filter,
+            @Nullable final String options) {
+
+        assertThatCode(() -> validate(queryThings(namespaces, filter, options))).doesNotThrowAnyException();
+    }
+
+    private static void assertRejected(@Nullable final Set<String> namespaces, @Nullable final String filter,
+            @Nullable final String options) {
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> validate(queryThings(namespaces, filter, options)));
+    }
+
+    private static void validate(final QueryThings queryThings) {
+        IndexedFieldsValidator.validate(PARSER.parse(queryThings), INDEXED_FIELDS,
+                queryThings.getNamespaces().orElse(null), queryThings.getDittoHeaders());
+    }
+
+    private static QueryThings queryThings(@Nullable final Set<String> namespaces, @Nullable final String filter,
+            @Nullable final String options) {
+
+        return QueryThings.of(filter, options == null ? null : List.of(options), null, namespaces,
+                DittoHeaders.empty());
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
+import org.eclipse.ditto.services.base.config.limits.DefaultLimitsConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.IndexedFields;
+import org.eclipse.ditto.services.thingsearch.persistence.read.query.MongoQueryBuilderFactory;
+import org.eclipse.ditto.signals.commands.thingsearch.query.CountThings;
+import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link QueryParser}.
+ */
+public final class QueryParserTest {
+
+    private static final String NAMESPACE = "org.eclipse.ditto.test";
+
+    private static final DittoHeaders HEADERS = DittoHeaders.newBuilder().correlationId("query-parser-test").build();
+
+    private static final QueryParser UNDER_TEST = QueryParser.of(new CriteriaFactoryImpl(),
+            new ThingsFieldExpressionFactoryImpl(),
+            new MongoQueryBuilderFactory(DefaultLimitsConfig.of(ConfigFactory.empty())),
+            IndexedFields.byNamespace("{\"" + NAMESPACE + "\":{\"include\":[\"/attributes/manufacturer\"]}}"));
+
+    @Test
+    public void parseQueryOnIndexedField() {
+        final QueryThings queryThings = QueryThings.of("eq(attributes/manufacturer,\"ACME\")",
+                List.of("sort(+attributes/manufacturer)"), null, Set.of(NAMESPACE), HEADERS);
+
+        assertThat(UNDER_TEST.parse(queryThings).getSortOptions()).hasSize(1);
+    }
+
+    @Test
+    public void rejectQueryOnNonIndexedField() {
+        final QueryThings queryThings = QueryThings.of("eq(attributes/serial,\"1234\")", null, null,
+                Set.of(NAMESPACE), HEADERS);
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> UNDER_TEST.parse(queryThings))
+                .withMessageContaining("/attributes/serial")
+                .satisfies(error -> {
+                    assertThat(error.getErrorCode()).isEqualTo(InvalidRqlExpressionException.ERROR_CODE)
+                            .isEqualTo("rql.expression.invalid");
+                    assertThat(error.getDittoHeaders().getCorrelationId()).contains("query-parser-test");
+                });
+    }
+
+    @Test
+    public void rejectSortOnNonIndexedField() {
+        final QueryThings queryThings = QueryThings.of(null, List.of("sort(+attributes/serial)"), null,
+                Set.of(NAMESPACE), HEADERS);
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> UNDER_TEST.parse(queryThings))
+                .withMessageContaining("/attributes/serial");
+    }
+
+    @Test
+    public void rejectCountOnNonIndexedField() {
+        final CountThings countThings = CountThings.of("exists(attributes/serial)", Set.of(NAMESPACE), HEADERS);
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> UNDER_TEST.parse(countThings));
+    }
+
+}
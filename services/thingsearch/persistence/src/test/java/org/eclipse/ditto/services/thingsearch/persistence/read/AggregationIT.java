@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.model.AggregationBucket;
+import org.eclipse.ditto.services.thingsearch.persistence.TestConstants;
+import org.junit.Test;
+
+/**
+ * Tests aggregation queries on the persistence.
+ */
+public final class AggregationIT extends AbstractReadPersistenceITBase {
+
+    private static final JsonPointer MANUFACTURER = JsonPointer.of("/attributes/manufacturer");
+    private static final JsonPointer TEMPERATURE = JsonPointer.of("/attributes/temperature");
+
+    @Test
+    public void groupAndComputeStatistics() {
+        insertThing("thing1", "ACME", 10);
+        insertThing("thing2", "ACME", 20);
+        insertThing("thing3", "Bosch", 5);
+
+        final List<AggregationBucket> result =
+                waitFor(readPersistence.aggregate(anyQuery(), MANUFACTURER, TEMPERATURE, KNOWN_SUBJECTS));
+
+        assertThat(result).containsExactlyInAnyOrder(
+                AggregationBucket.of(JsonValue.of("ACME"), 2L, 10.0, 20.0, 15.0),
+                AggregationBucket.of(JsonValue.of("Bosch"), 1L, 5.0, 5.0, 5.0));
+    }
+
+    @Test
+    public void groupWithoutStatistics() {
+        insertThing("thing1", "ACME", 10);
+        insertThing("thing2", "ACME", 20);
+
+        final List<AggregationBucket> result =
+                waitFor(readPersistence.aggregate(anyQuery(), MANUFACTURER, null, KNOWN_SUBJECTS));
+
+        assertThat(result).containsExactly(AggregationBucket.of(JsonValue.of("ACME"), 2L, null, null, null));
+    }
+
+    @Test
+    public void countThingsWithMultipleValuesOnce() {
+        final ThingId thingId = TestConstants.thingId(TestConstants.Thing.NAMESPACE, "thing1");
+        persistThing(createThingV1(thingId, KNOWN_SUBJECTS)
+                .setAttribute("manufacturer", JsonArray.of(JsonValue.of("ACME"), JsonValue.of("ACME")))
+                .setAttribute("temperature", JsonArray.of(JsonValue.of(10), JsonValue.of(40))));
+        insertThing("thing2", "ACME", 20);
+
+        final List<AggregationBucket> result =
+                waitFor(readPersistence.aggregate(anyQuery(), MANUFACTURER, TEMPERATURE, KNOWN_SUBJECTS));
+
+        assertThat(result).containsExactly(AggregationBucket.of(JsonValue.of("ACME"), 2L, 10.0, 40.0, 22.5));
+    }
+
+    @Test
+    public void groupOnlyVisibleThings() {
+        insertThing("thing1", "ACME", 10);
+
+        final List<AggregationBucket> result =
+                waitFor(readPersistence.aggregate(anyQuery(), MANUFACTURER, TEMPERATURE, Collections.emptyList()));
+
+        assertThat(result).isEmpty();
+    }
+
+    private Query anyQuery() {
+        return qbf.newUnlimitedBuilder(cf.any()).build();
+    }
+
+    private void insertThing(final String name, final String manufacturer, final int temperature) {
+        final ThingId thingId = TestConstants.thingId(TestConstants.Thing.NAMESPACE, name);
+        persistThing(createThingV1(thingId, KNOWN_SUBJECTS)
+                .setAttribute("manufacturer", manufacturer)
+                .setAttribute("temperature", temperature));
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.common.config.DefaultChangeQueueConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.junit.After;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ChangeQueueActor}.
+ */
+public final class ChangeQueueActorTest {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10L);
+
+    private final ActorSystem actorSystem = ActorSystem.create();
+    private final ActorMaterializer materializer = ActorMaterializer.create(actorSystem);
+
+    @After
+    public void stopActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void coalesceChangesAndFlushAtThreshold() {
+        final ActorRef underTest = createChangeQueueActor(2, Duration.ofHours(1L));
+
+        // WHEN: 2 changes of the same thing and 1 change of another thing are enqueued
+        underTest.tell(Metadata.of(ThingId.of("x:1"), 1L, null, null), ActorRef.noSender());
+        underTest.tell(Metadata.of(ThingId.of("x:1"), 2L, null, null), ActorRef.noSender());
+        underTest.tell(Metadata.of(ThingId.of("x:2"), 1L, null, null), ActorRef.noSender());
+
+        // THEN: the queue is flushed with the latest change of each thing
+        final Map<ThingId, Metadata> dump = dumpOnce(underTest);
+        assertThat(dump).hasSize(2);
+        assertThat(dump.get(ThingId.of("x:1")).getThingRevision()).isEqualTo(2L);
+    }
+
+    @Test
+    public void flushUrgentChangesFirst() {
+        final ActorRef underTest = createChangeQueueActor(250, Duration.ofHours(1L));
+
+        // WHEN: an urgent change is enqueued after a normal change
+        underTest.tell(Metadata.of(ThingId.of("x:normal"), 1L, null, null), ActorRef.noSender());
+        underTest.tell(ChangeQueueActor.urgent(Metadata.of(ThingId.of("x:urgent"), 1L, null, null)),
+                ActorRef.noSender());
+
+        // THEN: the queue is flushed before reaching threshold or maximum age, with the urgent change first
+        final Map<ThingId, Metadata> dump = dumpOnce(underTest);
+        assertThat(List.copyOf(dump.keySet())).containsExactly(ThingId.of("x:urgent"), ThingId.of("x:normal"));
+    }
+
+    @Test
+    public void flushAfterMaxAge() {
+        final ActorRef underTest = createChangeQueueActor(250, Duration.ofMillis(100L));
+
+        // WHEN: fewer changes than the flush threshold are enqueued
+        underTest.tell(Metadata.of(ThingId.of("x:1"), 1L, null, null), ActorRef.noSender());
+
+        // THEN: the queue is flushed after the maximum age
+        assertThat(dumpOnce(underTest)).containsOnlyKeys(ThingId.of("x:1"));
+    }
+
+    private ActorRef createChangeQueueActor(final int flushThreshold, final Duration maxAge) {
+        final DefaultChangeQueueConfig config = DefaultChangeQueueConfig.of(ConfigFactory.parseString(
+                "change-queue {\n" +
+                        "  flush-threshold = " + flushThreshold + "\n" +
+                        "  max-age = " + maxAge.toMillis() + "ms\n" +
+                        "  poll-interval = " + POLL_INTERVAL.toMillis() + "ms\n" +
+                        "}"));
+        return actorSystem.actorOf(ChangeQueueActor.props(config));
+    }
+
+    private Map<ThingId, Metadata> dumpOnce(final ActorRef changeQueueActor) {
+        return ChangeQueueActor.createSource(changeQueueActor, POLL_INTERVAL)
+                .runWith(Sink.head(), materializer)
+                .toCompletableFuture()
+                .join();
+    }
+
+}
@@ -37,6 +37,7 @@ import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.base.config.limits.LimitsConfig;
 import org.eclipse.ditto.services.thingsearch.common.config.SearchConfig;
+import org.eclipse.ditto.services.thingsearch.persistence.IndexedFields;
 import org.eclipse.ditto.services.thingsearch.persistence.query.QueryParser;
 import org.eclipse.ditto.services.thingsearch.persistence.read.MongoThingsSearchPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.read.ThingsSearchPersistence;
@@ -101,7 +102,7 @@ public final class SearchRootActor extends DittoRootActor {
                 .build();
 
         final ThingsSearchPersistence thingsSearchPersistence = getThingsSearchPersistence(searchConfig, mongoDbClient);
-        final ActorRef searchActor = initializeSearchActor(searchConfig.getLimitsConfig(), thingsSearchPersistence);
+        final ActorRef searchActor = initializeSearchActor(searchConfig, thingsSearchPersistence);
         pubSubMediator.tell(DistPubSubAccess.put(searchActor), getSelf());
 
         final TimestampPersistence backgroundSyncPersistence =
@@ -152,19 +153,29 @@ public final class SearchRootActor extends DittoRootActor {
                 .orElse(persistence);
     }
 
-    private ActorRef initializeSearchActor(final LimitsConfig limitsConfig,
+    private ActorRef initializeSearchActor(final SearchConfig searchConfig,
             final ThingsSearchPersistence thingsSearchPersistence) {
 
-        final QueryParser queryParser = getQueryParser(limitsConfig);
+        final IndexedFields indexedFields = searchConfig.getIndexedFieldsByNamespace()
+                .map(indexedFieldsByNamespace -> {
+                    log.info("Restricting queries to indexed fields <{}>.", indexedFieldsByNamespace);
+                    return IndexedFields.byNamespace(indexedFieldsByNamespace);
+                })
+                .orElseGet(IndexedFields::all);
+        final QueryParser queryParser = getQueryParser(searchConfig.getLimitsConfig(), indexedFields);
 
         return startChildActor(SearchActor.ACTOR_NAME, SearchActor.props(queryParser, thingsSearchPersistence));
     }
 
     static QueryParser getQueryParser(final LimitsConfig limitsConfig) {
+        return getQueryParser(limitsConfig, IndexedFields.all());
+    }
+
+    static QueryParser getQueryParser(final LimitsConfig limitsConfig, final IndexedFields indexedFields) {
         final CriteriaFactory criteriaFactory = new CriteriaFactoryImpl();
         final ThingsFieldExpressionFactory fieldExpressionFactory = getThingsFieldExpressionFactory();
         final QueryBuilderFactory queryBuilderFactory = new MongoQueryBuilderFactory(limitsConfig);
-        return QueryParser.of(criteriaFactory, fieldExpressionFactory, queryBuilderFactory);
+        return QueryParser.of(criteriaFactory, fieldExpressionFactory, queryBuilderFactory, indexedFields);
     }
 
     private ActorRef initializeHealthCheckActor(final SearchConfig searchConfig,
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.thingsearch.updater.actors;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
@@ -28,18 +29,22 @@ import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.Backgr
 import org.eclipse.ditto.services.utils.akka.controlflow.ResumeSource;
 import org.eclipse.ditto.services.utils.akka.streaming.TimestampPersistence;
 import org.eclipse.ditto.services.utils.health.AbstractBackgroundStreamingActorWithConfigWithStatusReport;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 
 import com.typesafe.config.Config;
 
 import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
 
 /**
  * Cluster-singleton responsible for background synchronization.
+ * The thing ID space is split into partitions which are synchronized concurrently and bookmarked separately.
  */
 public final class BackgroundSyncActor
         extends AbstractBackgroundStreamingActorWithConfigWithStatusReport<BackgroundSyncConfig> {
@@ -49,13 +54,21 @@ public final class BackgroundSyncActor
      */
     public static final String ACTOR_NAME = "backgroundSync";
 
+    private static final String SCANNED_THINGS_METRIC = "background_sync_scanned_things";
+    private static final String INCONSISTENCIES_METRIC = "background_sync_inconsistencies";
+    private static final String PARTITION_TAG = "partition";
+
+    private static final int SAMPLES_PER_PARTITION = 100;
+
     private final ThingsMetadataSource thingsMetadataSource;
     private final ThingsSearchPersistence thingsSearchPersistence;
     private final TimestampPersistence backgroundSyncPersistence;
     private final BackgroundSyncStream backgroundSyncStream;
     private final ActorRef thingsUpdater;
 
-    private ThingId thingIdToBookmark;
+    private BackgroundSyncPartitions partitions;
+    private List<Counter> scannedThingsCounters;
+    private List<Counter> inconsistenciesCounters;
 
     private BackgroundSyncActor(final BackgroundSyncConfig backgroundSyncConfig,
             final ThingsMetadataSource thingsMetadataSource,
@@ -69,7 +82,7 @@ public final class BackgroundSyncActor
         this.backgroundSyncPersistence = backgroundSyncPersistence;
         this.backgroundSyncStream = backgroundSyncStream;
         this.thingsUpdater = thingsUpdater;
-        thingIdToBookmark = ThingId.dummy();
+        setPartitions(BackgroundSyncPartitions.single(ThingId.dummy()));
 
         getTimers().startPeriodicTimer(Control.BOOKMARK_THING_ID, Control.BOOKMARK_THING_ID, config.getQuietPeriod());
     }
@@ -109,21 +122,26 @@ public final class BackgroundSyncActor
                     // ignore scheduled bookmark messages when sleeping
                     log.debug("Ignoring: <{}>", trigger);
                 })
-                .match(ThingId.class, thingId -> {
+                .match(BackgroundSyncPartitions.class, newPartitions -> {
+                    // got outdated partitions after actor resumes sleeping; ignore them.
+                    log.debug("Ignoring: <{}>", newPartitions);
+                })
+                .match(PartitionProgress.class, progress -> {
                     // got outdated progress update message after actor resumes sleeping; ignore it.
-                    log.debug("Ignoring: <{}>", thingId);
+                    log.debug("Ignoring: <{}>", progress);
                 });
     }
 
     @Override
     protected void preEnhanceStreamingBehavior(final ReceiveBuilder streamingReceiveBuilder) {
-        streamingReceiveBuilder.match(ThingId.class, thingId -> thingIdToBookmark = thingId)
+        streamingReceiveBuilder.match(BackgroundSyncPartitions.class, this::setPartitions)
+                .match(PartitionProgress.class, this::updateProgress)
                 .matchEquals(Control.BOOKMARK_THING_ID, this::bookmarkThingId);
     }
 
     @Override
     protected void postEnhanceStatusReport(final JsonObjectBuilder statusReportBuilder) {
-        statusReportBuilder.set("progress", thingIdToBookmark.toString());
+        statusReportBuilder.set("progress", partitions.getProgressAsJson());
     }
 
     @Override
@@ -134,28 +152,54 @@ public final class BackgroundSyncActor
     @Override
     protected void streamTerminated(final Event streamTerminated) {
         super.streamTerminated(streamTerminated);
-        // reset progress for the next round
-        thingIdToBookmark = ThingId.dummy();
+        // reset progress for the next round; partitions are recomputed from the then current search index
+        setPartitions(BackgroundSyncPartitions.single(ThingId.dummy()));
         doBookmarkThingId("");
     }
 
     @Override
     protected Source<?, ?> getSource() {
-        return getLowerBoundSource()
-                .flatMapConcat(this::streamMetadataFromLowerBound)
+        return getPartitionsSource()
+                .flatMapConcat(this::streamMetadataOfPartitions)
                 .wireTap(this::handleInconsistency);
     }
 
-    private Source<Metadata, NotUsed> streamMetadataFromLowerBound(final ThingId lowerBound) {
-        final Source<Metadata, NotUsed> persistedMetadata =
-                getPersistedMetadataSourceWithProgressReporting(lowerBound);
-        final Source<Metadata, NotUsed> indexedMetadata = getIndexedMetadataSource(lowerBound);
-        return backgroundSyncStream.filterForInconsistencies(persistedMetadata, indexedMetadata);
+    private Source<Pair<Integer, Metadata>, NotUsed> streamMetadataOfPartitions(
+            final BackgroundSyncPartitions partitionsToSync) {
+
+        getSelf().tell(partitionsToSync, ActorRef.noSender());
+        final List<Pair<Source<Metadata, ?>, Source<Metadata, ?>>> sources = new ArrayList<>();
+        for (int i = 0; i < partitionsToSync.size(); ++i) {
+            final ThingId resumptionPoint = partitionsToSync.getResumptionPoint(i);
+            final ThingId upperBound = partitionsToSync.getUpperBound(i);
+            final Source<Metadata, ?> persistedMetadata =
+                    getPersistedMetadataSourceWithProgressReporting(i, resumptionPoint, upperBound);
+            final Source<Metadata, ?> indexedMetadata = getIndexedMetadataSource(resumptionPoint, upperBound);
+            sources.add(Pair.create(persistedMetadata, indexedMetadata));
+        }
+        return backgroundSyncStream.filterForInconsistenciesInPartitions(sources);
+    }
+
+    private void setPartitions(final BackgroundSyncPartitions newPartitions) {
+        partitions = newPartitions;
+        scannedThingsCounters = new ArrayList<>(newPartitions.size());
+        inconsistenciesCounters = new ArrayList<>(newPartitions.size());
+        for (int i = 0; i < newPartitions.size(); ++i) {
+            scannedThingsCounters.add(DittoMetrics.counter(SCANNED_THINGS_METRIC).tag(PARTITION_TAG, i));
+            inconsistenciesCounters.add(DittoMetrics.counter(INCONSISTENCIES_METRIC).tag(PARTITION_TAG, i));
+        }
+    }
+
+    private void updateProgress(final PartitionProgress progress) {
+        if (progress.index < partitions.size()) {
+            partitions = partitions.setProgress(progress.index, progress.thingId);
+            scannedThingsCounters.get(progress.index).increment();
+        }
     }
 
     private void bookmarkThingId(final Control bookmarkRequest) {
-        if (!thingIdToBookmark.isDummy()) {
-            doBookmarkThingId(thingIdToBookmark.toString());
+        if (partitions.hasProgress()) {
+            doBookmarkThingId(partitions.toBookmark());
         }
     }
 
@@ -164,34 +208,56 @@ public final class BackgroundSyncActor
                 .runWith(Sink.ignore(), materializer);
     }
 
-    private void handleInconsistency(final Metadata metadata) {
+    private void handleInconsistency(final Pair<Integer, Metadata> indexedMetadata) {
+        final Metadata metadata = indexedMetadata.second();
         final ThingId thingId = metadata.getThingId();
         thingsUpdater.tell(UpdateThing.of(thingId, DittoHeaders.empty()), ActorRef.noSender());
         getSelf().tell(SyncEvent.inconsistency(metadata), ActorRef.noSender());
+        final int index = indexedMetadata.first();
+        if (index < inconsistenciesCounters.size()) {
+            inconsistenciesCounters.get(index).increment();
+        }
     }
 
-    private Source<ThingId, NotUsed> getLowerBoundSource() {
+    /**
+     * Read partitions and progress from the bookmark. If there is no usable bookmark or if the configured number
+     * of partitions changed, split the thing ID space anew by sampling the search index.
+     *
+     * @return source of the partitions to synchronize.
+     */
+    private Source<BackgroundSyncPartitions, NotUsed> getPartitionsSource() {
+        final int numberOfPartitions = Math.max(1, config.getPartitions());
         return backgroundSyncPersistence.getTaggedTimestamp()
-                .map(optional -> {
-                    if (optional.isPresent()) {
-                        final String bookmarkedThingId = optional.get().second();
-                        if (bookmarkedThingId != null && !bookmarkedThingId.isEmpty())
-                            return ThingId.of(bookmarkedThingId);
+                .map(optional -> optional.map(Pair::second).flatMap(BackgroundSyncPartitions::fromBookmark))
+                .flatMapConcat(bookmarked -> {
+                    if (bookmarked.isPresent() &&
+                            bookmarked.get().getRequestedPartitions() == numberOfPartitions) {
+                        return Source.single(bookmarked.get());
+                    } else if (numberOfPartitions == 1) {
+                        return Source.single(BackgroundSyncPartitions.single(ThingId.dummy()));
+                    } else {
+                        final int sampleSize = numberOfPartitions * SAMPLES_PER_PARTITION;
+                        return thingsSearchPersistence.sudoSampleThingIds(sampleSize)
+                                .grouped(sampleSize)
+                                .orElse(Source.single(List.<ThingId>of()))
+                                .map(sample -> BackgroundSyncPartitions.fromSample(sample, numberOfPartitions));
                     }
-                    return ThingId.dummy();
                 });
     }
 
-    private Source<Metadata, NotUsed> getPersistedMetadataSourceWithProgressReporting(final ThingId lowerBound) {
-        return wrapAsResumeSource(lowerBound, thingsMetadataSource::createSource)
-                .wireTap(persisted -> getSelf().tell(persisted.getThingId(), ActorRef.noSender()));
+    private Source<Metadata, NotUsed> getPersistedMetadataSourceWithProgressReporting(final int index,
+            final ThingId lowerBound, final ThingId upperBound) {
+
+        return wrapAsResumeSource(lowerBound, upperBound, thingsMetadataSource::createSource)
+                .wireTap(persisted -> getSelf().tell(new PartitionProgress(index, persisted.getThingId()),
+                        ActorRef.noSender()));
     }
 
-    private Source<Metadata, NotUsed> getIndexedMetadataSource(final ThingId lowerBound) {
-        return wrapAsResumeSource(lowerBound, thingsSearchPersistence::sudoStreamMetadata);
+    private Source<Metadata, NotUsed> getIndexedMetadataSource(final ThingId lowerBound, final ThingId upperBound) {
+        return wrapAsResumeSource(lowerBound, upperBound, thingsSearchPersistence::sudoStreamMetadata);
     }
 
-    private Source<Metadata, NotUsed> wrapAsResumeSource(final ThingId lowerBound,
+    private Source<Metadata, NotUsed> wrapAsResumeSource(final ThingId lowerBound, final ThingId upperBound,
             final Function<ThingId, Source<Metadata, ?>> sourceCreator) {
 
         return ResumeSource.onFailureWithBackoff(
@@ -202,7 +268,9 @@ public final class BackgroundSyncActor
                 lowerBound,
                 sourceCreator,
                 1,
-                lastMetadata -> nextLowerBound(lowerBound, lastMetadata));
+                lastMetadata -> nextLowerBound(lowerBound, lastMetadata))
+                // the dummy upper bound of the last partition is greater than all thing IDs
+                .takeWhile(metadata -> BackgroundSyncStream.compareThingIds(metadata.getThingId(), upperBound) <= 0);
     }
 
     private static ThingId nextLowerBound(final ThingId currentLowerBound, final List<Metadata> lastMetadata) {
@@ -213,6 +281,22 @@ public final class BackgroundSyncActor
         }
     }
 
+    private static final class PartitionProgress {
+
+        private final int index;
+        private final ThingId thingId;
+
+        private PartitionProgress(final int index, final ThingId thingId) {
+            this.index = index;
+            this.thingId = thingId;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [index=" + index + ", thingId=" + thingId + "]";
+        }
+    }
+
     private static final class SyncEvent implements Event {
 
         private final String description;
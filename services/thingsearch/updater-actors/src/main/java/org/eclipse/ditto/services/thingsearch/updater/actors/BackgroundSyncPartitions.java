@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.BackgroundSyncStream;
+
+/**
+ * Ranges of thing IDs which are synchronized independently by the background sync, together with the progress
+ * within each range.
+ * Partition {@code i} contains the thing IDs greater than its lower bound and not greater than its upper bound,
+ * where the dummy thing ID stands for "no bound".
+ */
+@Immutable
+final class BackgroundSyncPartitions {
+
+    private static final JsonFieldDefinition<JsonArray> SPLIT_POINTS = JsonFieldDefinition.ofJsonArray("splitPoints");
+    private static final JsonFieldDefinition<JsonArray> PROGRESS = JsonFieldDefinition.ofJsonArray("progress");
+    private static final JsonFieldDefinition<Integer> REQUESTED_PARTITIONS =
+            JsonFieldDefinition.ofInt("requestedPartitions");
+
+    private final List<ThingId> splitPoints;
+    private final List<ThingId> progress;
+    private final int requestedPartitions;
+
+    private BackgroundSyncPartitions(final List<ThingId> splitPoints, final List<ThingId> progress,
+            final int requestedPartitions) {
+
+        this.splitPoints = Collections.unmodifiableList(new ArrayList<>(splitPoints));
+        this.progress = Collections.unmodifiableList(new ArrayList<>(progress));
+        this.requestedPartitions = requestedPartitions;
+    }
+
+    /**
+     * Split the thing ID space into ranges of similar size according to a sample of thing IDs.
+     *
+     * @param sample randomly sampled thing IDs in any order.
+     * @param numberOfPartitions the desired number of partitions.
+     * @return partitions without progress; fewer than desired if the sample is too small.
+     */
+    static BackgroundSyncPartitions fromSample(final Collection<ThingId> sample, final int numberOfPartitions) {
+        final List<ThingId> sortedSample = sample.stream()
+                .filter(thingId -> !thingId.isDummy())
+                .distinct()
+                .sorted(BackgroundSyncStream::compareThingIds)
+                .collect(Collectors.toList());
+        final List<ThingId> splitPoints = new ArrayList<>();
+        for (int i = 1; i < numberOfPartitions; ++i) {
+            final int index = (int) ((long) i * sortedSample.size() / numberOfPartitions);
+            if (index < sortedSample.size()) {
+                final ThingId splitPoint = sortedSample.get(index);
+                if (splitPoints.isEmpty() || !splitPoints.get(splitPoints.size() - 1).equals(splitPoint)) {
+                    splitPoints.add(splitPoint);
+                }
+            }
+        }
+        return new BackgroundSyncPartitions(splitPoints, Collections.nCopies(splitPoints.size() + 1, ThingId.dummy()),
+                numberOfPartitions);
+    }
+
+    /**
+     * Create a single partition covering all thing IDs.
+     *
+     * @param progress the progress in the partition, or the dummy thing ID for no progress.
+     * @return the single partition.
+     */
+    static BackgroundSyncPartitions single(final ThingId progress) {
+        return new BackgroundSyncPartitions(List.of(), List.of(progress), 1);
+    }
+
+    /**
+     * Read partitions and their progress from a bookmark.
+     *
+     * @param bookmark the bookmark as written by {@link #toBookmark()}, or a single thing ID as written by previous
+     * versions of the background sync.
+     * @return the partitions if the bookmark is not empty and valid.
+     */
+    static Optional<BackgroundSyncPartitions> fromBookmark(final String bookmark) {
+        if (bookmark.isEmpty()) {
+            return Optional.empty();
+        } else if (!bookmark.startsWith("{")) {
+            return Optional.of(single(ThingId.of(bookmark)));
+        }
+        try {
+            final JsonObject jsonObject = JsonObject.of(bookmark);
+            final List<ThingId> splitPoints = toThingIds(jsonObject.getValueOrThrow(SPLIT_POINTS));
+            final List<ThingId> progress = toThingIds(jsonObject.getValueOrThrow(PROGRESS));
+            // bookmarks without the requested number of partitions contain all partitions that were requested
+            final int requestedPartitions = jsonObject.getValue(REQUESTED_PARTITIONS).orElse(progress.size());
+            if (progress.size() == splitPoints.size() + 1) {
+                return Optional.of(new BackgroundSyncPartitions(splitPoints, progress, requestedPartitions));
+            } else {
+                return Optional.empty();
+            }
+        } catch (final JsonRuntimeException | DittoRuntimeException | UnsupportedOperationException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return the number of partitions.
+     */
+    int size() {
+        return progress.size();
+    }
+
+    /**
+     * @return the number of partitions that were requested when sampling the partitions; more than {@link #size()}
+     * if the sample was too small.
+     */
+    int getRequestedPartitions() {
+        return requestedPartitions;
+    }
+
+    /**
+     * Get the exclusive lower bound of a partition.
+     *
+     * @param index index of the partition.
+     * @return the lower bound, or the dummy thing ID for the first partition.
+     */
+    ThingId getLowerBound(final int index) {
+        return index == 0 ? ThingId.dummy() : splitPoints.get(index - 1);
+    }
+
+    /**
+     * Get the inclusive upper bound of a partition.
+     *
+     * @param index index of the partition.
+     * @return the upper bound, or the dummy thing ID for the last partition.
+     */
+    ThingId getUpperBound(final int index) {
+        return index == splitPoints.size() ? ThingId.dummy() : splitPoints.get(index);
+    }
+
+    /**
+     * Get the thing ID from which to resume the synchronization of a partition.
+     *
+     * @param index index of the partition.
+     * @return the last synchronized thing ID of the partition, or its lower bound if there is no progress.
+     */
+    ThingId getResumptionPoint(final int index) {
+        final ThingId thingId = progress.get(index);
+        return thingId.isDummy() ? getLowerBound(index) : thingId;
+    }
+
+    /**
+     * Get the progress of a partition.
+     *
+     * @param index index of the partition.
+     * @return the last synchronized thing ID of the partition, or the dummy thing ID if there is no progress.
+     */
+    ThingId getProgress(final int index) {
+        return progress.get(index);
+    }
+
+    /**
+     * Record progress in a partition.
+     *
+     * @param index index of the partition.
+     * @param thingId the last synchronized thing ID of the partition.
+     * @return the partitions with updated progress.
+     */
+    BackgroundSyncPartitions setProgress(final int index, final ThingId thingId) {
+        final List<ThingId> newProgress = new ArrayList<>(progress);
+        newProgress.set(index, thingId);
+        return new BackgroundSyncPartitions(splitPoints, newProgress, requestedPartitions);
+    }
+
+    /**
+     * @return whether any partition made progress.
+     */
+    boolean hasProgress() {
+        return progress.stream().anyMatch(thingId -> !thingId.isDummy());
+    }
+
+    /**
+     * @return the progress of all partitions as JSON array.
+     */
+    JsonArray getProgressAsJson() {
+        return toJsonArray(progress);
+    }
+
+    /**
+     * @return the bookmark to persist the partitions and their progress.
+     */
+    String toBookmark() {
+        return JsonObject.newBuilder()
+                .set(SPLIT_POINTS, toJsonArray(splitPoints))
+                .set(PROGRESS, toJsonArray(progress))
+                .set(REQUESTED_PARTITIONS, requestedPartitions)
+                .build()
+                .toString();
+    }
+
+    private static JsonArray toJsonArray(final List<ThingId> thingIds) {
+        return thingIds.stream()
+                .map(thingId -> thingId.isDummy() ? "" : thingId.toString())
+                .map(JsonValue::of)
+                .collect(JsonCollectors.valuesToArray());
+    }
+
+    private static List<ThingId> toThingIds(final JsonArray jsonArray) {
+        return jsonArray.stream()
+                .map(JsonValue::asString)
+                .map(string -> string.isEmpty() ? ThingId.dummy() : ThingId.of(string))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BackgroundSyncPartitions that = (BackgroundSyncPartitions) o;
+        return requestedPartitions == that.requestedPartitions &&
+                Objects.equals(splitPoints, that.splitPoints) &&
+                Objects.equals(progress, that.progress);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(splitPoints, progress, requestedPartitions);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "splitPoints=" + splitPoints +
+                ", progress=" + progress +
+                ", requestedPartitions=" + requestedPartitions +
+                "]";
+    }
+}
@@ -102,7 +102,9 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
         final ShardRegionFactory shardRegionFactory = ShardRegionFactory.getInstance(actorSystem);
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
-        final ActorRef changeQueueActor = getContext().actorOf(ChangeQueueActor.props(), ChangeQueueActor.ACTOR_NAME);
+        final ActorRef changeQueueActor = getContext().actorOf(
+                ChangeQueueActor.props(searchConfig.getStreamConfig().getChangeQueueConfig()),
+                ChangeQueueActor.ACTOR_NAME);
 
         final Props thingUpdaterProps = ThingUpdater.props(pubSubMediator, changeQueueActor);
 
@@ -238,8 +240,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         final ActorRef policiesShard = shardRegionFactory.getPoliciesShardRegion(numberOfShards);
 
         final SearchUpdaterStream searchUpdaterStream =
-                SearchUpdaterStream.of(searchConfig, actorSystem, thingsShard, policiesShard, updaterShard,
-                        changeQueueActor, mongoDatabase, blockedNamespaces);
+                SearchUpdaterStream.of(searchConfig, actorSystem, thingsShard, numberOfShards, policiesShard,
+                        updaterShard, changeQueueActor, mongoDatabase, blockedNamespaces);
 
         return searchUpdaterStream.start(getContext());
     }
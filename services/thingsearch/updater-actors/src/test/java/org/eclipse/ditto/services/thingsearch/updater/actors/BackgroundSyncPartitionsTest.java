@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Test;
+
+/**
+ * Tests {@link BackgroundSyncPartitions}.
+ */
+public final class BackgroundSyncPartitionsTest {
+
+    @Test
+    public void splitSampleIntoRangesOfSimilarSize() {
+        final List<ThingId> sample = IntStream.range(0, 100)
+                .mapToObj(i -> ThingId.of("x", String.format("%03d", 99 - i)))
+                .collect(Collectors.toList());
+
+        final BackgroundSyncPartitions underTest = BackgroundSyncPartitions.fromSample(sample, 4);
+
+        assertThat(underTest.size()).isEqualTo(4);
+        assertThat(underTest.getLowerBound(0)).isEqualTo(ThingId.dummy());
+        assertThat(underTest.getUpperBound(0)).isEqualTo(ThingId.of("x:025"));
+        assertThat(underTest.getLowerBound(1)).isEqualTo(ThingId.of("x:025"));
+        assertThat(underTest.getUpperBound(2)).isEqualTo(ThingId.of("x:075"));
+        assertThat(underTest.getUpperBound(3)).isEqualTo(ThingId.dummy());
+        assertThat(underTest.getResumptionPoint(2)).isEqualTo(ThingId.of("x:050"));
+        assertThat(underTest.hasProgress()).isFalse();
+    }
+
+    @Test
+    public void tooSmallSampleYieldsFewerPartitions() {
+        final BackgroundSyncPartitions underTest =
+                BackgroundSyncPartitions.fromSample(List.of(ThingId.of("x:1"), ThingId.of("x:1")), 4);
+
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.getRequestedPartitions()).isEqualTo(4);
+        assertThat(underTest.getUpperBound(0)).isEqualTo(ThingId.of("x:1"));
+    }
+
+    @Test
+    public void bookmarkKeepsRequestedNumberOfPartitions() {
+        final BackgroundSyncPartitions partitions =
+                BackgroundSyncPartitions.fromSample(List.of(ThingId.of("x:1")), 4).setProgress(0, ThingId.of("x:0"));
+
+        assertThat(BackgroundSyncPartitions.fromBookmark(partitions.toBookmark()))
+                .hasValueSatisfying(bookmarked -> {
+                    assertThat(bookmarked.size()).isEqualTo(2);
+                    assertThat(bookmarked.getRequestedPartitions()).isEqualTo(4);
+                });
+        assertThat(BackgroundSyncPartitions.fromBookmark("{\"splitPoints\":[\"x:1\"],\"progress\":[\"\",\"\"]}"))
+                .hasValueSatisfying(bookmarked -> assertThat(bookmarked.getRequestedPartitions()).isEqualTo(2));
+    }
+
+    @Test
+    public void bookmarkRoundTrip() {
+        final BackgroundSyncPartitions partitions =
+                BackgroundSyncPartitions.fromSample(List.of(ThingId.of("x:1"), ThingId.of("x:2")), 2)
+                        .setProgress(1, ThingId.of("x:3"));
+
+        assertThat(partitions.hasProgress()).isTrue();
+        assertThat(BackgroundSyncPartitions.fromBookmark(partitions.toBookmark())).contains(partitions);
+    }
+
+    @Test
+    public void readBookmarkOfSingleThingId() {
+        assertThat(BackgroundSyncPartitions.fromBookmark("x:1"))
+                .contains(BackgroundSyncPartitions.single(ThingId.of("x:1")));
+        assertThat(BackgroundSyncPartitions.fromBookmark("")).isEmpty();
+        assertThat(BackgroundSyncPartitions.fromBookmark("{\"splitPoints\":[]}")).isEmpty();
+    }
+
+}
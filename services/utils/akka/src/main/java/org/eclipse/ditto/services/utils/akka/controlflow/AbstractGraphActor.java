@@ -211,14 +211,26 @@ public abstract class AbstractGraphActor<T, M> extends AbstractActor {
         }
         logger.discardCorrelationId();
         receiveCounter.increment();
-        sourceQueue.offer(mapMessage(match)).handle(this::incrementEnqueueCounters);
+        final T message = mapMessage(match);
+        sourceQueue.offer(message).handle((result, error) -> handleEnqueueResult(message, result, error));
     }
 
-    private Void incrementEnqueueCounters(final QueueOfferResult result, final Throwable error) {
+    /**
+     * Called when a message is dropped because the buffer of the Source queue is full. Does nothing by default.
+     * Called outside of the actor's thread; implementations must be thread-safe.
+     *
+     * @param message the dropped message.
+     */
+    protected void handleDroppedMessage(final T message) {
+        // does nothing by default
+    }
+
+    private Void handleEnqueueResult(final T message, final QueueOfferResult result, final Throwable error) {
         if (QueueOfferResult.enqueued().equals(result)) {
             enqueueSuccessCounter.increment();
         } else if (QueueOfferResult.dropped().equals(result)) {
             enqueueDroppedCounter.increment();
+            handleDroppedMessage(message);
         } else if (result instanceof QueueOfferResult.Failure) {
             final QueueOfferResult.Failure failure = (QueueOfferResult.Failure) result;
             logger.error(failure.cause(), "Enqueue failed!");
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link SnapshotAdapter} which is also able to store a snapshot as delta relative to a previous full snapshot,
+ * the base.
+ * A delta snapshot can only be restored together with its base; persistence actors have to load the base snapshot
+ * when recovering from a delta snapshot.
+ *
+ * @param <T> the domain model type to do a Snapshot for.
+ */
+public interface DeltaSnapshotAdapter<T> extends SnapshotAdapter<T> {
+
+    /**
+     * Converts a "domain model snapshot" to a delta relative to a base which was persisted as full snapshot before.
+     *
+     * @param base the domain model of the base snapshot.
+     * @param baseRevision the sequence number of the base snapshot.
+     * @param snapshot the domain model type to do a Snapshot for.
+     * @return the delta to persist into the Snapshot-Store or an empty Optional if a full snapshot should be
+     * persisted instead.
+     */
+    Optional<Object> toDeltaSnapshotStore(T base, long baseRevision, T snapshot);
+
+    /**
+     * Returns the sequence number of the base snapshot if a "database snapshot" is a delta snapshot.
+     *
+     * @param rawSnapshot the snapshot as loaded from the database.
+     * @return the sequence number of the base snapshot or an empty OptionalLong if {@code rawSnapshot} is a full
+     * snapshot.
+     */
+    OptionalLong getBaseRevision(Object rawSnapshot);
+
+    /**
+     * Converts a "database delta snapshot" to a domain model snapshot type by applying it to its base.
+     *
+     * @param base the domain model of the base snapshot.
+     * @param rawDeltaSnapshot the delta snapshot as loaded from the database.
+     * @return the domain model type which is offered to the PersistentActor or {@code null}.
+     */
+    @Nullable
+    T fromDeltaSnapshotStore(T base, Object rawDeltaSnapshot);
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+import org.eclipse.ditto.services.utils.persistence.DeltaSnapshotAdapter;
+import org.slf4j.Logger;
+
+/**
+ * Abstract implementation of a MongoDB specific {@link DeltaSnapshotAdapter} for a {@link Jsonifiable}.
+ * <p>
+ * A delta snapshot contains all top-level fields of the entity except the configured subtree fields. For each subtree
+ * field it contains the top-level entries of the subtree which were changed or removed relative to the base.
+ * Thus the fields outside of the subtrees stay available for projections of the snapshot store.
+ * </p>
+ *
+ * @param <T> the jsonifiable type to snapshot.
+ */
+@ThreadSafe
+public abstract class AbstractMongoDeltaSnapshotAdapter<T extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>
+        extends AbstractMongoSnapshotAdapter<T> implements DeltaSnapshotAdapter<T> {
+
+    /**
+     * Field of a delta snapshot containing the changes of the subtrees.
+     */
+    static final String DELTA = "__delta";
+
+    /**
+     * Field of the delta containing the sequence number of the base snapshot.
+     */
+    static final String BASE_REVISION = "baseRevision";
+
+    private static final JsonKey CHANGED = JsonKey.of("changed");
+    private static final JsonKey REMOVED = JsonKey.of("removed");
+    private static final JsonKey VALUE = JsonKey.of("value");
+
+    /**
+     * A delta snapshot is only taken if it is less than a half of the full snapshot.
+     */
+    private static final int MIN_SIZE_RATIO_OF_FULL_TO_DELTA = 2;
+
+    private final List<JsonKey> subtreeFields;
+
+    /**
+     * Constructs a new {@code AbstractMongoDeltaSnapshotAdapter}.
+     *
+     * @param logger the logger.
+     * @param subtreeFields the top-level fields of the entity whose entries are stored as delta.
+     */
+    protected AbstractMongoDeltaSnapshotAdapter(final Logger logger, final JsonKey... subtreeFields) {
+        this(logger, false, subtreeFields);
+    }
+
+    /**
+     * Constructs a new {@code AbstractMongoDeltaSnapshotAdapter}.
+     *
+     * @param logger the logger.
+     * @param binaryEncoding whether to write snapshots as binary document.
+     * @param subtreeFields the top-level fields of the entity whose entries are stored as delta.
+     */
+    protected AbstractMongoDeltaSnapshotAdapter(final Logger logger, final boolean binaryEncoding,
+            final JsonKey... subtreeFields) {
+
+        super(logger, binaryEncoding);
+        this.subtreeFields = Arrays.asList(subtreeFields);
+    }
+
+    @Override
+    public Optional<Object> toDeltaSnapshotStore(final T base, final long baseRevision, final T snapshotEntity) {
+        final JsonObject baseJson = convertToJson(checkNotNull(base, "base"));
+        final JsonObject json = convertToJson(checkNotNull(snapshotEntity, "snapshot entity"));
+
+        final JsonObjectBuilder deltaBuilder = JsonObject.newBuilder().set(BASE_REVISION, baseRevision);
+        final JsonObjectBuilder deltaSnapshotBuilder = json.toBuilder();
+        for (final JsonKey subtreeField : subtreeFields) {
+            json.getValue(subtreeField).ifPresent(subtree -> {
+                deltaSnapshotBuilder.remove(subtreeField);
+                deltaBuilder.set(subtreeField, diff(baseJson.getValue(subtreeField).orElse(null), subtree));
+            });
+        }
+        final JsonObject deltaSnapshot = deltaSnapshotBuilder.set(DELTA, deltaBuilder.build()).build();
+
+        // compare the estimated sizes, so that the snapshots are not serialized just for the decision
+        final long deltaSize = deltaSnapshot.getUpperBoundForStringSize();
+        if (deltaSize * MIN_SIZE_RATIO_OF_FULL_TO_DELTA > json.getUpperBoundForStringSize()) {
+            return Optional.empty();
+        } else {
+            onSnapshotStoreConversion(snapshotEntity, json);
+            final JsonObject baseRevisionField = JsonObject.newBuilder()
+                    .set(DELTA, JsonObject.newBuilder().set(BASE_REVISION, baseRevision).build())
+                    .build();
+            return Optional.of(toBson(deltaSnapshot, baseRevisionField));
+        }
+    }
+
+    @Override
+    public OptionalLong getBaseRevision(final Object rawSnapshot) {
+        if (rawSnapshot instanceof BsonDocument) {
+            final BsonValue delta = ((BsonDocument) rawSnapshot).get(DELTA);
+            if (delta != null && delta.isDocument() && delta.asDocument().isNumber(BASE_REVISION)) {
+                return OptionalLong.of(delta.asDocument().getNumber(BASE_REVISION).longValue());
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    @Nullable
+    @Override
+    public T fromDeltaSnapshotStore(final T base, final Object rawDeltaSnapshot) {
+        final JsonObject baseJson = convertToJson(checkNotNull(base, "base"));
+        final JsonObject deltaSnapshot = convertSnapshotEntityToJson(rawDeltaSnapshot);
+        final JsonObject delta = deltaSnapshot.getValue(DELTA)
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .orElseGet(JsonObject::empty);
+
+        final JsonObjectBuilder builder = deltaSnapshot.toBuilder().remove(DELTA);
+        for (final JsonKey subtreeField : subtreeFields) {
+            delta.getValue(subtreeField)
+                    .filter(JsonValue::isObject)
+                    .map(subtreeDelta -> merge(baseJson.getValue(subtreeField).orElse(null), subtreeDelta.asObject()))
+                    .ifPresent(subtree -> builder.set(subtreeField, subtree));
+        }
+        return tryToCreateJsonifiableFrom(builder.build());
+    }
+
+    private static JsonObject diff(@Nullable final JsonValue baseSubtree, final JsonValue subtree) {
+        if (null != baseSubtree && baseSubtree.isObject() && subtree.isObject()) {
+            final JsonObject baseObject = baseSubtree.asObject();
+            final JsonObject object = subtree.asObject();
+            final JsonObjectBuilder changed = JsonObject.newBuilder();
+            for (final JsonField field : object) {
+                final Optional<JsonValue> baseValue = baseObject.getValue(field.getKey());
+                if (!baseValue.isPresent() || !baseValue.get().equals(field.getValue())) {
+                    changed.set(field);
+                }
+            }
+            final JsonArrayBuilder removed = JsonArray.newBuilder();
+            for (final JsonField baseField : baseObject) {
+                if (!object.contains(baseField.getKey())) {
+                    removed.add(baseField.getKeyName());
+                }
+            }
+            return JsonObject.newBuilder()
+                    .set(CHANGED, changed.build())
+                    .set(REMOVED, removed.build())
+                    .build();
+        } else {
+            return JsonObject.newBuilder().set(VALUE, subtree).build();
+        }
+    }
+
+    private static JsonValue merge(@Nullable final JsonValue baseSubtree, final JsonObject subtreeDelta) {
+        final Optional<JsonValue> value = subtreeDelta.getValue(VALUE);
+        if (value.isPresent() || null == baseSubtree || !baseSubtree.isObject()) {
+            return value.orElseGet(JsonObject::empty);
+        }
+        final JsonObjectBuilder builder = baseSubtree.asObject().toBuilder();
+        subtreeDelta.getValue(REMOVED)
+                .filter(JsonValue::isArray)
+                .ifPresent(removed -> removed.asArray().stream()
+                        .filter(JsonValue::isString)
+                        .forEach(key -> builder.remove(JsonKey.of(key.asString()))));
+        subtreeDelta.getValue(CHANGED)
+                .filter(JsonValue::isObject)
+                .ifPresent(changed -> builder.setAll(changed.asObject()));
+        return builder.build();
+    }
+
+}
@@ -44,10 +44,12 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
 
     private final ExtendedActorSystem system;
     private final EventRegistry<T> eventRegistry;
+    private final boolean binaryEncoding;
 
     protected AbstractMongoEventAdapter(final ExtendedActorSystem system, final EventRegistry<T> eventRegistry) {
         this.system = system;
         this.eventRegistry = eventRegistry;
+        binaryEncoding = DittoBsonCbor.isEnabled(system);
     }
 
     @Override
@@ -67,7 +69,9 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
             final JsonSchemaVersion schemaVersion = theEvent.getImplementedSchemaVersion();
             final JsonObject jsonObject =
                     theEvent.toJson(schemaVersion, IS_REVISION.negate().and(FieldType.regularOrSpecial()));
-            return DittoBsonJson.getInstance().parse(jsonObject);
+            return binaryEncoding
+                    ? DittoBsonCbor.getInstance().parse(jsonObject)
+                    : DittoBsonJson.getInstance().parse(jsonObject);
         } else {
             throw new IllegalArgumentException("Unable to toJournal a non-'Event' object! Was: " + event.getClass());
         }
@@ -76,7 +80,7 @@ public abstract class AbstractMongoEventAdapter<T extends Event> implements Even
     @Override
     public EventSeq fromJournal(final Object event, final String manifest) {
         if (event instanceof BsonValue) {
-            return EventSeq.single(tryParseEvent(DittoBsonJson.getInstance().serialize((BsonValue) event)));
+            return EventSeq.single(tryParseEvent(DittoBsonCbor.getInstance().serialize((BsonValue) event)));
         } else {
             throw new IllegalArgumentException(
                     "Unable to fromJournal a non-'BsonValue' object! Was: " + event.getClass());
@@ -19,9 +19,11 @@ import java.text.MessageFormat;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
@@ -43,9 +45,22 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         implements SnapshotAdapter<T> {
 
     private final Logger logger;
+    private final boolean binaryEncoding;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
+        this(logger, false);
+    }
+
+    /**
+     * Constructs a new {@code AbstractMongoSnapshotAdapter}.
+     *
+     * @param logger the logger.
+     * @param binaryEncoding whether to write snapshots as binary document with {@link DittoBsonCbor}.
+     * Snapshots are read in either encoding.
+     */
+    protected AbstractMongoSnapshotAdapter(final Logger logger, final boolean binaryEncoding) {
         this.logger = logger;
+        this.binaryEncoding = binaryEncoding;
     }
 
     @Override
@@ -54,6 +69,29 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
+        return toBson(json, JsonObject.empty());
+    }
+
+    /**
+     * Converts the JSON of a snapshot to BSON.
+     * If snapshots are written as binary document, the top-level fields with a plain value and the specified
+     * additional fields are kept as plain BSON besides the binary content to make them available for projections of
+     * the snapshot store.
+     *
+     * @param json the JSON of the snapshot.
+     * @param additionalPlainFields fields to keep as plain BSON if snapshots are written as binary document.
+     * @return the BSON of the snapshot.
+     */
+    protected BsonDocument toBson(final JsonObject json, final JsonObject additionalPlainFields) {
+        if (binaryEncoding) {
+            final JsonObjectBuilder plainFields = JsonObject.newBuilder();
+            for (final JsonField field : json) {
+                if (!field.getValue().isObject() && !field.getValue().isArray()) {
+                    plainFields.set(field);
+                }
+            }
+            return DittoBsonCbor.getInstance().parse(json, plainFields.setAll(additionalPlainFields).build());
+        }
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         return dittoBsonJson.parse(json);
     }
@@ -104,7 +142,15 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         return tryToCreateJsonifiableFrom(convertSnapshotEntityToJson(rawSnapshotEntity));
     }
 
-    private static JsonObject convertSnapshotEntityToJson(final Object rawSnapshotEntity) {
+    /**
+     * Converts a raw snapshot entity as loaded from the database to a {@link JsonObject}.
+     *
+     * @param rawSnapshotEntity the snapshot entity to be converted.
+     * @return the JSON representation of {@code rawSnapshotEntity}.
+     * @throws NullPointerException if {@code rawSnapshotEntity} is {@code null}.
+     * @throws IllegalArgumentException if {@code rawSnapshotEntity} is no BsonValue.
+     */
+    protected static JsonObject convertSnapshotEntityToJson(final Object rawSnapshotEntity) {
         checkNotNull(rawSnapshotEntity, "raw snapshot entity");
         if (rawSnapshotEntity instanceof BsonValue) {
             return convertToJson((BsonValue) rawSnapshotEntity);
@@ -124,13 +170,19 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
      */
     private static JsonObject convertToJson(final BsonValue bsonValue) {
         checkNotNull(bsonValue, "BsonValue to be converted");
-        final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        final JsonObject jsonObject = dittoBsonJson.serialize(bsonValue).asObject();
+        final DittoBsonCbor dittoBsonCbor = DittoBsonCbor.getInstance();
+        final JsonObject jsonObject = dittoBsonCbor.serialize(bsonValue).asObject();
         return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
     }
 
+    /**
+     * Creates a Jsonifiable from the specified JSON object and logs parsing errors.
+     *
+     * @param jsonObject a JSON Object representation of a Jsonifiable.
+     * @return the Jsonifiable which originates from {@code jsonObject} or {@code null} if it could not be parsed.
+     */
     @Nullable
-    private T tryToCreateJsonifiableFrom(final JsonObject jsonObject) {
+    protected T tryToCreateJsonifiableFrom(final JsonObject jsonObject) {
         try {
             return createJsonifiableFrom(jsonObject);
         } catch (final JsonParseException | DittoRuntimeException e) {
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.io.IOException;
+import java.text.MessageFormat;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+
+import com.typesafe.config.Config;
+
+import akka.actor.ActorSystem;
+
+/**
+ * This is a MongoDB BSON converter which stores JSON as compact binary document. The binary document holds the CBOR
+ * representation of the JSON in a binary field together with the version of the encoding. Thus no escaping of
+ * "special" characters in JSON keys is necessary.
+ * <p>
+ * The {@link #serialize(BsonValue)} function transparently reads plain BSON as written by {@link DittoBsonJson}, too.
+ * </p>
+ */
+@Immutable
+public final class DittoBsonCbor {
+
+    /**
+     * Path of the config flag which determines whether events are written as binary document.
+     */
+    public static final String BINARY_ENCODING_CONFIG_PATH = "ditto.persistence.binary-encoding";
+
+    /**
+     * Field of a binary document containing the CBOR representation of the JSON.
+     */
+    static final String BINARY = "__cbor";
+
+    /**
+     * Field of a binary document containing the version of the encoding.
+     */
+    static final String VERSION = "__cborVersion";
+
+    /**
+     * The version of the encoding which is written.
+     */
+    static final int CURRENT_VERSION = 1;
+
+    private static final DittoBsonCbor INSTANCE = new DittoBsonCbor();
+
+    /*
+     * Inhibit instantiation of this utility class.
+     */
+    private DittoBsonCbor() {}
+
+    /**
+     * Returns an instance of {@code DittoBsonCbor}.
+     *
+     * @return the instance.
+     */
+    public static DittoBsonCbor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Indicates whether the binary encoding of events is enabled in the config of the specified actor system.
+     *
+     * @param actorSystem the actor system or {@code null}.
+     * @return {@code true} if {@value #BINARY_ENCODING_CONFIG_PATH} is enabled, {@code false} else.
+     */
+    public static boolean isEnabled(@Nullable final ActorSystem actorSystem) {
+        if (null == actorSystem) {
+            return false;
+        }
+        final Config config = actorSystem.settings().config();
+        return config.hasPath(BINARY_ENCODING_CONFIG_PATH) && config.getBoolean(BINARY_ENCODING_CONFIG_PATH);
+    }
+
+    /**
+     * Indicates whether the specified object is a binary document.
+     *
+     * @param object the object to check.
+     * @return {@code true} if {@code object} was written by this converter, {@code false} else.
+     */
+    public static boolean isBinaryEncoded(@Nullable final Object object) {
+        return object instanceof BsonDocument && ((BsonDocument) object).isBinary(BINARY);
+    }
+
+    /**
+     * Parses the specified {@link JsonObject} into a binary document.
+     *
+     * @param jsonObject the JSON object to be parsed.
+     * @return the binary document.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    public BsonDocument parse(final JsonObject jsonObject) {
+        return parse(jsonObject, JsonObject.empty());
+    }
+
+    /**
+     * Parses the specified {@link JsonObject} into a binary document which additionally contains the specified
+     * plain fields as BSON, e. g. in order to make them available for queries.
+     * The plain fields are ignored by {@link #serialize(BsonValue)}.
+     *
+     * @param jsonObject the JSON object to be parsed.
+     * @param plainFields the fields to add to the binary document as plain BSON.
+     * @return the binary document.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public BsonDocument parse(final JsonObject jsonObject, final JsonObject plainFields) {
+        checkNotNull(jsonObject, "JSON object to be parsed");
+        final BsonDocument document = DittoBsonJson.getInstance().parse(checkNotNull(plainFields, "plain fields"));
+        document.put(BINARY, new BsonBinary(toCbor(jsonObject)));
+        document.put(VERSION, new BsonInt32(CURRENT_VERSION));
+        return document;
+    }
+
+    /**
+     * Serializes the specified binary document or plain {@link BsonValue} to JSON.
+     *
+     * @param bsonValue the BsonValue to be serialized.
+     * @return the BsonValue serialized as JsonValue.
+     * @throws NullPointerException if {@code bsonValue} is {@code null}.
+     * @throws IllegalArgumentException if {@code bsonValue} is a binary document of an unknown version or neither a
+     * {@link BsonDocument} nor a {@link org.bson.BsonArray}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the binary content of {@code bsonValue} is no valid CBOR.
+     */
+    public JsonValue serialize(final BsonValue bsonValue) {
+        checkNotNull(bsonValue, "BsonValue to be serialized");
+        if (isBinaryEncoded(bsonValue)) {
+            final BsonDocument document = bsonValue.asDocument();
+            final int version = document.isNumber(VERSION) ? document.getNumber(VERSION).intValue() : 0;
+            if (CURRENT_VERSION != version) {
+                final String pattern = "Unsupported version <{0}> of binary document!";
+                throw new IllegalArgumentException(MessageFormat.format(pattern, version));
+            }
+            return CborFactory.readFrom(document.getBinary(BINARY).getData());
+        }
+        return DittoBsonJson.getInstance().serialize(bsonValue);
+    }
+
+    private static byte[] toCbor(final JsonObject jsonObject) {
+        try {
+            return CborFactory.toByteArray(jsonObject);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to write JSON object as CBOR!", e);
+        }
+    }
+
+}
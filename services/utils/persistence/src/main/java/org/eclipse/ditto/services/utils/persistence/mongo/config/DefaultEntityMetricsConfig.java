@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for the metrics of single entities.
+ */
+@Immutable
+public final class DefaultEntityMetricsConfig implements EntityMetricsConfig {
+
+    private static final String CONFIG_PATH = "entity-metrics";
+
+    private final double sampleRate;
+
+    private DefaultEntityMetricsConfig(final ScopedConfig config) {
+        sampleRate = getSampleRate(config);
+    }
+
+    private static double getSampleRate(final ScopedConfig config) {
+        final double result = config.getDouble(EntityMetricsConfigValue.SAMPLE_RATE.getConfigPath());
+        if (0.0 > result || 1.0 < result) {
+            final String msgPattern = "The sample rate of entity metrics must be between 0.0 and 1.0 but it was <{0}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an instance of the default entity metrics config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the entity metrics config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultEntityMetricsConfig of(final Config config) {
+        return new DefaultEntityMetricsConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, EntityMetricsConfigValue.values()));
+    }
+
+    @Override
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultEntityMetricsConfig that = (DefaultEntityMetricsConfig) o;
+        return Double.compare(that.sampleRate, sampleRate) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sampleRate);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "sampleRate=" + sampleRate +
+                "]";
+    }
+
+}
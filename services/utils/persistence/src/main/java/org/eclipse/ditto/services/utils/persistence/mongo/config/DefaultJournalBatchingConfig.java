@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for combining the journal writes of different entities.
+ */
+@Immutable
+public final class DefaultJournalBatchingConfig implements JournalBatchingConfig {
+
+    private static final String CONFIG_PATH = "batching";
+
+    private final boolean enabled;
+    private final Duration window;
+    private final int maxBatchSize;
+
+    private DefaultJournalBatchingConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(JournalBatchingConfigValue.ENABLED.getConfigPath());
+        window = config.getNonNegativeDurationOrThrow(JournalBatchingConfigValue.WINDOW);
+        maxBatchSize = config.getPositiveIntOrThrow(JournalBatchingConfigValue.MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Returns an instance of the default journal batching config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the journal batching config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultJournalBatchingConfig of(final Config config) {
+        return new DefaultJournalBatchingConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, JournalBatchingConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getWindow() {
+        return window;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultJournalBatchingConfig that = (DefaultJournalBatchingConfig) o;
+        return enabled == that.enabled && maxBatchSize == that.maxBatchSize && window.equals(that.window);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, window, maxBatchSize);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", window=" + window +
+                ", maxBatchSize=" + maxBatchSize +
+                "]";
+    }
+
+}
@@ -34,10 +34,20 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
 
     private final Duration interval;
     private final long threshold;
+    private final boolean adaptive;
+    private final long maxReplayBytes;
+    private final Duration maxRecoveryDuration;
+    private final boolean delta;
+    private final boolean binaryEncoding;
 
     private DefaultSnapshotConfig(final ScopedConfig config) {
         interval = config.getDuration(SnapshotConfigValue.INTERVAL.getConfigPath());
         threshold = getThreshold(config);
+        adaptive = config.getBoolean(SnapshotConfigValue.ADAPTIVE.getConfigPath());
+        maxReplayBytes = config.getBytes(SnapshotConfigValue.MAX_REPLAY_BYTES.getConfigPath());
+        maxRecoveryDuration = config.getDuration(SnapshotConfigValue.MAX_RECOVERY_DURATION.getConfigPath());
+        delta = config.getBoolean(SnapshotConfigValue.DELTA.getConfigPath());
+        binaryEncoding = config.getBoolean(SnapshotConfigValue.BINARY_ENCODING.getConfigPath());
     }
 
     private static long getThreshold(final ScopedConfig config) {
@@ -71,6 +81,31 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return threshold;
     }
 
+    @Override
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    @Override
+    public long getMaxReplayBytes() {
+        return maxReplayBytes;
+    }
+
+    @Override
+    public Duration getMaxRecoveryDuration() {
+        return maxRecoveryDuration;
+    }
+
+    @Override
+    public boolean isDelta() {
+        return delta;
+    }
+
+    @Override
+    public boolean isBinaryEncoding() {
+        return binaryEncoding;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -80,12 +115,19 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
             return false;
         }
         final DefaultSnapshotConfig that = (DefaultSnapshotConfig) o;
-        return threshold == that.threshold && Objects.equals(interval, that.interval);
+        return threshold == that.threshold &&
+                adaptive == that.adaptive &&
+                maxReplayBytes == that.maxReplayBytes &&
+                delta == that.delta &&
+                binaryEncoding == that.binaryEncoding &&
+                Objects.equals(interval, that.interval) &&
+                Objects.equals(maxRecoveryDuration, that.maxRecoveryDuration);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(interval, threshold);
+        return Objects.hash(interval, threshold, adaptive, maxReplayBytes, maxRecoveryDuration, delta,
+                binaryEncoding);
     }
 
     @Override
@@ -93,6 +135,11 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return getClass().getSimpleName() + " [" +
                 "interval=" + interval +
                 ", threshold=" + threshold +
+                ", adaptive=" + adaptive +
+                ", maxReplayBytes=" + maxReplayBytes +
+                ", maxRecoveryDuration=" + maxRecoveryDuration +
+                ", delta=" + delta +
+                ", binaryEncoding=" + binaryEncoding +
                 "]";
     }
 
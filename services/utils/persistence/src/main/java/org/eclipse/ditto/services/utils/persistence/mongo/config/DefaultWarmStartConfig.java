@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link WarmStartConfig}.
+ */
+@Immutable
+public final class DefaultWarmStartConfig implements WarmStartConfig {
+
+    private static final String CONFIG_PATH = "warm-start";
+
+    private final boolean enabled;
+    private final Duration interval;
+    private final int maxEntitiesPerShard;
+    private final int parallelism;
+    private final Duration recoveryTimeout;
+
+    private DefaultWarmStartConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(WarmStartConfigValue.ENABLED.getConfigPath());
+        interval = config.getNonNegativeDurationOrThrow(WarmStartConfigValue.INTERVAL);
+        maxEntitiesPerShard = config.getPositiveIntOrThrow(WarmStartConfigValue.MAX_ENTITIES_PER_SHARD);
+        parallelism = config.getPositiveIntOrThrow(WarmStartConfigValue.PARALLELISM);
+        recoveryTimeout = config.getNonNegativeDurationOrThrow(WarmStartConfigValue.RECOVERY_TIMEOUT);
+    }
+
+    /**
+     * Returns an instance of the default warm start config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the warm start config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultWarmStartConfig of(final Config config) {
+        return new DefaultWarmStartConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, WarmStartConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getInterval() {
+        return interval;
+    }
+
+    @Override
+    public int getMaxEntitiesPerShard() {
+        return maxEntitiesPerShard;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public Duration getRecoveryTimeout() {
+        return recoveryTimeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultWarmStartConfig that = (DefaultWarmStartConfig) o;
+        return enabled == that.enabled &&
+                maxEntitiesPerShard == that.maxEntitiesPerShard &&
+                parallelism == that.parallelism &&
+                Objects.equals(interval, that.interval) &&
+                Objects.equals(recoveryTimeout, that.recoveryTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, interval, maxEntitiesPerShard, parallelism, recoveryTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", interval=" + interval +
+                ", maxEntitiesPerShard=" + maxEntitiesPerShard +
+                ", parallelism=" + parallelism +
+                ", recoveryTimeout=" + recoveryTimeout +
+                "]";
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the metrics of single entities.
+ * <p>
+ * The durations of recovery and persistence are always recorded per entity type. Additionally, a sample of the
+ * entities keeps track of its own durations so that the slowest active entities can be listed.
+ * </p>
+ */
+@Immutable
+public interface EntityMetricsConfig {
+
+    /**
+     * Returns the fraction of entities which keep track of their own durations.
+     *
+     * @return the sample rate between 0.0 (no entity) and 1.0 (every entity).
+     */
+    double getSampleRate();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code EntityMetricsConfig}.
+     */
+    enum EntityMetricsConfigValue implements KnownConfigValue {
+
+        /**
+         * The fraction of entities which keep track of their own durations.
+         */
+        SAMPLE_RATE("sample-rate", 0.0);
+
+        private final String path;
+        private final Object defaultValue;
+
+        EntityMetricsConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
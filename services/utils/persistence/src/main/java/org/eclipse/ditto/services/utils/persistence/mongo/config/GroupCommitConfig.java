@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the group commit of events of a single entity.
+ * <p>
+ * If enabled, the modifying commands which are queued for an entity are applied to its in-memory state one after the
+ * other and the resulting events are persisted together in one journal write.
+ * </p>
+ */
+@Immutable
+public interface GroupCommitConfig {
+
+    /**
+     * Indicates whether events of several modifying commands should be persisted in one batch.
+     *
+     * @return {@code true} if group commit is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of events persisted in one batch.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code GroupCommitConfig}.
+     */
+    enum GroupCommitConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether events of several modifying commands should be persisted in one batch.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of events persisted in one batch.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        GroupCommitConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
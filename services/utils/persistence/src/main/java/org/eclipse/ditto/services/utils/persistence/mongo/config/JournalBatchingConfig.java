@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for combining the journal writes of different entities.
+ * <p>
+ * If enabled, the journal collects the writes of all persistence actors arriving within a short window and hands them
+ * to MongoDB as one bulk write.
+ * </p>
+ */
+@Immutable
+public interface JournalBatchingConfig {
+
+    /**
+     * Indicates whether journal writes of different entities should be combined.
+     *
+     * @return {@code true} if journal batching is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how long the journal waits for further writes after the first write of a batch arrived.
+     *
+     * @return the batching window.
+     */
+    Duration getWindow();
+
+    /**
+     * Returns the maximum number of atomic writes combined in one batch.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code JournalBatchingConfig}.
+     */
+    enum JournalBatchingConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether journal writes of different entities should be combined.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * How long to wait for further writes after the first write of a batch arrived.
+         */
+        WINDOW("window", Duration.ofMillis(5L)),
+
+        /**
+         * The maximum number of atomic writes combined in one batch.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 500);
+
+        private final String path;
+        private final Object defaultValue;
+
+        JournalBatchingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
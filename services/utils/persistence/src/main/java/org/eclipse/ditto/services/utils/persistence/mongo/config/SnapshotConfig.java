@@ -38,6 +38,46 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Indicates whether snapshots should be taken based on the estimated replay cost of an entity instead of the
+     * fixed interval. The threshold stays in effect as upper bound of events between two snapshots.
+     *
+     * @return {@code true} if snapshotting is adaptive, {@code false} else.
+     */
+    boolean isAdaptive();
+
+    /**
+     * Returns the size in bytes of the events since the last snapshot above which an adaptive snapshot is taken if
+     * the events are also larger than the entity at the last snapshot.
+     *
+     * @return the maximum size of events to replay.
+     */
+    long getMaxReplayBytes();
+
+    /**
+     * Returns the predicted duration of replaying the events since the last snapshot above which an adaptive snapshot
+     * is taken. The prediction is based on the recovery duration of the entity observed on its last start.
+     *
+     * @return the maximum predicted recovery duration.
+     */
+    Duration getMaxRecoveryDuration();
+
+    /**
+     * Indicates whether snapshots should be stored as delta relative to the last full snapshot if the snapshot
+     * adapter of the entity supports it.
+     *
+     * @return {@code true} if delta snapshots are enabled, {@code false} else.
+     */
+    boolean isDelta();
+
+    /**
+     * Indicates whether snapshots should be written as compact binary document instead of plain BSON.
+     * Snapshots are read in either encoding regardless of this setting.
+     *
+     * @return {@code true} if snapshots are written binary encoded, {@code false} else.
+     */
+    boolean isBinaryEncoding();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +92,32 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * Determines whether snapshots are taken based on the estimated replay cost of an entity.
+         */
+        ADAPTIVE("adaptive.enabled", false),
+
+        /**
+         * The size in bytes of the events since the last snapshot above which an adaptive snapshot is taken.
+         */
+        MAX_REPLAY_BYTES("adaptive.max-replay-bytes", 1024L * 1024L),
+
+        /**
+         * The predicted recovery duration above which an adaptive snapshot is taken.
+         */
+        MAX_RECOVERY_DURATION("adaptive.max-recovery-duration", Duration.ofMillis(500L)),
+
+        /**
+         * Determines whether snapshots are stored as delta relative to the last full snapshot.
+         */
+        DELTA("delta.enabled", false),
+
+        /**
+         * Determines whether snapshots are written as compact binary document.
+         */
+        BINARY_ENCODING("binary-encoding", false);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for warm-starting the most active entities of a shard.
+ * <p>
+ * If enabled, the entities which received the most messages are tracked per shard and persisted periodically. A
+ * cluster member which starts hosting a shard, e.g. after rebalancing, recovers these entities in the background
+ * before they are requested.
+ * </p>
+ */
+@Immutable
+public interface WarmStartConfig {
+
+    /**
+     * Indicates whether the most active entities should be warm-started.
+     *
+     * @return {@code true} if warm start is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the interval in which the activity of entities is reported and the most active entities are persisted.
+     *
+     * @return the interval.
+     */
+    Duration getInterval();
+
+    /**
+     * Returns the maximum number of entities to persist and to warm-start per shard.
+     *
+     * @return the maximum number of entities.
+     */
+    int getMaxEntitiesPerShard();
+
+    /**
+     * Returns the maximum number of entities being recovered concurrently by a warm start.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns how long to wait for the recovery of a single warm-started entity.
+     *
+     * @return the timeout.
+     */
+    Duration getRecoveryTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code WarmStartConfig}.
+     */
+    enum WarmStartConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether the most active entities should be warm-started.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The interval in which the activity of entities is reported and the most active entities are persisted.
+         */
+        INTERVAL("interval", Duration.ofMinutes(1L)),
+
+        /**
+         * The maximum number of entities to persist and to warm-start per shard.
+         */
+        MAX_ENTITIES_PER_SHARD("max-entities-per-shard", 100),
+
+        /**
+         * The maximum number of entities being recovered concurrently by a warm start.
+         */
+        PARALLELISM("parallelism", 5),
+
+        /**
+         * How long to wait for the recovery of a single warm-started entity.
+         */
+        RECOVERY_TIMEOUT("recovery-timeout", Duration.ofSeconds(30L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        WarmStartConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.journal;
+
+import static scala.compat.java8.FutureConverters.toJava;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultJournalBatchingConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.JournalBatchingConfig;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.typesafe.config.Config;
+
+import akka.actor.ActorRef;
+import akka.contrib.persistence.mongodb.MongoJournal;
+import akka.dispatch.Futures;
+import akka.japi.pf.ReceiveBuilder;
+import akka.persistence.AtomicWrite;
+import scala.PartialFunction;
+import scala.collection.JavaConverters;
+import scala.collection.immutable.Seq;
+import scala.concurrent.Future;
+import scala.concurrent.Promise;
+import scala.runtime.BoxedUnit;
+import scala.util.Try;
+
+/**
+ * MongoDB journal which combines the writes of different persistence actors into one bulk write.
+ * <p>
+ * Every persistence actor persists its events independently, which results in many small inserts into the journal
+ * collection. If enabled by the {@code batching} section of the journal plugin config, this journal collects the
+ * atomic writes arriving within a short window and hands them to the underlying MongoDB journal at once, which inserts
+ * them with one {@code insertMany} per journal collection. The order of the writes of each persistence actor is
+ * retained.
+ * </p>
+ * <p>
+ * As the underlying journal reports the outcome for the whole bulk write, a failed bulk write falls back to writing
+ * the atomic writes of each persistence actor on their own, so that a single failing write, e.g. because of a
+ * conflicting sequence number, only fails the persistence actor it belongs to. The underlying journal inserts the
+ * atomic writes in order and stops at the first failing one; atomic writes inserted before are not written again.
+ * </p>
+ */
+public final class BatchingMongoJournal extends MongoJournal {
+
+    private final JournalBatchingConfig batchingConfig;
+    private final Histogram batchSizes;
+    private final List<PendingWrite> pendingWrites;
+    private int pendingAtomicWrites;
+    private boolean flushScheduled;
+
+    /**
+     * Constructs a new {@code BatchingMongoJournal} object.
+     *
+     * @param config the config of the journal plugin.
+     */
+    public BatchingMongoJournal(final Config config) {
+        super(config);
+        batchingConfig = DefaultJournalBatchingConfig.of(config);
+        batchSizes = DittoMetrics.histogram("journal_write_batch_size");
+        pendingWrites = new ArrayList<>();
+        pendingAtomicWrites = 0;
+        flushScheduled = false;
+    }
+
+    @Override
+    public Future<Seq<Try<BoxedUnit>>> asyncWriteMessages(final Seq<AtomicWrite> messages) {
+        if (!batchingConfig.isEnabled()) {
+            return super.asyncWriteMessages(messages);
+        }
+        final Promise<Seq<Try<BoxedUnit>>> promise = Futures.promise();
+        pendingWrites.add(new PendingWrite(messages, promise));
+        pendingAtomicWrites += messages.size();
+        if (pendingAtomicWrites >= batchingConfig.getMaxBatchSize()) {
+            flush();
+        } else if (!flushScheduled) {
+            flushScheduled = true;
+            context().system()
+                    .scheduler()
+                    .scheduleOnce(batchingConfig.getWindow(), self(), Control.FLUSH, context().dispatcher(),
+                            ActorRef.noSender());
+        }
+        return promise.future();
+    }
+
+    @Override
+    public PartialFunction<Object, BoxedUnit> receivePluginInternal() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.FLUSH, flush -> flush())
+                .match(FailedBatch.class, this::writeIndividually)
+                .build()
+                .onMessage()
+                .orElse(super.receivePluginInternal());
+    }
+
+    private void flush() {
+        // a scheduled flush may find the pending writes already flushed because the maximum batch size was reached
+        flushScheduled = false;
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+        final List<PendingWrite> batch = new ArrayList<>(pendingWrites);
+        pendingWrites.clear();
+        batchSizes.record((long) pendingAtomicWrites);
+        pendingAtomicWrites = 0;
+
+        if (1 == batch.size()) {
+            final PendingWrite pendingWrite = batch.get(0);
+            pendingWrite.promise.completeWith(super.asyncWriteMessages(pendingWrite.atomicWrites));
+        } else {
+            writeBatch(batch);
+        }
+    }
+
+    private void writeBatch(final List<PendingWrite> batch) {
+        final List<AtomicWrite> combinedWrites = new ArrayList<>();
+        batch.forEach(pendingWrite -> combinedWrites.addAll(JavaConverters.seqAsJavaList(pendingWrite.atomicWrites)));
+
+        final Future<Seq<Try<BoxedUnit>>> combinedResult;
+        try {
+            combinedResult = super.asyncWriteMessages(toScalaSeq(combinedWrites));
+        } catch (final RuntimeException e) {
+            writeIndividually(new FailedBatch(batch, e));
+            return;
+        }
+        toJava(combinedResult).whenComplete((results, error) -> {
+            if (null != error) {
+                // the individual writes are issued by the journal actor itself
+                self().tell(new FailedBatch(batch, error), ActorRef.noSender());
+            } else {
+                completeWithResults(batch, JavaConverters.seqAsJavaList(results), combinedWrites.size());
+            }
+        });
+    }
+
+    private void writeIndividually(final FailedBatch failedBatch) {
+        final int numberOfInsertedWrites = getNumberOfInsertedWrites(failedBatch.error);
+        int from = 0;
+        for (final PendingWrite pendingWrite : failedBatch.batch) {
+            final int until = from + pendingWrite.atomicWrites.size();
+            if (until <= numberOfInsertedWrites) {
+                // an empty result signals the success of all atomic writes
+                pendingWrite.promise.success(toScalaSeq(Collections.emptyList()));
+            } else if (from < numberOfInsertedWrites) {
+                // writing the remaining atomic writes on their own could leave a gap in the sequence numbers;
+                // the persistence actor recovers the inserted ones after the failure
+                pendingWrite.promise.failure(failedBatch.error);
+            } else {
+                pendingWrite.promise.completeWith(super.asyncWriteMessages(pendingWrite.atomicWrites));
+            }
+            from = until;
+        }
+    }
+
+    private static int getNumberOfInsertedWrites(final Throwable error) {
+        Throwable cause = error;
+        while (null != cause) {
+            if (cause instanceof MongoBulkWriteException) {
+                return ((MongoBulkWriteException) cause).getWriteErrors()
+                        .stream()
+                        .mapToInt(BulkWriteError::getIndex)
+                        .min()
+                        .orElse(0);
+            }
+            cause = cause.getCause();
+        }
+        // it is unknown which atomic writes were inserted; writing them again fails on conflicting sequence numbers
+        return 0;
+    }
+
+    private static void completeWithResults(final List<PendingWrite> batch, final List<Try<BoxedUnit>> results,
+            final int numberOfAtomicWrites) {
+
+        if (!results.isEmpty() && results.size() != numberOfAtomicWrites) {
+            final IllegalStateException error = new IllegalStateException(
+                    "Expected " + numberOfAtomicWrites + " results of the bulk write but got " + results.size());
+            batch.forEach(pendingWrite -> pendingWrite.promise.failure(error));
+            return;
+        }
+        // an empty result signals the success of all atomic writes
+        int from = 0;
+        for (final PendingWrite pendingWrite : batch) {
+            final int until = from + pendingWrite.atomicWrites.size();
+            final List<Try<BoxedUnit>> ownResults = results.isEmpty() ? results : results.subList(from, until);
+            pendingWrite.promise.success(toScalaSeq(ownResults));
+            from = until;
+        }
+    }
+
+    private static <T> Seq<T> toScalaSeq(final List<T> list) {
+        return JavaConverters.asScalaBuffer(new ArrayList<>(list)).toList();
+    }
+
+    private enum Control {
+        FLUSH
+    }
+
+    private static final class FailedBatch {
+
+        private final List<PendingWrite> batch;
+        private final Throwable error;
+
+        private FailedBatch(final List<PendingWrite> batch, final Throwable error) {
+            this.batch = batch;
+            this.error = error;
+        }
+
+    }
+
+    private static final class PendingWrite {
+
+        private final Seq<AtomicWrite> atomicWrites;
+        private final Promise<Seq<Try<BoxedUnit>>> promise;
+
+        private PendingWrite(final Seq<AtomicWrite> atomicWrites, final Promise<Seq<Try<BoxedUnit>>> promise) {
+            this.atomicWrites = atomicWrites;
+            this.promise = promise;
+        }
+
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DittoBsonCbor}.
+ */
+public final class DittoBsonCborTest {
+
+    private static final JsonObject JSON = JsonObject.of("{" +
+            "\"thingId\": \"org.eclipse.ditto:thing\"," +
+            "\"attributes\": {\"org.eclipse.ditto\": 42, \"$something\": [1, 2.5, true, null]}" +
+            "}");
+
+    private DittoBsonCbor underTest;
+
+    @Before
+    public void setUp() {
+        underTest = DittoBsonCbor.getInstance();
+    }
+
+    @Test
+    public void parseAndSerializeBinaryDocument() {
+        final BsonDocument parsed = underTest.parse(JSON);
+        final JsonValue serialized = underTest.serialize(parsed);
+
+        assertThat(DittoBsonCbor.isBinaryEncoded(parsed)).isTrue();
+        assertThat(parsed.getInt32(DittoBsonCbor.VERSION).getValue()).isEqualTo(DittoBsonCbor.CURRENT_VERSION);
+        assertThat(serialized).isEqualTo(JSON);
+    }
+
+    @Test
+    public void plainFieldsAreKeptAsBsonAndIgnoredOnSerialization() {
+        final JsonObject plainFields = JsonObject.newBuilder().set("thingId", "org.eclipse.ditto:thing").build();
+
+        final BsonDocument parsed = underTest.parse(JSON, plainFields);
+
+        assertThat(parsed.getString("thingId").getValue()).isEqualTo("org.eclipse.ditto:thing");
+        assertThat(underTest.serialize(parsed)).isEqualTo(JSON);
+    }
+
+    @Test
+    public void serializePlainBson() {
+        final BsonDocument plain = DittoBsonJson.getInstance().parse(JSON);
+
+        assertThat(DittoBsonCbor.isBinaryEncoded(plain)).isFalse();
+        assertThat(underTest.serialize(plain)).isEqualTo(JSON);
+    }
+
+    @Test
+    public void serializeUnknownVersionFails() {
+        final BsonDocument parsed = underTest.parse(JSON);
+        parsed.put(DittoBsonCbor.VERSION, new BsonInt32(DittoBsonCbor.CURRENT_VERSION + 1));
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> underTest.serialize(parsed));
+    }
+
+}
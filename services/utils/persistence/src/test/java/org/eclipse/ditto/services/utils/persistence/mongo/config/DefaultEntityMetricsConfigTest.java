@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultEntityMetricsConfig}.
+ */
+public final class DefaultEntityMetricsConfigTest {
+
+    private static Config entityMetricsTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        entityMetricsTestConf = ConfigFactory.load("entity-metrics-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultEntityMetricsConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultEntityMetricsConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultEntityMetricsConfig underTest = DefaultEntityMetricsConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getSampleRate())
+                .as(EntityMetricsConfig.EntityMetricsConfigValue.SAMPLE_RATE.getConfigPath())
+                .isEqualTo(EntityMetricsConfig.EntityMetricsConfigValue.SAMPLE_RATE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultEntityMetricsConfig underTest = DefaultEntityMetricsConfig.of(entityMetricsTestConf);
+
+        softly.assertThat(underTest.getSampleRate())
+                .as(EntityMetricsConfig.EntityMetricsConfigValue.SAMPLE_RATE.getConfigPath())
+                .isEqualTo(0.25);
+    }
+
+    @Test
+    public void sampleRateAboveOneIsRejected() {
+        final Config config = ConfigFactory.parseString("entity-metrics.sample-rate = 1.5");
+
+        Assertions.assertThatExceptionOfType(DittoConfigError.class)
+                .isThrownBy(() -> DefaultEntityMetricsConfig.of(config));
+    }
+
+}
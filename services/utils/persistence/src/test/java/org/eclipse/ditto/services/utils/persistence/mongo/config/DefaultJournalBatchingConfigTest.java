@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultJournalBatchingConfig}.
+ */
+public final class DefaultJournalBatchingConfigTest {
+
+    private static Config journalBatchingTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        journalBatchingTestConf = ConfigFactory.load("journal-batching-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultJournalBatchingConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultJournalBatchingConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultJournalBatchingConfig underTest = DefaultJournalBatchingConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(JournalBatchingConfig.JournalBatchingConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(JournalBatchingConfig.JournalBatchingConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getWindow())
+                .as(JournalBatchingConfig.JournalBatchingConfigValue.WINDOW.getConfigPath())
+                .isEqualTo(JournalBatchingConfig.JournalBatchingConfigValue.WINDOW.getDefaultValue());
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(JournalBatchingConfig.JournalBatchingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(JournalBatchingConfig.JournalBatchingConfigValue.MAX_BATCH_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultJournalBatchingConfig underTest = DefaultJournalBatchingConfig.of(journalBatchingTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(JournalBatchingConfig.JournalBatchingConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getWindow())
+                .as(JournalBatchingConfig.JournalBatchingConfigValue.WINDOW.getConfigPath())
+                .isEqualTo(Duration.ofMillis(20L));
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(JournalBatchingConfig.JournalBatchingConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(42);
+    }
+
+}
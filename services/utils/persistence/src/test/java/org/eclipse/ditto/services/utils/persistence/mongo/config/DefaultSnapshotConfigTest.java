@@ -65,6 +65,21 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.isAdaptive())
+                .as(SnapshotConfig.SnapshotConfigValue.ADAPTIVE.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.ADAPTIVE.getDefaultValue());
+        softly.assertThat(underTest.getMaxReplayBytes())
+                .as(SnapshotConfig.SnapshotConfigValue.MAX_REPLAY_BYTES.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.MAX_REPLAY_BYTES.getDefaultValue());
+        softly.assertThat(underTest.getMaxRecoveryDuration())
+                .as(SnapshotConfig.SnapshotConfigValue.MAX_RECOVERY_DURATION.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.MAX_RECOVERY_DURATION.getDefaultValue());
+        softly.assertThat(underTest.isDelta())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.DELTA.getDefaultValue());
+        softly.assertThat(underTest.isBinaryEncoding())
+                .as(SnapshotConfig.SnapshotConfigValue.BINARY_ENCODING.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.BINARY_ENCODING.getDefaultValue());
     }
 
     @Test
@@ -77,5 +92,20 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.isAdaptive())
+                .as(SnapshotConfig.SnapshotConfigValue.ADAPTIVE.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getMaxReplayBytes())
+                .as(SnapshotConfig.SnapshotConfigValue.MAX_REPLAY_BYTES.getConfigPath())
+                .isEqualTo(2L * 1024L * 1024L);
+        softly.assertThat(underTest.getMaxRecoveryDuration())
+                .as(SnapshotConfig.SnapshotConfigValue.MAX_RECOVERY_DURATION.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3L));
+        softly.assertThat(underTest.isDelta())
+                .as(SnapshotConfig.SnapshotConfigValue.DELTA.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.isBinaryEncoding())
+                .as(SnapshotConfig.SnapshotConfigValue.BINARY_ENCODING.getConfigPath())
+                .isTrue();
     }
 }
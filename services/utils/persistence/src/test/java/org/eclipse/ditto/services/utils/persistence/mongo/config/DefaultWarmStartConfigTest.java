@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmStartConfig}.
+ */
+public final class DefaultWarmStartConfigTest {
+
+    private static Config warmStartTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        warmStartTestConf = ConfigFactory.load("warm-start-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultWarmStartConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultWarmStartConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultWarmStartConfig underTest = DefaultWarmStartConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(WarmStartConfig.WarmStartConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(WarmStartConfig.WarmStartConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getInterval())
+                .as(WarmStartConfig.WarmStartConfigValue.INTERVAL.getConfigPath())
+                .isEqualTo(WarmStartConfig.WarmStartConfigValue.INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getMaxEntitiesPerShard())
+                .as(WarmStartConfig.WarmStartConfigValue.MAX_ENTITIES_PER_SHARD.getConfigPath())
+                .isEqualTo(WarmStartConfig.WarmStartConfigValue.MAX_ENTITIES_PER_SHARD.getDefaultValue());
+        softly.assertThat(underTest.getParallelism())
+                .as(WarmStartConfig.WarmStartConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(WarmStartConfig.WarmStartConfigValue.PARALLELISM.getDefaultValue());
+        softly.assertThat(underTest.getRecoveryTimeout())
+                .as(WarmStartConfig.WarmStartConfigValue.RECOVERY_TIMEOUT.getConfigPath())
+                .isEqualTo(WarmStartConfig.WarmStartConfigValue.RECOVERY_TIMEOUT.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultWarmStartConfig underTest = DefaultWarmStartConfig.of(warmStartTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(WarmStartConfig.WarmStartConfigValue.ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getInterval())
+                .as(WarmStartConfig.WarmStartConfigValue.INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(30L));
+        softly.assertThat(underTest.getMaxEntitiesPerShard())
+                .as(WarmStartConfig.WarmStartConfigValue.MAX_ENTITIES_PER_SHARD.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.getParallelism())
+                .as(WarmStartConfig.WarmStartConfigValue.PARALLELISM.getConfigPath())
+                .isEqualTo(3);
+        softly.assertThat(underTest.getRecoveryTimeout())
+                .as(WarmStartConfig.WarmStartConfigValue.RECOVERY_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(10L));
+    }
+}
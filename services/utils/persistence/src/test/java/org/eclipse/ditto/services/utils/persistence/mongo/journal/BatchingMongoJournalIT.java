@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.journal;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.persistence.AbstractPersistentActor;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the bulk writes of {@link BatchingMongoJournal} and their fallback to individual writes.
+ */
+public final class BatchingMongoJournalIT {
+
+    private static final String MONGO_HOST = "localhost";
+    private static final String MONGO_DB = "batchingMongoJournalIT";
+    private static final String SEQUENCE_NUMBER = "sequence-number";
+    private static final Duration PERSIST_TIMEOUT = Duration.ofSeconds(10L);
+
+    private static MongoDbResource mongoResource;
+    private static DittoMongoClient mongoClient;
+
+    private ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void startMongoResource() {
+        mongoResource = new MongoDbResource(MONGO_HOST);
+        mongoResource.start();
+        mongoClient = MongoClientWrapper.getBuilder()
+                .hostnameAndPort(mongoResource.getBindIp(), mongoResource.getPort())
+                .defaultDatabaseName(MONGO_DB)
+                .build();
+    }
+
+    @AfterClass
+    public static void stopMongoResource() {
+        try {
+            if (null != mongoClient) {
+                mongoClient.close();
+            }
+            if (null != mongoResource) {
+                mongoResource.stop();
+            }
+        } catch (final IllegalStateException e) {
+            System.err.println("IllegalStateException during shutdown of MongoDB: " + e.getMessage());
+        }
+    }
+
+    @Before
+    public void setUp() {
+        final String mongoUri = String.format("mongodb://%s:%d/%s", MONGO_HOST, mongoResource.getPort(), MONGO_DB);
+        final Config config = ConfigFactory.load("batching-mongo-journal-test")
+                .withValue("akka.contrib.persistence.mongodb.mongo.mongouri", ConfigValueFactory.fromAnyRef(mongoUri));
+        actorSystem = ActorSystem.create("AkkaTestSystem", config);
+    }
+
+    @After
+    public void after() {
+        if (null != mongoClient) {
+            Source.fromPublisher(mongoClient.getDefaultDatabase().drop())
+                    .runWith(Sink.ignore(), ActorMaterializer.create(actorSystem))
+                    .toCompletableFuture()
+                    .join();
+        }
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void writesOfDifferentPersistenceActorsAreWrittenTogether() {
+        new TestKit(actorSystem) {{
+            final ActorRef thing1 = actorSystem.actorOf(PersistingActor.props("thing:1", getRef()));
+            final ActorRef thing2 = actorSystem.actorOf(PersistingActor.props("thing:2", getRef()));
+            final ActorRef thing3 = actorSystem.actorOf(PersistingActor.props("thing:3", getRef()));
+
+            thing1.tell("event1", getRef());
+            thing2.tell("event2", getRef());
+            thing3.tell("event3", getRef());
+            thing1.tell("event4", getRef());
+
+            expectMsgAllOf(PERSIST_TIMEOUT, "persisted:event1", "persisted:event2", "persisted:event3",
+                    "persisted:event4");
+
+            expectRecoveredSequenceNumber("thing:1", 2L);
+            expectRecoveredSequenceNumber("thing:2", 1L);
+            expectRecoveredSequenceNumber("thing:3", 1L);
+        }};
+    }
+
+    @Test
+    public void failedWriteOnlyFailsItsOwnPersistenceActor() {
+        new TestKit(actorSystem) {{
+            // two instances of the same persistence actor which both start at sequence number 0
+            final ActorRef staleThing = actorSystem.actorOf(PersistingActor.props("thing:1", getRef()));
+            final ActorRef thing = actorSystem.actorOf(PersistingActor.props("thing:1", getRef()));
+            staleThing.tell(SEQUENCE_NUMBER, getRef());
+            expectMsg(0L);
+            thing.tell(SEQUENCE_NUMBER, getRef());
+            expectMsg(0L);
+            thing.tell("event1", getRef());
+            expectMsg(PERSIST_TIMEOUT, "persisted:event1");
+
+            final ActorRef thing2 = actorSystem.actorOf(PersistingActor.props("thing:2", getRef()));
+            final ActorRef thing3 = actorSystem.actorOf(PersistingActor.props("thing:3", getRef()));
+            watch(staleThing);
+
+            // the stale instance conflicts with the sequence number written before and fails the bulk write
+            thing2.tell("event2", getRef());
+            staleThing.tell("conflicting-event", getRef());
+            thing3.tell("event3", getRef());
+
+            expectMsgAllOf(PERSIST_TIMEOUT, "failed:conflicting-event", "persisted:event2", "persisted:event3");
+            expectTerminated(staleThing);
+
+            expectRecoveredSequenceNumber("thing:1", 1L);
+            expectRecoveredSequenceNumber("thing:2", 1L);
+            expectRecoveredSequenceNumber("thing:3", 1L);
+        }};
+    }
+
+    private void expectRecoveredSequenceNumber(final String persistenceId, final long expectedSequenceNumber) {
+        new TestKit(actorSystem) {{
+            final ActorRef recovered = actorSystem.actorOf(PersistingActor.props(persistenceId, getRef()));
+            recovered.tell(SEQUENCE_NUMBER, getRef());
+            expectMsg(PERSIST_TIMEOUT, expectedSequenceNumber);
+        }};
+    }
+
+    /**
+     * Persists every string it receives and reports persistence failures to a probe.
+     */
+    private static final class PersistingActor extends AbstractPersistentActor {
+
+        private final String persistenceId;
+        private final ActorRef failureReceiver;
+
+        private PersistingActor(final String persistenceId, final ActorRef failureReceiver) {
+            this.persistenceId = persistenceId;
+            this.failureReceiver = failureReceiver;
+        }
+
+        private static Props props(final String persistenceId, final ActorRef failureReceiver) {
+            return Props.create(PersistingActor.class, () -> new PersistingActor(persistenceId, failureReceiver));
+        }
+
+        @Override
+        public String persistenceId() {
+            return persistenceId;
+        }
+
+        @Override
+        public Receive createReceiveRecover() {
+            return receiveBuilder()
+                    .matchAny(event -> {})
+                    .build();
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchEquals(SEQUENCE_NUMBER, request -> getSender().tell(lastSequenceNr(), getSelf()))
+                    .match(String.class, event -> {
+                        final ActorRef sender = getSender();
+                        persist(event, persisted -> sender.tell("persisted:" + persisted, getSelf()));
+                    })
+                    .build();
+        }
+
+        @Override
+        public void onPersistFailure(final Throwable cause, final Object event, final long seqNr) {
+            failureReceiver.tell("failed:" + event, getSelf());
+            super.onPersistFailure(cause, event, seqNr);
+        }
+
+    }
+
+}
@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 
 import javax.annotation.Nullable;
@@ -24,6 +25,7 @@ import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.persistentactors.warmstart.EntityActivity;
 
 import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
@@ -43,6 +45,8 @@ import akka.japi.pf.ReceiveBuilder;
  * <li>shuts down self on command, and</li>
  * <li>handles initialization errors by becoming corrupted for a time.</li>
  * </ol>
+ * If an activity report interval is provided, it reports the number of messages forwarded to the child as
+ * {@link EntityActivity} on the event stream at most once per interval.
  * @param <E> the type of the EntityId
  */
 public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends AbstractActorWithTimers {
@@ -53,15 +57,20 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
     @Nullable private Props persistenceActorProps;
     @Nullable private ShutdownBehaviour shutdownBehaviour;
     @Nullable private ActorRef child;
+    @Nullable private Duration activityReportInterval;
 
     private ExponentialBackOffConfig exponentialBackOffConfig;
     private Instant lastRestart;
     private Duration restartDelay;
+    private Instant lastActivityReport;
+    private long activityCount;
 
     protected AbstractPersistenceSupervisor() {
         exponentialBackOffConfig = getExponentialBackOffConfig();
         lastRestart = Instant.now();
         restartDelay = Duration.ZERO; // set to min backoff on next child termination
+        lastActivityReport = Instant.EPOCH; // report the first message immediately
+        activityCount = 0L;
     }
 
     /**
@@ -103,6 +112,29 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
      */
     protected abstract DittoRuntimeExceptionBuilder<?> getUnavailableExceptionBuilder(@Nullable E entityId);
 
+    /**
+     * Get the minimum interval between two reports of the activity of the supervised entity on the event stream.
+     * Activity is not reported by default.
+     *
+     * @return the activity report interval or an empty Optional if activity should not be reported.
+     */
+    protected Optional<Duration> getActivityReportInterval() {
+        return Optional.empty();
+    }
+
+    /**
+     * Answers a message without forwarding it to the persistence actor, e.g. from the state the persistence actor
+     * published. Only called while the persistence actor is running. Answers nothing by default.
+     *
+     * @param message the message.
+     * @param sender the sender of the message.
+     * @return {@code true} if the message was answered, {@code false} if it is to be forwarded to the persistence
+     * actor.
+     */
+    protected boolean answerWithoutPersistenceActor(final Object message, final ActorRef sender) {
+        return false;
+    }
+
     /**
      * Return a preferably static supervisor strategy for this actor. By default, child actor is stopped when killed
      * or failing, triggering restart after exponential back-off.
@@ -123,6 +155,7 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
             entityId = getEntityId();
             persistenceActorProps = getPersistenceActorProps(entityId);
             shutdownBehaviour = getShutdownBehaviour(entityId);
+            activityReportInterval = getActivityReportInterval().orElse(null);
             startChild(Control.START_CHILD);
             becomeActive(shutdownBehaviour);
         } catch (final Exception e) {
@@ -240,13 +273,28 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
                 log.warning("Received unhandled message from child actor '{}': {}", entityId, message);
                 unhandled(message);
             } else {
-                child.forward(message, getContext());
+                if (!answerWithoutPersistenceActor(message, getSender())) {
+                    child.forward(message, getContext());
+                }
+                if (null != activityReportInterval) {
+                    countActivity(activityReportInterval);
+                }
             }
         } else {
             replyUnavailableException(message);
         }
     }
 
+    private void countActivity(final Duration reportInterval) {
+        ++activityCount;
+        final Instant now = Instant.now();
+        if (reportInterval.compareTo(Duration.between(lastActivityReport, now)) <= 0) {
+            getContext().getSystem().eventStream().publish(EntityActivity.of(entityId, activityCount));
+            lastActivityReport = now;
+            activityCount = 0L;
+        }
+    }
+
     private void replyUnavailableException(final Object message) {
         log.warning("Received message during downtime of child actor for Entity with ID <{}>: <{}>", entityId, message);
         final DittoRuntimeExceptionBuilder<?> builder = getUnavailableExceptionBuilder(entityId);
@@ -13,11 +13,18 @@
 package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
@@ -25,24 +32,39 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.persistence.DeltaSnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultEntityMetricsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultGroupCommitConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.EntityMetricsConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
+import org.eclipse.ditto.services.utils.persistentactors.entitymetrics.EntityDurations;
+import org.eclipse.ditto.services.utils.persistentactors.entitymetrics.SlowestEntities;
+import org.eclipse.ditto.services.utils.persistentactors.events.EventFold;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.results.Result;
 import org.eclipse.ditto.services.utils.persistentactors.results.ResultVisitor;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.events.base.Event;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorRef;
 import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
 import akka.persistence.RecoveryCompleted;
 import akka.persistence.RecoveryTimedOut;
 import akka.persistence.SaveSnapshotFailure;
 import akka.persistence.SaveSnapshotSuccess;
+import akka.persistence.SelectedSnapshot;
 import akka.persistence.SnapshotOffer;
+import akka.persistence.SnapshotProtocol;
+import akka.persistence.SnapshotSelectionCriteria;
 import scala.Option;
 
 /**
@@ -62,6 +84,15 @@ public abstract class AbstractShardedPersistenceActor<
         K,
         E extends Event> extends AbstractPersistentActorWithTimersAndCleanup implements ResultVisitor<E> {
 
+    private static final String RECOVERY_DURATION_METRIC = "persistence_recovery_duration";
+    private static final String PERSIST_DURATION_METRIC = "persistence_persist_duration";
+    private static final String ENTITY_TYPE_TAG = "entity_type";
+    private static final long EVENT_ENVELOPE_BYTES = 256L;
+
+    private static final GroupCommitConfig GROUP_COMMIT_DISABLED = DefaultGroupCommitConfig.of(ConfigFactory.empty());
+    private static final EntityMetricsConfig ENTITY_METRICS_NOT_SAMPLED =
+            DefaultEntityMetricsConfig.of(ConfigFactory.empty());
+
     /**
      * Logger of the actor.
      */
@@ -71,7 +102,23 @@ public abstract class AbstractShardedPersistenceActor<
     private final Receive handleEvents;
     private final Receive handleCleanups;
     private long lastSnapshotRevision;
+    private long lastSnapshotBaseRevision;
     private long confirmedSnapshotRevision;
+    @Nullable
+    private S snapshotBase;
+    private long snapshotBaseRevision;
+    @Nullable
+    private Object deltaSnapshot;
+    private final List<Pair<E, Long>> eventsAfterDeltaSnapshot;
+    @Nullable
+    private EventFold<E, S> recoveryEventFold;
+    private long eventBytesSinceSnapshot;
+    private long entitySizeInBytes;
+    private long replayNanosPerEvent;
+    private final long recoveryStartNanos;
+    private long replayStartNanos;
+    @Nullable
+    private EntityDurations entityDurations;
 
     /**
      * The current entity, or null if it was never created.
@@ -86,6 +133,8 @@ public abstract class AbstractShardedPersistenceActor<
 
     private long accessCounter = 0L;
 
+    private GroupCommit<E> groupCommit;
+
     /**
      * Instantiate the actor.
      *
@@ -99,10 +148,36 @@ public abstract class AbstractShardedPersistenceActor<
         entity = null;
 
         lastSnapshotRevision = 0L;
+        lastSnapshotBaseRevision = 0L;
         confirmedSnapshotRevision = 0L;
+        snapshotBase = null;
+        snapshotBaseRevision = 0L;
+        deltaSnapshot = null;
+        eventsAfterDeltaSnapshot = new ArrayList<>();
+        eventBytesSinceSnapshot = 0L;
+        entitySizeInBytes = 0L;
+        replayNanosPerEvent = 0L;
+        recoveryStartNanos = System.nanoTime();
+        replayStartNanos = recoveryStartNanos;
+        groupCommit = new GroupCommit<>();
+        entityDurations = null;
 
         handleEvents = ReceiveBuilder.create()
-                .match(getEventClass(), event -> entity = getEventStrategy().handle(event, entity, getRevisionNumber()))
+                .match(getEventClass(), event -> {
+                    if (null != deltaSnapshot) {
+                        // the base of the delta snapshot is loaded after the events are replayed
+                        eventsAfterDeltaSnapshot.add(Pair.create(event, getRevisionNumber()));
+                    } else if (recoveryRunning()) {
+                        // replayed events are folded into the entity which is built once the recovery completed
+                        if (null == recoveryEventFold) {
+                            recoveryEventFold = getEventStrategy().newEventFold(entity);
+                        }
+                        recoveryEventFold.apply(event, getRevisionNumber());
+                    } else {
+                        entity = getEventStrategy().handle(event, entity, getRevisionNumber());
+                    }
+                    countEventSinceSnapshot(event);
+                })
                 .build();
 
         handleCleanups = super.createReceive();
@@ -152,6 +227,38 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract SnapshotConfig getSnapshotConfig();
 
+    /**
+     * Returns the configuration for the group commit of events. Group commit is disabled by default; override to
+     * enable it.
+     *
+     * @return configuration for the group commit of events.
+     */
+    protected GroupCommitConfig getGroupCommitConfig() {
+        return GROUP_COMMIT_DISABLED;
+    }
+
+    /**
+     * Returns the configuration for the metrics of single entities. No entity is sampled by default; override to
+     * sample entities.
+     *
+     * @return configuration for the metrics of single entities.
+     */
+    protected EntityMetricsConfig getEntityMetricsConfig() {
+        return ENTITY_METRICS_NOT_SAMPLED;
+    }
+
+    /**
+     * Estimate the size of an entity for adaptive snapshotting. Returns 0 by default, so that only the size of the
+     * events since the last snapshot is considered. It is only called when a snapshot of the entity was taken or
+     * recovered, and the next snapshot is not taken before the events since then exceed this estimate.
+     *
+     * @param entity the entity.
+     * @return the estimated size of the entity in bytes.
+     */
+    protected long getEntitySizeInBytes(final S entity) {
+        return 0L;
+    }
+
     /**
      * Check if the entity exists and is deleted. This is a sufficient condition to make a snapshot before stopping.
      *
@@ -189,6 +296,29 @@ public abstract class AbstractShardedPersistenceActor<
         becomeCreatedOrDeletedHandler();
     }
 
+    /**
+     * Publishes the persisted state of the entity, e.g. to answer queries without passing the mailbox of this actor.
+     * Called after recovery and after events were persisted, always before the senders of the commands which caused
+     * the events are notified. Called with {@code null} when this actor stops. Does nothing by default.
+     *
+     * @param persistedEntity the persisted state of the entity or {@code null}.
+     * @param revision the revision of the persisted state.
+     */
+    protected void publishPersistedState(@Nullable final S persistedEntity, final long revision) {
+        // does nothing by default
+    }
+
+    /**
+     * Returns how often the entity was accessed without passing the mailbox of this actor, e.g. by queries answered
+     * from the state published by {@link #publishPersistedState(Object, long)}. Such accesses prevent the
+     * passivation of this actor like the commands it handles itself. Returns 0 by default.
+     *
+     * @return the number of accesses without passing the mailbox of this actor.
+     */
+    protected long getAccessCountWithoutMailbox() {
+        return 0L;
+    }
+
     /**
      * Apply the created or deleted behavior according to the current state of the entity.
      */
@@ -208,9 +338,22 @@ public abstract class AbstractShardedPersistenceActor<
         return lastSequenceNr();
     }
 
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        if (ThreadLocalRandom.current().nextDouble() < getEntityMetricsConfig().getSampleRate()) {
+            entityDurations = new EntityDurations(getEntityType(), String.valueOf(entityId));
+            SlowestEntities.get(getContext().getSystem()).add(entityDurations);
+        }
+    }
+
     @Override
     public void postStop() throws Exception {
         log.debug("Stopping PersistenceActor for entity with ID <{}>.", entityId);
+        publishPersistedState(null, getRevisionNumber());
+        if (null != entityDurations) {
+            SlowestEntities.get(getContext().getSystem()).remove(entityDurations);
+        }
         super.postStop();
     }
 
@@ -238,7 +381,20 @@ public abstract class AbstractShardedPersistenceActor<
                         log.warning("RecoveryTimeout occurred during recovery for entity with ID {}", entityId)
                 )
                 // # Recovery handling
-                .match(RecoveryCompleted.class, this::recoveryCompleted)
+                .match(RecoveryCompleted.class, recoveryCompleted -> {
+                    if (null != recoveryEventFold) {
+                        entity = recoveryEventFold.get();
+                        recoveryEventFold = null;
+                    }
+                    if (null != deltaSnapshot) {
+                        loadBaseOfDeltaSnapshot(recoveryCompleted);
+                    } else {
+                        estimateSizeOfSnapshotEntity();
+                        recordRecoveryDuration();
+                        recoveryCompleted(recoveryCompleted);
+                        publishPersistedState(entity, getRevisionNumber());
+                    }
+                })
                 .matchAny(m -> log.warning("Unknown recover message: {}", m))
                 .build());
     }
@@ -253,6 +409,7 @@ public abstract class AbstractShardedPersistenceActor<
                 .match(commandStrategy.getMatchingClass(), commandStrategy::isDefined, this::handleByCommandStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                .matchEquals(Control.COMMIT_EVENTS, this::commitEvents)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                 .matchAny(this::matchAnyAfterInitialization)
@@ -283,16 +440,7 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected void persistAndApplyEvent(final E event, final BiConsumer<E, S> handler) {
 
-        final E modifiedEvent;
-        if (null != entity) {
-            // set version of event to the version of the entity
-            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
-                    .schemaVersion(getEntitySchemaVersion(entity))
-                    .build();
-            modifiedEvent = (E) event.setDittoHeaders(newHeaders);
-        } else {
-            modifiedEvent = event;
-        }
+        final E modifiedEvent = withEntitySchemaVersion(event);
 
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
@@ -300,11 +448,24 @@ public abstract class AbstractShardedPersistenceActor<
             persistEvent(modifiedEvent, persistedEvent -> {
                 // after the event was persisted, apply the event on the current actor state
                 applyEvent(persistedEvent);
+                publishPersistedState(entity, getRevisionNumber());
                 handler.accept(persistedEvent, entity);
             });
         }
     }
 
+    private E withEntitySchemaVersion(final E event) {
+        if (null != entity) {
+            // set version of event to the version of the entity
+            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
+                    .schemaVersion(getEntitySchemaVersion(entity))
+                    .build();
+            return (E) event.setDittoHeaders(newHeaders);
+        } else {
+            return event;
+        }
+    }
+
     /**
      * Check for activity. Shutdown actor if it is lacking.
      *
@@ -317,7 +478,7 @@ public abstract class AbstractShardedPersistenceActor<
             // - the latest snapshot is out of date or is still ongoing.
             takeSnapshot("the entity is deleted and has no up-to-date snapshot");
             scheduleCheckForActivity(getActivityCheckConfig().getDeletedInterval());
-        } else if (accessCounter > message.accessCounter) {
+        } else if (getAccessCount() > message.accessCounter) {
             // if the entity was accessed in any way since the last check
             scheduleCheckForActivity(getActivityCheckConfig().getInactiveInterval());
         } else {
@@ -344,6 +505,7 @@ public abstract class AbstractShardedPersistenceActor<
         return handleCleanups.orElse(handleByStrategyReceiveBuilder(deleteStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                .matchEquals(Control.COMMIT_EVENTS, this::commitEvents)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                 .matchAny(this::notAccessible)
@@ -360,7 +522,7 @@ public abstract class AbstractShardedPersistenceActor<
             log.debug("Activity check is disabled: <{}>", interval);
         } else {
             log.debug("Scheduling for Activity Check in <{}> seconds.", interval);
-            timers().startSingleTimer("activityCheck", new CheckForActivity(accessCounter), interval);
+            timers().startSingleTimer("activityCheck", new CheckForActivity(getAccessCount()), interval);
         }
     }
 
@@ -401,36 +563,127 @@ public abstract class AbstractShardedPersistenceActor<
     public void onMutation(final Command command, final E event, final WithDittoHeaders response,
             final boolean becomeCreated, final boolean becomeDeleted) {
 
-        persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
-            notifySender(response);
-            if (becomeDeleted) {
-                becomeDeletedHandler();
-            }
-            if (becomeCreated) {
-                becomeCreatedHandler();
-            }
-        });
+        if (getGroupCommitConfig().isEnabled() && !event.getDittoHeaders().isDryRun()) {
+            addToGroupCommit(event, response, becomeCreated, becomeDeleted);
+        } else if (!groupCommit.isEmpty()) {
+            // dry run: the response is computed on top of the pending events and must not overtake them
+            groupCommit.replies.add(Pair.create(getSender(), response));
+        } else {
+            persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
+                notifySender(response);
+                if (becomeDeleted) {
+                    becomeDeletedHandler();
+                }
+                if (becomeCreated) {
+                    becomeCreatedHandler();
+                }
+            });
+        }
     }
 
     @Override
     public void onQuery(final Command command, final WithDittoHeaders response) {
-        notifySender(response);
+        notifySenderAfterPendingEvents(response);
     }
 
     @Override
     public void onError(final DittoRuntimeException error) {
-        notifySender(error);
+        notifySenderAfterPendingEvents(error);
+    }
+
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        if (getGroupCommitConfig().isEnabled()) {
+            // the in-memory entity already contains the rejected event; restore the state from the journal
+            log.error("Stopping because the in-memory state of entity <{}> is ahead of the journal.", entityId);
+            getContext().stop(getSelf());
+        }
+    }
+
+    private long getAccessCount() {
+        return accessCounter + getAccessCountWithoutMailbox();
     }
 
     private long getNextRevisionNumber() {
-        return getRevisionNumber() + 1;
+        return getRevisionNumber() + groupCommit.events.size() + 1;
+    }
+
+    private void notifySenderAfterPendingEvents(final WithDittoHeaders message) {
+        if (groupCommit.isEmpty()) {
+            notifySender(message);
+        } else {
+            // replies must not reveal state which is not yet persisted
+            groupCommit.replies.add(Pair.create(getSender(), message));
+        }
+    }
+
+    private void addToGroupCommit(final E event, final WithDittoHeaders response, final boolean becomeCreated,
+            final boolean becomeDeleted) {
+
+        final E modifiedEvent = withEntitySchemaVersion(event);
+        final boolean isFirstPendingEvent = groupCommit.isEmpty();
+
+        // apply the event optimistically so that the following commands see its effect
+        entity = getEventStrategy().handle(modifiedEvent, entity, getNextRevisionNumber());
+        groupCommit.events.add(modifiedEvent);
+        groupCommit.replies.add(Pair.create(getSender(), response));
+        groupCommit.becomeCreated |= becomeCreated;
+        groupCommit.becomeDeleted |= becomeDeleted;
+
+        if (becomeCreated || becomeDeleted ||
+                groupCommit.events.size() >= getGroupCommitConfig().getMaxBatchSize()) {
+            // the behavior changes only after the events are persisted
+            commitEvents(Control.COMMIT_EVENTS);
+        } else if (isFirstPendingEvent) {
+            // commit after all commands already in the mailbox have been applied
+            getSelf().tell(Control.COMMIT_EVENTS, getSelf());
+        }
+    }
+
+    private void commitEvents(final Control commitEvents) {
+        if (groupCommit.isEmpty()) {
+            return;
+        }
+        final GroupCommit<E> batch = groupCommit;
+        groupCommit = new GroupCommit<>();
+        batch.unconfirmedEvents = batch.events.size();
+        log.debug("Persisting <{}> events in one batch.", batch.unconfirmedEvents);
+
+        final long persistStartNanos = System.nanoTime();
+        persistAll(batch.events, persistedEvent -> {
+            // the event was already applied to the in-memory entity
+            countEventSinceSnapshot(persistedEvent);
+            publishEvent(persistedEvent);
+            if (--batch.unconfirmedEvents == 0) {
+                recordPersistDuration(persistStartNanos);
+                onGroupCommitPersisted(batch);
+            }
+        });
+    }
+
+    private void onGroupCommitPersisted(final GroupCommit<E> batch) {
+        log.info("Successfully persisted <{}> events.", batch.events.size());
+        publishPersistedState(entity, getRevisionNumber());
+        batch.replies.forEach(reply -> notifySender(reply.first(), reply.second()));
+        if (batch.becomeDeleted) {
+            becomeDeletedHandler();
+        }
+        if (batch.becomeCreated) {
+            becomeCreatedHandler();
+        }
+        if (snapshotThresholdPassed()) {
+            takeSnapshot("snapshot threshold is reached");
+        }
     }
 
     private void persistEvent(final E event, final Consumer<E> handler) {
         LogUtil.enhanceLogWithCorrelationId(log, event);
         log.debug("Persisting Event <{}>.", event.getType());
 
+        final long persistStartNanos = System.nanoTime();
         persist(event, persistedEvent -> {
+            recordPersistDuration(persistStartNanos);
             LogUtil.enhanceLogWithCorrelationId(log, event.getDittoHeaders().getCorrelationId());
             log.info("Successfully persisted Event <{}>.", event.getType());
 
@@ -449,14 +702,18 @@ public abstract class AbstractShardedPersistenceActor<
 
     private void takeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
-        if (entity != null && lastSnapshotRevision != revision) {
+        if (!groupCommit.isEmpty()) {
+            log.debug("Not taking snapshot for entity <{}> with pending events even if {}.", entityId, reason);
+        } else if (entity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId, revision,
                     reason);
 
-            final Object snapshotSubject = snapshotAdapter.toSnapshotStore(entity);
+            final Object snapshotSubject = toSnapshotStore(entity, revision);
             saveSnapshot(snapshotSubject);
 
             lastSnapshotRevision = revision;
+            eventBytesSinceSnapshot = 0L;
+            estimateSizeOfSnapshotEntity();
         } else if (lastSnapshotRevision == revision) {
             log.debug("Not taking duplicate snapshot for entity <{}> with revision <{}> even if {}.", entity, revision,
                     reason);
@@ -465,8 +722,91 @@ public abstract class AbstractShardedPersistenceActor<
         }
     }
 
+    private Object toSnapshotStore(final S entity, final long revision) {
+        // deltas are only taken relative to a base which is known to be persisted
+        if (null != snapshotBase && confirmedSnapshotRevision == snapshotBaseRevision &&
+                getSnapshotConfig().isDelta() && snapshotAdapter instanceof DeltaSnapshotAdapter) {
+            final Optional<Object> delta = ((DeltaSnapshotAdapter<S>) snapshotAdapter)
+                    .toDeltaSnapshotStore(snapshotBase, snapshotBaseRevision, entity);
+            if (delta.isPresent()) {
+                lastSnapshotBaseRevision = snapshotBaseRevision;
+                return delta.get();
+            }
+        }
+        if (getSnapshotConfig().isDelta()) {
+            snapshotBase = entity;
+            snapshotBaseRevision = revision;
+        }
+        lastSnapshotBaseRevision = revision;
+        return snapshotAdapter.toSnapshotStore(entity);
+    }
+
     private boolean snapshotThresholdPassed() {
-        return getRevisionNumber() - lastSnapshotRevision >= getSnapshotConfig().getThreshold();
+        final SnapshotConfig snapshotConfig = getSnapshotConfig();
+        final long eventsSinceSnapshot = getRevisionNumber() - lastSnapshotRevision;
+        if (eventsSinceSnapshot >= snapshotConfig.getThreshold()) {
+            return true;
+        } else if (snapshotConfig.isAdaptive()) {
+            // replaying the events costs more than loading a snapshot of the entity
+            final boolean tooManyBytesToReplay = eventBytesSinceSnapshot >= snapshotConfig.getMaxReplayBytes() &&
+                    eventBytesSinceSnapshot >= entitySizeInBytes;
+            final long predictedRecoveryNanos = eventsSinceSnapshot * replayNanosPerEvent;
+            return tooManyBytesToReplay || predictedRecoveryNanos >= snapshotConfig.getMaxRecoveryDuration().toNanos();
+        } else {
+            return false;
+        }
+    }
+
+    private void estimateSizeOfSnapshotEntity() {
+        // the entity is only measured when it was serialized for a snapshot anyway, never when handling a command
+        entitySizeInBytes = getSnapshotConfig().isAdaptive() && lastSnapshotRevision > 0L && entity != null
+                ? getEntitySizeInBytes(entity)
+                : 0L;
+    }
+
+    private void countEventSinceSnapshot(final E event) {
+        if (getSnapshotConfig().isAdaptive()) {
+            // estimate the size from the payload the event already holds instead of serializing the whole event
+            eventBytesSinceSnapshot += EVENT_ENVELOPE_BYTES +
+                    event.getEntity().map(JsonValue::getUpperBoundForStringSize).orElse(0L);
+        }
+    }
+
+    private void recordRecoveryDuration() {
+        final long now = System.nanoTime();
+        final long recoveryNanos = now - recoveryStartNanos;
+        final long replayedEvents = getRevisionNumber() - lastSnapshotRevision;
+        if (replayedEvents > 0) {
+            replayNanosPerEvent = (now - replayStartNanos) / replayedEvents;
+        }
+        DittoMetrics.timer(RECOVERY_DURATION_METRIC)
+                .tag(ENTITY_TYPE_TAG, getEntityType())
+                .record(recoveryNanos, TimeUnit.NANOSECONDS);
+        if (null != entityDurations) {
+            entityDurations.recordRecovery(recoveryNanos);
+        }
+        log.debug("Recovered entity <{}> with <{}> events in <{}> ms.", entityId, replayedEvents,
+                TimeUnit.NANOSECONDS.toMillis(recoveryNanos));
+    }
+
+    /**
+     * Records the round trip of a journal write. Commands arriving meanwhile are stashed until the write completed,
+     * so this is also the longest time a command spends stashed because of it.
+     */
+    private void recordPersistDuration(final long persistStartNanos) {
+        final long persistNanos = System.nanoTime() - persistStartNanos;
+        DittoMetrics.timer(PERSIST_DURATION_METRIC)
+                .tag(ENTITY_TYPE_TAG, getEntityType())
+                .record(persistNanos, TimeUnit.NANOSECONDS);
+        if (null != entityDurations) {
+            entityDurations.recordPersist(persistNanos);
+        }
+    }
+
+    private String getEntityType() {
+        final String persistenceId = persistenceId();
+        final int separatorIndex = persistenceId.indexOf(':');
+        return separatorIndex < 0 ? getClass().getSimpleName() : persistenceId.substring(0, separatorIndex);
     }
 
     private void applyEvent(final E event) {
@@ -484,12 +824,19 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private void takeSnapshotByInterval(final Control takeSnapshot) {
-        takeSnapshot("snapshot interval has passed");
+        if (getSnapshotConfig().isAdaptive() && !snapshotThresholdPassed()) {
+            log.debug("Not taking snapshot by interval for entity <{}> with low replay cost.", entityId);
+        } else {
+            takeSnapshot("snapshot interval has passed");
+        }
     }
 
     private void saveSnapshotSuccess(final SaveSnapshotSuccess s) {
         log.debug("Got {}", s);
-        confirmedSnapshotRevision = s.metadata().sequenceNr();
+        if (s.metadata().sequenceNr() == lastSnapshotRevision) {
+            // a delta snapshot depends on its base, which must not be cleaned up
+            confirmedSnapshotRevision = lastSnapshotBaseRevision;
+        }
     }
 
     private void saveSnapshotFailure(final SaveSnapshotFailure s) {
@@ -497,8 +844,70 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private void recoverFromSnapshotOffer(final SnapshotOffer snapshotOffer) {
-        entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
-        lastSnapshotRevision = confirmedSnapshotRevision = snapshotOffer.metadata().sequenceNr();
+        final OptionalLong baseRevision = snapshotAdapter instanceof DeltaSnapshotAdapter
+                ? ((DeltaSnapshotAdapter<S>) snapshotAdapter).getBaseRevision(snapshotOffer.snapshot())
+                : OptionalLong.empty();
+        lastSnapshotRevision = snapshotOffer.metadata().sequenceNr();
+        if (baseRevision.isPresent()) {
+            deltaSnapshot = snapshotOffer.snapshot();
+            snapshotBaseRevision = baseRevision.getAsLong();
+        } else {
+            entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
+            snapshotBase = getSnapshotConfig().isDelta() ? entity : null;
+            snapshotBaseRevision = lastSnapshotRevision;
+        }
+        lastSnapshotBaseRevision = confirmedSnapshotRevision = snapshotBaseRevision;
+        eventBytesSinceSnapshot = 0L;
+        // the replay duration of events is measured from here on
+        replayStartNanos = System.nanoTime();
+    }
+
+    private void loadBaseOfDeltaSnapshot(final RecoveryCompleted recoveryCompleted) {
+        log.debug("Loading base snapshot <{}> of the delta snapshot of entity <{}>.", snapshotBaseRevision, entityId);
+        loadSnapshot(persistenceId(),
+                SnapshotSelectionCriteria.create(snapshotBaseRevision, Long.MAX_VALUE, snapshotBaseRevision, 0L),
+                snapshotBaseRevision);
+        getContext().become(ReceiveBuilder.create()
+                .match(SnapshotProtocol.LoadSnapshotResult.class, result ->
+                        recoverFromDeltaSnapshot(result, recoveryCompleted))
+                .match(SnapshotProtocol.LoadSnapshotFailed.class, failed -> {
+                    log.error(failed.cause(), "Failed to load base snapshot of entity <{}>.", entityId);
+                    getContext().stop(getSelf());
+                })
+                .matchAny(message -> stash())
+                .build());
+    }
+
+    private void recoverFromDeltaSnapshot(final SnapshotProtocol.LoadSnapshotResult result,
+            final RecoveryCompleted recoveryCompleted) {
+
+        final Option<SelectedSnapshot> selectedSnapshot = result.snapshot();
+        if (selectedSnapshot.isEmpty()) {
+            log.error("Base snapshot <{}> of the delta snapshot of entity <{}> is missing.", snapshotBaseRevision,
+                    entityId);
+            getContext().stop(getSelf());
+            return;
+        }
+        final DeltaSnapshotAdapter<S> deltaSnapshotAdapter = (DeltaSnapshotAdapter<S>) snapshotAdapter;
+        final S base = deltaSnapshotAdapter.fromSnapshotStore(selectedSnapshot.get());
+        entity = null != base && null != deltaSnapshot
+                ? deltaSnapshotAdapter.fromDeltaSnapshotStore(base, deltaSnapshot)
+                : null;
+        snapshotBase = getSnapshotConfig().isDelta() ? base : null;
+        deltaSnapshot = null;
+        final EventFold<E, S> eventFold = getEventStrategy().newEventFold(entity);
+        for (final Pair<E, Long> eventWithRevision : eventsAfterDeltaSnapshot) {
+            eventFold.apply(eventWithRevision.first(), eventWithRevision.second());
+        }
+        entity = eventFold.get();
+        eventsAfterDeltaSnapshot.clear();
+
+        estimateSizeOfSnapshotEntity();
+        recordRecoveryDuration();
+        getContext().become(createDeletedBehavior());
+        recoveryCompleted(recoveryCompleted);
+        publishPersistedState(entity, getRevisionNumber());
+        unstashAll();
     }
 
     @Override
@@ -562,7 +971,25 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private enum Control {
-        TAKE_SNAPSHOT
+        TAKE_SNAPSHOT,
+        COMMIT_EVENTS
+    }
+
+    /**
+     * Events which are applied to the in-memory entity but not yet persisted together with the replies to send
+     * after persisting them.
+     */
+    private static final class GroupCommit<E> {
+
+        private final List<E> events = new ArrayList<>();
+        private final List<Pair<ActorRef, WithDittoHeaders>> replies = new ArrayList<>();
+        private boolean becomeCreated = false;
+        private boolean becomeDeleted = false;
+        private int unconfirmedEvents = 0;
+
+        private boolean isEmpty() {
+            return replies.isEmpty();
+        }
     }
 
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.entitymetrics;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * Durations of the recovery and the persistence of a single entity. Only the persistence actor of the entity records
+ * durations; any thread may read them.
+ */
+@ThreadSafe
+public final class EntityDurations {
+
+    static final JsonFieldDefinition<String> JSON_ENTITY_TYPE = JsonFactory.newStringFieldDefinition("entityType");
+    static final JsonFieldDefinition<String> JSON_ENTITY_ID = JsonFactory.newStringFieldDefinition("entityId");
+    static final JsonFieldDefinition<Long> JSON_RECOVERY_MILLIS =
+            JsonFactory.newLongFieldDefinition("recoveryMillis");
+    static final JsonFieldDefinition<Long> JSON_PERSIST_COUNT = JsonFactory.newLongFieldDefinition("persistCount");
+    static final JsonFieldDefinition<Long> JSON_MEAN_PERSIST_MILLIS =
+            JsonFactory.newLongFieldDefinition("meanPersistMillis");
+    static final JsonFieldDefinition<Long> JSON_MAX_PERSIST_MILLIS =
+            JsonFactory.newLongFieldDefinition("maxPersistMillis");
+
+    private final String entityType;
+    private final String entityId;
+
+    // written only by the persistence actor of the entity
+    private volatile long recoveryNanos;
+    private volatile long persistCount;
+    private volatile long totalPersistNanos;
+    private volatile long maxPersistNanos;
+
+    /**
+     * Constructs a new {@code EntityDurations} object.
+     *
+     * @param entityType the type of the entity.
+     * @param entityId the ID of the entity.
+     */
+    public EntityDurations(final String entityType, final String entityId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        recoveryNanos = 0L;
+        persistCount = 0L;
+        totalPersistNanos = 0L;
+        maxPersistNanos = 0L;
+    }
+
+    /**
+     * Records the duration of the recovery of the entity.
+     *
+     * @param nanos the duration in nanoseconds.
+     */
+    public void recordRecovery(final long nanos) {
+        recoveryNanos = nanos;
+    }
+
+    /**
+     * Records the round-trip duration of a journal write of the entity.
+     *
+     * @param nanos the duration in nanoseconds.
+     */
+    @SuppressWarnings("NonAtomicOperationOnVolatileField") // single writer
+    public void recordPersist(final long nanos) {
+        persistCount++;
+        totalPersistNanos += nanos;
+        if (nanos > maxPersistNanos) {
+            maxPersistNanos = nanos;
+        }
+    }
+
+    /**
+     * Returns the ID of the entity.
+     *
+     * @return the entity ID.
+     */
+    public String getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * Returns the longest recorded duration, i.e. the longest journal write or the recovery, by which the entities are
+     * ranked.
+     *
+     * @return the longest duration in nanoseconds.
+     */
+    long getSlowestNanos() {
+        return Math.max(recoveryNanos, maxPersistNanos);
+    }
+
+    /**
+     * Returns the JSON representation of the durations.
+     *
+     * @return the JSON object.
+     */
+    JsonObject toJson() {
+        final long count = persistCount;
+        final long meanPersistNanos = 0L < count ? totalPersistNanos / count : 0L;
+        return JsonFactory.newObjectBuilder()
+                .set(JSON_ENTITY_TYPE, entityType)
+                .set(JSON_ENTITY_ID, entityId)
+                .set(JSON_RECOVERY_MILLIS, TimeUnit.NANOSECONDS.toMillis(recoveryNanos))
+                .set(JSON_PERSIST_COUNT, count)
+                .set(JSON_MEAN_PERSIST_MILLIS, TimeUnit.NANOSECONDS.toMillis(meanPersistNanos))
+                .set(JSON_MAX_PERSIST_MILLIS, TimeUnit.NANOSECONDS.toMillis(maxPersistNanos))
+                .build();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "entityType=" + entityType +
+                ", entityId=" + entityId +
+                ", recoveryNanos=" + recoveryNanos +
+                ", persistCount=" + persistCount +
+                ", totalPersistNanos=" + totalPersistNanos +
+                ", maxPersistNanos=" + maxPersistNanos +
+                "]";
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.entitymetrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Registry of the {@link EntityDurations} of the sampled entities whose persistence actors run on this cluster
+ * member.
+ */
+@ThreadSafe
+public final class SlowestEntities implements Extension {
+
+    private final Set<EntityDurations> entities;
+
+    private SlowestEntities() {
+        entities = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Returns the {@code SlowestEntities} of the given actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the registry of the sampled entities of the actor system.
+     */
+    public static SlowestEntities get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * Adds the durations of an entity whose persistence actor started.
+     *
+     * @param entityDurations the durations of the entity.
+     */
+    public void add(final EntityDurations entityDurations) {
+        entities.add(entityDurations);
+    }
+
+    /**
+     * Removes the durations of an entity whose persistence actor stopped.
+     *
+     * @param entityDurations the durations of the entity.
+     */
+    public void remove(final EntityDurations entityDurations) {
+        entities.remove(entityDurations);
+    }
+
+    /**
+     * Returns the durations of the slowest entities ranked by their longest journal write or recovery.
+     *
+     * @param limit the maximum number of entities to return.
+     * @return the durations of the slowest entities, the slowest first.
+     */
+    public List<EntityDurations> getSlowest(final int limit) {
+        return entities.stream()
+                .sorted(Comparator.comparingLong(EntityDurations::getSlowestNanos).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static final class ExtensionId extends AbstractExtensionId<SlowestEntities> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public SlowestEntities createExtension(final ExtendedActorSystem system) {
+            return new SlowestEntities();
+        }
+
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.entitymetrics;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.signals.commands.devops.RetrieveSlowestEntities;
+import org.eclipse.ditto.signals.commands.devops.RetrieveSlowestEntitiesResponse;
+
+import akka.actor.AbstractActor;
+import akka.actor.Props;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor which answers {@link RetrieveSlowestEntities} with the durations of the slowest sampled entities whose
+ * persistence actors run on this cluster member. It is meant to be the target of piggyback DevOps commands.
+ */
+public final class SlowestEntitiesActor extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "slowestEntities";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final SlowestEntities slowestEntities;
+
+    @SuppressWarnings("unused")
+    private SlowestEntitiesActor() {
+        slowestEntities = SlowestEntities.get(getContext().getSystem());
+    }
+
+    /**
+     * Creates Akka configuration object Props for this actor.
+     *
+     * @return the Props object.
+     */
+    public static Props props() {
+        return Props.create(SlowestEntitiesActor.class);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(RetrieveSlowestEntities.class, this::retrieveSlowestEntities)
+                .matchAny(message -> log.warning("Unexpected message: <{}>", message))
+                .build();
+    }
+
+    private void retrieveSlowestEntities(final RetrieveSlowestEntities command) {
+        final JsonArray entities = slowestEntities.getSlowest(command.getLimit())
+                .stream()
+                .map(EntityDurations::toJson)
+                .collect(JsonCollectors.valuesToArray());
+        getSender().tell(RetrieveSlowestEntitiesResponse.of(entities, command.getDittoHeaders()), getSelf());
+    }
+
+}
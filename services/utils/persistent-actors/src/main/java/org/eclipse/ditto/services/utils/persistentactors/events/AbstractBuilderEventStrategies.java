@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.events;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.signals.events.base.Event;
+
+/**
+ * Superclass of event strategy repositories whose strategies may apply events to a mutable builder of the entity.
+ * A sequence of events, e. g. the events replayed on recovery, is then applied to one builder and the entity is built
+ * once at the end instead of once per event.
+ * Events without builder strategy are applied to the entity by their regular strategy.
+ *
+ * @param <E> the type of the event
+ * @param <S> the type of the entity
+ * @param <B> the type of the builder of the entity
+ */
+@Immutable
+public abstract class AbstractBuilderEventStrategies<E extends Event, S, B> extends AbstractEventStrategies<E, S> {
+
+    private final Map<Class<? extends E>, BuilderEventStrategy<? extends E, B>> builderStrategies = new HashMap<>();
+
+    /**
+     * Add an event strategy which is able to apply events to the builder of the entity, too. Call in constructor only.
+     *
+     * @param cls class of events. Must be final.
+     * @param strategy the strategy to handle the events.
+     * @param <T> type of events.
+     * @param <X> type of the strategy.
+     */
+    protected <T extends E, X extends EventStrategy<T, S> & BuilderEventStrategy<T, B>> void addBuilderStrategy(
+            final Class<T> cls, final X strategy) {
+
+        addStrategy(cls, strategy);
+        builderStrategies.put(cls, strategy);
+    }
+
+    /**
+     * Returns a builder which is initialized with the specified entity.
+     *
+     * @param entity the entity.
+     * @return the builder.
+     */
+    protected abstract B toBuilder(S entity);
+
+    /**
+     * Builds the entity.
+     *
+     * @param builder the builder of the entity.
+     * @return the entity.
+     */
+    protected abstract S build(B builder);
+
+    @Override
+    public EventFold<E, S> newEventFold(@Nullable final S entity) {
+        return new BuilderEventFold(entity);
+    }
+
+    @NotThreadSafe
+    private final class BuilderEventFold implements EventFold<E, S> {
+
+        @Nullable private S entity;
+        @Nullable private B builder;
+
+        private BuilderEventFold(@Nullable final S entity) {
+            this.entity = entity;
+            builder = null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void apply(final E event, final long revision) {
+            checkNotNull(event, "event");
+            final BuilderEventStrategy<E, B> strategy =
+                    (BuilderEventStrategy<E, B>) builderStrategies.get(event.getClass());
+            if (null != strategy && (null != builder || null != entity)) {
+                builder = strategy.apply(event, null != builder ? builder : toBuilder(entity), revision);
+            } else {
+                entity = handle(event, get(), revision);
+            }
+        }
+
+        @Nullable
+        @Override
+        public S get() {
+            if (null != builder) {
+                entity = build(builder);
+                builder = null;
+            }
+            return entity;
+        }
+
+    }
+
+}
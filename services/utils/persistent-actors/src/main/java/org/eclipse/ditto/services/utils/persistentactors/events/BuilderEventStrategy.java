@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.events;
+
+import org.eclipse.ditto.signals.events.base.Event;
+
+/**
+ * This interface represents a strategy for applying events to a mutable builder of an entity.
+ *
+ * @param <E> the type of the event this strategy matches against.
+ * @param <B> the type of the builder of the entity.
+ */
+@FunctionalInterface
+public interface BuilderEventStrategy<E extends Event, B> {
+
+    /**
+     * Applies an event to the builder of an entity.
+     *
+     * @param event the event to apply.
+     * @param builder the builder of the entity to apply the event to.
+     * @param revision the next revision of the entity.
+     * @return the builder with the event applied.
+     */
+    B apply(E event, B builder, long revision);
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.events;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.signals.events.base.Event;
+
+/**
+ * Accumulates a sequence of events into an entity, e. g. while replaying the journal of a persistent actor.
+ * Implementations are free to apply the events to a mutable representation of the entity and to materialize the
+ * entity only when it is requested.
+ *
+ * @param <E> the type of the events.
+ * @param <S> the type of the entity.
+ */
+@NotThreadSafe
+public interface EventFold<E extends Event, S> {
+
+    /**
+     * Applies an event to the accumulated entity.
+     *
+     * @param event the event to apply.
+     * @param revision the next revision of the entity.
+     * @throws NullPointerException if {@code event} is {@code null}.
+     */
+    void apply(E event, long revision);
+
+    /**
+     * Returns the entity with all events applied so far.
+     *
+     * @return the entity or {@code null} if it does not exist.
+     */
+    @Nullable
+    S get();
+
+    /**
+     * Returns an {@code EventFold} which applies each event to the entity by the specified strategy.
+     *
+     * @param eventStrategy the strategy to apply events with.
+     * @param entity the entity to apply the first event to.
+     * @param <E> the type of the events.
+     * @param <S> the type of the entity.
+     * @return the EventFold.
+     */
+    static <E extends Event, S> EventFold<E, S> of(final EventStrategy<E, S> eventStrategy,
+            @Nullable final S entity) {
+
+        return new StrategyEventFold<>(eventStrategy, entity);
+    }
+
+}
@@ -37,4 +37,15 @@ public interface EventStrategy<E extends Event, S> {
     @Nullable
     S handle(E event, @Nullable S entity, long revision);
 
+    /**
+     * Returns an accumulator which applies a sequence of events to the specified entity by this strategy.
+     * Strategies may return an accumulator which avoids creating an entity for each event.
+     *
+     * @param entity the entity to apply the first event to.
+     * @return the accumulator.
+     */
+    default EventFold<E, S> newEventFold(@Nullable final S entity) {
+        return EventFold.of(this, entity);
+    }
+
 }
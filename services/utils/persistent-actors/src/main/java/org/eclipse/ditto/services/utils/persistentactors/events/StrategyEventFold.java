@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.events;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.signals.events.base.Event;
+
+/**
+ * Applies each event to the immutable entity by an {@link EventStrategy}.
+ */
+@NotThreadSafe
+final class StrategyEventFold<E extends Event, S> implements EventFold<E, S> {
+
+    private final EventStrategy<E, S> eventStrategy;
+    @Nullable private S entity;
+
+    StrategyEventFold(final EventStrategy<E, S> eventStrategy, @Nullable final S entity) {
+        this.eventStrategy = eventStrategy;
+        this.entity = entity;
+    }
+
+    @Override
+    public void apply(final E event, final long revision) {
+        entity = eventStrategy.handle(event, entity, revision);
+    }
+
+    @Nullable
+    @Override
+    public S get() {
+        return entity;
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.warmstart;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+
+/**
+ * Local message published on the event stream of the actor system to report the number of messages an entity
+ * received since its last report.
+ */
+@Immutable
+public final class EntityActivity {
+
+    private final EntityId entityId;
+    private final long messageCount;
+
+    private EntityActivity(final EntityId entityId, final long messageCount) {
+        this.entityId = entityId;
+        this.messageCount = messageCount;
+    }
+
+    /**
+     * Returns a new instance of {@code EntityActivity}.
+     *
+     * @param entityId the ID of the active entity.
+     * @param messageCount the number of messages the entity received since its last report.
+     * @return the instance.
+     * @throws NullPointerException if {@code entityId} is {@code null}.
+     */
+    public static EntityActivity of(final EntityId entityId, final long messageCount) {
+        return new EntityActivity(checkNotNull(entityId, "entityId"), messageCount);
+    }
+
+    /**
+     * @return the ID of the active entity.
+     */
+    public EntityId getEntityId() {
+        return entityId;
+    }
+
+    /**
+     * @return the number of messages the entity received since its last report.
+     */
+    public long getMessageCount() {
+        return messageCount;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final EntityActivity that = (EntityActivity) o;
+        return messageCount == that.messageCount && Objects.equals(entityId, that.entityId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entityId, messageCount);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "entityId=" + entityId +
+                ", messageCount=" + messageCount +
+                "]";
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.warmstart;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.Document;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * MongoDB implementation of {@link WarmStartPersistence} storing one document per shard.
+ */
+public final class MongoWarmStartPersistence implements WarmStartPersistence {
+
+    private static final String FIELD_ID = "_id";
+    private static final String FIELD_ENTITIES = "entities";
+    private static final String FIELD_MODIFIED = "_modified";
+
+    private final MongoCollection<Document> collection;
+
+    private MongoWarmStartPersistence(final MongoCollection<Document> collection) {
+        this.collection = collection;
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param mongoClient the client to access the database.
+     * @param collectionName name of the collection to store the most active entities in.
+     * @return the instance.
+     */
+    public static MongoWarmStartPersistence of(final DittoMongoClient mongoClient, final String collectionName) {
+        return new MongoWarmStartPersistence(mongoClient.getCollection(collectionName));
+    }
+
+    @Override
+    public Source<Done, NotUsed> setHotEntities(final String shardId, final List<String> entityIds) {
+        final Document document = new Document()
+                .append(FIELD_ID, shardId)
+                .append(FIELD_ENTITIES, entityIds)
+                .append(FIELD_MODIFIED, new Date());
+        return Source.fromPublisher(collection.replaceOne(Filters.eq(FIELD_ID, shardId), document,
+                new ReplaceOptions().upsert(true)))
+                .map(result -> Done.getInstance());
+    }
+
+    @Override
+    public Source<List<String>, NotUsed> getHotEntities(final String shardId) {
+        return Source.fromPublisher(collection.find(Filters.eq(FIELD_ID, shardId)).first())
+                .map(document -> document.getList(FIELD_ENTITIES, String.class, Collections.emptyList()))
+                .orElse(Source.single(Collections.<String>emptyList()));
+    }
+
+}
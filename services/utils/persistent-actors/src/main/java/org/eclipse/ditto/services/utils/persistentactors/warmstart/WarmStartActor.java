@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.warmstart;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmStartConfig;
+
+import akka.NotUsed;
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.cluster.sharding.ShardRegion;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.PFBuilder;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Actor which warm-starts the most active entities of the shards a cluster member starts hosting, e.g. after shard
+ * rebalancing or a restart.
+ * <p>
+ * It collects the {@link EntityActivity} reported by the supervisors of the entities on the event stream and ranks
+ * the entities of each shard by their decaying number of messages. Once per interval it retrieves the state of the
+ * local shard region:
+ * </p>
+ * <ul>
+ * <li>For each shard hosted since the last interval, the most active entities which are in memory are persisted if
+ * their ranking changed.</li>
+ * <li>For each shard hosted newly, the persisted most active entities which are not in memory yet are recovered in
+ * the background by sending them a warm-up message. As the warm-up message is answered after the recovery of the
+ * entity, at most {@code parallelism} entities are recovered concurrently.</li>
+ * </ul>
+ */
+public final class WarmStartActor extends AbstractActorWithTimers {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "warmStart";
+
+    /**
+     * Factor applied to the activity score of each entity once per interval.
+     */
+    private static final double DECAY_FACTOR = 0.5;
+
+    /**
+     * Activity score below which an entity is no longer tracked.
+     */
+    private static final double MIN_SCORE = 0.01;
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ActorRef shardRegion;
+    private final ShardRegion.MessageExtractor shardRegionExtractor;
+    private final WarmStartPersistence warmStartPersistence;
+    private final WarmStartConfig warmStartConfig;
+    private final Function<String, Object> warmUpMessageFactory;
+    private final ActorMaterializer materializer;
+
+    private final Map<String, Map<String, Double>> scoresPerShard;
+    private final Map<String, List<String>> persistedHotEntities;
+    private Set<String> hostedShards;
+    private boolean warmStartInProgress;
+
+    @SuppressWarnings("unused")
+    private WarmStartActor(final ActorRef shardRegion,
+            final ShardRegion.MessageExtractor shardRegionExtractor,
+            final WarmStartPersistence warmStartPersistence,
+            final WarmStartConfig warmStartConfig,
+            final Function<String, Object> warmUpMessageFactory) {
+
+        this.shardRegion = shardRegion;
+        this.shardRegionExtractor = shardRegionExtractor;
+        this.warmStartPersistence = warmStartPersistence;
+        this.warmStartConfig = warmStartConfig;
+        this.warmUpMessageFactory = warmUpMessageFactory;
+        materializer = ActorMaterializer.create(getContext());
+        scoresPerShard = new HashMap<>();
+        persistedHotEntities = new HashMap<>();
+        hostedShards = Collections.emptySet();
+        warmStartInProgress = false;
+    }
+
+    /**
+     * Creates Akka configuration object Props for this WarmStartActor.
+     *
+     * @param shardRegion the local shard region of the entities.
+     * @param shardRegionExtractor the extractor of the shard region to determine the shard of an entity.
+     * @param warmStartPersistence the persistence of the most active entities of each shard.
+     * @param warmStartConfig the config of warm-starting entities.
+     * @param warmUpMessageFactory creates the message which is sent via the shard region to an entity with the given
+     * ID in order to recover it. The message has to be answered after the recovery of the entity.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final ActorRef shardRegion,
+            final ShardRegion.MessageExtractor shardRegionExtractor,
+            final WarmStartPersistence warmStartPersistence,
+            final WarmStartConfig warmStartConfig,
+            final Function<String, Object> warmUpMessageFactory) {
+
+        // Beware: the warm-up message factory is not serializable.
+        return Props.create(WarmStartActor.class, shardRegion, shardRegionExtractor, warmStartPersistence,
+                warmStartConfig, warmUpMessageFactory);
+    }
+
+    @Override
+    public void preStart() throws Exception {
+        super.preStart();
+        getContext().getSystem().eventStream().subscribe(getSelf(), EntityActivity.class);
+        getTimers().startPeriodicTimer(Control.TICK, Control.TICK, warmStartConfig.getInterval());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        getContext().getSystem().eventStream().unsubscribe(getSelf());
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(EntityActivity.class, this::addActivity)
+                .matchEquals(Control.TICK, this::retrieveShardRegionState)
+                .match(ShardRegion.CurrentShardRegionState.class, this::handleShardRegionState)
+                .matchEquals(Control.WARM_START_COMPLETED, completed -> warmStartInProgress = false)
+                .match(Status.Failure.class, failure ->
+                        log.warning("Failed to retrieve the state of the shard region: {}", failure.cause()))
+                .build();
+    }
+
+    private void addActivity(final EntityActivity activity) {
+        final String entityId = activity.getEntityId().toString();
+        final String shardId = shardRegionExtractor.shardId(new ShardRegion.StartEntity(entityId));
+        scoresPerShard.computeIfAbsent(shardId, id -> new HashMap<>())
+                .merge(entityId, (double) activity.getMessageCount(), Double::sum);
+    }
+
+    private void retrieveShardRegionState(final Control tick) {
+        Patterns.pipe(Patterns.ask(shardRegion, ShardRegion.getShardRegionStateInstance(),
+                warmStartConfig.getInterval()), getContext().dispatcher())
+                .to(getSelf());
+    }
+
+    private void handleShardRegionState(final ShardRegion.CurrentShardRegionState state) {
+        final Map<String, Set<String>> entitiesPerShard = state.getShards()
+                .stream()
+                .collect(Collectors.toMap(ShardRegion.ShardState::shardId,
+                        shardState -> new HashSet<>(shardState.getEntityIds())));
+
+        scoresPerShard.keySet().retainAll(entitiesPerShard.keySet());
+        persistedHotEntities.keySet().retainAll(entitiesPerShard.keySet());
+
+        final Map<String, Set<String>> newShards = new HashMap<>();
+        entitiesPerShard.forEach((shardId, entityIds) -> {
+            if (hostedShards.contains(shardId)) {
+                persistHotEntities(shardId, entityIds);
+            } else {
+                newShards.put(shardId, entityIds);
+            }
+        });
+
+        if (newShards.isEmpty()) {
+            hostedShards = entitiesPerShard.keySet();
+        } else if (warmStartInProgress) {
+            // treat the new shards as new again in the next interval to bound the number of concurrent recoveries
+            hostedShards = new HashSet<>(entitiesPerShard.keySet());
+            hostedShards.removeAll(newShards.keySet());
+        } else {
+            hostedShards = entitiesPerShard.keySet();
+            warmStart(newShards);
+        }
+        decayScores();
+    }
+
+    private void persistHotEntities(final String shardId, final Set<String> entityIdsInMemory) {
+        final List<String> hotEntities = scoresPerShard.getOrDefault(shardId, Collections.emptyMap())
+                .entrySet()
+                .stream()
+                .filter(entry -> entityIdsInMemory.contains(entry.getKey()))
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
+                .limit(warmStartConfig.getMaxEntitiesPerShard())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        if (!hotEntities.isEmpty() && !hotEntities.equals(persistedHotEntities.get(shardId))) {
+            persistedHotEntities.put(shardId, hotEntities);
+            warmStartPersistence.setHotEntities(shardId, hotEntities)
+                    .runWith(Sink.ignore(), materializer)
+                    .exceptionally(error -> {
+                        log.warning("Failed to persist the most active entities of shard <{}>: {}", shardId, error);
+                        return null;
+                    });
+        }
+    }
+
+    private void warmStart(final Map<String, Set<String>> newShards) {
+        log.info("Warm-starting the most active entities of shards <{}>.", newShards.keySet());
+        warmStartInProgress = true;
+        final ActorRef self = getSelf();
+        final CompletionStage<Integer> recoveredEntities = Source.from(new ArrayList<>(newShards.entrySet()))
+                .flatMapConcat(shard -> warmStartPersistence.getHotEntities(shard.getKey())
+                        .mapConcat(entityIds -> entityIds)
+                        .filter(entityId -> !shard.getValue().contains(entityId))
+                        .recoverWithRetries(1, new PFBuilder<Throwable, Source<String, NotUsed>>()
+                                .matchAny(error -> {
+                                    log.warning("Failed to retrieve the most active entities of shard <{}>: {}",
+                                            shard.getKey(), error);
+                                    return Source.empty();
+                                })
+                                .build()))
+                .mapAsyncUnordered(warmStartConfig.getParallelism(), entityId ->
+                        Patterns.ask(shardRegion, warmUpMessageFactory.apply(entityId),
+                                warmStartConfig.getRecoveryTimeout())
+                                .handle((response, error) -> null == error ? 1 : 0))
+                .runWith(Sink.fold(0, Integer::sum), materializer);
+
+        recoveredEntities.whenComplete((count, error) -> {
+            if (null != error) {
+                log.warning("Failed to warm-start the most active entities of shards <{}>: {}",
+                        newShards.keySet(), error);
+            } else {
+                log.info("Warm-started <{}> entities of shards <{}>.", count, newShards.keySet());
+            }
+            self.tell(Control.WARM_START_COMPLETED, ActorRef.noSender());
+        });
+    }
+
+    private void decayScores() {
+        final Iterator<Map<String, Double>> shardIterator = scoresPerShard.values().iterator();
+        while (shardIterator.hasNext()) {
+            final Map<String, Double> scores = shardIterator.next();
+            scores.replaceAll((entityId, score) -> score * DECAY_FACTOR);
+            scores.values().removeIf(score -> score < MIN_SCORE);
+            if (scores.isEmpty()) {
+                shardIterator.remove();
+            }
+        }
+    }
+
+    private enum Control {
+        TICK,
+        WARM_START_COMPLETED
+    }
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.warmstart;
+
+import java.util.List;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.stream.javadsl.Source;
+
+/**
+ * Persistence of the most active entities of each shard.
+ */
+public interface WarmStartPersistence {
+
+    /**
+     * Replaces the most active entities of a shard.
+     *
+     * @param shardId the ID of the shard.
+     * @param entityIds IDs of the most active entities of the shard, the most active first.
+     * @return source of a single element signalling completion of the write.
+     */
+    Source<Done, NotUsed> setHotEntities(String shardId, List<String> entityIds);
+
+    /**
+     * Retrieves the most active entities of a shard.
+     *
+     * @param shardId the ID of the shard.
+     * @return source of a single list of entity IDs, the most active first, which is empty if nothing was persisted
+     * for the shard.
+     */
+    Source<List<String>, NotUsed> getHotEntities(String shardId);
+
+}
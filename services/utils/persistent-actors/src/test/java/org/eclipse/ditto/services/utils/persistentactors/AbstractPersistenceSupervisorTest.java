@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
+import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
+import org.eclipse.ditto.services.base.config.supervision.DefaultExponentialBackOffConfig;
+import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
+import org.eclipse.ditto.services.utils.persistentactors.warmstart.EntityActivity;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the activity reports of {@link AbstractPersistenceSupervisor}.
+ */
+public final class AbstractPersistenceSupervisorTest {
+
+    private static final EntityId ENTITY_ID = DefaultEntityId.of("entity");
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test.conf"));
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void noActivityIsReportedByDefault() {
+        new TestKit(actorSystem) {{
+            final TestKit activityProbe = subscribeForActivity();
+            final ActorRef underTest = actorSystem.actorOf(DummySupervisor.props(getRef(), null));
+
+            underTest.tell("message", getRef());
+            expectMsg("message");
+
+            activityProbe.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void firstMessageIsReportedImmediately() {
+        new TestKit(actorSystem) {{
+            final TestKit activityProbe = subscribeForActivity();
+            final ActorRef underTest = actorSystem.actorOf(DummySupervisor.props(getRef(), Duration.ofHours(1L)));
+
+            underTest.tell("message1", getRef());
+            expectMsg("message1");
+            activityProbe.expectMsg(EntityActivity.of(ENTITY_ID, 1L));
+
+            // further messages are counted but not reported within the interval
+            underTest.tell("message2", getRef());
+            expectMsg("message2");
+            activityProbe.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void messagesWithinTheIntervalAreReportedTogether() {
+        new TestKit(actorSystem) {{
+            final TestKit activityProbe = subscribeForActivity();
+            final ActorRef underTest = actorSystem.actorOf(DummySupervisor.props(getRef(), Duration.ofSeconds(1L)));
+
+            underTest.tell("message1", getRef());
+            expectMsg("message1");
+            activityProbe.expectMsg(EntityActivity.of(ENTITY_ID, 1L));
+
+            underTest.tell("message2", getRef());
+            underTest.tell("message3", getRef());
+            expectMsg("message2");
+            expectMsg("message3");
+            activityProbe.expectNoMessage(Duration.ofMillis(1200L));
+
+            underTest.tell("message4", getRef());
+            expectMsg("message4");
+            activityProbe.expectMsg(EntityActivity.of(ENTITY_ID, 3L));
+        }};
+    }
+
+    private TestKit subscribeForActivity() {
+        final TestKit activityProbe = new TestKit(actorSystem);
+        actorSystem.eventStream().subscribe(activityProbe.getRef(), EntityActivity.class);
+        return activityProbe;
+    }
+
+    private static final class DummySupervisor extends AbstractPersistenceSupervisor<EntityId> {
+
+        private final ActorRef receiver;
+        @Nullable private final Duration activityReportInterval;
+
+        private DummySupervisor(final ActorRef receiver, @Nullable final Duration activityReportInterval) {
+            this.receiver = receiver;
+            this.activityReportInterval = activityReportInterval;
+        }
+
+        private static Props props(final ActorRef receiver, @Nullable final Duration activityReportInterval) {
+            return Props.create(DummySupervisor.class, () -> new DummySupervisor(receiver, activityReportInterval));
+        }
+
+        @Override
+        protected EntityId getEntityId() {
+            return ENTITY_ID;
+        }
+
+        @Override
+        protected Props getPersistenceActorProps(final EntityId entityId) {
+            return ForwardingActor.props(receiver);
+        }
+
+        @Override
+        protected ExponentialBackOffConfig getExponentialBackOffConfig() {
+            return DefaultExponentialBackOffConfig.of(ConfigFactory.empty());
+        }
+
+        @Override
+        protected ShutdownBehaviour getShutdownBehaviour(final EntityId entityId) {
+            return ShutdownBehaviour.fromIdWithoutNamespace(entityId, getContext().getSystem().deadLetters(),
+                    getSelf());
+        }
+
+        @Override
+        protected DittoRuntimeExceptionBuilder<?> getUnavailableExceptionBuilder(@Nullable final EntityId entityId) {
+            return GatewayInternalErrorException.newBuilder();
+        }
+
+        @Override
+        protected Optional<Duration> getActivityReportInterval() {
+            return Optional.ofNullable(activityReportInterval);
+        }
+
+    }
+
+    private static final class ForwardingActor extends AbstractActor {
+
+        private final ActorRef receiver;
+
+        @SuppressWarnings("unused")
+        private ForwardingActor(final ActorRef receiver) {
+            this.receiver = receiver;
+        }
+
+        private static Props props(final ActorRef receiver) {
+            return Props.create(ForwardingActor.class, receiver);
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchAny(message -> receiver.forward(message, getContext()))
+                    .build();
+        }
+
+    }
+
+}
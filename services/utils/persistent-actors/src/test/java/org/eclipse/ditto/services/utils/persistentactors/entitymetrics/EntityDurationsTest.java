@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.entitymetrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Tests {@link EntityDurations}.
+ */
+public final class EntityDurationsTest {
+
+    @Test
+    public void recordsRecoveryAndPersistDurations() {
+        final EntityDurations underTest = new EntityDurations("thing", "org.eclipse.ditto:thing");
+
+        underTest.recordRecovery(millis(5L));
+        underTest.recordPersist(millis(10L));
+        underTest.recordPersist(millis(30L));
+        underTest.recordPersist(millis(20L));
+
+        assertThat(underTest.getSlowestNanos()).isEqualTo(millis(30L));
+        assertThat(underTest.toJson()).isEqualTo(JsonObject.newBuilder()
+                .set(EntityDurations.JSON_ENTITY_TYPE, "thing")
+                .set(EntityDurations.JSON_ENTITY_ID, "org.eclipse.ditto:thing")
+                .set(EntityDurations.JSON_RECOVERY_MILLIS, 5L)
+                .set(EntityDurations.JSON_PERSIST_COUNT, 3L)
+                .set(EntityDurations.JSON_MEAN_PERSIST_MILLIS, 20L)
+                .set(EntityDurations.JSON_MAX_PERSIST_MILLIS, 30L)
+                .build());
+    }
+
+    @Test
+    public void slowRecoveryRanksEntityWithoutPersists() {
+        final EntityDurations underTest = new EntityDurations("policy", "org.eclipse.ditto:policy");
+
+        underTest.recordRecovery(millis(42L));
+
+        assertThat(underTest.getSlowestNanos()).isEqualTo(millis(42L));
+        assertThat(underTest.toJson().getValue(EntityDurations.JSON_PERSIST_COUNT)).contains(0L);
+        assertThat(underTest.toJson().getValue(EntityDurations.JSON_MEAN_PERSIST_MILLIS)).contains(0L);
+    }
+
+    private static long millis(final long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+}
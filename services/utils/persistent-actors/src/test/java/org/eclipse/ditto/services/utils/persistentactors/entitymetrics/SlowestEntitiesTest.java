@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.entitymetrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.signals.commands.devops.RetrieveSlowestEntities;
+import org.eclipse.ditto.signals.commands.devops.RetrieveSlowestEntitiesResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link SlowestEntities} and {@link SlowestEntitiesActor}.
+ */
+public final class SlowestEntitiesTest {
+
+    private ActorSystem actorSystem;
+    private EntityDurations fast;
+    private EntityDurations slowRecovery;
+    private EntityDurations slowPersist;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test.conf"));
+        fast = new EntityDurations("thing", "fast");
+        fast.recordRecovery(millis(1L));
+        fast.recordPersist(millis(2L));
+        slowRecovery = new EntityDurations("thing", "slowRecovery");
+        slowRecovery.recordRecovery(millis(50L));
+        slowPersist = new EntityDurations("thing", "slowPersist");
+        slowPersist.recordPersist(millis(1L));
+        slowPersist.recordPersist(millis(20L));
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void ranksEntitiesByTheirLongestDuration() {
+        final SlowestEntities underTest = SlowestEntities.get(actorSystem);
+        underTest.add(fast);
+        underTest.add(slowRecovery);
+        underTest.add(slowPersist);
+
+        assertThat(underTest.getSlowest(10)).containsExactly(slowRecovery, slowPersist, fast);
+        assertThat(underTest.getSlowest(2)).containsExactly(slowRecovery, slowPersist);
+
+        // durations recorded after adding the entity change its rank
+        fast.recordPersist(millis(100L));
+        assertThat(underTest.getSlowest(2)).containsExactly(fast, slowRecovery);
+    }
+
+    @Test
+    public void removedEntitiesAreNotRanked() {
+        final SlowestEntities underTest = SlowestEntities.get(actorSystem);
+        underTest.add(fast);
+        underTest.add(slowRecovery);
+
+        underTest.remove(slowRecovery);
+
+        assertThat(underTest.getSlowest(10)).containsExactly(fast);
+    }
+
+    @Test
+    public void actorRetrievesTheSlowestEntities() {
+        new TestKit(actorSystem) {{
+            SlowestEntities.get(actorSystem).add(fast);
+            SlowestEntities.get(actorSystem).add(slowPersist);
+            final ActorRef underTest = actorSystem.actorOf(SlowestEntitiesActor.props());
+            final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId("slowest").build();
+
+            underTest.tell(RetrieveSlowestEntities.of(1, dittoHeaders), getRef());
+
+            final JsonArray expectedEntities = JsonFactory.newArrayBuilder().add(slowPersist.toJson()).build();
+            expectMsg(RetrieveSlowestEntitiesResponse.of(expectedEntities, dittoHeaders));
+        }};
+    }
+
+    private static long millis(final long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors.warmstart;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmStartConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmStartConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.cluster.sharding.ShardRegion;
+import akka.japi.Pair;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+import scala.collection.JavaConverters;
+
+/**
+ * Tests {@link WarmStartActor}.
+ */
+public final class WarmStartActorTest {
+
+    private static final String WARM_UP = "warm-up:";
+
+    private ActorSystem actorSystem;
+    private TestKit shardRegion;
+    private TestKit writes;
+    private InMemoryWarmStartPersistence persistence;
+
+    @Before
+    public void init() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test.conf"));
+        shardRegion = new TestKit(actorSystem);
+        writes = new TestKit(actorSystem);
+        persistence = new InMemoryWarmStartPersistence(writes.getRef());
+    }
+
+    @After
+    public void tearDown() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void persistsMostActiveEntitiesInMemoryOfHostedShards() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(warmStartActorProps("1h"));
+
+            // the first state makes the shard a hosted one
+            underTest.tell(shardRegionState(Map.of("0", Set.of("0-a", "0-b", "0-c"))), getRef());
+            underTest.tell(activity("0-a", 1L), getRef());
+            underTest.tell(activity("0-b", 5L), getRef());
+            underTest.tell(activity("0-c", 3L), getRef());
+            underTest.tell(activity("0-d", 10L), getRef());
+            underTest.tell(shardRegionState(Map.of("0", Set.of("0-a", "0-b", "0-c"))), getRef());
+
+            // 0-d is not in memory
+            writes.expectMsg(Pair.create("0", List.of("0-b", "0-c")));
+
+            // older activity decays
+            underTest.tell(activity("0-a", 10L), getRef());
+            underTest.tell(shardRegionState(Map.of("0", Set.of("0-a", "0-b", "0-c"))), getRef());
+            writes.expectMsg(Pair.create("0", List.of("0-a", "0-b")));
+
+            // an unchanged ranking is not written again
+            underTest.tell(shardRegionState(Map.of("0", Set.of("0-a", "0-b", "0-c"))), getRef());
+            writes.expectNoMessage();
+            shardRegion.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void warmStartsPersistedEntitiesOfNewShards() {
+        new TestKit(actorSystem) {{
+            persistence.hotEntities.put("1", List.of("1-x", "1-y", "1-z"));
+            final ActorRef underTest = actorSystem.actorOf(warmStartActorProps("1h"));
+
+            underTest.tell(shardRegionState(Map.of("1", Set.of("1-y"))), getRef());
+
+            // 1-y is in memory already; the others are recovered one after another
+            shardRegion.expectMsg(WARM_UP + "1-x");
+            shardRegion.expectNoMessage();
+            shardRegion.reply(Done.getInstance());
+            shardRegion.expectMsg(WARM_UP + "1-z");
+            shardRegion.reply(Done.getInstance());
+            shardRegion.expectNoMessage();
+
+            // the shard is hosted now and is not warm-started again
+            underTest.tell(shardRegionState(Map.of("1", Set.of("1-x", "1-y", "1-z"))), getRef());
+            shardRegion.expectNoMessage();
+            writes.expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void retrievesShardRegionStateOncePerInterval() {
+        new TestKit(actorSystem) {{
+            persistence.hotEntities.put("2", List.of("2-a"));
+            actorSystem.actorOf(warmStartActorProps("1s"));
+
+            shardRegion.expectMsg(ShardRegion.getShardRegionStateInstance());
+            shardRegion.reply(shardRegionState(Map.of("2", Collections.emptySet())));
+            shardRegion.expectMsg(WARM_UP + "2-a");
+            shardRegion.reply(Done.getInstance());
+
+            shardRegion.expectMsg(ShardRegion.getShardRegionStateInstance());
+        }};
+    }
+
+    private Props warmStartActorProps(final String interval) {
+        final WarmStartConfig config = DefaultWarmStartConfig.of(ConfigFactory.parseString("warm-start {\n" +
+                "  enabled = true\n" +
+                "  interval = " + interval + "\n" +
+                "  max-entities-per-shard = 2\n" +
+                "  parallelism = 1\n" +
+                "  recovery-timeout = 10s\n" +
+                "}"));
+        return WarmStartActor.props(shardRegion.getRef(), new PrefixShardExtractor(), persistence, config,
+                entityId -> WARM_UP + entityId);
+    }
+
+    private static EntityActivity activity(final String entityId, final long messageCount) {
+        return EntityActivity.of(DefaultEntityId.of(entityId), messageCount);
+    }
+
+    private static ShardRegion.CurrentShardRegionState shardRegionState(final Map<String, Set<String>> shards) {
+        final Set<ShardRegion.ShardState> shardStates = shards.entrySet()
+                .stream()
+                .map(shard -> new ShardRegion.ShardState(shard.getKey(),
+                        JavaConverters.asScalaSet(new HashSet<>(shard.getValue())).toSet()))
+                .collect(Collectors.toSet());
+        return new ShardRegion.CurrentShardRegionState(JavaConverters.asScalaSet(shardStates).toSet());
+    }
+
+    /**
+     * Puts entities into the shard of the prefix of their ID, e.g., {@code 0-a} into shard {@code 0}.
+     */
+    private static final class PrefixShardExtractor implements ShardRegion.MessageExtractor {
+
+        @Override
+        public String entityId(final Object message) {
+            return message instanceof ShardRegion.StartEntity
+                    ? ((ShardRegion.StartEntity) message).entityId()
+                    : message.toString();
+        }
+
+        @Override
+        public Object entityMessage(final Object message) {
+            return message;
+        }
+
+        @Override
+        public String shardId(final Object message) {
+            return entityId(message).split("-")[0];
+        }
+
+    }
+
+    private static final class InMemoryWarmStartPersistence implements WarmStartPersistence {
+
+        private final Map<String, List<String>> hotEntities = new ConcurrentHashMap<>();
+        private final ActorRef writes;
+
+        private InMemoryWarmStartPersistence(final ActorRef writes) {
+            this.writes = writes;
+        }
+
+        @Override
+        public Source<Done, NotUsed> setHotEntities(final String shardId, final List<String> entityIds) {
+            hotEntities.put(shardId, entityIds);
+            writes.tell(Pair.create(shardId, entityIds), ActorRef.noSender());
+            return Source.single(Done.getInstance());
+        }
+
+        @Override
+        public Source<List<String>, NotUsed> getHotEntities(final String shardId) {
+            return Source.single(hotEntities.getOrDefault(shardId, Collections.emptyList()));
+        }
+
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.devops;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
+
+/**
+ * Command which retrieves the active entities of a cluster member with the slowest persistence and recovery.
+ * Only the sampled entities of the persistence actors are considered.
+ */
+@Immutable
+@JsonParsableCommand(typePrefix = RetrieveSlowestEntities.TYPE_PREFIX, name = RetrieveSlowestEntities.NAME)
+public final class RetrieveSlowestEntities extends AbstractDevOpsCommand<RetrieveSlowestEntities> {
+
+    /**
+     * Name of the command.
+     */
+    public static final String NAME = "retrieveSlowestEntities";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    /**
+     * The number of entities to retrieve if the command does not specify it.
+     */
+    public static final int DEFAULT_LIMIT = 10;
+
+    static final JsonFieldDefinition<Integer> JSON_LIMIT =
+            JsonFactory.newIntFieldDefinition("limit", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final int limit;
+
+    private RetrieveSlowestEntities(final int limit, final DittoHeaders dittoHeaders) {
+        super(TYPE, null, null, dittoHeaders);
+        if (1 > limit) {
+            throw new IllegalArgumentException("The limit must be positive but it was <" + limit + ">!");
+        }
+        this.limit = limit;
+    }
+
+    /**
+     * Returns a Command for retrieving the {@value #DEFAULT_LIMIT} slowest active entities.
+     *
+     * @param dittoHeaders the optional command headers of the request.
+     * @return a Command for retrieving the slowest entities.
+     */
+    public static RetrieveSlowestEntities of(final DittoHeaders dittoHeaders) {
+        return new RetrieveSlowestEntities(DEFAULT_LIMIT, dittoHeaders);
+    }
+
+    /**
+     * Returns a Command for retrieving the slowest active entities.
+     *
+     * @param limit the maximum number of entities to retrieve.
+     * @param dittoHeaders the optional command headers of the request.
+     * @return a Command for retrieving the slowest entities.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    public static RetrieveSlowestEntities of(final int limit, final DittoHeaders dittoHeaders) {
+        return new RetrieveSlowestEntities(limit, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code RetrieveSlowestEntities} from a JSON string.
+     *
+     * @param jsonString contains the data of the RetrieveSlowestEntities command.
+     * @param dittoHeaders the headers of the request.
+     * @return the RetrieveSlowestEntities command which is based on the data of {@code jsonString}.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static RetrieveSlowestEntities fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code RetrieveSlowestEntities} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static RetrieveSlowestEntities fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandJsonDeserializer<RetrieveSlowestEntities>(TYPE, jsonObject).deserialize(() ->
+                of(jsonObject.getValue(JSON_LIMIT).orElse(DEFAULT_LIMIT), dittoHeaders));
+    }
+
+    /**
+     * Returns the maximum number of entities to retrieve.
+     *
+     * @return the limit.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        super.appendPayload(jsonObjectBuilder, schemaVersion, thePredicate);
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JSON_LIMIT, limit, predicate);
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public RetrieveSlowestEntities setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(limit, dittoHeaders);
+    }
+
+    @SuppressWarnings("squid:MethodCyclomaticComplexity")
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RetrieveSlowestEntities that = (RetrieveSlowestEntities) o;
+        return that.canEqual(this) && limit == that.limit && super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof RetrieveSlowestEntities;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), limit);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", limit=" + limit + "]";
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.devops;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
+import org.eclipse.ditto.signals.commands.base.WithEntity;
+
+/**
+ * Response to a {@link RetrieveSlowestEntities} command containing a {@link JsonArray} of the durations of the
+ * slowest active entities, the slowest first.
+ */
+@Immutable
+@JsonParsableCommandResponse(type = RetrieveSlowestEntitiesResponse.TYPE)
+public final class RetrieveSlowestEntitiesResponse
+        extends AbstractDevOpsCommandResponse<RetrieveSlowestEntitiesResponse>
+        implements WithEntity<RetrieveSlowestEntitiesResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + RetrieveSlowestEntities.NAME;
+
+    static final JsonFieldDefinition<JsonArray> JSON_ENTITIES =
+            JsonFactory.newJsonArrayFieldDefinition("entities", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final JsonArray entities;
+
+    private RetrieveSlowestEntitiesResponse(final JsonArray entities, final DittoHeaders dittoHeaders) {
+        super(TYPE, null, null, HttpStatusCode.OK, dittoHeaders);
+        this.entities = Objects.requireNonNull(entities, "The entities JSON must not be null!");
+    }
+
+    /**
+     * Returns a new instance of {@code RetrieveSlowestEntitiesResponse}.
+     *
+     * @param entities the JSON representation of the durations of the slowest entities.
+     * @param dittoHeaders the headers of the command which caused this response.
+     * @return a new response object.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static RetrieveSlowestEntitiesResponse of(final JsonArray entities, final DittoHeaders dittoHeaders) {
+        return new RetrieveSlowestEntitiesResponse(entities, dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code RetrieveSlowestEntities} command from a JSON string.
+     *
+     * @param jsonString contains the data of the RetrieveSlowestEntitiesResponse.
+     * @param dittoHeaders the headers of the request.
+     * @return the RetrieveSlowestEntitiesResponse which is based on the data of {@code jsonString}.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static RetrieveSlowestEntitiesResponse fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@code RetrieveSlowestEntities} command from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static RetrieveSlowestEntitiesResponse fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+        return new CommandResponseJsonDeserializer<RetrieveSlowestEntitiesResponse>(TYPE, jsonObject)
+                .deserialize(statusCode -> of(jsonObject.getValueOrThrow(JSON_ENTITIES), dittoHeaders));
+    }
+
+    /**
+     * Returns the JSON representation of the durations of the slowest entities.
+     *
+     * @return the JSON array of the slowest entities, the slowest first.
+     */
+    public JsonArray getEntities() {
+        return entities;
+    }
+
+    @Override
+    public RetrieveSlowestEntitiesResponse setEntity(final JsonValue entity) {
+        return of(entity.asArray(), getDittoHeaders());
+    }
+
+    @Override
+    public JsonValue getEntity(final JsonSchemaVersion schemaVersion) {
+        return entities;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        super.appendPayload(jsonObjectBuilder, schemaVersion, thePredicate);
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JSON_ENTITIES, entities, predicate);
+    }
+
+    @Override
+    public RetrieveSlowestEntitiesResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return of(entities, dittoHeaders);
+    }
+
+    @SuppressWarnings("squid:MethodCyclomaticComplexity")
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final RetrieveSlowestEntitiesResponse that = (RetrieveSlowestEntitiesResponse) o;
+        return that.canEqual(this) && Objects.equals(entities, that.entities) && super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof RetrieveSlowestEntitiesResponse;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), entities);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", entities=" + entities + "]";
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.things.exceptions;
+
+import java.net.URI;
+import java.text.MessageFormat;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableException;
+import org.eclipse.ditto.model.things.ThingException;
+
+/**
+ * This exception is thrown when more Things are to be modified at once than allowed.
+ */
+@Immutable
+@JsonParsableException(errorCode = TooManyThingsException.ERROR_CODE)
+public final class TooManyThingsException extends DittoRuntimeException implements ThingException {
+
+    /**
+     * Error code of this exception.
+     */
+    public static final String ERROR_CODE = ERROR_CODE_PREFIX + "things.toomany";
+
+    /**
+     * Status code of this exception.
+     */
+    public static final HttpStatusCode STATUS_CODE = HttpStatusCode.REQUEST_ENTITY_TOO_LARGE;
+
+    private static final String MESSAGE_TEMPLATE =
+            "The number of Things <{0}> exceeds the maximum of <{1}> Things which can be modified at once.";
+
+    private static final String DEFAULT_DESCRIPTION = "Split the Things into several requests and try again.";
+
+    private static final long serialVersionUID = -4387113947200741052L;
+
+    private TooManyThingsException(final DittoHeaders dittoHeaders,
+            @Nullable final String message,
+            @Nullable final String description,
+            @Nullable final Throwable cause,
+            @Nullable final URI href) {
+        super(ERROR_CODE, STATUS_CODE, dittoHeaders, message, description, cause, href);
+    }
+
+    @Override
+    protected Builder getEmptyBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * A mutable builder for a {@code TooManyThingsException}.
+     *
+     * @param numberOfThings the number of Things to modify.
+     * @param maxNumberOfThings the maximum number of Things which can be modified at once.
+     * @return the builder.
+     */
+    public static Builder newBuilder(final int numberOfThings, final int maxNumberOfThings) {
+        return new Builder(numberOfThings, maxNumberOfThings);
+    }
+
+    /**
+     * Constructs a new {@code TooManyThingsException} object with the exception message extracted from the given
+     * JSON object.
+     *
+     * @param jsonObject the JSON to read the {@link JsonFields#MESSAGE} field from.
+     * @param dittoHeaders the headers of the command which resulted in this exception.
+     * @return the new TooManyThingsException.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the {@code jsonObject} does not have the {@link
+     * JsonFields#MESSAGE} field.
+     */
+    public static TooManyThingsException fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new Builder()
+                .dittoHeaders(dittoHeaders)
+                .message(readMessage(jsonObject))
+                .description(readDescription(jsonObject).orElse(DEFAULT_DESCRIPTION))
+                .href(readHRef(jsonObject).orElse(null))
+                .build();
+    }
+
+    /**
+     * A mutable builder with a fluent API for a {@link TooManyThingsException}.
+     */
+    @NotThreadSafe
+    public static final class Builder extends DittoRuntimeExceptionBuilder<TooManyThingsException> {
+
+        private Builder() {
+            description(DEFAULT_DESCRIPTION);
+        }
+
+        private Builder(final int numberOfThings, final int maxNumberOfThings) {
+            this();
+            message(MessageFormat.format(MESSAGE_TEMPLATE, String.valueOf(numberOfThings),
+                    String.valueOf(maxNumberOfThings)));
+        }
+
+        @Override
+        protected TooManyThingsException doBuild(final DittoHeaders dittoHeaders,
+                @Nullable final String message,
+                @Nullable final String description,
+                @Nullable final Throwable cause,
+                @Nullable final URI href) {
+            return new TooManyThingsException(dittoHeaders, message, description, cause, href);
+        }
+    }
+
+}
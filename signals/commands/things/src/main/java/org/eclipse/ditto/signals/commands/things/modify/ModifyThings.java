@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.things.modify;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonMissingFieldException;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.signals.commands.base.CommandJsonDeserializer;
+import org.eclipse.ditto.signals.commands.things.exceptions.MissingThingIdsException;
+import org.eclipse.ditto.signals.commands.things.exceptions.TooManyThingsException;
+
+/**
+ * This command creates or modifies several Things at once. Each contained {@link Thing} must contain its Thing ID.
+ * The Things are modified independently of each other; the outcome for each Thing is reported in the
+ * {@link ModifyThingsResponse}.
+ */
+@Immutable
+@JsonParsableCommand(typePrefix = ModifyThings.TYPE_PREFIX, name = ModifyThings.NAME)
+public final class ModifyThings extends AbstractCommand<ModifyThings> implements ThingModifyCommand<ModifyThings> {
+
+    /**
+     * Name of the "Modify Things" command.
+     */
+    public static final String NAME = "modifyThings";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    /**
+     * Maximum number of Things which can be modified by one command.
+     */
+    public static final int MAX_NUMBER_OF_THINGS = 200;
+
+    static final JsonFieldDefinition<JsonArray> JSON_THINGS =
+            JsonFactory.newJsonArrayFieldDefinition("things", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final List<Thing> things;
+
+    private ModifyThings(final List<Thing> things, final DittoHeaders dittoHeaders) {
+        super(TYPE, dittoHeaders);
+
+        if (things.isEmpty()) {
+            throw MissingThingIdsException.newBuilder()
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+        if (things.size() > MAX_NUMBER_OF_THINGS) {
+            throw TooManyThingsException.newBuilder(things.size(), MAX_NUMBER_OF_THINGS)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+        for (final Thing thing : things) {
+            if (!thing.getEntityId().isPresent()) {
+                throw new JsonMissingFieldException(ThingModifyCommand.JsonFields.JSON_THING_ID);
+            }
+        }
+
+        this.things = Collections.unmodifiableList(new ArrayList<>(things));
+    }
+
+    /**
+     * Returns a command for creating or modifying the passed Things.
+     *
+     * @param things the Things to modify, each containing its Thing ID.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws MissingThingIdsException if {@code things} is empty.
+     * @throws TooManyThingsException if {@code things} contains more than {@link #MAX_NUMBER_OF_THINGS} Things.
+     * @throws JsonMissingFieldException if any of {@code things} does not contain a Thing ID.
+     */
+    public static ModifyThings of(final Collection<Thing> things, final DittoHeaders dittoHeaders) {
+        return new ModifyThings(new ArrayList<>(checkNotNull(things, "Things")), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code ModifyThings} from a JSON string.
+     *
+     * @param jsonString the JSON string of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static ModifyThings fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code ModifyThings} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     * @throws JsonMissingFieldException if {@code jsonObject} did not contain a field for {@link #JSON_THINGS}.
+     */
+    public static ModifyThings fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandJsonDeserializer<ModifyThings>(TYPE, jsonObject).deserialize(() -> {
+            final List<Thing> extractedThings = new ArrayList<>();
+            for (final JsonValue thingJsonValue : jsonObject.getValueOrThrow(JSON_THINGS)) {
+                extractedThings.add(ThingsModelFactory.newThing(thingJsonValue.asObject()));
+            }
+            return new ModifyThings(extractedThings, dittoHeaders);
+        });
+    }
+
+    /**
+     * Returns the {@code Thing}s to modify.
+     *
+     * @return an unmodifiable list of the Things to modify.
+     */
+    public List<Thing> getThings() {
+        return things;
+    }
+
+    /**
+     * Returns the dummy Thing ID as this command addresses several Things.
+     *
+     * @return the dummy Thing ID.
+     */
+    @Override
+    public ThingId getThingEntityId() {
+        return ThingId.dummy();
+    }
+
+    @Override
+    public JsonPointer getResourcePath() {
+        return JsonPointer.empty();
+    }
+
+    @Override
+    public Optional<JsonValue> getEntity(final JsonSchemaVersion schemaVersion) {
+        return Optional.of(things.stream()
+                .map(thing -> thing.toJson(schemaVersion, FieldType.regularOrSpecial()))
+                .collect(JsonCollectors.valuesToArray()));
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        final JsonArray thingsArray = things.stream()
+                .map(thing -> thing.toJson(schemaVersion, thePredicate))
+                .collect(JsonCollectors.valuesToArray());
+        jsonObjectBuilder.set(JSON_THINGS, thingsArray, predicate);
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.MODIFY;
+    }
+
+    @Override
+    public ModifyThings setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new ModifyThings(things, dittoHeaders);
+    }
+
+    @Override
+    public boolean changesAuthorization() {
+        return things.stream()
+                .anyMatch(thing -> thing.getPolicyEntityId().isPresent() || thing.getAccessControlList().isPresent());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), things);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (null == obj || getClass() != obj.getClass()) {
+            return false;
+        }
+        final ModifyThings that = (ModifyThings) obj;
+        return that.canEqual(this) && Objects.equals(things, that.things) && super.equals(obj);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof ModifyThings;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", things=" + things + "]";
+    }
+
+}
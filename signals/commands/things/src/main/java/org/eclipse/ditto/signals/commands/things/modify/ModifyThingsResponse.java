@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.things.modify;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.base.AbstractCommandResponse;
+import org.eclipse.ditto.signals.commands.base.CommandResponseJsonDeserializer;
+
+/**
+ * Response to a {@link ModifyThings} command. It contains one result per Thing of the command, consisting of the
+ * Thing ID, the status code of modifying the Thing and, if the modification failed, the error.
+ */
+@Immutable
+@JsonParsableCommandResponse(type = ModifyThingsResponse.TYPE)
+public final class ModifyThingsResponse extends AbstractCommandResponse<ModifyThingsResponse>
+        implements ThingModifyCommandResponse<ModifyThingsResponse> {
+
+    /**
+     * Type of this response.
+     */
+    public static final String TYPE = TYPE_PREFIX + ModifyThings.NAME;
+
+    /**
+     * Definition of the JSON field of the Thing ID within a single result.
+     */
+    public static final JsonFieldDefinition<String> JSON_RESULT_THING_ID =
+            JsonFactory.newStringFieldDefinition("thingId", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    /**
+     * Definition of the JSON field of the status code within a single result.
+     */
+    public static final JsonFieldDefinition<Integer> JSON_RESULT_STATUS =
+            JsonFactory.newIntFieldDefinition("status", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    /**
+     * Definition of the JSON field of the error within a single failed result.
+     */
+    public static final JsonFieldDefinition<JsonObject> JSON_RESULT_ERROR =
+            JsonFactory.newJsonObjectFieldDefinition("error", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    static final JsonFieldDefinition<JsonArray> JSON_RESULTS =
+            JsonFactory.newJsonArrayFieldDefinition("results", FieldType.REGULAR, JsonSchemaVersion.V_1,
+                    JsonSchemaVersion.V_2);
+
+    private final JsonArray results;
+
+    private ModifyThingsResponse(final JsonArray results, final HttpStatusCode statusCode,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, statusCode, dittoHeaders);
+        this.results = checkNotNull(results, "results");
+    }
+
+    /**
+     * Returns a new {@code ModifyThingsResponse} containing the passed results. This corresponds to the HTTP status
+     * code {@link HttpStatusCode#OK}.
+     *
+     * @param results the results of the single Things, see {@link #newResult(ThingId, HttpStatusCode, JsonObject)}.
+     * @param dittoHeaders the headers of the ThingCommand which caused the new response.
+     * @return the response.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ModifyThingsResponse of(final JsonArray results, final DittoHeaders dittoHeaders) {
+        return new ModifyThingsResponse(results, HttpStatusCode.OK, dittoHeaders);
+    }
+
+    /**
+     * Creates the result of modifying a single Thing of a {@link ModifyThings} command.
+     *
+     * @param thingId the ID of the Thing.
+     * @param statusCode the status code of modifying the Thing.
+     * @param error the JSON representation of the error if the modification failed or {@code null}.
+     * @return the result.
+     * @throws NullPointerException if {@code thingId} or {@code statusCode} is {@code null}.
+     */
+    public static JsonObject newResult(final ThingId thingId, final HttpStatusCode statusCode,
+            @Nullable final JsonObject error) {
+
+        checkNotNull(thingId, "Thing ID");
+        checkNotNull(statusCode, "status code");
+        final JsonObjectBuilder resultBuilder = JsonFactory.newObjectBuilder()
+                .set(JSON_RESULT_THING_ID, thingId.toString())
+                .set(JSON_RESULT_STATUS, statusCode.toInt());
+        if (null != error) {
+            resultBuilder.set(JSON_RESULT_ERROR, error);
+        }
+        return resultBuilder.build();
+    }
+
+    /**
+     * Creates a response to a {@link ModifyThings} command from a JSON string.
+     *
+     * @param jsonString contains the data of the ModifyThingsResponse command.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the ModifyThingsResponse command which is based on the data of {@code jsonString}.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonString} was not in the expected
+     * format.
+     */
+    public static ModifyThingsResponse fromJson(final String jsonString, final DittoHeaders dittoHeaders) {
+        return fromJson(JsonFactory.newObject(jsonString), dittoHeaders);
+    }
+
+    /**
+     * Creates a response to a {@link ModifyThings} command from a JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers of the preceding command.
+     * @return the response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonParseException if the passed in {@code jsonObject} was not in the expected
+     * format.
+     */
+    public static ModifyThingsResponse fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        return new CommandResponseJsonDeserializer<ModifyThingsResponse>(TYPE, jsonObject)
+                .deserialize(statusCode -> new ModifyThingsResponse(jsonObject.getValueOrThrow(JSON_RESULTS),
+                        statusCode, dittoHeaders));
+    }
+
+    /**
+     * Returns the results of modifying the single Things.
+     *
+     * @return the results.
+     */
+    public JsonArray getResults() {
+        return results;
+    }
+
+    /**
+     * Returns the dummy Thing ID as this response refers to several Things.
+     *
+     * @return the dummy Thing ID.
+     */
+    @Override
+    public ThingId getThingEntityId() {
+        return ThingId.dummy();
+    }
+
+    @Override
+    public Optional<JsonValue> getEntity(final JsonSchemaVersion schemaVersion) {
+        return Optional.of(results);
+    }
+
+    @Override
+    public JsonPointer getResourcePath() {
+        return JsonPointer.empty();
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JSON_RESULTS, results, predicate);
+    }
+
+    @Override
+    public ModifyThingsResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new ModifyThingsResponse(results, getStatusCode(), dittoHeaders);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof ModifyThingsResponse;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ModifyThingsResponse that = (ModifyThingsResponse) o;
+        return that.canEqual(this) && Objects.equals(results, that.results) && super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), results);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() + ", results=" + results + "]";
+    }
+
+}
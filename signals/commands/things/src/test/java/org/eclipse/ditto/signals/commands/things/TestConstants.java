@@ -73,6 +73,7 @@ import org.eclipse.ditto.signals.commands.things.exceptions.ThingPreconditionFai
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingPreconditionNotModifiedException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingTooManyModifyingRequestsException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.signals.commands.things.exceptions.TooManyThingsException;
 
 /**
  * Defines constants for testing.
@@ -363,6 +364,11 @@ public final class TestConstants {
                 ThingTooManyModifyingRequestsException.newBuilder(THING_ID).build();
         public static final MissingThingIdsException MISSING_THING_IDS_EXCEPTION =
                 MissingThingIdsException.newBuilder().build();
+        /**
+         * A known {@code TooManyThingsException}.
+         */
+        public static final TooManyThingsException TOO_MANY_THINGS_EXCEPTION =
+                TooManyThingsException.newBuilder(300, 200).build();
         /**
          * List of required policy permissions for a Thing.
          */
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.things.exceptions;
+
+import static org.eclipse.ditto.signals.commands.things.TestConstants.EMPTY_DITTO_HEADERS;
+import static org.eclipse.ditto.signals.commands.things.TestConstants.Thing.TOO_MANY_THINGS_EXCEPTION;
+import static org.eclipse.ditto.signals.commands.things.assertions.ThingCommandAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.net.URI;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.signals.base.GlobalErrorRegistry;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TooManyThingsException}.
+ */
+public class TooManyThingsExceptionTest {
+
+    private static final JsonObject KNOWN_JSON = JsonFactory.newObjectBuilder()
+            .set(DittoRuntimeException.JsonFields.STATUS, TooManyThingsException.STATUS_CODE.toInt())
+            .set(DittoRuntimeException.JsonFields.ERROR_CODE, TooManyThingsException.ERROR_CODE)
+            .set(DittoRuntimeException.JsonFields.MESSAGE, TOO_MANY_THINGS_EXCEPTION.getMessage())
+            .set(DittoRuntimeException.JsonFields.DESCRIPTION,
+                    TOO_MANY_THINGS_EXCEPTION.getDescription().orElse(null),
+                    JsonField.isValueNonNull())
+            .set(DittoRuntimeException.JsonFields.HREF,
+                    TOO_MANY_THINGS_EXCEPTION.getHref().map(URI::toString).orElse(null),
+                    JsonField.isValueNonNull())
+            .build();
+
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(TooManyThingsException.class, areImmutable());
+    }
+
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final JsonObject jsonObject = TOO_MANY_THINGS_EXCEPTION.toJson();
+
+        assertThat(jsonObject).isEqualTo(KNOWN_JSON);
+    }
+
+
+    @Test
+    public void createInstanceFromValidJson() {
+        final TooManyThingsException underTest =
+                TooManyThingsException.fromJson(KNOWN_JSON, EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest).isEqualTo(TOO_MANY_THINGS_EXCEPTION);
+    }
+
+
+    @Test
+    public void checkThingErrorCodeWorks() {
+        final DittoRuntimeException actual =
+                GlobalErrorRegistry.getInstance().parse(KNOWN_JSON, EMPTY_DITTO_HEADERS);
+
+        assertThat(actual).isEqualTo(TOO_MANY_THINGS_EXCEPTION);
+    }
+
+
+    @Test
+    public void copy() {
+        final DittoRuntimeException copy = DittoRuntimeException.newBuilder(TOO_MANY_THINGS_EXCEPTION).build();
+
+        assertThat(copy).isEqualTo(TOO_MANY_THINGS_EXCEPTION);
+    }
+
+}
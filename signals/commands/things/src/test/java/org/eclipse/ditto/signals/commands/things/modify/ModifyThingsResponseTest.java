@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.things.modify;
+
+import static org.eclipse.ditto.signals.commands.things.assertions.ThingCommandAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.signals.commands.base.CommandResponse;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandResponseRegistry;
+import org.eclipse.ditto.signals.commands.things.TestConstants;
+import org.eclipse.ditto.signals.commands.things.ThingCommandResponse;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link ModifyThingsResponse}.
+ */
+public final class ModifyThingsResponseTest {
+
+    private static final JsonArray KNOWN_RESULTS = JsonFactory.newArrayBuilder()
+            .add(ModifyThingsResponse.newResult(TestConstants.Thing.THING_ID, HttpStatusCode.NO_CONTENT, null))
+            .add(ModifyThingsResponse.newResult(TestConstants.Thing.THING_ID, HttpStatusCode.FORBIDDEN,
+                    TestConstants.Thing.THING_NOT_MODIFIABLE_EXCEPTION.toJson()))
+            .build();
+
+    private static final JsonObject KNOWN_JSON = JsonFactory.newObjectBuilder()
+            .set(ThingCommandResponse.JsonFields.TYPE, ModifyThingsResponse.TYPE)
+            .set(ThingCommandResponse.JsonFields.STATUS, HttpStatusCode.OK.toInt())
+            .set(ModifyThingsResponse.JSON_RESULTS, KNOWN_RESULTS)
+            .build();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(ModifyThingsResponse.class,
+                areImmutable(),
+                provided(JsonArray.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(ModifyThingsResponse.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void newResultContainsErrorOnlyIfPresent() {
+        final JsonObject succeeded =
+                ModifyThingsResponse.newResult(TestConstants.Thing.THING_ID, HttpStatusCode.CREATED, null);
+
+        assertThat(succeeded.getValue(ModifyThingsResponse.JSON_RESULT_THING_ID))
+                .contains(TestConstants.Thing.THING_ID.toString());
+        assertThat(succeeded.getValue(ModifyThingsResponse.JSON_RESULT_STATUS))
+                .contains(HttpStatusCode.CREATED.toInt());
+        assertThat(succeeded.getValue(ModifyThingsResponse.JSON_RESULT_ERROR)).isEmpty();
+    }
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final ModifyThingsResponse underTest =
+                ModifyThingsResponse.of(KNOWN_RESULTS, TestConstants.EMPTY_DITTO_HEADERS);
+        final JsonObject actualJson = underTest.toJson(FieldType.regularOrSpecial());
+
+        assertThat(actualJson).isEqualTo(KNOWN_JSON);
+    }
+
+    @Test
+    public void createInstanceFromValidJson() {
+        final ModifyThingsResponse underTest =
+                ModifyThingsResponse.fromJson(KNOWN_JSON, TestConstants.EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest).isNotNull();
+        assertThat(underTest.getResults()).isEqualTo(KNOWN_RESULTS);
+    }
+
+    @Test
+    public void parseModifyThingsCommandResponse() {
+        final ModifyThingsResponse commandResponse =
+                ModifyThingsResponse.of(KNOWN_RESULTS, TestConstants.DITTO_HEADERS);
+        final JsonObject jsonObject = commandResponse.toJson(FieldType.regularOrSpecial());
+
+        final CommandResponse parsedCommandResponse =
+                GlobalCommandResponseRegistry.getInstance().parse(jsonObject, TestConstants.DITTO_HEADERS);
+
+        assertThat(parsedCommandResponse).isEqualTo(commandResponse);
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.things.modify;
+
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.signals.commands.things.assertions.ThingCommandAssertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonMissingFieldException;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.things.TestConstants;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.commands.things.exceptions.MissingThingIdsException;
+import org.eclipse.ditto.signals.commands.things.exceptions.TooManyThingsException;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link ModifyThings}.
+ */
+public final class ModifyThingsTest {
+
+    private static final JsonObject KNOWN_JSON = JsonFactory.newObjectBuilder()
+            .set(ThingCommand.JsonFields.TYPE, ModifyThings.TYPE)
+            .set(ModifyThings.JSON_THINGS, JsonFactory.newArrayBuilder()
+                    .add(TestConstants.Thing.THING.toJson(FieldType.regularOrSpecial()))
+                    .build())
+            .build();
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(ModifyThings.class,
+                areImmutable(),
+                provided(Thing.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(ModifyThings.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void tryToCreateInstanceWithoutThings() {
+        assertThatExceptionOfType(MissingThingIdsException.class)
+                .isThrownBy(() -> ModifyThings.of(Collections.emptyList(), TestConstants.EMPTY_DITTO_HEADERS));
+    }
+
+    @Test
+    public void tryToCreateInstanceWithTooManyThings() {
+        final List<Thing> things = IntStream.rangeClosed(0, ModifyThings.MAX_NUMBER_OF_THINGS)
+                .mapToObj(i -> TestConstants.Thing.THING.toBuilder()
+                        .setId(ThingId.of(TestConstants.Thing.THING_ID.getNamespace(), "thing" + i))
+                        .build())
+                .collect(Collectors.toList());
+
+        assertThatExceptionOfType(TooManyThingsException.class)
+                .isThrownBy(() -> ModifyThings.of(things, TestConstants.EMPTY_DITTO_HEADERS));
+    }
+
+    @Test
+    public void tryToCreateInstanceWithThingWithoutId() {
+        final Thing thingWithoutId = ThingsModelFactory.newThingBuilder()
+                .setAttributes(TestConstants.Thing.ATTRIBUTES)
+                .build();
+
+        assertThatExceptionOfType(JsonMissingFieldException.class)
+                .isThrownBy(() -> ModifyThings.of(Collections.singletonList(thingWithoutId),
+                        TestConstants.EMPTY_DITTO_HEADERS));
+    }
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final ModifyThings underTest = ModifyThings.of(Collections.singletonList(TestConstants.Thing.THING),
+                TestConstants.EMPTY_DITTO_HEADERS);
+        final JsonObject actualJson = underTest.toJson(FieldType.regularOrSpecial());
+
+        assertThat(actualJson).isEqualTo(KNOWN_JSON);
+    }
+
+    @Test
+    public void createInstanceFromValidJson() {
+        final ModifyThings underTest = ModifyThings.fromJson(KNOWN_JSON.toString(), TestConstants.EMPTY_DITTO_HEADERS);
+
+        assertThat(underTest).isNotNull();
+        assertThat(underTest.getThings()).containsExactly(TestConstants.Thing.THING);
+        assertThat(underTest.getThingEntityId().isDummy()).isTrue();
+    }
+
+    @Test
+    public void parseModifyThingsCommand() {
+        final ModifyThings command = ModifyThings.of(Collections.singletonList(TestConstants.Thing.THING),
+                TestConstants.DITTO_HEADERS);
+        final JsonObject jsonObject = command.toJson(FieldType.regularOrSpecial());
+
+        final Command parsedCommand = GlobalCommandRegistry.getInstance().parse(jsonObject, TestConstants.DITTO_HEADERS);
+
+        assertThat(parsedCommand).isEqualTo(command);
+    }
+
+}